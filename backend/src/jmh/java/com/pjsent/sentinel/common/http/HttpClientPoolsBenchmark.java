@@ -0,0 +1,103 @@
+package com.pjsent.sentinel.common.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * HTTP 클라이언트 벤치마크
+ * 로컬 스텁 서버에 여러 스레드가 동시에 시세 요청을 보낼 때,
+ * 기존 SimpleClientHttpRequestFactory(JDK keep-alive 캐시)와 HttpClientPools의 커넥션 풀의 호출 시간을 비교합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(HttpClientPoolsBenchmark.THREADS)
+public class HttpClientPoolsBenchmark {
+
+    static final int THREADS = 8;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClientPools httpClientPools;
+    private RestTemplate simpleRestTemplate;
+    private RestTemplate pooledRestTemplate;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ReflectiveOperationException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/quote", exchange -> {
+            byte[] body = "{\"c\":150.25}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(THREADS * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/quote";
+
+        SimpleClientHttpRequestFactory simpleFactory = new SimpleClientHttpRequestFactory();
+        simpleFactory.setConnectTimeout(2500);
+        simpleFactory.setReadTimeout(5000);
+        simpleRestTemplate = new RestTemplate(simpleFactory);
+
+        httpClientPools = new HttpClientPools();
+        // application.yml의 rest.template.pool.* 기본값
+        setField(httpClientPools, "acquireTimeoutMs", 1000L);
+        setField(httpClientPools, "idleTimeoutSeconds", 30L);
+        setField(httpClientPools, "timeToLiveSeconds", 300L);
+        setField(httpClientPools, "validateAfterInactivityMs", 2000L);
+        pooledRestTemplate = new RestTemplate(httpClientPools.create("benchmark", 2500, 5000, THREADS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        httpClientPools.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        serverExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public String simpleClient() {
+        return simpleRestTemplate.getForObject(url, String.class);
+    }
+
+    @Benchmark
+    public String pooledClient() {
+        return pooledRestTemplate.getForObject(url, String.class);
+    }
+
+    // jmh 소스 세트에는 spring-test가 없으므로 @Value 필드를 직접 채움
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
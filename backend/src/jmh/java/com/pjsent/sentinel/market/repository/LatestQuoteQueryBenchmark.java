@@ -0,0 +1,137 @@
+package com.pjsent.sentinel.market.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 심볼별 최신 시세 조회 벤치마크
+ * 심볼마다 쿼리 하나를 보내는 방식과 MarketDataRepositoryImpl의 한 번 조회(DISTINCT ON / MAX 조인)를 비교합니다.
+ * 합성 market_data 테이블(기본 200만 행, 심볼 2000개)을 H2 파일 DB에 만들고 (symbol, timestamp DESC) 인덱스를 둡니다.
+ *
+ * 실행: ./gradlew jmh (테이블 생성에 시간이 걸리므로 Trial마다 한 번만 만듦)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LatestQuoteQueryBenchmark {
+
+    private static final String PER_SYMBOL_SQL = "SELECT * FROM market_data WHERE symbol = ? "
+            + "ORDER BY timestamp DESC, id DESC LIMIT 1";
+
+    @Param("2000000")
+    private int rows;
+
+    @Param("2000")
+    private int symbolCount;
+
+    // 포트폴리오 하나의 보유 종목 수
+    @Param("50")
+    private int holdings;
+
+    private Path directory;
+    private Connection connection;
+    private List<String> symbols;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("latest-quote-bench");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench"), "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE market_data (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "symbol VARCHAR(20) NOT NULL, price DECIMAL(15, 4) NOT NULL, volume BIGINT, "
+                    + "change_percent DECIMAL(8, 4), high_24h DECIMAL(15, 4), low_24h DECIMAL(15, 4), "
+                    + "market_cap BIGINT, data_source VARCHAR(50) NOT NULL, timestamp TIMESTAMP(6) NOT NULL)");
+            // 시각 순으로 여러 심볼이 섞여 쌓이는 실제 write-behind 패턴을 흉내냄
+            statement.execute("INSERT INTO market_data (symbol, price, data_source, timestamp) "
+                    + "SELECT 'SYM' || MOD(X, " + symbolCount + "), 100 + MOD(X, 37), 'Benchmark', "
+                    + "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') FROM SYSTEM_RANGE(1, " + rows + ")");
+            statement.execute("CREATE INDEX idx_market_data_symbol_timestamp ON market_data (symbol, timestamp DESC)");
+            statement.execute("ANALYZE");
+        }
+
+        symbols = new ArrayList<>(symbolCount);
+        for (int i = 0; i < symbolCount; i++) {
+            symbols.add("SYM" + i);
+        }
+        Collections.shuffle(symbols, new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Collections.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int perSymbolQueries() throws SQLException {
+        int found = 0;
+        try (PreparedStatement statement = connection.prepareStatement(PER_SYMBOL_SQL)) {
+            for (String symbol : nextPortfolio()) {
+                statement.setString(1, symbol);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    found += resultSet.next() ? 1 : 0;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int batchedDistinctOn() throws SQLException {
+        return batched(MarketDataRepositoryImpl.DISTINCT_ON_SQL);
+    }
+
+    @Benchmark
+    public int batchedPortable() throws SQLException {
+        return batched(MarketDataRepositoryImpl.PORTABLE_SQL);
+    }
+
+    private int batched(String sql) throws SQLException {
+        List<String> portfolio = nextPortfolio();
+        String placeholders = String.join(", ", Collections.nCopies(portfolio.size(), "?"));
+        try (PreparedStatement statement = connection.prepareStatement(sql.replace(":symbols", placeholders))) {
+            for (int i = 0; i < portfolio.size(); i++) {
+                statement.setString(i + 1, portfolio.get(i));
+            }
+            int found = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    found++;
+                }
+            }
+            return found;
+        }
+    }
+
+    private List<String> nextPortfolio() {
+        int from = cursor;
+        cursor = (cursor + holdings) % (symbolCount - holdings);
+        return symbols.subList(from, from + holdings);
+    }
+}
@@ -0,0 +1,180 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+/**
+ * 프로바이더 응답 디코딩 벤치마크
+ * 기존 방식(ObjectMapper로 Map을 만든 뒤 문자열/숫자를 변환)과 스트리밍 디코더를 같은 녹화 응답으로 비교합니다.
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 호출당 할당량을 확인합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProviderQuoteDecodingBenchmark {
+
+    private static final String PROVIDER = "Benchmark";
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AlphaVantageQuoteDecoder alphaVantageDecoder = new AlphaVantageQuoteDecoder();
+    private final FinnhubQuoteDecoder finnhubDecoder = new FinnhubQuoteDecoder();
+
+    private byte[] globalQuote;
+    private byte[] bulkQuotes;
+    private byte[] finnhubQuote;
+    private Map<String, String> bulkSymbols;
+
+    @Setup
+    public void setUp() throws IOException {
+        globalQuote = load("alphavantage-global-quote.json");
+        bulkQuotes = load("alphavantage-bulk-quotes.json");
+        finnhubQuote = load("finnhub-quote.json");
+
+        bulkSymbols = new LinkedHashMap<>();
+        List<Map<String, Object>> data = nested(objectMapper.readValue(bulkQuotes, JSON_OBJECT).get("data"));
+        data.forEach(row -> bulkSymbols.put((String) row.get("symbol"), (String) row.get("symbol")));
+    }
+
+    @Benchmark
+    public StockPriceDto alphaVantageGlobalQuoteMap() throws IOException {
+        Map<String, Object> response = objectMapper.readValue(globalQuote, JSON_OBJECT);
+        Map<String, Object> quote = nested(response.get("Global Quote"));
+        return StockPriceDto.builder()
+                .symbol("IBM")
+                .price(parseDouble(quote.get("05. price")))
+                .open(parseDouble(quote.get("02. open")))
+                .high(parseDouble(quote.get("03. high")))
+                .low(parseDouble(quote.get("04. low")))
+                .close(parseDouble(quote.get("08. previous close")))
+                .change(parseDouble(quote.get("09. change")))
+                .changePercent(parseDouble(((String) quote.get("10. change percent")).replace("%", "")))
+                .lastTradingDay((String) quote.get("07. latest trading day"))
+                .timeStamp(LocalDateTime.now())
+                .provider(PROVIDER)
+                .build();
+    }
+
+    @Benchmark
+    public StockPriceDto alphaVantageGlobalQuoteStreaming() throws IOException {
+        return alphaVantageDecoder.decodeGlobalQuote(new ByteArrayInputStream(globalQuote), "IBM", PROVIDER).getData();
+    }
+
+    @Benchmark
+    public Map<String, StockPriceDto> alphaVantageBulkQuotesMap() throws IOException {
+        Map<String, Object> response = objectMapper.readValue(bulkQuotes, JSON_OBJECT);
+        Map<String, StockPriceDto> quotes = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, Object>> rows = nested(response.get("data"));
+        for (Map<String, Object> row : rows) {
+            String symbol = bulkSymbols.get(((String) row.get("symbol")).toUpperCase());
+            if (symbol == null) {
+                continue;
+            }
+            quotes.put(symbol, StockPriceDto.builder()
+                    .symbol(symbol)
+                    .price(parseDouble(row.get("close")))
+                    .open(parseDouble(row.get("open")))
+                    .high(parseDouble(row.get("high")))
+                    .low(parseDouble(row.get("low")))
+                    .close(parseDouble(row.get("previous_close")))
+                    .change(parseDouble(row.get("change")))
+                    .changePercent(parseDouble(row.get("change_percent")))
+                    .lastTradingDay(((String) row.get("timestamp")).substring(0, 10))
+                    .timeStamp(now)
+                    .provider(PROVIDER)
+                    .build());
+        }
+        return quotes;
+    }
+
+    @Benchmark
+    public Map<String, StockPriceDto> alphaVantageBulkQuotesStreaming() throws IOException {
+        return alphaVantageDecoder.decodeBulkQuotes(new ByteArrayInputStream(bulkQuotes), bulkSymbols, PROVIDER).getData();
+    }
+
+    @Benchmark
+    public StockPriceDto finnhubQuoteMap() throws IOException {
+        Map<String, Object> response = objectMapper.readValue(finnhubQuote, JSON_OBJECT);
+        double currentPrice = parseDouble(response.get("c"));
+        double previousClose = parseDouble(response.get("pc"));
+        double change = currentPrice - previousClose;
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(((Number) response.get("t")).longValue(), 0, ZoneOffset.UTC);
+        return StockPriceDto.builder()
+                .symbol("AAPL")
+                .price(currentPrice)
+                .open(parseDouble(response.get("o")))
+                .high(parseDouble(response.get("h")))
+                .low(parseDouble(response.get("l")))
+                .close(previousClose)
+                .change(change)
+                .changePercent(previousClose != 0 ? (change / previousClose) * 100 : 0.0)
+                .lastTradingDay(timestamp.toLocalDate().toString())
+                .timeStamp(timestamp)
+                .provider(PROVIDER)
+                .build();
+    }
+
+    @Benchmark
+    public StockPriceDto finnhubQuoteStreaming() throws IOException {
+        return finnhubDecoder.decode(new ByteArrayInputStream(finnhubQuote), "AAPL", PROVIDER).getData();
+    }
+
+    // Map으로 읽은 JSON의 하위 객체/배열 (Jackson은 JSON 객체를 Map, 배열을 List로 만듦)
+    @SuppressWarnings("unchecked")
+    private static <T> T nested(Object value) {
+        return (T) value;
+    }
+
+    // 기존 프로바이더의 숫자 변환과 동일
+    private static double parseDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String string) {
+            String trimmed = string.trim();
+            if (trimmed.isEmpty() || "N/A".equals(trimmed)) {
+                return 0.0;
+            }
+            try {
+                return Double.parseDouble(trimmed);
+            } catch (NumberFormatException e) {
+                return 0.0;
+            }
+        }
+        return 0.0;
+    }
+
+    private static byte[] load(String name) {
+        try (InputStream in = ProviderQuoteDecodingBenchmark.class.getResourceAsStream("/payloads/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 응답 파일이 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
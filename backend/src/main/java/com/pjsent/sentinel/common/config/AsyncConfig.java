@@ -1,5 +1,69 @@
-package com.pjsent.sentinel.config;
+package com.pjsent.sentinel.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 처리 설정
+ * 시장 데이터 조회 전용 스레드 풀(async.executor.*)과 시세 스트림 전송용 스레드 풀(stock.market.stream.*)을 구성합니다.
+ */
+@Configuration
 public class AsyncConfig {
-    
+
+    @Value("${async.executor.core-pool-size:10}")
+    private int corePoolSize;
+
+    @Value("${async.executor.max-pool-size:50}")
+    private int maxPoolSize;
+
+    @Value("${async.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${async.executor.thread-name-prefix:StockAPI-}")
+    private String threadNamePrefix;
+
+    @Value("${async.executor.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    @Value("${stock.market.stream.sender-threads:8}")
+    private int streamSenderThreads;
+
+    @Value("${stock.market.stream.sender-queue-capacity:10000}")
+    private int streamSenderQueueCapacity;
+
+    /**
+     * 시장 데이터 조회용 executor
+     * 큐가 가득 차면 RejectedExecutionException을 던지므로 호출자가 개별 실패로 처리해야 합니다.
+     */
+    @Bean(name = "marketDataExecutor")
+    public ThreadPoolTaskExecutor marketDataExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 시세 스트림(SSE) 전송용 executor
+     * 연결마다 동시에 최대 하나의 전송 작업만 올라가므로 큐 크기는 최대 연결 수 정도면 충분합니다.
+     * 느린 클라이언트가 전송 스레드를 잡고 있어도 시세 조회 스레드 풀에는 영향을 주지 않습니다.
+     */
+    @Bean(name = "quoteStreamExecutor")
+    public ThreadPoolTaskExecutor quoteStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamSenderThreads);
+        executor.setMaxPoolSize(streamSenderThreads);
+        executor.setQueueCapacity(streamSenderQueueCapacity);
+        executor.setThreadNamePrefix("QuoteStream-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,25 +1,78 @@
 package com.pjsent.sentinel.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import com.pjsent.sentinel.common.http.HttpClientPools;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RestTemplate 설정
+ * 목적지별로 keep-alive 커넥션 풀을 사용하는 RestTemplate을 구성합니다.
+ * - restTemplate (기본): Kakao OAuth 등 공통 호출, rest.template.*
+ * - alphaVantageRestTemplate: stock.market.alphavantage.*
+ * - finnhubRestTemplate: stock.market.finnhub.*
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
-    
+
+    private final HttpClientPools httpClientPools;
+
+    @Value("${rest.template.connect-timeout:2500}")
+    private int connectTimeout;
+
+    @Value("${rest.template.read-timeout:5000}")
+    private int readTimeout;
+
+    @Value("${rest.template.pool.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${stock.market.alphavantage.connect-timeout:2000}")
+    private int alphaVantageConnectTimeout;
+
+    @Value("${stock.market.alphavantage.timeout:5000}")
+    private int alphaVantageReadTimeout;
+
+    @Value("${stock.market.alphavantage.max-connections:10}")
+    private int alphaVantageMaxConnections;
+
+    @Value("${stock.market.finnhub.connect-timeout:2000}")
+    private int finnhubConnectTimeout;
+
+    @Value("${stock.market.finnhub.timeout:3000}")
+    private int finnhubReadTimeout;
+
+    @Value("${stock.market.finnhub.max-connections:10}")
+    private int finnhubMaxConnections;
+
     @Bean
+    @Primary
     public RestTemplate restTemplate() {
-        // RestTemplate 설정
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // 커넥션 타임아웃 2.5초
-        // 리드 타임아웃 5초
-        factory.setConnectTimeout(2500);
-        factory.setReadTimeout(5000);
-
-        RestTemplate restTemplate = new RestTemplate(factory);
+        return createRestTemplate(httpClientPools.create("default", connectTimeout, readTimeout, maxConnections));
+    }
+
+    @Bean
+    public RestTemplate alphaVantageRestTemplate() {
+        return createRestTemplate(httpClientPools.create("alphavantage",
+                alphaVantageConnectTimeout, alphaVantageReadTimeout, alphaVantageMaxConnections));
+    }
+
+    @Bean
+    public RestTemplate finnhubRestTemplate() {
+        return createRestTemplate(httpClientPools.create("finnhub",
+                finnhubConnectTimeout, finnhubReadTimeout, finnhubMaxConnections));
+    }
+
+    private RestTemplate createRestTemplate(ClientHttpRequestFactory requestFactory) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
         restTemplate.setErrorHandler(new DefaultResponseErrorHandler());
         return restTemplate;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.pjsent.sentinel.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄 작업 설정
+ * 스케줄 작업을 성격별로 나누어 서로 다른 스레드 풀에서 실행합니다(scheduling.*).
+ *
+ * - realtime: 시세 스트림 갱신, 보유 종목 재평가 flush, 시세 사전 갱신처럼 몇 초 주기로 도는 작업
+ * - maintenance: 과거 시세 백필, 보관 기간 정리, 포트폴리오 합계 점검처럼 수 분~수 시간 걸릴 수 있는 작업
+ * - 기본(taskScheduler): scheduler를 지정하지 않은 나머지 짧은 정리 작업
+ *
+ * 오래 걸리는 작업이 스레드를 모두 잡고 있어도 실시간 작업의 주기가 밀리지 않습니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String REALTIME_SCHEDULER = "realtimeTaskScheduler";
+    public static final String MAINTENANCE_SCHEDULER = "maintenanceTaskScheduler";
+
+    @Value("${scheduling.default-pool-size:2}")
+    private int defaultPoolSize;
+
+    @Value("${scheduling.realtime.pool-size:3}")
+    private int realtimePoolSize;
+
+    @Value("${scheduling.maintenance.pool-size:2}")
+    private int maintenancePoolSize;
+
+    /**
+     * scheduler를 지정하지 않은 @Scheduled 작업용 기본 스케줄러
+     * 스케줄러 빈이 여러 개이면 @Scheduled는 이름이 taskScheduler인 빈을 기본값으로 사용합니다.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return scheduler(defaultPoolSize, "Scheduling-");
+    }
+
+    /**
+     * 실시간 작업용 스케줄러 (작업마다 스레드 하나씩 쓸 수 있는 크기를 권장)
+     */
+    @Bean(name = REALTIME_SCHEDULER)
+    public ThreadPoolTaskScheduler realtimeTaskScheduler() {
+        return scheduler(realtimePoolSize, "Realtime-");
+    }
+
+    /**
+     * 오래 걸리는 유지보수 작업용 스케줄러
+     */
+    @Bean(name = MAINTENANCE_SCHEDULER)
+    public ThreadPoolTaskScheduler maintenanceTaskScheduler() {
+        return scheduler(maintenancePoolSize, "Maintenance-");
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        return scheduler;
+    }
+}
@@ -1,5 +1,8 @@
 package com.pjsent.sentinel.common.controller;
 
+import com.pjsent.sentinel.common.http.HttpClientPools;
+import com.pjsent.sentinel.common.http.HttpPoolStatsDto;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,8 +17,11 @@ import java.util.Map;
  */
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HttpClientPools httpClientPools;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
         return ResponseEntity.ok(Map.of(
@@ -24,4 +30,12 @@ public class HealthController {
                 "service", "sentinel-backend"
         ));
     }
+
+    /**
+     * 외부 API 커넥션 풀 사용 현황
+     */
+    @GetMapping("/health/http-pools")
+    public ResponseEntity<Map<String, HttpPoolStatsDto>> httpPools() {
+        return ResponseEntity.ok(httpClientPools.getStats());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.pjsent.sentinel.common.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * HTTP 커넥션 풀 통계 DTO
+ * pending이 계속 0보다 크면 풀 크기(max)가 부족하다는 뜻입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HttpPoolStatsDto {
+    private int leased;
+    private int available;
+    private int pending;
+    private int max;
+    private int connectTimeoutMs;
+    private int readTimeoutMs;
+}
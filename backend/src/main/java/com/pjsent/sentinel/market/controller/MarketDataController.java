@@ -1,16 +1,46 @@
 package com.pjsent.sentinel.market.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.pjsent.sentinel.market.dto.BarAggregationStatsDto;
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
+import com.pjsent.sentinel.market.dto.CoalescingStatsDto;
+import com.pjsent.sentinel.market.dto.HedgingStatsDto;
+import com.pjsent.sentinel.market.dto.HistoryBackfillStatsDto;
+import com.pjsent.sentinel.market.dto.IntradayTickStatsDto;
+import com.pjsent.sentinel.market.dto.MarketDataRetentionStatsDto;
+import com.pjsent.sentinel.market.dto.NegativeQuoteCacheStatsDto;
+import com.pjsent.sentinel.market.dto.ProviderHealthDto;
+import com.pjsent.sentinel.market.dto.QuoteCacheStatsDto;
+import com.pjsent.sentinel.market.dto.QuotePersistenceStatsDto;
+import com.pjsent.sentinel.market.dto.QuotePrewarmStatusDto;
+import com.pjsent.sentinel.market.dto.QuoteStreamStatsDto;
+import com.pjsent.sentinel.market.dto.RateLimitStatsDto;
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.dto.TickStreamStatsDto;
 import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.market.service.bars.BarAggregator;
+import com.pjsent.sentinel.market.service.bars.BarResolution;
+import com.pjsent.sentinel.market.service.history.HistoricalDataService;
+import com.pjsent.sentinel.market.service.history.HistoryBackfillJob;
+import com.pjsent.sentinel.market.service.persistence.MarketDataRetentionJob;
+import com.pjsent.sentinel.market.service.prewarm.QuotePrewarmer;
+import com.pjsent.sentinel.market.service.stream.QuoteStreamHub;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
+import com.pjsent.sentinel.market.service.tick.FinnhubTradeStream;
+import com.pjsent.sentinel.market.service.tick.TickStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +56,14 @@ import lombok.extern.slf4j.Slf4j;
 public class MarketDataController {
     
     private final MarketDataService marketDataService;
+    private final HistoricalDataService historicalDataService;
+    private final HistoryBackfillJob historyBackfillJob;
+    private final QuotePrewarmer quotePrewarmer;
+    private final QuoteStreamHub quoteStreamHub;
+    private final TickStore tickStore;
+    private final FinnhubTradeStream finnhubTradeStream;
+    private final BarAggregator barAggregator;
+    private final MarketDataRetentionJob marketDataRetentionJob;
     
     /**
      * 단일 주식의 현재 가격을 조회합니다.
@@ -40,6 +78,9 @@ public class MarketDataController {
         try {
             StockPriceDto stockPrice = marketDataService.getStockPrice(symbol);
             return ResponseEntity.ok(stockPrice);
+        } catch (UnknownSymbolException e) {
+            log.info("알 수 없는 심볼. 심볼: {}", e.getSymbol());
+            return ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
             log.warn("잘못된 요청 파라미터. 심볼: {}, 오류: {}", symbol, e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -49,6 +90,29 @@ public class MarketDataController {
         }
     }
     
+    /**
+     * 주식의 과거 일봉을 조회합니다.
+     * 
+     * @param symbol 주식 심볼 (예: AAPL, MSFT)
+     * @param days 조회할 기간 (일, 기본 30일)
+     * @return 날짜 오름차순 일봉 목록
+     */
+    @GetMapping("/history/{symbol}")
+    public ResponseEntity<List<StockPriceDto>> getDailyHistory(@PathVariable String symbol,
+                                                               @RequestParam(defaultValue = "30") int days) {
+        log.info("과거 시세 조회 요청. 심볼: {}, 기간: {}일", symbol, days);
+        
+        try {
+            return ResponseEntity.ok(historicalDataService.getDailyHistory(symbol, days));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터. 심볼: {}, 오류: {}", symbol, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("과거 시세 조회 실패. 심볼: {}, 오류: {}", symbol, e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     /**
      * 여러 주식의 현재 가격을 조회합니다.
      * 
@@ -69,6 +133,208 @@ public class MarketDataController {
         }
     }
     
+    /**
+     * 여러 주식의 현재 가격을 병렬로 조회하고 심볼별 결과를 반환합니다.
+     * 일부 심볼이 실패해도 나머지 심볼의 시세는 정상적으로 반환됩니다.
+     * 
+     * @param symbols 쉼표로 구분된 주식 심볼 목록 (예: AAPL,MSFT,GOOGL)
+     * @return 심볼별 시세 및 실패 사유
+     */
+    @GetMapping("/prices/bulk")
+    public ResponseEntity<BulkStockPriceDto> getStockPricesBulk(@RequestParam String symbols) {
+        log.info("여러 주식 가격 일괄 조회 요청. 심볼: {}", symbols);
+        
+        List<String> symbolList = List.of(symbols.split(","));
+        return ResponseEntity.ok(marketDataService.getStockPricesBulk(symbolList));
+    }
+    
+    /**
+     * 여러 주식의 시세를 Server-Sent Events로 구독합니다.
+     * 연결 직후 snapshot 이벤트로 전체 필드를, 이후 quotes 이벤트로 바뀐 필드만 받습니다. (데이터: 심볼 -> 필드 -> 값)
+     * 
+     * @param symbols 쉼표로 구분된 주식 심볼 목록 (예: AAPL,MSFT,GOOGL)
+     * @return 시세 이벤트 스트림
+     */
+    @GetMapping(value = "/stream/prices", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStockPrices(@RequestParam String symbols) {
+        log.info("시세 스트림 구독 요청. 심볼: {}", symbols);
+        
+        try {
+            return ResponseEntity.ok(quoteStreamHub.subscribe(List.of(symbols.split(","))));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터. 심볼: {}, 오류: {}", symbols, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("시세 스트림 연결 거부. 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * 시세 스트림 통계를 조회합니다.
+     * 
+     * @return 연결 수, 갱신 주기, 전송/병합/느린 연결 정리 카운터
+     */
+    @GetMapping("/stream/stats")
+    public ResponseEntity<QuoteStreamStatsDto> getStreamStats() {
+        return ResponseEntity.ok(quoteStreamHub.getStats());
+    }
+    
+    /**
+     * 체결 스트림으로 집계한 장중 통계를 조회합니다. 프로바이더를 호출하지 않습니다.
+     * 
+     * @param symbol 주식 심볼 (예: AAPL, MSFT)
+     * @return 최근가, VWAP, 장중 고가/저가, 거래량
+     */
+    @GetMapping("/ticks/{symbol}")
+    public ResponseEntity<IntradayTickStatsDto> getIntradayTickStats(@PathVariable String symbol) {
+        return SymbolRegistry.tryNormalize(symbol)
+                .map(key -> tickStore.stats(key)
+                        .map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.notFound().build()))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+    
+    /**
+     * 체결 스트림(웹소켓) 수신 상태를 조회합니다.
+     * 
+     * @return 연결 상태, 재연결 횟수, 수신 메시지/체결 수
+     */
+    @GetMapping("/ticks/stream/stats")
+    public ResponseEntity<TickStreamStatsDto> getTickStreamStats() {
+        return ResponseEntity.ok(finnhubTradeStream.getStats());
+    }
+    
+    /**
+     * 체결/시세로 집계한 최근 봉을 조회합니다. 만들어지는 중인 봉이 있으면 마지막 항목입니다.
+     * 
+     * @param symbol 주식 심볼 (예: AAPL, MSFT)
+     * @param resolution 봉 해상도 (1m, 5m, 1h, 1d)
+     * @param limit 최대 봉 수 (기본 120)
+     * @return 시간 오름차순 봉 목록 (timeStamp는 세션 시간대 기준 봉 시작 시각)
+     */
+    @GetMapping("/bars/{symbol}")
+    public ResponseEntity<List<StockPriceDto>> getBars(@PathVariable String symbol,
+                                                       @RequestParam(defaultValue = "1m") String resolution,
+                                                       @RequestParam(defaultValue = "120") int limit) {
+        try {
+            return ResponseEntity.ok(barAggregator.bars(symbol, BarResolution.fromCode(resolution), limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터. 심볼: {}, 오류: {}", symbol, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 봉 집계 상태를 조회합니다.
+     * 
+     * @return 갱신/늦은 갱신/마감 봉 수, 일봉 저장 카운터
+     */
+    @GetMapping("/bars/stats")
+    public ResponseEntity<BarAggregationStatsDto> getBarStats() {
+        return ResponseEntity.ok(barAggregator.getStats());
+    }
+    
+    /**
+     * 시세 캐시 통계를 조회합니다.
+     * 
+     * @return 계층별(L1/L2) hit/miss/stale 카운터
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<QuoteCacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(marketDataService.getCacheStats());
+    }
+    
+    /**
+     * 네거티브 캐시(알 수 없는 심볼) 통계를 조회합니다.
+     * 
+     * @return 항목 수, 프로바이더 호출 없이 거절한 요청 수, 필터 거짓 양성 수
+     */
+    @GetMapping("/cache/negative/stats")
+    public ResponseEntity<NegativeQuoteCacheStatsDto> getNegativeCacheStats() {
+        return ResponseEntity.ok(marketDataService.getNegativeCacheStats());
+    }
+    
+    /**
+     * 시세 요청 병합 통계를 조회합니다.
+     * 
+     * @return 프로바이더 호출 수와 병합으로 절약된 호출 수
+     */
+    @GetMapping("/coalescing/stats")
+    public ResponseEntity<CoalescingStatsDto> getCoalescingStats() {
+        return ResponseEntity.ok(marketDataService.getCoalescingStats());
+    }
+    
+    /**
+     * 프로바이더별 호출 한도(토큰 버킷) 상태를 조회합니다.
+     * 
+     * @return 프로바이더 이름별 잔여 토큰 및 허용/거부 카운터
+     */
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, RateLimitStatsDto>> getRateLimitStats() {
+        return ResponseEntity.ok(marketDataService.getRateLimitStats());
+    }
+    
+    /**
+     * 시세 헤지 요청 통계를 조회합니다.
+     * 
+     * @return 헤지 발사/승리/취소 카운터
+     */
+    @GetMapping("/hedging/stats")
+    public ResponseEntity<HedgingStatsDto> getHedgingStats() {
+        return ResponseEntity.ok(marketDataService.getHedgingStats());
+    }
+    
+    /**
+     * 시세 영속화(write-behind) 통계를 조회합니다.
+     * 
+     * @return 대기/병합/버림/기록 카운터
+     */
+    @GetMapping("/persistence/stats")
+    public ResponseEntity<QuotePersistenceStatsDto> getPersistenceStats() {
+        return ResponseEntity.ok(marketDataService.getPersistenceStats());
+    }
+    
+    /**
+     * market_data 보관 기간 정리 작업의 마지막 실행 통계를 조회합니다.
+     * 
+     * @return 규칙별 삭제 행 수, 파티션 생성/삭제 수, 소요 시간
+     */
+    @GetMapping("/persistence/retention")
+    public ResponseEntity<MarketDataRetentionStatsDto> getRetentionStats() {
+        return ResponseEntity.ok(marketDataRetentionJob.getStats());
+    }
+    
+    /**
+     * 보유 종목 기반 시세 사전 갱신 상태를 조회합니다.
+     * 
+     * @return 핫 심볼별 캐시 신선도, 사전 갱신 예산 및 프로바이더 호출 한도 사용량
+     */
+    @GetMapping("/prewarm/status")
+    public ResponseEntity<QuotePrewarmStatusDto> getPrewarmStatus() {
+        return ResponseEntity.ok(quotePrewarmer.getStatus());
+    }
+    
+    /**
+     * 과거 일봉 백필 작업의 마지막 실행 통계를 조회합니다.
+     * 
+     * @return 심볼 수, compact/full 요청 수, 실패 및 호출 한도 대기 횟수
+     */
+    @GetMapping("/history/backfill/stats")
+    public ResponseEntity<HistoryBackfillStatsDto> getHistoryBackfillStats() {
+        return ResponseEntity.ok(historyBackfillJob.getStats());
+    }
+    
+    /**
+     * 프로바이더별 라우팅 상태(서킷 브레이커, EWMA 응답 시간, 오류율)를 조회합니다.
+     * 
+     * @return 프로바이더 이름별 상태와 라우팅 점수
+     */
+    @GetMapping("/providers/health")
+    public ResponseEntity<Map<String, ProviderHealthDto>> getProviderHealth() {
+        return ResponseEntity.ok(marketDataService.getProviderHealth());
+    }
+    
     /**
      * 서비스 상태를 확인합니다.
      * 
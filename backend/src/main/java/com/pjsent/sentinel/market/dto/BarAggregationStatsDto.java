@@ -0,0 +1,26 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 봉 집계 상태 DTO
+ * lateUpdates는 이미 지나간 구간에 속해 버린 체결 수이고,
+ * dailyBarsSkipped는 같은 날짜의 일봉이 이미 저장되어 있어 기록하지 않은 집계 일봉 수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BarAggregationStatsDto {
+    private int symbols;
+    private long updates;
+    private long lateUpdates;
+    private long quoteUpdatesSkipped;
+    private long closedBars;
+    private int pendingDailyBars;
+    private long dailyBarsFlushed;
+    private long dailyBarsSkipped;
+}
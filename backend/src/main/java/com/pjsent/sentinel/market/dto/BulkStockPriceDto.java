@@ -0,0 +1,25 @@
+package com.pjsent.sentinel.market.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 심볼 시세 조회 결과 DTO
+ * 심볼별로 성공한 시세(prices) 또는 실패 사유(errors) 중 하나를 가집니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStockPriceDto {
+    @Builder.Default
+    private Map<String, StockPriceDto> prices = new LinkedHashMap<>();
+    @Builder.Default
+    private Map<String, String> errors = new LinkedHashMap<>();
+    private long elapsedMs;
+}
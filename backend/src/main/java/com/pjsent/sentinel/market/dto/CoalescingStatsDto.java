@@ -0,0 +1,22 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시세 요청 병합 통계 DTO
+ * coalescedCalls는 병합 덕분에 절약된 프로바이더 호출 수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingStatsDto {
+    private long upstreamCalls;
+    private long coalescedCalls;
+    private long timeouts;
+    private long sharedFailures;
+    private int inFlight;
+}
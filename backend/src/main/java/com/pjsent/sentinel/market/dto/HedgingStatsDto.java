@@ -0,0 +1,23 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 헤지 요청 통계 DTO
+ * hedgeWins는 보조 프로바이더가 먼저 응답하여 지연을 줄인 횟수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HedgingStatsDto {
+    private long races;
+    private long hedgesFired;
+    private long hedgeWins;
+    private long skippedByBudget;
+    private long skippedByQuota;
+    private long cancelled;
+}
@@ -0,0 +1,29 @@
+package com.pjsent.sentinel.market.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 과거 일봉 백필 작업의 마지막 실행 통계 DTO
+ * upToDate는 요청 없이 넘어간 심볼 수, compactRequests/fullRequests는 최근 구간/전체 이력 요청 수입니다.
+ * aborted는 호출 한도 대기가 실행 제한 시간을 넘어 중단된 경우 true입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryBackfillStatsDto {
+    private LocalDateTime startedAt;
+    private long elapsedMs;
+    private int symbols;
+    private int upToDate;
+    private int compactRequests;
+    private int fullRequests;
+    private int failed;
+    private int throttleWaits;
+    private boolean aborted;
+}
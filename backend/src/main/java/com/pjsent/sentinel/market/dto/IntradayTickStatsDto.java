@@ -0,0 +1,27 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 체결(틱) 기반 장중 통계 DTO
+ * vwap/high/low/volume/trades는 세션 시작(sessionStart, 거래소 시간대 자정) 이후의 체결만 집계합니다.
+ * 시각 필드는 epoch 밀리초입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntradayTickStatsDto {
+    private String symbol;
+    private double lastPrice;
+    private long lastTradeAt;
+    private double vwap;
+    private double high;
+    private double low;
+    private long volume;
+    private long trades;
+    private long sessionStart;
+}
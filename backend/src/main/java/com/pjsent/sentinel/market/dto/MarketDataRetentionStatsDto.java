@@ -0,0 +1,30 @@
+package com.pjsent.sentinel.market.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * market_data 보관 기간 정리 작업의 마지막 실행 통계 DTO
+ * rowsByRule은 규칙(symbol:AAPL, source:Finnhub, default, partitions)별 삭제 행 수이고, rowsReclaimed는 그 합계입니다.
+ * aborted는 실행 제한 시간을 넘었거나 오류로 중단된 경우 true입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketDataRetentionStatsDto {
+    private LocalDateTime startedAt;
+    private long elapsedMs;
+    private boolean partitioned;
+    private int partitionsCreated;
+    private int partitionsDropped;
+    private int chunks;
+    private long rowsReclaimed;
+    private Map<String, Long> rowsByRule;
+    private boolean aborted;
+}
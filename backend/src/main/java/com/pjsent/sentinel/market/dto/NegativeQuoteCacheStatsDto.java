@@ -0,0 +1,26 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 네거티브 캐시 통계 DTO
+ * 알 수 없는 심볼로 기록된 항목 수와 프로바이더 호출 없이 거절한 요청 수를 제공합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NegativeQuoteCacheStatsDto {
+    private boolean enabled;
+    private int entries;
+    private long rejected;
+    // 블룸 필터는 통과했지만 항목이 없거나 만료된 조회 수
+    private long filterFalsePositives;
+    private long marked;
+    private long cleared;
+    // 최대 항목 수에 도달해 기록하지 못한 수
+    private long dropped;
+}
@@ -0,0 +1,27 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로바이더 상태(라우팅 점수) DTO
+ * score가 낮을수록 먼저 시도되며, 서킷이 OPEN이면 라우팅에서 제외됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderHealthDto {
+    private String circuitState;
+    private double ewmaLatencyMs;
+    private double errorRate;
+    private double remainingTokens;
+    private double score;
+    private long calls;
+    private long failures;
+    private long notPermitted;
+    // 호출자가 취소해 집계하지 않은 호출 수 (헤지에서 진 호출 등)
+    private long cancelled;
+}
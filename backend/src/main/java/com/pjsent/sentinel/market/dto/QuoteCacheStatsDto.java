@@ -0,0 +1,34 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시세 캐시 통계 DTO
+ * 계층(L1 인메모리, L2 Redis)별 hit/miss/stale 카운터를 제공합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteCacheStatsDto {
+    private TierStats l1;
+    private TierStats l2;
+    private int l1Size;
+    private boolean l2Enabled;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TierStats {
+        private long hits;
+        private long misses;
+        private long staleHits;
+        private long puts;
+        private long evictions;
+        private long errors;
+    }
+}
@@ -0,0 +1,25 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시세 영속화(write-behind) 통계 DTO
+ * merged는 대기 중인 같은 심볼의 시세를 최신 값으로 덮어쓴 횟수, dropped는 큐가 가득 차 버린 시세 수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotePersistenceStatsDto {
+    private long enqueued;
+    private long merged;
+    private long dropped;
+    private long written;
+    private long failed;
+    private long batches;
+    private int pending;
+    private long warmStartRestored;
+}
@@ -0,0 +1,65 @@
+package com.pjsent.sentinel.market.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시세 사전 갱신(pre-warming) 상태 DTO
+ * 보유 종목 기반 핫 심볼별 캐시 신선도와 사전 갱신 예산/프로바이더 호출 한도 사용량을 제공합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotePrewarmStatusDto {
+    private boolean enabled;
+    private LocalDateTime hotSetLoadedAt;
+    private int hotSymbols;
+    private int freshSymbols;
+    private long cycles;
+    private long refreshed;
+    private long failed;
+    private long deferredByBudget;
+    private Budget budget;
+    private Map<String, RateLimitStatsDto> providerQuota;
+    private List<SymbolFreshness> symbols;
+
+    /**
+     * 사전 갱신 예산 (분당 갱신 심볼 수)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+        private int symbolsPerMinute;
+        private double remaining;
+        private long granted;
+        private long rejected;
+    }
+
+    /**
+     * 핫 심볼 하나의 우선순위와 캐시 신선도
+     * ageMs는 캐시에 저장된 뒤 지난 시간이며, 캐시에 없으면 -1입니다.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SymbolFreshness {
+        private String symbol;
+        private long holders;
+        private double marketValue;
+        private double score;
+        private boolean fresh;
+        private long ageMs;
+        private LocalDateTime lastRefreshedAt;
+        private String lastError;
+    }
+}
@@ -0,0 +1,30 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시세 스트림(SSE) 통계 DTO
+ * updatesSent는 이벤트에 담겨 나간 심볼별 변경분 수, coalescedUpdates는 전송 전에 같은 심볼의 변경분끼리 합쳐진 횟수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteStreamStatsDto {
+    private int connections;
+    private int pendingConnections;
+    private int subscribedSymbols;
+    private long refreshCycles;
+    private int lastRefreshSymbols;
+    private long lastRefreshMs;
+    private long eventsSent;
+    private long updatesSent;
+    private long heartbeatsSent;
+    private long coalescedUpdates;
+    private long rejectedConnections;
+    private long slowConsumerEvictions;
+    private long sendFailures;
+}
@@ -0,0 +1,22 @@
+package com.pjsent.sentinel.market.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로바이더 호출 한도(토큰 버킷) 통계 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatsDto {
+    private int permitsPerMinute;
+    private double availableTokens;
+    private int waiters;
+    private long granted;
+    private long rejected;
+    private long waited;
+}
@@ -17,6 +17,7 @@ public class StockPriceDto {
     private double high;
     private double low;
     private double close;
+    private long volume;
     private double change;
     private double changePercent;
     private String lastTradingDay;
@@ -0,0 +1,31 @@
+package com.pjsent.sentinel.market.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 체결 스트림(웹소켓) 수신 상태 DTO
+ * ignoredTrades는 구독하지 않은 심볼이거나 가격이 유효하지 않아 버퍼에 기록하지 않은 체결 수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TickStreamStatsDto {
+    private boolean enabled;
+    private boolean connected;
+    private LocalDateTime connectedAt;
+    private LocalDateTime lastMessageAt;
+    private long reconnects;
+    private long connectFailures;
+    private long messages;
+    private long trades;
+    private long ignoredTrades;
+    private long decodeErrors;
+    private List<String> subscribedSymbols;
+}
@@ -13,9 +13,12 @@ import java.time.LocalDateTime;
 /**
  * 시장 데이터 엔티티
  * 외부 API에서 조회한 시장 데이터를 캐싱하기 위한 엔티티
+ * (symbol, timestamp DESC) 인덱스로 심볼별 최신 행 조회를 인덱스 범위 스캔으로 처리
  */
 @Entity
-@Table(name = "market_data")
+@Table(name = "market_data", indexes = {
+        @Index(name = "idx_market_data_symbol_timestamp", columnList = "symbol, timestamp DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MarketData {
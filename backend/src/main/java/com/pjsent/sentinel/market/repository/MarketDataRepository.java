@@ -1,10 +1,13 @@
 package com.pjsent.sentinel.market.repository;
 
 import com.pjsent.sentinel.market.entity.MarketData;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,10 +18,10 @@ import java.util.Optional;
  * 시장 데이터 캐싱을 위한 데이터베이스 작업을 담당
  */
 @Repository
-public interface MarketDataRepository extends JpaRepository<MarketData, Long> {
+public interface MarketDataRepository extends JpaRepository<MarketData, Long>, MarketDataRepositoryCustom {
 
     /**
-     * 심볼로 최신 시장 데이터 조회
+     * 심볼로 최신 시장 데이터 조회 (여러 심볼은 findLatestBySymbols 사용)
      */
     Optional<MarketData> findTopBySymbolOrderByTimestampDesc(String symbol);
 
@@ -43,10 +46,23 @@ public interface MarketDataRepository extends JpaRepository<MarketData, Long> {
     List<MarketData> findBySymbolAndTimestampAfterOrderByTimestampDesc(String symbol, LocalDateTime timestamp);
 
     /**
-     * 오래된 캐시 데이터 삭제 (15분 이전 데이터)
+     * 특정 시간 이후 저장된 심볼별 최신 시장 데이터 조회 (최신순, 웜 스타트용)
      */
+    @Query("SELECT m FROM MarketData m WHERE m.timestamp >= :since AND m.timestamp = "
+            + "(SELECT MAX(m2.timestamp) FROM MarketData m2 WHERE m2.symbol = m.symbol) "
+            + "ORDER BY m.timestamp DESC")
+    List<MarketData> findLatestPerSymbolSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 기준 시각 이전 데이터를 한 번에 삭제
+     * 단일 DELETE이므로 소량 정리에만 사용하고, 정기 보관 기간 정리는 MarketDataRetentionJob(chunk 단위 삭제)을 사용
+     *
+     * @return 삭제한 행 수
+     */
+    @Modifying
+    @Transactional
     @Query("DELETE FROM MarketData m WHERE m.timestamp < :cutoffTime")
-    void deleteOldCacheData(@Param("cutoffTime") LocalDateTime cutoffTime);
+    int deleteOldCacheData(@Param("cutoffTime") LocalDateTime cutoffTime);
 
     /**
      * 심볼로 캐시된 데이터 개수 조회
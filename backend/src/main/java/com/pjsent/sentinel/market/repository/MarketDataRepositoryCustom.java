@@ -0,0 +1,19 @@
+package com.pjsent.sentinel.market.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.pjsent.sentinel.market.entity.MarketData;
+
+/**
+ * 시장 데이터 Repository 확장
+ * 데이터베이스마다 SQL이 달라 메서드 이름 규칙이나 JPQL로 표현할 수 없는 조회를 담당
+ */
+public interface MarketDataRepositoryCustom {
+
+    /**
+     * 여러 심볼의 최신 시장 데이터를 한 번의 쿼리로 조회
+     * 저장된 데이터가 없는 심볼은 결과에 포함되지 않음
+     */
+    List<MarketData> findLatestBySymbols(Collection<String> symbols);
+}
@@ -0,0 +1,81 @@
+package com.pjsent.sentinel.market.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+
+import com.pjsent.sentinel.market.entity.MarketData;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 시장 데이터 Repository 확장 구현
+ *
+ * 심볼별 최신 행 조회는 (symbol, timestamp DESC) 인덱스(idx_market_data_symbol_timestamp)를 사용합니다.
+ * - PostgreSQL: DISTINCT ON (symbol)으로 심볼마다 첫 행만 반환
+ * - 그 밖의 데이터베이스: 심볼별 MAX(timestamp)와 조인한 뒤, 같은 시각의 행이 여러 개면 id가 가장 큰 행을 사용
+ * IN 목록이 너무 길어지지 않도록 심볼을 MAX_SYMBOLS_PER_QUERY개씩 나눠 조회합니다.
+ */
+public class MarketDataRepositoryImpl implements MarketDataRepositoryCustom {
+
+    static final int MAX_SYMBOLS_PER_QUERY = 1000;
+
+    static final String DISTINCT_ON_SQL = "SELECT DISTINCT ON (m.symbol) m.* FROM market_data m "
+            + "WHERE m.symbol IN (:symbols) "
+            + "ORDER BY m.symbol, m.timestamp DESC, m.id DESC";
+
+    static final String PORTABLE_SQL = "SELECT m.* FROM market_data m "
+            + "JOIN (SELECT symbol, MAX(timestamp) AS latest FROM market_data "
+            + "WHERE symbol IN (:symbols) GROUP BY symbol) l "
+            + "ON m.symbol = l.symbol AND m.timestamp = l.latest";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean distinctOnSupported;
+
+    @Override
+    public List<MarketData> findLatestBySymbols(Collection<String> symbols) {
+        return findLatestBySymbols(symbols, supportsDistinctOn());
+    }
+
+    List<MarketData> findLatestBySymbols(Collection<String> symbols, boolean distinctOn) {
+        if (symbols.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(symbols));
+
+        Map<String, MarketData> latest = new LinkedHashMap<>();
+        for (int from = 0; from < distinct.size(); from += MAX_SYMBOLS_PER_QUERY) {
+            List<String> chunk = distinct.subList(from, Math.min(from + MAX_SYMBOLS_PER_QUERY, distinct.size()));
+            @SuppressWarnings("unchecked")
+            List<MarketData> rows = entityManager
+                    .createNativeQuery(distinctOn ? DISTINCT_ON_SQL : PORTABLE_SQL, MarketData.class)
+                    .setParameter("symbols", chunk)
+                    .getResultList();
+            for (MarketData row : rows) {
+                latest.merge(row.getSymbol(), row, (current, candidate) ->
+                        candidate.getId() > current.getId() ? candidate : current);
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private boolean supportsDistinctOn() {
+        Boolean supported = distinctOnSupported;
+        if (supported == null) {
+            String product = entityManager.unwrap(Session.class)
+                    .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            supported = "PostgreSQL".equalsIgnoreCase(product);
+            distinctOnSupported = supported;
+        }
+        return supported;
+    }
+}
@@ -1,12 +1,61 @@
 package com.pjsent.sentinel.market.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
+import com.pjsent.sentinel.market.dto.CoalescingStatsDto;
+import com.pjsent.sentinel.market.dto.HedgingStatsDto;
+import com.pjsent.sentinel.market.dto.NegativeQuoteCacheStatsDto;
+import com.pjsent.sentinel.market.dto.ProviderHealthDto;
+import com.pjsent.sentinel.market.dto.QuoteCacheStatsDto;
+import com.pjsent.sentinel.market.dto.QuotePersistenceStatsDto;
+import com.pjsent.sentinel.market.dto.RateLimitStatsDto;
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.bars.BarAggregator;
+import com.pjsent.sentinel.market.service.cache.CachedQuote;
+import com.pjsent.sentinel.market.service.cache.NegativeQuoteCache;
+import com.pjsent.sentinel.market.service.cache.QuoteCache;
+import com.pjsent.sentinel.market.service.coalescing.QuoteRequestCoalescer;
+import com.pjsent.sentinel.market.service.event.QuoteUpdatedEvent;
 import com.pjsent.sentinel.market.service.factory.MarketDataProviderFactory;
+import com.pjsent.sentinel.market.service.hedging.HedgeEndpoint;
+import com.pjsent.sentinel.market.service.hedging.HedgedQuote;
+import com.pjsent.sentinel.market.service.hedging.QuoteHedger;
+import com.pjsent.sentinel.market.service.persistence.QuoteWriteBehind;
 import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.provider.QuoteBatchResult;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriority;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriorityContext;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +64,11 @@ import lombok.extern.slf4j.Slf4j;
  * 시장 데이터 서비스
  * 여러 프로바이더를 통해 주식 가격 데이터를 가져오는 서비스입니다.
  * Fallback 전략을 구현하여 주요 프로바이더가 실패할 경우 대체 프로바이더를 사용합니다.
+ * 조회 결과는 2계층 시세 캐시(QuoteCache)에 저장되며, stale 값은 즉시 반환 후 백그라운드에서 갱신합니다.
+ * 같은 심볼에 대한 동시 캐시 미스는 QuoteRequestCoalescer로 병합되어 프로바이더를 한 번만 호출합니다.
+ * 프로바이더에서 새로 조회한 시세는 QuoteWriteBehind를 통해 비동기로 market_data에 기록됩니다.
+ * 새로 조회한 시세마다 QuoteUpdatedEvent를 발행하여 시세에 의존하는 다른 모듈(포트폴리오 평가 등)에 알립니다.
+ * 모든 프로바이더가 모른다고 응답한 심볼은 NegativeQuoteCache에 기록해 TTL 동안 프로바이더를 호출하지 않고 거절합니다.
  */
 @Service
 @Slf4j
@@ -22,22 +76,123 @@ import lombok.extern.slf4j.Slf4j;
 public class MarketDataService {
     
     private final MarketDataProviderFactory providerFactory;
+    private final QuoteCache quoteCache;
+    private final NegativeQuoteCache negativeQuoteCache;
+    private final QuoteRequestCoalescer requestCoalescer;
+    private final ProviderRateLimiter rateLimiter;
+    private final ProviderHealthTracker healthTracker;
+    private final QuoteHedger quoteHedger;
+    private final QuoteWriteBehind quoteWriteBehind;
+    private final BarAggregator barAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("marketDataExecutor")
+    private final Executor marketDataExecutor;
+    
+    @Value("${stock.market.bulk.timeout-ms:8000}")
+    private long bulkTimeoutMs;
+    
+    // 백그라운드 재검증이 진행 중인 심볼 (심볼당 하나의 재검증만 허용)
+    private final Set<String> revalidatingSymbols = ConcurrentHashMap.newKeySet();
     
     /**
      * 주식 가격 데이터를 가져옵니다.
-     * Fallback 전략을 사용하여 여러 프로바이더를 순차적으로 시도합니다.
+     * 캐시에 신선한 값이 있으면 바로 반환하고, stale 값이면 반환과 동시에 재검증을 예약합니다.
+     * 캐시에 없으면 Fallback 전략을 사용하여 여러 프로바이더를 순차적으로 시도합니다.
      * 
      * @param symbol 주식 심볼 (예: AAPL, MSFT)
      * @return 주식 가격 데이터
      * @throws RuntimeException 모든 프로바이더가 실패한 경우
      */
     public StockPriceDto getStockPrice(String symbol) {
+        return getStockPrice(symbol, HedgeEndpoint.QUOTE);
+    }
+    
+    /**
+     * 진입점별 헤지 정책을 적용하여 주식 가격 데이터를 가져옵니다.
+     * 심볼은 SymbolRegistry로 정규화하므로 "aapl"과 "AAPL"은 같은 캐시 항목과 같은 프로바이더 호출을 사용합니다.
+     * 
+     * @param symbol 주식 심볼 (예: AAPL, MSFT)
+     * @param endpoint 헤지 정책을 결정하는 시세 조회 진입점
+     * @return 주식 가격 데이터
+     * @throws IllegalArgumentException 심볼이 비어 있거나 형식이 맞지 않는 경우
+     * @throws UnknownSymbolException 모든 프로바이더가 모른다고 응답한 심볼인 경우
+     * @throws RuntimeException 모든 프로바이더가 실패한 경우
+     */
+    public StockPriceDto getStockPrice(String symbol, HedgeEndpoint endpoint) {
         log.info("주식 가격 데이터 요청. 심볼: {}", symbol);
         
-        if (symbol == null || symbol.trim().isEmpty()) {
-            throw new IllegalArgumentException("심볼은 필수입니다.");
+        String key = SymbolRegistry.normalize(symbol);
+        if (negativeQuoteCache.isUnknown(key)) {
+            log.debug("알 수 없는 심볼로 기록되어 있어 프로바이더를 호출하지 않음. 심볼: {}", key);
+            throw new UnknownSymbolException(key, "알 수 없는 심볼입니다: " + key);
         }
         
+        Optional<CachedQuote> cached = quoteCache.get(key);
+        if (cached.isPresent()) {
+            CachedQuote entry = cached.get();
+            if (!entry.isFresh(System.currentTimeMillis())) {
+                log.debug("stale 캐시 반환 후 재검증 예약. 심볼: {}", key);
+                scheduleRevalidation(key);
+            }
+            return entry.getQuote();
+        }
+        
+        return requestCoalescer.execute(key, () -> fetchAndCache(key, endpoint));
+    }
+    
+    /**
+     * stale 캐시 항목을 백그라운드에서 갱신합니다.
+     * 동일 심볼에 대해 동시에 하나의 갱신만 수행하여 프로바이더 호출량(쿼터)을 보호합니다.
+     * 백그라운드 우선순위로 실행되므로 사용자 요청용 예약 토큰은 사용하지 않습니다.
+     */
+    private void scheduleRevalidation(String symbol) {
+        if (!revalidatingSymbols.add(symbol)) {
+            return;
+        }
+        try {
+            marketDataExecutor.execute(() -> {
+                try {
+                    RequestPriorityContext.callWith(RequestPriority.BACKGROUND,
+                            () -> requestCoalescer.execute(symbol, () -> fetchAndCache(symbol, HedgeEndpoint.QUOTE)));
+                } catch (Exception e) {
+                    log.warn("시세 재검증 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
+                } finally {
+                    revalidatingSymbols.remove(symbol);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("시세 재검증 작업이 거부되었습니다. 심볼: {}", symbol);
+            revalidatingSymbols.remove(symbol);
+        }
+    }
+    
+    /**
+     * 프로바이더에서 시세를 조회하고 캐시에 저장합니다.
+     */
+    private StockPriceDto fetchAndCache(String symbol, HedgeEndpoint endpoint) {
+        StockPriceDto result = fetchFromProviders(symbol, endpoint);
+        onFreshQuote(symbol, result);
+        return result;
+    }
+    
+    /**
+     * 프로바이더에서 새로 받은 시세를 캐시, 영속화, 봉 집계에 반영하고 QuoteUpdatedEvent를 발행합니다.
+     */
+    private void onFreshQuote(String symbol, StockPriceDto quote) {
+        negativeQuoteCache.clear(symbol);
+        quoteCache.put(symbol, quote);
+        quoteWriteBehind.enqueue(quote);
+        barAggregator.onQuote(quote);
+        eventPublisher.publishEvent(new QuoteUpdatedEvent(symbol, quote));
+    }
+    
+    /**
+     * 프로바이더를 우선순위대로 시도하여 시세를 조회합니다.
+     * 헤지가 활성화된 진입점이면 1, 2순위 프로바이더를 먼저 경쟁시키고, 둘 다 실패하면 나머지를 순차 시도합니다.
+     * 사용 가능한 모든 프로바이더가 모르는 심볼이라고 응답하면 네거티브 캐시에 기록합니다.
+     * 한도 초과나 장애로 응답하지 못한 프로바이더가 하나라도 있으면 기록하지 않습니다.
+     */
+    private StockPriceDto fetchFromProviders(String symbol, HedgeEndpoint endpoint) {
         List<MarketDataProvider> availableProviders = providerFactory.getAvailableProviders();
         
         if (availableProviders.isEmpty()) {
@@ -46,12 +201,26 @@ public class MarketDataService {
         }
         
         Exception lastException = null;
+        int next = 0;
+        AtomicInteger unknownVotes = new AtomicInteger();
         
-        for (MarketDataProvider provider : availableProviders) {
+        if (quoteHedger.shouldHedge(endpoint, availableProviders)) {
+            HedgedQuote hedged = quoteHedger.race(endpoint, availableProviders.get(0), availableProviders.get(1), 
+                    provider -> callProvider(provider, symbol, unknownVotes));
+            if (hedged.getQuote() != null) {
+                log.info("주식 가격 데이터 조회 성공. 심볼: {}, 가격: {}, 프로바이더: {}", 
+                        symbol, hedged.getQuote().getPrice(), hedged.getQuote().getProvider());
+                return hedged.getQuote();
+            }
+            lastException = hedged.getLastError();
+            next = hedged.getAttempted();
+        }
+        
+        for (MarketDataProvider provider : availableProviders.subList(next, availableProviders.size())) {
             try {
                 log.debug("프로바이더 {}로 시도 중. 심볼: {}", provider.getProviderName(), symbol);
                 
-                StockPriceDto result = provider.getMarketData(symbol);
+                StockPriceDto result = callProvider(provider, symbol, unknownVotes);
                 
                 if (result != null && result.getPrice() > 0) {
                     log.info("주식 가격 데이터 조회 성공. 심볼: {}, 가격: {}, 프로바이더: {}", 
@@ -62,6 +231,18 @@ public class MarketDataService {
                             provider.getProviderName(), symbol);
                 }
                 
+            } catch (RateLimitExceededException e) {
+                log.info("프로바이더 {} 호출 한도 초과로 다음 프로바이더 시도. 심볼: {}", 
+                        provider.getProviderName(), symbol);
+                lastException = e;
+            } catch (CallNotPermittedException e) {
+                log.info("프로바이더 {} 서킷이 열려 있어 다음 프로바이더 시도. 심볼: {}", 
+                        provider.getProviderName(), symbol);
+                lastException = e;
+            } catch (UnknownSymbolException e) {
+                log.info("프로바이더 {}에 없는 심볼이므로 다음 프로바이더 시도. 심볼: {}", 
+                        provider.getProviderName(), symbol);
+                lastException = e;
             } catch (Exception e) {
                 log.warn("프로바이더 {} 실패. 심볼: {}, 오류: {}", 
                         provider.getProviderName(), symbol, e.getMessage());
@@ -69,22 +250,313 @@ public class MarketDataService {
             }
         }
         
+        if (unknownVotes.get() >= availableProviders.size()) {
+            long ttl = negativeQuoteCache.markUnknown(symbol);
+            log.info("모든 프로바이더가 알 수 없는 심볼로 응답. 심볼: {}, 거절 기간: {}ms", symbol, ttl);
+            throw new UnknownSymbolException(symbol, "알 수 없는 심볼입니다: " + symbol);
+        }
+        
         log.error("모든 프로바이더 실패. 심볼: {}", symbol);
         throw new RuntimeException("모든 시장 데이터 프로바이더가 실패했습니다. 심볼: " + symbol, lastException);
     }
     
+    private StockPriceDto callProvider(MarketDataProvider provider, String symbol, AtomicInteger unknownVotes) {
+        try {
+            return healthTracker.execute(provider.getProviderName(), () -> provider.getMarketData(symbol));
+        } catch (UnknownSymbolException e) {
+            unknownVotes.incrementAndGet();
+            throw e;
+        }
+    }
+    
     /**
      * 여러 심볼의 주식 가격 데이터를 가져옵니다.
+     * 조회에 실패한 심볼은 제외하고 성공한 시세만 요청 순서대로 반환합니다.
      * 
      * @param symbols 주식 심볼 목록
      * @return 주식 가격 데이터 목록
      */
     public List<StockPriceDto> getStockPrices(List<String> symbols) {
+        return List.copyOf(getStockPricesBulk(symbols).getPrices().values());
+    }
+    
+    /**
+     * 여러 심볼의 주식 가격 데이터를 가져옵니다.
+     * 캐시에 없는 심볼은 프로바이더의 일괄 조회 API로 묶어서 요청하며, 묶음(청크)들은 전용 executor에서 병렬로 실행됩니다.
+     * 프로바이더가 돌려주지 못한 심볼만 다음 프로바이더로 넘어갑니다.
+     * 전체 요청에 하나의 마감 시간이 적용되며, 한 심볼의 실패가 전체 응답을 실패시키지 않습니다.
+     * 결과의 키는 정규화된 심볼이며, 형식이 맞지 않는 심볼은 입력값 그대로 실패 사유에 담깁니다.
+     * 
+     * @param symbols 주식 심볼 목록
+     * @return 심볼별 시세 또는 실패 사유
+     */
+    public BulkStockPriceDto getStockPricesBulk(List<String> symbols) {
         log.info("여러 주식 가격 데이터 요청. 심볼 수: {}", symbols.size());
+        long startedAt = System.currentTimeMillis();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bulkTimeoutMs);
+        
+        Set<String> uniqueSymbols = new LinkedHashSet<>();
+        Map<String, String> invalidSymbols = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            if (symbol != null && !symbol.trim().isEmpty()) {
+                SymbolRegistry.tryNormalize(symbol).ifPresentOrElse(uniqueSymbols::add,
+                        () -> invalidSymbols.put(symbol.trim(), "유효하지 않은 심볼입니다."));
+            }
+        }
+        
+        Map<String, StockPriceDto> prices = new HashMap<>();
+        Map<String, String> failures = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String symbol : uniqueSymbols) {
+            if (negativeQuoteCache.isUnknown(symbol)) {
+                failures.put(symbol, "알 수 없는 심볼입니다.");
+                continue;
+            }
+            Optional<CachedQuote> cached = quoteCache.get(symbol);
+            if (cached.isPresent()) {
+                if (!cached.get().isFresh(System.currentTimeMillis())) {
+                    scheduleRevalidation(symbol);
+                }
+                prices.put(symbol, cached.get().getQuote());
+            } else {
+                misses.add(symbol);
+            }
+        }
+        
+        if (!misses.isEmpty()) {
+            fetchMissingQuotes(misses, prices, failures, deadlineNanos);
+        }
+        
+        BulkStockPriceDto result = new BulkStockPriceDto();
+        for (String symbol : uniqueSymbols) {
+            StockPriceDto quote = prices.get(symbol);
+            if (quote != null) {
+                result.getPrices().put(symbol, quote);
+            } else {
+                result.getErrors().put(symbol, 
+                        failures.getOrDefault(symbol, "모든 시장 데이터 프로바이더가 실패했습니다."));
+            }
+        }
+        result.getErrors().putAll(invalidSymbols);
+        result.setElapsedMs(System.currentTimeMillis() - startedAt);
+        
+        log.info("여러 주식 가격 데이터 조회 완료. 캐시: {}, 성공: {}, 실패: {}, 소요시간: {}ms", 
+                uniqueSymbols.size() - misses.size(), result.getPrices().size(), 
+                result.getErrors().size(), result.getElapsedMs());
+        return result;
+    }
+    
+    /**
+     * 캐시 상태와 관계없이 여러 심볼의 시세를 프로바이더에서 다시 조회해 캐시에 저장합니다.
+     * 사전 갱신(pre-warming)용이며, 호출 스레드의 우선순위로 호출 토큰을 획득합니다.
+     * 
+     * @param symbols 주식 심볼 목록
+     * @return 갱신에 성공한 심볼별 시세
+     */
+    public Map<String, StockPriceDto> refreshQuotes(Collection<String> symbols) {
+        List<String> targets = symbols.stream()
+                .map(SymbolRegistry::tryNormalize)
+                .flatMap(Optional::stream)
+                .filter(symbol -> !negativeQuoteCache.isUnknown(symbol))
+                .distinct()
+                .toList();
+        Map<String, StockPriceDto> prices = new HashMap<>();
+        if (targets.isEmpty()) {
+            return prices;
+        }
+        
+        Map<String, String> failures = new HashMap<>();
+        fetchMissingQuotes(targets, prices, failures, 
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bulkTimeoutMs));
+        log.debug("시세 사전 갱신. 요청: {}, 성공: {}", targets.size(), prices.size());
+        return prices;
+    }
+    
+    /**
+     * 캐시에 없는 심볼들을 프로바이더 우선순위대로 일괄 조회합니다.
+     * 단건 조회와 같이, 사용 가능한 모든 프로바이더가 모르는 심볼이라고 응답한 심볼만 네거티브 캐시에 기록합니다.
+     */
+    private void fetchMissingQuotes(List<String> misses, Map<String, StockPriceDto> prices, 
+                                    Map<String, String> failures, long deadlineNanos) {
+        List<MarketDataProvider> availableProviders = providerFactory.getAvailableProviders();
+        if (availableProviders.isEmpty()) {
+            log.error("사용 가능한 프로바이더가 없습니다.");
+            misses.forEach(symbol -> failures.put(symbol, "사용 가능한 시장 데이터 프로바이더가 없습니다."));
+            return;
+        }
         
-        return symbols.stream()
-                .map(this::getStockPrice)
-                .collect(java.util.stream.Collectors.toList());
+        // 조회 순서를 유지하면서 심볼별 포함 여부를 상수 시간에 확인
+        Set<String> remaining = new LinkedHashSet<>(misses);
+        // 심볼 -> 모르는 심볼이라고 응답한 프로바이더 수
+        Map<String, Integer> unknownVotes = new HashMap<>();
+        for (MarketDataProvider provider : availableProviders) {
+            if (remaining.isEmpty() || System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+            
+            QuoteBatchResult fetched = fetchBatches(provider, List.copyOf(remaining), deadlineNanos);
+            fetched.getQuotes().forEach((symbol, quote) -> {
+                if (quote != null && quote.getPrice() > 0 && remaining.remove(symbol)) {
+                    onFreshQuote(symbol, quote);
+                    prices.put(symbol, quote);
+                }
+            });
+            fetched.getUnknownSymbols().stream()
+                    .filter(remaining::contains)
+                    .forEach(symbol -> unknownVotes.merge(symbol, 1, Integer::sum));
+        }
+        
+        remaining.removeIf(symbol -> {
+            if (unknownVotes.getOrDefault(symbol, 0) < availableProviders.size()) {
+                return false;
+            }
+            long ttl = negativeQuoteCache.markUnknown(symbol);
+            log.info("모든 프로바이더가 알 수 없는 심볼로 응답. 심볼: {}, 거절 기간: {}ms", symbol, ttl);
+            failures.put(symbol, "알 수 없는 심볼입니다.");
+            return true;
+        });
+        
+        if (!remaining.isEmpty() && System.nanoTime() >= deadlineNanos) {
+            log.warn("여러 주식 가격 조회 마감 시간 초과. 제한: {}ms, 미완료 심볼 수: {}", bulkTimeoutMs, remaining.size());
+            remaining.forEach(symbol -> failures.put(symbol, "조회 시간이 초과되었습니다."));
+        }
+    }
+    
+    /**
+     * 한 프로바이더에 대해 최대 일괄 조회 크기 단위로 심볼을 나누어 병렬로 요청합니다.
+     * 마감 시간 안에 끝난 청크의 결과만 반환합니다.
+     */
+    private QuoteBatchResult fetchBatches(MarketDataProvider provider, List<String> symbols, long deadlineNanos) {
+        int batchSize = Math.max(1, provider.getMaxBatchSize());
+        List<CompletableFuture<QuoteBatchResult>> futures = new ArrayList<>();
+        for (int from = 0; from < symbols.size(); from += batchSize) {
+            List<String> chunk = List.copyOf(symbols.subList(from, Math.min(from + batchSize, symbols.size())));
+            futures.add(submitBatchRequest(provider, chunk));
+        }
+        
+        awaitAll(futures, deadlineNanos);
+        
+        QuoteBatchResult fetched = QuoteBatchResult.empty();
+        for (CompletableFuture<QuoteBatchResult> future : futures) {
+            if (!future.isDone()) {
+                future.cancel(true);
+                continue;
+            }
+            try {
+                fetched.merge(future.join());
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("프로바이더 {} 일괄 조회 실패. 오류: {}", provider.getProviderName(), cause.getMessage());
+            }
+        }
+        
+        log.debug("프로바이더 {} 일괄 조회. 요청 심볼: {}, 청크: {}, 성공: {}, 모르는 심볼: {}", 
+                provider.getProviderName(), symbols.size(), futures.size(), 
+                fetched.getQuotes().size(), fetched.getUnknownSymbols().size());
+        return fetched;
+    }
+    
+    private CompletableFuture<QuoteBatchResult> submitBatchRequest(MarketDataProvider provider, List<String> chunk) {
+        // executor 스레드에서도 호출자의 우선순위(사용자 요청/백그라운드)로 호출 토큰을 획득
+        RequestPriority priority = RequestPriorityContext.current();
+        try {
+            return CompletableFuture.supplyAsync(() -> RequestPriorityContext.callWith(priority,
+                    () -> fetchChunk(provider, chunk)), marketDataExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("시세 일괄 조회 작업이 거부되었습니다. 프로바이더: {}, 심볼 수: {}", 
+                    provider.getProviderName(), chunk.size());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * 다중 심볼 시세 API를 지원하는 프로바이더는 청크를 한 번에 호출하고, 그렇지 않으면 심볼마다 호출합니다.
+     * 심볼별 호출도 각각 상태 추적기를 거치므로 개별 실패가 서킷 브레이커와 라우팅 점수에 반영됩니다.
+     */
+    private QuoteBatchResult fetchChunk(MarketDataProvider provider, List<String> chunk) {
+        String providerName = provider.getProviderName();
+        if (provider.supportsBatchQuotes() && chunk.size() > 1) {
+            return healthTracker.execute(providerName, () -> provider.getMarketDataBatch(chunk));
+        }
+        return QuoteBatchResult.fetchEach(providerName, chunk,
+                symbol -> healthTracker.execute(providerName, () -> provider.getMarketData(symbol)));
+    }
+    
+    private void awaitAll(Collection<? extends CompletableFuture<?>> futures, long deadlineNanos) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 마감 시간까지 끝나지 않은 청크는 호출자가 실패로 처리
+        } catch (ExecutionException e) {
+            // 개별 실패는 청크별 결과로 처리
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 시세 캐시 통계를 반환합니다.
+     * 
+     * @return 계층별 hit/miss/stale 카운터
+     */
+    public QuoteCacheStatsDto getCacheStats() {
+        return quoteCache.getStats();
+    }
+    
+    /**
+     * 네거티브 캐시 통계를 반환합니다.
+     * 
+     * @return 알 수 없는 심볼 항목 수와 프로바이더 호출 없이 거절한 요청 수
+     */
+    public NegativeQuoteCacheStatsDto getNegativeCacheStats() {
+        return negativeQuoteCache.getStats();
+    }
+    
+    /**
+     * 시세 요청 병합 통계를 반환합니다.
+     * 
+     * @return 프로바이더 호출 수와 병합으로 절약된 호출 수
+     */
+    public CoalescingStatsDto getCoalescingStats() {
+        return requestCoalescer.getStats();
+    }
+    
+    /**
+     * 프로바이더별 호출 한도 통계를 반환합니다.
+     * 
+     * @return 프로바이더 이름별 토큰 버킷 상태
+     */
+    public Map<String, RateLimitStatsDto> getRateLimitStats() {
+        return rateLimiter.getStats();
+    }
+    
+    /**
+     * 헤지 요청 통계를 반환합니다.
+     * 
+     * @return 헤지 발사/승리/예산 부족으로 건너뛴 횟수
+     */
+    public HedgingStatsDto getHedgingStats() {
+        return quoteHedger.getStats();
+    }
+    
+    /**
+     * 시세 영속화 통계를 반환합니다.
+     * 
+     * @return 대기/병합/버림/기록 건수
+     */
+    public QuotePersistenceStatsDto getPersistenceStats() {
+        return quoteWriteBehind.getStats();
+    }
+    
+    /**
+     * 프로바이더별 라우팅 상태를 반환합니다.
+     * 
+     * @return 프로바이더 이름별 서킷 상태, EWMA 응답 시간, 오류율, 라우팅 점수
+     */
+    public Map<String, ProviderHealthDto> getProviderHealth() {
+        return providerFactory.getProviderHealth();
     }
     
     /**
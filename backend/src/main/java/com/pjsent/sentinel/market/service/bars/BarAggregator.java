@@ -0,0 +1,325 @@
+package com.pjsent.sentinel.market.service.bars;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.BarAggregationStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.history.OhlcvSeries;
+import com.pjsent.sentinel.market.service.history.OhlcvStore;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+import com.pjsent.sentinel.market.service.symbol.SymbolTable;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 해상도 봉 집계기
+ * 체결/시세가 들어올 때마다 심볼별 1m/5m/1h/1d 봉을 점진적으로 갱신합니다. 갱신 한 번의 작업량은 일정합니다.
+ *
+ * - 만들어지는 중인 봉은 메모리에서 바로 조회하고, 마감된 장중 봉은 해상도별 고정 크기 링(retention)에 보관합니다.
+ * - 마감된 일봉은 주기적으로 OhlcvStore에 기록합니다. 같은 날짜의 봉이 이미 있으면(프로바이더 백필) 덮어쓰지 않습니다.
+ * - 체결 스트림이 있는 심볼은 quote-quiet-ms 동안 시세 스냅샷을 봉에 반영하지 않아 거래량이 중복 집계되지 않습니다.
+ * - 이미 마감된 구간에 속한 늦은 갱신은 버리고 lateUpdates로 집계합니다.
+ * - 심볼별 봉 시리즈는 SymbolRegistry의 심볼 ID로 인덱싱합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BarAggregator {
+
+    private final OhlcvStore ohlcvStore;
+    private final SymbolRegistry symbolRegistry;
+
+    @Value("${stock.market.ticks.session-zone:America/New_York}")
+    private String sessionZoneId;
+
+    // 해상도별 보관할 마감 봉 수 (예: "1m:960,5m:576,1h:336,1d:30")
+    @Value("${stock.market.bars.retention:1m:960,5m:576,1h:336,1d:30}")
+    private String retentionConfig;
+
+    @Value("${stock.market.bars.quote-quiet-ms:60000}")
+    private long quoteQuietMs;
+
+    private ZoneRules zoneRules;
+
+    // 현재 시간대 오프셋과 유효 구간 (다음 서머타임 전환 전까지 재사용)
+    private volatile OffsetWindow offsetWindow = new OffsetWindow(Long.MAX_VALUE, Long.MIN_VALUE, 0);
+
+    private final int[] retention = new int[BarResolution.values().length];
+
+    // 심볼 ID -> 봉 시리즈
+    private final SymbolTable<SymbolBars> bars = new SymbolTable<>();
+    private final Queue<DailyBar> pendingDailyBars = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder lateUpdates = new LongAdder();
+    private final LongAdder quoteUpdatesSkipped = new LongAdder();
+    private final LongAdder closedBars = new LongAdder();
+    private final LongAdder dailyBarsFlushed = new LongAdder();
+    private final LongAdder dailyBarsSkipped = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        zoneRules = ZoneId.of(sessionZoneId).getRules();
+        retention[BarResolution.ONE_MINUTE.ordinal()] = 960;
+        retention[BarResolution.FIVE_MINUTES.ordinal()] = 576;
+        retention[BarResolution.ONE_HOUR.ordinal()] = 336;
+        retention[BarResolution.ONE_DAY.ordinal()] = 30;
+        if (retentionConfig != null && !retentionConfig.isBlank()) {
+            for (String entry : retentionConfig.split(",")) {
+                String[] parts = entry.split(":");
+                try {
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException(entry);
+                    }
+                    retention[BarResolution.fromCode(parts[0].trim()).ordinal()] =
+                            Math.max(0, Integer.parseInt(parts[1].trim()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("잘못된 봉 보관 설정 무시: {}", entry);
+                }
+            }
+        }
+        log.info("봉 집계 설정. 시간대: {}, 보관 봉 수(1m/5m/1h/1d): {}/{}/{}/{}", sessionZoneId,
+                retention[0], retention[1], retention[2], retention[3]);
+    }
+
+    /**
+     * 체결 하나를 봉에 반영합니다.
+     *
+     * @param symbol 주식 심볼
+     * @param epochMillis 체결 시각
+     * @param price 체결가
+     * @param volume 체결 수량
+     */
+    public void onTrade(String symbol, long epochMillis, double price, long volume) {
+        onTrade(symbolRegistry.register(symbol), epochMillis, price, volume);
+    }
+
+    /**
+     * 체결 하나를 봉에 반영합니다. 체결 스트림처럼 심볼 ID를 이미 알고 있는 경로에서 사용합니다.
+     *
+     * @param symbolId SymbolRegistry가 부여한 심볼 ID
+     */
+    public void onTrade(int symbolId, long epochMillis, double price, long volume) {
+        if (!(price > 0)) {
+            return;
+        }
+        if (symbolBars(symbolId).trade(epochMillis, localMillis(epochMillis), price, Math.max(volume, 0),
+                this::onClosed)) {
+            updates.increment();
+        } else {
+            lateUpdates.increment();
+        }
+    }
+
+    /**
+     * 시세 스냅샷을 봉에 반영합니다. 수신 시각을 봉 시각으로 사용하고, 거래량은 누적 거래량의 증가분만 더합니다.
+     */
+    public void onQuote(StockPriceDto quote) {
+        onQuote(quote, System.currentTimeMillis());
+    }
+
+    void onQuote(StockPriceDto quote, long receivedAt) {
+        if (quote == null || quote.getSymbol() == null || !(quote.getPrice() > 0)) {
+            return;
+        }
+        int symbolId;
+        try {
+            symbolId = symbolRegistry.register(quote.getSymbol());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.debug("봉 집계 제외. 심볼: {}, 사유: {}", quote.getSymbol(), e.getMessage());
+            return;
+        }
+        boolean applied = symbolBars(symbolId).quote(receivedAt, localMillis(receivedAt), quote.getPrice(),
+                Math.max(quote.getVolume(), 0), quoteQuietMs, this::onClosed);
+        if (applied) {
+            updates.increment();
+        } else {
+            quoteUpdatesSkipped.increment();
+        }
+    }
+
+    /**
+     * 최근 봉을 시간 오름차순으로 반환합니다. 만들어지는 중인 봉이 있으면 마지막 항목입니다.
+     * timeStamp는 세션 시간대 기준 봉 시작 시각이고, price는 종가(만들어지는 중이면 현재가)입니다.
+     *
+     * @param limit 최대 봉 수
+     * @throws IllegalArgumentException 심볼 형식이 맞지 않는 경우
+     */
+    public List<StockPriceDto> bars(String symbol, BarResolution resolution, int limit) {
+        SymbolBars series = find(symbol);
+        if (series == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<SymbolBars.Bar> result = series.bars(resolution, limit);
+        List<StockPriceDto> dtos = new ArrayList<>(result.size());
+        for (SymbolBars.Bar bar : result) {
+            dtos.add(toDto(series.symbol(), resolution, bar));
+        }
+        return dtos;
+    }
+
+    /**
+     * 만들어지는 중인 봉을 반환합니다.
+     */
+    public Optional<StockPriceDto> formingBar(String symbol, BarResolution resolution) {
+        SymbolBars series = find(symbol);
+        SymbolBars.Bar bar = series != null ? series.forming(resolution) : null;
+        return bar != null ? Optional.of(toDto(series.symbol(), resolution, bar)) : Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${stock.market.bars.flush-interval-ms:60000}")
+    void scheduledFlush() {
+        sealExpired(System.currentTimeMillis());
+        flush();
+    }
+
+    /**
+     * 끝 시각이 지난 봉을 마감합니다. 갱신이 끊긴 심볼의 봉도 제때 마감되도록 주기적으로 호출합니다.
+     *
+     * @return 마감한 봉 수
+     */
+    int sealExpired(long nowMillis) {
+        long local = localMillis(nowMillis);
+        int sealed = 0;
+        for (int id = 0, size = symbolRegistry.size(); id < size; id++) {
+            SymbolBars series = bars.get(id);
+            if (series != null) {
+                sealed += series.sealExpired(local, this::onClosed);
+            }
+        }
+        return sealed;
+    }
+
+    /**
+     * 마감된 일봉을 OhlcvStore에 기록합니다. 이미 저장된 날짜의 봉은 건너뜁니다.
+     *
+     * @return 기록한 일봉 수
+     */
+    public int flush() {
+        Map<String, OhlcvSeries.Builder> batches = new LinkedHashMap<>();
+        DailyBar daily;
+        while ((daily = pendingDailyBars.poll()) != null) {
+            LocalDate date = LocalDate.ofEpochDay(daily.bar().bucket());
+            try {
+                if (!ohlcvStore.read(daily.symbol(), date, date).isEmpty()) {
+                    dailyBarsSkipped.increment();
+                    continue;
+                }
+            } catch (IllegalArgumentException e) {
+                dailyBarsSkipped.increment();
+                log.debug("일봉 저장 건너뜀. 심볼: {}, 사유: {}", daily.symbol(), e.getMessage());
+                continue;
+            }
+            SymbolBars.Bar bar = daily.bar();
+            batches.computeIfAbsent(daily.symbol(), symbol -> OhlcvSeries.builder(1))
+                    .add(date, bar.open(), bar.high(), bar.low(), bar.close(), bar.volume());
+        }
+
+        int written = 0;
+        for (Map.Entry<String, OhlcvSeries.Builder> entry : batches.entrySet()) {
+            try {
+                written += ohlcvStore.upsert(entry.getKey(), entry.getValue().build());
+            } catch (RuntimeException e) {
+                log.warn("집계 일봉 저장 실패. 심볼: {}, 오류: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        if (written > 0) {
+            dailyBarsFlushed.add(written);
+            log.debug("집계 일봉 {}개 저장", written);
+        }
+        return written;
+    }
+
+    public BarAggregationStatsDto getStats() {
+        return BarAggregationStatsDto.builder()
+                .symbols(bars.size())
+                .updates(updates.sum())
+                .lateUpdates(lateUpdates.sum())
+                .quoteUpdatesSkipped(quoteUpdatesSkipped.sum())
+                .closedBars(closedBars.sum())
+                .pendingDailyBars(pendingDailyBars.size())
+                .dailyBarsFlushed(dailyBarsFlushed.sum())
+                .dailyBarsSkipped(dailyBarsSkipped.sum())
+                .build();
+    }
+
+    private void onClosed(String symbol, BarResolution resolution, SymbolBars.Bar bar) {
+        closedBars.increment();
+        if (resolution == BarResolution.ONE_DAY) {
+            pendingDailyBars.add(new DailyBar(symbol, bar));
+        }
+    }
+
+    private SymbolBars symbolBars(int symbolId) {
+        return bars.computeIfAbsent(symbolId, id -> new SymbolBars(symbolRegistry.symbol(id), retention));
+    }
+
+    private SymbolBars find(String symbol) {
+        return bars.get(symbolRegistry.find(SymbolRegistry.normalize(symbol)));
+    }
+
+    /**
+     * epoch 밀리초를 세션 시간대의 현지 시각 밀리초로 바꿉니다.
+     */
+    private long localMillis(long epochMillis) {
+        OffsetWindow window = offsetWindow;
+        if (epochMillis < window.from() || epochMillis >= window.until()) {
+            window = offsetWindow(epochMillis);
+            offsetWindow = window;
+        }
+        return epochMillis + window.offsetMillis();
+    }
+
+    private OffsetWindow offsetWindow(long epochMillis) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        ZoneOffset offset = zoneRules.getOffset(instant);
+        ZoneOffsetTransition previous = zoneRules.previousTransition(instant.plusMillis(1));
+        ZoneOffsetTransition next = zoneRules.nextTransition(instant);
+        long from = previous != null ? previous.toEpochSecond() * 1000 : Long.MIN_VALUE;
+        long until = next != null ? next.toEpochSecond() * 1000 : Long.MAX_VALUE;
+        return new OffsetWindow(from, until, TimeUnit.SECONDS.toMillis(offset.getTotalSeconds()));
+    }
+
+    private static StockPriceDto toDto(String symbol, BarResolution resolution, SymbolBars.Bar bar) {
+        long startMillis = bar.bucket() * resolution.getMillis();
+        return StockPriceDto.builder()
+                .symbol(symbol)
+                .price(bar.close())
+                .open(bar.open())
+                .high(bar.high())
+                .low(bar.low())
+                .close(bar.close())
+                .volume(bar.volume())
+                .timeStamp(LocalDateTime.ofEpochSecond(Math.floorDiv(startMillis, 1000), 0, ZoneOffset.UTC))
+                .provider(bar.forming() ? "bars:" + resolution.getCode() + ":forming" : "bars:" + resolution.getCode())
+                .build();
+    }
+
+    private record OffsetWindow(long from, long until, long offsetMillis) {
+    }
+
+    private record DailyBar(String symbol, SymbolBars.Bar bar) {
+    }
+}
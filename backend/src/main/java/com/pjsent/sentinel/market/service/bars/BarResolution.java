@@ -0,0 +1,45 @@
+package com.pjsent.sentinel.market.service.bars;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 봉 해상도
+ * 구간은 세션 시간대의 현지 시각 기준으로 나눕니다. (예: 1d는 현지 자정부터 다음 자정까지)
+ */
+public enum BarResolution {
+
+    ONE_MINUTE("1m", TimeUnit.MINUTES.toMillis(1)),
+    FIVE_MINUTES("5m", TimeUnit.MINUTES.toMillis(5)),
+    ONE_HOUR("1h", TimeUnit.HOURS.toMillis(1)),
+    ONE_DAY("1d", TimeUnit.DAYS.toMillis(1));
+
+    private final String code;
+    private final long millis;
+
+    BarResolution(String code, long millis) {
+        this.code = code;
+        this.millis = millis;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * 코드("1m", "5m", "1h", "1d")로 해상도를 찾습니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 코드인 경우
+     */
+    public static BarResolution fromCode(String code) {
+        for (BarResolution resolution : values()) {
+            if (resolution.code.equalsIgnoreCase(code)) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 봉 해상도입니다: " + code);
+    }
+}
@@ -0,0 +1,236 @@
+package com.pjsent.sentinel.market.service.bars;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 심볼 하나의 해상도별 봉 상태
+ * 해상도마다 만들어지는 중인 봉 하나와, 마감된 봉을 보관하는 고정 크기 링을 가집니다.
+ * 갱신 한 번에 해상도 수만큼의 비교/대입만 하므로 작업량은 일정합니다.
+ *
+ * 구간 번호(bucket)는 현지 시각 밀리초를 해상도 길이로 나눈 값입니다.
+ */
+final class SymbolBars {
+
+    private static final BarResolution[] RESOLUTIONS = BarResolution.values();
+    private static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * 마감된 봉을 받는 처리기
+     */
+    @FunctionalInterface
+    interface ClosedBarListener {
+        void onClosed(String symbol, BarResolution resolution, Bar bar);
+    }
+
+    private final String symbol;
+
+    // 만들어지는 중인 봉 (해상도 ordinal별)
+    private final long[] bucket = new long[RESOLUTIONS.length];
+    private final double[] open = new double[RESOLUTIONS.length];
+    private final double[] high = new double[RESOLUTIONS.length];
+    private final double[] low = new double[RESOLUTIONS.length];
+    private final double[] close = new double[RESOLUTIONS.length];
+    private final long[] volume = new long[RESOLUTIONS.length];
+
+    private final Ring[] closed = new Ring[RESOLUTIONS.length];
+
+    // 지금까지 반영한 가장 늦은 1분 구간
+    private long lastMinute = NONE;
+
+    // 체결 스트림이 있는 심볼은 시세 스냅샷으로 봉을 만들지 않음
+    private long lastTradeAt = NONE;
+    private double lastQuotePrice;
+    private long lastQuoteVolume = -1;
+
+    SymbolBars(String symbol, int[] retention) {
+        this.symbol = symbol;
+        Arrays.fill(bucket, NONE);
+        for (BarResolution resolution : RESOLUTIONS) {
+            closed[resolution.ordinal()] = new Ring(retention[resolution.ordinal()]);
+        }
+    }
+
+    /**
+     * 가격 하나를 모든 해상도의 봉에 반영합니다.
+     * 해상도 구간은 모두 1분 구간의 배수이므로, 1분 구간이 이미 지나간 갱신은 모든 해상도에서 버립니다.
+     *
+     * @param localMillis 현지 시각 밀리초 (epoch 밀리초 + 시간대 오프셋)
+     * @return 반영했으면 true, 이미 지나간 구간의 갱신이면 false
+     */
+    synchronized boolean update(long localMillis, double price, long quantity, ClosedBarListener listener) {
+        long minute = Math.floorDiv(localMillis, BarResolution.ONE_MINUTE.getMillis());
+        if (minute < lastMinute) {
+            return false;
+        }
+        lastMinute = minute;
+        for (BarResolution resolution : RESOLUTIONS) {
+            int index = resolution.ordinal();
+            long current = Math.floorDiv(localMillis, resolution.getMillis());
+            if (current == bucket[index]) {
+                if (price > high[index]) {
+                    high[index] = price;
+                }
+                if (price < low[index]) {
+                    low[index] = price;
+                }
+                close[index] = price;
+                volume[index] += quantity;
+            } else {
+                seal(resolution, listener);
+                bucket[index] = current;
+                open[index] = price;
+                high[index] = price;
+                low[index] = price;
+                close[index] = price;
+                volume[index] = quantity;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 체결 하나를 반영합니다.
+     */
+    synchronized boolean trade(long epochMillis, long localMillis, double price, long quantity,
+                               ClosedBarListener listener) {
+        if (epochMillis > lastTradeAt) {
+            lastTradeAt = epochMillis;
+        }
+        return update(localMillis, price, quantity, listener);
+    }
+
+    /**
+     * 시세 스냅샷을 반영합니다. 가격과 누적 거래량이 모두 그대로면 반영하지 않습니다.
+     *
+     * @param cumulativeVolume 당일 누적 거래량 (없으면 0)
+     * @param tradeQuietMillis 최근 이 시간 안에 체결이 있었으면 스냅샷을 무시
+     * @return 반영했으면 true, 바뀐 것이 없거나 지나간 구간의 갱신이면 false
+     */
+    synchronized boolean quote(long epochMillis, long localMillis, double price, long cumulativeVolume,
+                               long tradeQuietMillis, ClosedBarListener listener) {
+        if (lastTradeAt != NONE && epochMillis - lastTradeAt < tradeQuietMillis) {
+            return false;
+        }
+        long delta = lastQuoteVolume >= 0 && cumulativeVolume >= lastQuoteVolume ? cumulativeVolume - lastQuoteVolume : 0;
+        boolean changed = price != lastQuotePrice || delta > 0;
+        lastQuotePrice = price;
+        lastQuoteVolume = cumulativeVolume;
+        if (!changed) {
+            return false;
+        }
+        return update(localMillis, price, delta, listener);
+    }
+
+    /**
+     * 끝 시각이 지난 봉을 마감합니다.
+     *
+     * @return 마감한 봉 수
+     */
+    synchronized int sealExpired(long localMillis, ClosedBarListener listener) {
+        int sealed = 0;
+        for (BarResolution resolution : RESOLUTIONS) {
+            int index = resolution.ordinal();
+            if (bucket[index] != NONE && Math.floorDiv(localMillis, resolution.getMillis()) > bucket[index]) {
+                // 마감한 봉 구간에 늦게 도착한 갱신이 같은 구간의 봉을 다시 만들지 않도록 함
+                long nextMinute = (bucket[index] + 1) * (resolution.getMillis() / BarResolution.ONE_MINUTE.getMillis());
+                lastMinute = Math.max(lastMinute, nextMinute);
+                seal(resolution, listener);
+                sealed++;
+            }
+        }
+        return sealed;
+    }
+
+    /**
+     * 최근 봉을 오래된 것부터 반환합니다. 만들어지는 중인 봉이 있으면 마지막에 포함합니다.
+     */
+    synchronized List<Bar> bars(BarResolution resolution, int limit) {
+        int index = resolution.ordinal();
+        boolean forming = bucket[index] != NONE;
+        int closedLimit = Math.max(0, forming ? limit - 1 : limit);
+        List<Bar> result = closed[index].last(closedLimit, forming ? 1 : 0);
+        if (forming && limit > 0) {
+            result.add(formingBar(index));
+        }
+        return result;
+    }
+
+    synchronized Bar forming(BarResolution resolution) {
+        int index = resolution.ordinal();
+        return bucket[index] != NONE ? formingBar(index) : null;
+    }
+
+    String symbol() {
+        return symbol;
+    }
+
+    private Bar formingBar(int index) {
+        return new Bar(bucket[index], open[index], high[index], low[index], close[index], volume[index], true);
+    }
+
+    private void seal(BarResolution resolution, ClosedBarListener listener) {
+        int index = resolution.ordinal();
+        if (bucket[index] == NONE) {
+            return;
+        }
+        Bar bar = new Bar(bucket[index], open[index], high[index], low[index], close[index], volume[index], false);
+        closed[index].add(bar);
+        bucket[index] = NONE;
+        listener.onClosed(symbol, resolution, bar);
+    }
+
+    /**
+     * 봉 하나 (bucket × 해상도 길이 = 현지 시각 기준 시작 밀리초)
+     */
+    record Bar(long bucket, double open, double high, double low, double close, long volume, boolean forming) {
+    }
+
+    /**
+     * 마감된 봉을 보관하는 고정 크기 링 (열별 primitive 배열)
+     */
+    private static final class Ring {
+
+        private final long[] buckets;
+        private final double[] opens;
+        private final double[] highs;
+        private final double[] lows;
+        private final double[] closes;
+        private final long[] volumes;
+        private long count;
+
+        Ring(int capacity) {
+            buckets = new long[capacity];
+            opens = new double[capacity];
+            highs = new double[capacity];
+            lows = new double[capacity];
+            closes = new double[capacity];
+            volumes = new long[capacity];
+        }
+
+        void add(Bar bar) {
+            if (buckets.length == 0) {
+                return;
+            }
+            int slot = (int) (count % buckets.length);
+            buckets[slot] = bar.bucket();
+            opens[slot] = bar.open();
+            highs[slot] = bar.high();
+            lows[slot] = bar.low();
+            closes[slot] = bar.close();
+            volumes[slot] = bar.volume();
+            count++;
+        }
+
+        List<Bar> last(int limit, int extraCapacity) {
+            int size = (int) Math.min(Math.min(limit, count), buckets.length);
+            List<Bar> result = new ArrayList<>(size + extraCapacity);
+            for (long i = count - size; i < count; i++) {
+                int slot = (int) (i % buckets.length);
+                result.add(new Bar(buckets[slot], opens[slot], highs[slot], lows[slot], closes[slot], volumes[slot], false));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.pjsent.sentinel.market.service.cache;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 저장되는 시세 항목
+ * freshUntil 이전에는 신선한 값, staleUntil 이전까지는 재검증이 필요한 오래된 값으로 취급합니다.
+ * L2(Redis)에도 JSON으로 그대로 직렬화되어 저장됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedQuote {
+    private StockPriceDto quote;
+    private long cachedAt;
+    private long freshUntil;
+    private long staleUntil;
+
+    /**
+     * 신선한(재검증 불필요) 값인지 확인합니다.
+     */
+    public boolean isFresh(long nowMillis) {
+        return nowMillis < freshUntil;
+    }
+
+    /**
+     * stale 구간까지 모두 지나 더 이상 제공할 수 없는 값인지 확인합니다.
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= staleUntil;
+    }
+}
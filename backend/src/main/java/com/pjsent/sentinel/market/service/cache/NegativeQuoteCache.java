@@ -0,0 +1,223 @@
+package com.pjsent.sentinel.market.service.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.NegativeQuoteCacheStatsDto;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알 수 없는 심볼 네거티브 캐시
+ * 모든 프로바이더가 모른다고 응답한 심볼(오타, 상장 폐지 등)을 기록해 두고, TTL 동안 프로바이더 호출 없이 바로 거절합니다.
+ *
+ * - TTL은 같은 심볼이 다시 확인될 때마다 base-ttl-ms부터 두 배씩 늘어나며 max-ttl-ms를 넘지 않습니다.
+ *   max-ttl-ms 동안 다시 확인되지 않은 심볼은 정리 작업에서 지워지고 TTL도 처음부터 다시 시작합니다.
+ * - 조회 경로 앞단에 블룸 필터를 두어 정상 심볼(대부분의 요청)은 비트 몇 개만 확인하고 바로 통과시킵니다.
+ *   필터는 거짓 양성만 있고 거짓 음성은 없으므로, 필터를 통과한 심볼만 항목을 조회해 만료 여부를 확인합니다.
+ * - 필터에서는 비트를 지울 수 없으므로 정리 작업 때 유효한 항목만으로 다시 만듭니다.
+ * - 심볼이 다시 조회에 성공하면 즉시 항목을 지웁니다.
+ */
+@Component
+@Slf4j
+public class NegativeQuoteCache {
+
+    private static final int HASH_FUNCTIONS = 3;
+
+    @Value("${stock.market.negative-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.market.negative-cache.base-ttl-ms:300000}")
+    private long baseTtlMs;
+
+    @Value("${stock.market.negative-cache.max-ttl-ms:86400000}")
+    private long maxTtlMs;
+
+    @Value("${stock.market.negative-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 블룸 필터 비트 수 (2의 거듭제곱으로 올림)
+    @Value("${stock.market.negative-cache.filter-bits:65536}")
+    private int filterBits;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = new BloomFilter(64);
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder filterFalsePositives = new LongAdder();
+    private final LongAdder marked = new LongAdder();
+    private final LongAdder cleared = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        filter = new BloomFilter(filterBits);
+        log.info("네거티브 캐시 설정. 사용: {}, 기본 TTL: {}ms, 최대 TTL: {}ms, 최대 항목 수: {}",
+                enabled, baseTtlMs, maxTtlMs, maxEntries);
+    }
+
+    /**
+     * TTL 안에 알 수 없는 심볼로 확인된 심볼인지 확인합니다.
+     *
+     * @param symbol 정규화된 주식 심볼
+     */
+    public boolean isUnknown(String symbol) {
+        if (!enabled || !filter.mightContain(symbol)) {
+            return false;
+        }
+        Entry entry = entries.get(symbol);
+        if (entry == null || entry.until() <= System.currentTimeMillis()) {
+            filterFalsePositives.increment();
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    /**
+     * 알 수 없는 심볼로 기록합니다. 이미 기록된 심볼이면 TTL을 두 배로 늘립니다.
+     *
+     * @return 적용된 TTL (ms), 기록하지 못했으면 0
+     */
+    public synchronized long markUnknown(String symbol) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        Entry previous = entries.get(symbol);
+        if (previous == null && entries.size() >= maxEntries) {
+            purge(now);
+            if (entries.size() >= maxEntries) {
+                dropped.increment();
+                log.debug("네거티브 캐시가 가득 차 기록하지 않음. 심볼: {}", symbol);
+                return 0;
+            }
+        }
+        int strikes = previous != null ? previous.strikes() + 1 : 1;
+        long ttl = ttl(strikes);
+        entries.put(symbol, new Entry(strikes, now, now + ttl));
+        filter.add(symbol);
+        marked.increment();
+        log.info("알 수 없는 심볼로 기록. 심볼: {}, 횟수: {}, TTL: {}ms", symbol, strikes, ttl);
+        return ttl;
+    }
+
+    /**
+     * 조회에 성공한 심볼의 기록을 지웁니다.
+     */
+    public void clear(String symbol) {
+        // 만료 후 필터에서 빠진 항목도 횟수를 초기화해야 하므로 필터를 거치지 않음
+        if (!entries.isEmpty() && entries.remove(symbol) != null) {
+            cleared.increment();
+            log.info("네거티브 캐시에서 제거. 심볼: {}", symbol);
+        }
+    }
+
+    /**
+     * 오래된 항목을 지우고 유효한 항목만으로 필터를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${stock.market.negative-cache.cleanup-interval-ms:600000}")
+    public synchronized void cleanup() {
+        int removed = purge(System.currentTimeMillis());
+        if (removed > 0) {
+            log.debug("네거티브 캐시 정리. 제거: {}개, 남은 항목: {}개", removed, entries.size());
+        }
+    }
+
+    public NegativeQuoteCacheStatsDto getStats() {
+        return NegativeQuoteCacheStatsDto.builder()
+                .enabled(enabled)
+                .entries(entries.size())
+                .rejected(rejected.sum())
+                .filterFalsePositives(filterFalsePositives.sum())
+                .marked(marked.sum())
+                .cleared(cleared.sum())
+                .dropped(dropped.sum())
+                .build();
+    }
+
+    long ttl(int strikes) {
+        int shift = Math.min(Math.max(strikes - 1, 0), 62);
+        long ttl = baseTtlMs << shift;
+        // 자리 넘침이면 상한 적용
+        return (ttl >>> shift) == baseTtlMs ? Math.min(ttl, maxTtlMs) : maxTtlMs;
+    }
+
+    private int purge(long now) {
+        int removed = 0;
+        BloomFilter rebuilt = new BloomFilter(filterBits);
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            // 만료 후에도 max-ttl-ms 동안은 횟수를 기억해 다시 확인되면 TTL을 이어서 늘림
+            if (entry.until() + maxTtlMs <= now) {
+                entries.remove(item.getKey(), entry);
+                removed++;
+            } else if (entry.until() > now) {
+                rebuilt.add(item.getKey());
+            }
+        }
+        filter = rebuilt;
+        return removed;
+    }
+
+    private record Entry(int strikes, long markedAt, long until) {
+    }
+
+    /**
+     * 비트를 지울 수 없는 블룸 필터 (이중 해싱, 해시 함수 HASH_FUNCTIONS개)
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final int mask;
+
+        private BloomFilter(int bits) {
+            int size = Integer.highestOneBit(Math.max(bits, 64));
+            if (size < bits) {
+                size <<= 1;
+            }
+            this.words = new AtomicLongArray(size >>> 6);
+            this.mask = size - 1;
+        }
+
+        void add(String key) {
+            int h1 = key.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & mask;
+                long flag = 1L << bit;
+                int index = bit >>> 6;
+                long word;
+                do {
+                    word = words.get(index);
+                } while ((word & flag) == 0 && !words.compareAndSet(index, word, word | flag));
+            }
+        }
+
+        boolean mightContain(String key) {
+            int h1 = key.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & mask;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 두 번째 해시는 첫 번째 해시를 섞어 만들고, 홀수로 만들어 모든 비트 위치를 돌 수 있게 함
+        private static int mix(int hash) {
+            int h = hash * 0x9E3779B9;
+            return (h ^ (h >>> 16)) | 1;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.pjsent.sentinel.market.service.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pjsent.sentinel.market.dto.QuoteCacheStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2계층 시세 캐시
+ * L1: 크기가 제한된 프로세스 내 LRU 캐시 (심볼별 TTL)
+ * L2: 여러 노드가 공유하는 Redis 캐시 (선택사항)
+ *
+ * 각 항목은 fresh 구간과 stale 구간을 가지며, stale 구간의 값은 즉시 반환하되
+ * 호출자가 백그라운드에서 재검증하도록 합니다 (stale-while-revalidate).
+ * Redis 장애 시에는 L1만으로 동작합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuoteCache {
+
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+
+    @Value("${stock.market.cache.quote.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${stock.market.cache.quote.fresh-ttl-seconds:60}")
+    private long freshTtlSeconds;
+
+    @Value("${stock.market.cache.quote.stale-ttl-seconds:600}")
+    private long staleTtlSeconds;
+
+    // 심볼별 fresh TTL (예: "AAPL:30,TSLA:15")
+    @Value("${stock.market.cache.quote.ttl-overrides:}")
+    private String ttlOverrides;
+
+    @Value("${stock.market.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${stock.market.cache.redis.key-prefix:sentinel:quote:}")
+    private String redisKeyPrefix;
+
+    private final Map<String, Long> freshTtlBySymbol = new HashMap<>();
+
+    private final Map<String, CachedQuote> localCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedQuote> eldest) {
+                    boolean evict = size() > maxEntries;
+                    if (evict) {
+                        l1Evictions.increment();
+                    }
+                    return evict;
+                }
+            });
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder l1StaleHits = new LongAdder();
+    private final LongAdder l1Puts = new LongAdder();
+    private final LongAdder l1Evictions = new LongAdder();
+
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder l2StaleHits = new LongAdder();
+    private final LongAdder l2Puts = new LongAdder();
+    private final LongAdder l2Errors = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        freshTtlBySymbol.clear();
+        if (ttlOverrides == null || ttlOverrides.isBlank()) {
+            return;
+        }
+        for (String entry : ttlOverrides.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                log.warn("잘못된 시세 TTL 설정 무시: {}", entry);
+                continue;
+            }
+            try {
+                freshTtlBySymbol.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 시세 TTL 설정 무시: {}", entry);
+            }
+        }
+        log.info("심볼별 시세 TTL 설정: {}", freshTtlBySymbol);
+    }
+
+    /**
+     * 캐시에서 시세를 조회합니다.
+     * L1에 신선한 값이 없으면 L2를 확인하고, L2 값은 L1으로 승격합니다.
+     *
+     * @param symbol 주식 심볼
+     * @return stale 구간까지 유효한 캐시 항목, 없으면 empty
+     */
+    public Optional<CachedQuote> get(String symbol) {
+        long now = System.currentTimeMillis();
+        CachedQuote local = localCache.get(symbol);
+
+        if (local != null && !local.isExpired(now)) {
+            if (local.isFresh(now)) {
+                l1Hits.increment();
+                return Optional.of(local);
+            }
+            l1StaleHits.increment();
+            // 다른 노드가 이미 갱신했을 수 있으므로 L2를 확인
+            CachedQuote remote = getRemote(symbol, now);
+            if (remote != null && remote.isFresh(now)) {
+                localCache.put(symbol, remote);
+                return Optional.of(remote);
+            }
+            return Optional.of(local);
+        }
+
+        if (local != null) {
+            localCache.remove(symbol);
+        }
+        l1Misses.increment();
+
+        CachedQuote remote = getRemote(symbol, now);
+        if (remote != null) {
+            localCache.put(symbol, remote);
+            return Optional.of(remote);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 통계와 L2 조회 없이 L1 항목만 확인합니다. (사전 갱신 대상 선별용)
+     *
+     * @param symbol 주식 심볼
+     * @return stale 구간까지 유효한 L1 항목, 없으면 empty
+     */
+    public Optional<CachedQuote> peek(String symbol) {
+        CachedQuote local = localCache.get(symbol);
+        if (local == null || local.isExpired(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(local);
+    }
+
+    /**
+     * 시세를 두 계층 모두에 저장합니다.
+     *
+     * @param symbol 주식 심볼
+     * @param quote 프로바이더에서 조회한 시세
+     */
+    public void put(String symbol, StockPriceDto quote) {
+        long now = System.currentTimeMillis();
+        CachedQuote entry = newEntry(symbol, quote, now);
+
+        localCache.put(symbol, entry);
+        l1Puts.increment();
+        putRemote(symbol, entry, entry.getStaleUntil() - now);
+    }
+
+    /**
+     * 영속화된 시세를 L1에 복원합니다. (웜 스타트)
+     * TTL은 원래 조회 시각 기준으로 계산하므로 대부분 stale 상태로 복원되어 첫 조회 시 재검증됩니다.
+     * 이미 L1에 있거나 stale 구간까지 지난 시세는 복원하지 않으며, 다른 노드가 공유하는 L2는 건드리지 않습니다.
+     *
+     * @param symbol 주식 심볼
+     * @param quote 영속화된 시세
+     * @param fetchedAtMillis 원래 조회 시각
+     * @return 복원 여부
+     */
+    public boolean restore(String symbol, StockPriceDto quote, long fetchedAtMillis) {
+        CachedQuote entry = newEntry(symbol, quote, fetchedAtMillis);
+        if (entry.isExpired(System.currentTimeMillis())) {
+            return false;
+        }
+        return localCache.putIfAbsent(symbol, entry) == null;
+    }
+
+    /**
+     * 특정 심볼의 캐시를 무효화합니다.
+     */
+    public void evict(String symbol) {
+        localCache.remove(symbol);
+        StringRedisTemplate redisTemplate = redisTemplate();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.delete(redisKeyPrefix + symbol);
+            } catch (Exception e) {
+                l2Errors.increment();
+                log.warn("Redis 시세 캐시 삭제 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 계층별 캐시 통계를 반환합니다.
+     */
+    public QuoteCacheStatsDto getStats() {
+        return QuoteCacheStatsDto.builder()
+                .l1(QuoteCacheStatsDto.TierStats.builder()
+                        .hits(l1Hits.sum())
+                        .misses(l1Misses.sum())
+                        .staleHits(l1StaleHits.sum())
+                        .puts(l1Puts.sum())
+                        .evictions(l1Evictions.sum())
+                        .build())
+                .l2(QuoteCacheStatsDto.TierStats.builder()
+                        .hits(l2Hits.sum())
+                        .misses(l2Misses.sum())
+                        .staleHits(l2StaleHits.sum())
+                        .puts(l2Puts.sum())
+                        .errors(l2Errors.sum())
+                        .build())
+                .l1Size(localCache.size())
+                .l2Enabled(redisEnabled)
+                .build();
+    }
+
+    private CachedQuote newEntry(String symbol, StockPriceDto quote, long cachedAt) {
+        long freshTtlMillis = TimeUnit.SECONDS.toMillis(freshTtlBySymbol.getOrDefault(symbol, freshTtlSeconds));
+        long staleTtlMillis = Math.max(freshTtlMillis, TimeUnit.SECONDS.toMillis(staleTtlSeconds));
+        return CachedQuote.builder()
+                .quote(quote)
+                .cachedAt(cachedAt)
+                .freshUntil(cachedAt + freshTtlMillis)
+                .staleUntil(cachedAt + staleTtlMillis)
+                .build();
+    }
+
+    private CachedQuote getRemote(String symbol, long now) {
+        StringRedisTemplate redisTemplate = redisTemplate();
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(redisKeyPrefix + symbol);
+            if (json == null) {
+                l2Misses.increment();
+                return null;
+            }
+            CachedQuote remote = objectMapper.readValue(json, CachedQuote.class);
+            if (remote.isExpired(now)) {
+                l2Misses.increment();
+                return null;
+            }
+            if (remote.isFresh(now)) {
+                l2Hits.increment();
+            } else {
+                l2StaleHits.increment();
+            }
+            return remote;
+        } catch (Exception e) {
+            l2Errors.increment();
+            log.warn("Redis 시세 캐시 조회 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String symbol, CachedQuote entry, long ttlMillis) {
+        StringRedisTemplate redisTemplate = redisTemplate();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(entry);
+            redisTemplate.opsForValue().set(redisKeyPrefix + symbol, json, ttlMillis, TimeUnit.MILLISECONDS);
+            l2Puts.increment();
+        } catch (Exception e) {
+            l2Errors.increment();
+            log.warn("Redis 시세 캐시 저장 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
+        }
+    }
+
+    private StringRedisTemplate redisTemplate() {
+        return redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+    }
+}
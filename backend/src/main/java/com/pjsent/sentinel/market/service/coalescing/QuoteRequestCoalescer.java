@@ -0,0 +1,105 @@
+package com.pjsent.sentinel.market.service.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.CoalescingStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 요청 병합기 (single-flight)
+ * 같은 심볼에 대한 동시 요청 중 첫 번째 요청(leader)만 프로바이더를 호출하고,
+ * 나머지 요청(follower)은 진행 중인 호출에 합류하여 동일한 결과 또는 예외를 받습니다.
+ * follower는 최대 대기 시간까지만 기다립니다.
+ */
+@Component
+@Slf4j
+public class QuoteRequestCoalescer {
+
+    @Value("${stock.market.coalescing.max-wait-ms:15000}")
+    private long maxWaitMs;
+
+    private final ConcurrentMap<String, CompletableFuture<StockPriceDto>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder sharedFailures = new LongAdder();
+
+    /**
+     * 심볼 단위로 요청을 병합하여 실행합니다.
+     *
+     * @param symbol 병합 기준이 되는 심볼
+     * @param loader 실제 프로바이더 호출 (leader만 실행)
+     * @return 조회된 시세
+     * @throws RuntimeException 프로바이더 호출이 실패했거나 대기 시간이 초과된 경우
+     */
+    public StockPriceDto execute(String symbol, Supplier<StockPriceDto> loader) {
+        CompletableFuture<StockPriceDto> flight = new CompletableFuture<>();
+        CompletableFuture<StockPriceDto> existing = inFlight.putIfAbsent(symbol, flight);
+
+        if (existing != null) {
+            coalescedCalls.increment();
+            log.debug("진행 중인 시세 요청에 합류. 심볼: {}", symbol);
+            return await(symbol, existing);
+        }
+
+        upstreamCalls.increment();
+        try {
+            StockPriceDto result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } catch (Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(symbol, flight);
+        }
+    }
+
+    /**
+     * 요청 병합 통계를 반환합니다.
+     */
+    public CoalescingStatsDto getStats() {
+        return CoalescingStatsDto.builder()
+                .upstreamCalls(upstreamCalls.sum())
+                .coalescedCalls(coalescedCalls.sum())
+                .timeouts(timeouts.sum())
+                .sharedFailures(sharedFailures.sum())
+                .inFlight(inFlight.size())
+                .build();
+    }
+
+    private StockPriceDto await(String symbol, CompletableFuture<StockPriceDto> flight) {
+        try {
+            return flight.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new RuntimeException("시세 요청 대기 시간이 초과되었습니다. 심볼: " + symbol, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("시세 요청 대기 중 인터럽트되었습니다. 심볼: " + symbol, e);
+        } catch (ExecutionException e) {
+            sharedFailures.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("시세 요청 실패. 심볼: " + symbol, cause);
+        }
+    }
+}
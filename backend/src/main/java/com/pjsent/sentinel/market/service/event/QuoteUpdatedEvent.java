@@ -0,0 +1,13 @@
+package com.pjsent.sentinel.market.service.event;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+/**
+ * 프로바이더에서 새 시세를 받았을 때 발행되는 이벤트
+ * 캐시 hit는 발행하지 않습니다. 리스너는 시세 조회 스레드에서 동기로 호출되므로 가볍게 처리해야 합니다.
+ *
+ * @param symbol 정규화된 심볼
+ * @param quote 새로 조회한 시세
+ */
+public record QuoteUpdatedEvent(String symbol, StockPriceDto quote) {
+}
@@ -1,11 +1,17 @@
 package com.pjsent.sentinel.market.service.factory;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.pjsent.sentinel.market.dto.ProviderHealthDto;
 import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +20,9 @@ import lombok.extern.slf4j.Slf4j;
  * MarketDataProvider 팩토리 클래스
  * 사용 가능한 프로바이더들을 관리하고 우선순위에 따라 반환합니다.
  * 
- * 우선순위: AlphaVantage -> Finnhub -> Cache
+ * 우선순위는 고정되어 있지 않고 ProviderHealthTracker의 점수(EWMA 응답 시간, 오류율, 남은 호출 토큰)로
+ * 매 요청마다 결정됩니다. 점수가 같으면 빈 등록 순서(AlphaVantage -> Finnhub)를 따르며,
+ * 서킷이 열린 프로바이더는 목록에서 제외됩니다.
  */
 @Component
 @Slf4j
@@ -22,23 +30,58 @@ import lombok.extern.slf4j.Slf4j;
 public class MarketDataProviderFactory {
     
     private final List<MarketDataProvider> providers;
+    private final ProviderHealthTracker healthTracker;
+    private final ProviderRateLimiter rateLimiter;
     
     /**
-     * 사용 가능한 모든 프로바이더를 우선순위 순으로 반환합니다.
+     * 사용 가능한 모든 프로바이더를 점수가 낮은(빠르고 건강한) 순으로 반환합니다.
      * 
      * @return 사용 가능한 프로바이더 목록
      */
     public List<MarketDataProvider> getAvailableProviders() {
-        List<MarketDataProvider> availableProviders = providers.stream()
-                .filter(MarketDataProvider::isAvailable)
+        Map<MarketDataProvider, Double> scores = new LinkedHashMap<>();
+        for (MarketDataProvider provider : providers) {
+            if (!provider.isAvailable()) {
+                continue;
+            }
+            String providerName = provider.getProviderName();
+            if (!healthTracker.isCallPermitted(providerName)) {
+                log.debug("서킷이 열려 있어 프로바이더를 건너뜁니다: {}", providerName);
+                continue;
+            }
+            scores.put(provider, healthTracker.score(providerName, rateLimiter.remainingTokens(providerName)));
+        }
+        
+        // 정렬은 안정적이므로 점수가 같으면 등록 순서가 유지됨
+        List<MarketDataProvider> availableProviders = scores.keySet().stream()
+                .sorted(Comparator.comparingDouble(scores::get))
                 .collect(Collectors.toList());
         
-        log.debug("사용 가능한 프로바이더 수: {}, 전체 프로바이더 수: {}", 
-                 availableProviders.size(), providers.size());
+        if (log.isDebugEnabled()) {
+            log.debug("사용 가능한 프로바이더 수: {}, 전체 프로바이더 수: {}, 순서: {}", 
+                     availableProviders.size(), providers.size(), 
+                     availableProviders.stream()
+                             .map(provider -> String.format("%s(%.0f)", provider.getProviderName(), scores.get(provider)))
+                             .collect(Collectors.joining(", ")));
+        }
         
         return availableProviders;
     }
     
+    /**
+     * 프로바이더별 라우팅 상태(서킷 상태, EWMA 응답 시간, 오류율, 점수)를 반환합니다.
+     * 
+     * @return 프로바이더 이름별 상태
+     */
+    public Map<String, ProviderHealthDto> getProviderHealth() {
+        Map<String, ProviderHealthDto> health = new LinkedHashMap<>();
+        providers.forEach(provider -> {
+            String providerName = provider.getProviderName();
+            health.put(providerName, healthTracker.getHealth(providerName, rateLimiter.remainingTokens(providerName)));
+        });
+        return health;
+    }
+    
     /**
      * 첫 번째 사용 가능한 프로바이더를 반환합니다.
      * 
@@ -71,7 +114,8 @@ public class MarketDataProviderFactory {
         log.info("=== Market Data Provider 상태 ===");
         providers.forEach(provider -> {
             String status = provider.isAvailable() ? "사용 가능" : "사용 불가";
-            log.info("{}: {}", provider.getProviderName(), status);
+            log.info("{}: {}, 서킷: {}", provider.getProviderName(), status, 
+                    healthTracker.isCallPermitted(provider.getProviderName()) ? "닫힘" : "열림");
         });
         log.info("================================");
     }
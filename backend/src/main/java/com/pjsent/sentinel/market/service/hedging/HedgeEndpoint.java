@@ -0,0 +1,22 @@
+package com.pjsent.sentinel.market.service.hedging;
+
+/**
+ * 헤지 정책을 구분하는 시세 조회 진입점
+ * 각 진입점은 stock.market.hedging.{key}.* 설정으로 헤지 여부, 지연 분위, 예산을 따로 가집니다.
+ */
+public enum HedgeEndpoint {
+    /** 단일 시세 조회 API (GET /api/v1/market/price/{symbol}) */
+    QUOTE("quote"),
+    /** 포트폴리오 보유 종목 추가 시 가격 조회 */
+    PORTFOLIO("portfolio");
+
+    private final String key;
+
+    HedgeEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
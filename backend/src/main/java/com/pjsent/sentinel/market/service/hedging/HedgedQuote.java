@@ -0,0 +1,20 @@
+package com.pjsent.sentinel.market.service.hedging;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 헤지 경쟁 결과
+ * quote가 null이면 경쟁에 참여한 프로바이더가 모두 실패한 것이며,
+ * 호출자는 attempted 이후의 프로바이더부터 순차 Fallback을 이어갑니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HedgedQuote {
+
+    private final StockPriceDto quote;
+    private final int attempted;
+    private final Exception lastError;
+}
@@ -0,0 +1,274 @@
+package com.pjsent.sentinel.market.service.hedging;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.HedgingStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriority;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriorityContext;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 헤지 요청기
+ * 1순위 프로바이더가 관측된 응답 시간 분위수(p90/p95) 안에 응답하지 않으면
+ * 같은 요청을 2순위 프로바이더에 보내고, 먼저 도착한 유효한 시세를 사용합니다. 진 쪽 호출은 인터럽트로 취소하며,
+ * 취소된 호출은 ProviderHealthTracker가 오류로 집계하지 않습니다.
+ *
+ * 헤지는 추가 호출이므로 두 가지 예산으로 제한합니다.
+ * - 진입점별 헤지 예산: 1순위 요청마다 budget-ratio만큼 적립되고 헤지 한 번에 1을 사용 (최대 max-burst)
+ * - 호출 한도: 2순위 프로바이더의 남은 토큰이 min-backup-tokens 미만이면 헤지하지 않음
+ *
+ * 백그라운드 갱신(RequestPriority.BACKGROUND)은 헤지하지 않습니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuoteHedger {
+
+    private final ProviderHealthTracker healthTracker;
+    private final ProviderRateLimiter rateLimiter;
+    @Qualifier("marketDataExecutor")
+    private final Executor marketDataExecutor;
+
+    @Value("${stock.market.hedging.enabled:false}")
+    private boolean enabled;
+
+    @Value("${stock.market.hedging.min-delay-ms:100}")
+    private long minDelayMs;
+
+    // 응답 시간 표본이 부족할 때 사용하는 헤지 지연
+    @Value("${stock.market.hedging.default-delay-ms:1500}")
+    private long defaultDelayMs;
+
+    @Value("${stock.market.hedging.min-backup-tokens:2}")
+    private double minBackupTokens;
+
+    @Value("${stock.market.hedging.max-burst:5}")
+    private double maxBurst;
+
+    @Value("${stock.market.hedging.quote.enabled:true}")
+    private boolean quoteEnabled;
+
+    @Value("${stock.market.hedging.quote.delay-percentile:95}")
+    private double quoteDelayPercentile;
+
+    @Value("${stock.market.hedging.quote.budget-ratio:0.1}")
+    private double quoteBudgetRatio;
+
+    @Value("${stock.market.hedging.portfolio.enabled:true}")
+    private boolean portfolioEnabled;
+
+    @Value("${stock.market.hedging.portfolio.delay-percentile:90}")
+    private double portfolioDelayPercentile;
+
+    @Value("${stock.market.hedging.portfolio.budget-ratio:0.05}")
+    private double portfolioBudgetRatio;
+
+    private final Map<HedgeEndpoint, EndpointPolicy> policies = new EnumMap<>(HedgeEndpoint.class);
+
+    private final LongAdder races = new LongAdder();
+    private final LongAdder hedgesFired = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder skippedByBudget = new LongAdder();
+    private final LongAdder skippedByQuota = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        policies.put(HedgeEndpoint.QUOTE,
+                new EndpointPolicy(quoteEnabled, quoteDelayPercentile, quoteBudgetRatio, maxBurst));
+        policies.put(HedgeEndpoint.PORTFOLIO,
+                new EndpointPolicy(portfolioEnabled, portfolioDelayPercentile, portfolioBudgetRatio, maxBurst));
+        if (enabled) {
+            policies.forEach((endpoint, policy) -> log.info("시세 헤지 정책. 진입점: {}, 사용: {}, 지연 분위: p{}, 예산 비율: {}",
+                    endpoint.getKey(), policy.enabled, policy.delayPercentile, policy.budgetRatio));
+        }
+    }
+
+    /**
+     * 현재 요청에 헤지를 적용할 수 있는지 확인합니다.
+     *
+     * @param endpoint 시세 조회 진입점
+     * @param providers 우선순위 순 프로바이더 목록
+     */
+    public boolean shouldHedge(HedgeEndpoint endpoint, List<MarketDataProvider> providers) {
+        EndpointPolicy policy = policies.get(endpoint);
+        return enabled && policy != null && policy.enabled
+                && providers.size() > 1
+                && RequestPriorityContext.current() == RequestPriority.INTERACTIVE;
+    }
+
+    /**
+     * 1순위 프로바이더를 호출하고, 헤지 지연 안에 응답이 없으면 2순위 프로바이더와 경쟁시킵니다.
+     *
+     * @param endpoint 시세 조회 진입점
+     * @param primary 1순위 프로바이더
+     * @param backup 2순위 프로바이더
+     * @param call 프로바이더 호출 (서킷 브레이커/호출 한도 포함)
+     * @return 경쟁 결과 (유효한 시세가 없으면 quote가 null)
+     */
+    public HedgedQuote race(HedgeEndpoint endpoint, MarketDataProvider primary, MarketDataProvider backup,
+                            Function<MarketDataProvider, StockPriceDto> call) {
+        EndpointPolicy policy = policies.get(endpoint);
+        policy.depositBudget();
+        races.increment();
+
+        RequestPriority priority = RequestPriorityContext.current();
+        CompletionService<StockPriceDto> completionService = new ExecutorCompletionService<>(marketDataExecutor);
+        Map<Future<StockPriceDto>, MarketDataProvider> pending = new LinkedHashMap<>();
+
+        try {
+            pending.put(submit(completionService, primary, call, priority), primary);
+        } catch (RejectedExecutionException e) {
+            // 스레드 풀이 가득 차면 호출자 스레드의 순차 Fallback으로 처리
+            log.warn("헤지 요청 작업이 거부되었습니다. 프로바이더: {}", primary.getProviderName());
+            return new HedgedQuote(null, 0, e);
+        }
+
+        int attempted = 1;
+        Exception lastError = null;
+        try {
+            Future<StockPriceDto> completed = completionService.poll(hedgeDelayMs(policy, primary), TimeUnit.MILLISECONDS);
+            if (completed == null && tryHedge(policy, backup)) {
+                try {
+                    pending.put(submit(completionService, backup, call, priority), backup);
+                    attempted = 2;
+                    hedgesFired.increment();
+                    log.debug("1순위 프로바이더 {} 응답 지연으로 {}에 헤지 요청",
+                            primary.getProviderName(), backup.getProviderName());
+                } catch (RejectedExecutionException e) {
+                    policy.refundBudget();
+                    log.warn("헤지 요청 작업이 거부되었습니다. 프로바이더: {}", backup.getProviderName());
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                if (completed == null) {
+                    completed = completionService.take();
+                }
+                MarketDataProvider provider = pending.remove(completed);
+                try {
+                    StockPriceDto quote = completed.get();
+                    if (quote != null && quote.getPrice() > 0) {
+                        if (provider == backup) {
+                            hedgeWins.increment();
+                        }
+                        return new HedgedQuote(quote, attempted, null);
+                    }
+                    log.warn("프로바이더 {}에서 유효하지 않은 데이터 반환", provider.getProviderName());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    lastError = cause instanceof Exception exception ? exception : e;
+                    log.warn("프로바이더 {} 실패. 오류: {}", provider.getProviderName(), cause.getMessage());
+                }
+                completed = null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = e;
+        } finally {
+            pending.keySet().forEach(future -> {
+                if (future.cancel(true)) {
+                    cancelled.increment();
+                }
+            });
+        }
+        return new HedgedQuote(null, attempted, lastError);
+    }
+
+    /**
+     * 헤지 요청 통계를 반환합니다.
+     */
+    public HedgingStatsDto getStats() {
+        return HedgingStatsDto.builder()
+                .races(races.sum())
+                .hedgesFired(hedgesFired.sum())
+                .hedgeWins(hedgeWins.sum())
+                .skippedByBudget(skippedByBudget.sum())
+                .skippedByQuota(skippedByQuota.sum())
+                .cancelled(cancelled.sum())
+                .build();
+    }
+
+    private Future<StockPriceDto> submit(CompletionService<StockPriceDto> completionService, MarketDataProvider provider,
+                                         Function<MarketDataProvider, StockPriceDto> call, RequestPriority priority) {
+        return completionService.submit(() -> RequestPriorityContext.callWith(priority, () -> call.apply(provider)));
+    }
+
+    private long hedgeDelayMs(EndpointPolicy policy, MarketDataProvider primary) {
+        double observed = healthTracker.latencyPercentileMs(primary.getProviderName(), policy.delayPercentile);
+        long delay = observed < 0 ? defaultDelayMs : (long) Math.ceil(observed);
+        return Math.max(delay, minDelayMs);
+    }
+
+    private boolean tryHedge(EndpointPolicy policy, MarketDataProvider backup) {
+        double remainingTokens = rateLimiter.remainingTokens(backup.getProviderName());
+        if (remainingTokens >= 0 && remainingTokens < minBackupTokens) {
+            skippedByQuota.increment();
+            return false;
+        }
+        if (!policy.withdrawBudget()) {
+            skippedByBudget.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 진입점 하나의 헤지 정책과 예산
+     */
+    private static final class EndpointPolicy {
+
+        private final boolean enabled;
+        private final double delayPercentile;
+        private final double budgetRatio;
+        private final double maxBurst;
+        // 첫 느린 요청은 바로 헤지할 수 있도록 1회분으로 시작
+        private double credits = 1;
+
+        EndpointPolicy(boolean enabled, double delayPercentile, double budgetRatio, double maxBurst) {
+            this.enabled = enabled;
+            this.delayPercentile = delayPercentile;
+            this.budgetRatio = budgetRatio;
+            this.maxBurst = maxBurst;
+        }
+
+        synchronized void depositBudget() {
+            credits = Math.min(maxBurst, credits + budgetRatio);
+        }
+
+        synchronized boolean withdrawBudget() {
+            if (credits < 1) {
+                return false;
+            }
+            credits -= 1;
+            return true;
+        }
+
+        synchronized void refundBudget() {
+            credits = Math.min(maxBurst, credits + 1);
+        }
+    }
+}
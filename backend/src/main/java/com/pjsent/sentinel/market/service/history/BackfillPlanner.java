@@ -0,0 +1,86 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.service.provider.AlphaVantageProvider;
+
+/**
+ * 일봉 빈 구간 요청 계획기
+ * 수집 구간 색인에서 찾은 빈 구간을 가능한 적은 수의 프로바이더 요청으로 묶습니다.
+ *
+ * - 주말만 남는 빈 구간은 요청하지 않음
+ * - 빈 구간 사이가 merge-gap-days 이하이면 한 요청으로 합침 (요청 수를 줄이고, 사이 구간은 다시 받아도 무해)
+ * - 요청 시작일이 최근 compact 범위 안이면 compact, 그보다 오래되면 전체 이력(full) 요청으로 분류
+ */
+@Component
+public class BackfillPlanner {
+
+    @Value("${stock.market.history.backfill.merge-gap-days:30}")
+    private int mergeGapDays;
+
+    /**
+     * 빈 구간을 채우는 요청 목록을 만듭니다.
+     *
+     * @param gaps 날짜 오름차순 빈 구간
+     * @param today 기준일
+     * @return 날짜 오름차순 요청 목록, 요청할 구간이 없으면 빈 목록
+     */
+    public List<BackfillRequest> plan(List<DateRange> gaps, LocalDate today) {
+        List<BackfillRequest> requests = new ArrayList<>();
+        LocalDate from = null;
+        LocalDate to = null;
+
+        for (DateRange gap : gaps) {
+            LocalDate start = nextWeekday(gap.from());
+            LocalDate end = previousWeekday(gap.to());
+            if (start.isAfter(end)) {
+                continue;
+            }
+            if (to != null && ChronoUnit.DAYS.between(to, start) <= mergeGapDays) {
+                to = end;
+                continue;
+            }
+            if (from != null) {
+                requests.add(request(from, to, today));
+            }
+            from = start;
+            to = end;
+        }
+        if (from != null) {
+            requests.add(request(from, to, today));
+        }
+        return requests;
+    }
+
+    private static BackfillRequest request(LocalDate from, LocalDate to, LocalDate today) {
+        boolean compact = !from.isBefore(today.minusDays(AlphaVantageProvider.COMPACT_CALENDAR_DAYS));
+        return new BackfillRequest(from, to, compact);
+    }
+
+    private static LocalDate nextWeekday(LocalDate date) {
+        LocalDate day = date;
+        while (isWeekend(day)) {
+            day = day.plusDays(1);
+        }
+        return day;
+    }
+
+    private static LocalDate previousWeekday(LocalDate date) {
+        LocalDate day = date;
+        while (isWeekend(day)) {
+            day = day.minusDays(1);
+        }
+        return day;
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+}
@@ -0,0 +1,13 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.time.LocalDate;
+
+/**
+ * 빈 구간을 채우기 위한 프로바이더 일봉 요청 하나
+ *
+ * @param from 요청 시작일
+ * @param to 요청 종료일
+ * @param compact 최근 구간만 받는 작은 요청인지 여부 (AlphaVantage outputsize=compact 범위)
+ */
+public record BackfillRequest(LocalDate from, LocalDate to, boolean compact) {
+}
@@ -0,0 +1,13 @@
+package com.pjsent.sentinel.market.service.history;
+
+/**
+ * 빈 구간 요청 하나의 처리 결과
+ */
+enum BackfillResult {
+    // 프로바이더에서 받아 저장함
+    FETCHED,
+    // 호출 한도/서킷 때문에 호출하지 못함 (잠시 후 다시 시도 가능)
+    THROTTLED,
+    // 프로바이더 오류
+    FAILED
+}
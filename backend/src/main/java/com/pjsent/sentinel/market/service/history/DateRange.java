@@ -0,0 +1,20 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 날짜 구간 (양 끝 포함)
+ */
+public record DateRange(LocalDate from, LocalDate to) {
+
+    public DateRange {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+    }
+
+    public long days() {
+        return ChronoUnit.DAYS.between(from, to) + 1;
+    }
+}
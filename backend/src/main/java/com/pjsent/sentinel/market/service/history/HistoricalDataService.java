@@ -0,0 +1,209 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.factory.MarketDataProviderFactory;
+import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 일봉 조회 서비스
+ * OhlcvStore에 저장된 일봉을 먼저 사용하고, 수집 구간 색인(HistoryCoverageIndex)에서 찾은 빈 구간만
+ * 프로바이더에 요청해 채웁니다. 빈 구간은 BackfillPlanner가 최소 요청 목록으로 묶습니다.
+ *
+ * 최근 SETTLE_DAYS일은 프로바이더 반영이 늦을 수 있으므로, 실제로 받은 봉이 있는 날까지만 확인한 구간으로 기록합니다.
+ * 그 대신 같은 날 이미 최근 구간을 요청한 심볼은 그날 다시 요청하지 않으므로 휴장일에도 호출이 반복되지 않습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HistoricalDataService {
+
+    private static final int SETTLE_DAYS = 5;
+
+    private final MarketDataProviderFactory providerFactory;
+    private final ProviderHealthTracker healthTracker;
+    private final OhlcvStore ohlcvStore;
+    private final HistoryCoverageIndex coverageIndex;
+    private final BackfillPlanner backfillPlanner;
+
+    @Value("${stock.market.history.max-days:3650}")
+    private int maxDays;
+
+    // 심볼 -> 최근 구간(어제까지)을 마지막으로 요청한 날
+    private final ConcurrentMap<String, LocalDate> recentCheckedOn = new ConcurrentHashMap<>();
+
+    // 같은 심볼의 동시 조회를 한 번의 프로바이더 호출로 묶기 위한 잠금
+    private final ConcurrentMap<String, Object> fetchLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 최근 일봉을 조회합니다.
+     *
+     * @param symbol 주식 심볼
+     * @param days 조회할 기간 (일)
+     * @return 날짜 오름차순 일봉 (price = 종가)
+     */
+    public List<StockPriceDto> getDailyHistory(String symbol, int days) {
+        if (symbol == null || symbol.trim().isEmpty()) {
+            throw new IllegalArgumentException("주식 심볼이 비어있습니다.");
+        }
+        validateDays(days);
+
+        String key = OhlcvStore.normalize(symbol);
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days);
+
+        if (!plan(key, from, today).isEmpty()) {
+            synchronized (lock(key)) {
+                // 잠금을 기다리는 동안 다른 요청이 이미 채웠을 수 있음
+                boolean complete = true;
+                for (BackfillRequest request : plan(key, from, today)) {
+                    complete &= fetchAndStore(key, request, today) == BackfillResult.FETCHED;
+                }
+                if (!complete) {
+                    if (ohlcvStore.size(key) == 0) {
+                        throw new RuntimeException("과거 시세를 조회할 수 없습니다. 심볼: " + key);
+                    }
+                    log.warn("과거 시세를 모두 채우지 못해 저장된 데이터로 응답합니다. 심볼: {}", key);
+                }
+            }
+        }
+
+        return toDtos(key, ohlcvStore.read(key, from, today));
+    }
+
+    /**
+     * 최근 days일 중 아직 채우지 않은 구간의 요청 목록을 만듭니다.
+     *
+     * @param symbol 주식 심볼
+     * @param days 유지할 기간 (일)
+     * @return 프로바이더 요청 목록, 이미 모두 채워졌으면 빈 목록
+     */
+    public List<BackfillRequest> planBackfill(String symbol, int days) {
+        validateDays(days);
+        LocalDate today = LocalDate.now();
+        return plan(OhlcvStore.normalize(symbol), today.minusDays(days), today);
+    }
+
+    /**
+     * 요청 하나를 프로바이더에서 받아 저장합니다.
+     */
+    BackfillResult backfill(String symbol, BackfillRequest request) {
+        String key = OhlcvStore.normalize(symbol);
+        synchronized (lock(key)) {
+            return fetchAndStore(key, request, LocalDate.now());
+        }
+    }
+
+    private List<BackfillRequest> plan(String symbol, LocalDate from, LocalDate today) {
+        LocalDate to = today.equals(recentCheckedOn.get(symbol)) ? today.minusDays(SETTLE_DAYS) : today.minusDays(1);
+        return backfillPlanner.plan(coverageIndex.gaps(symbol, from, to), today);
+    }
+
+    private BackfillResult fetchAndStore(String symbol, BackfillRequest request, LocalDate today) {
+        boolean throttled = false;
+
+        for (MarketDataProvider provider : providerFactory.getAvailableProviders()) {
+            if (!provider.supportsHistoricalData()) {
+                continue;
+            }
+            try {
+                List<StockPriceDto> bars = healthTracker.execute(provider.getProviderName(),
+                        () -> provider.getHistoricalData(symbol, request.from(), request.to()));
+                OhlcvSeries series = toSeries(bars, today);
+                ohlcvStore.upsert(symbol, series);
+                coverageIndex.markCovered(symbol, request.from(), coveredThrough(request, series, today));
+                if (request.to().isAfter(today.minusDays(SETTLE_DAYS))) {
+                    recentCheckedOn.put(symbol, today);
+                }
+                log.info("과거 시세 저장 완료. 심볼: {}, 구간: {} ~ {}, 봉: {}개, 프로바이더: {}",
+                        symbol, request.from(), request.to(), series.size(), provider.getProviderName());
+                return BackfillResult.FETCHED;
+            } catch (RateLimitExceededException e) {
+                log.info("프로바이더 {} 호출 한도 초과로 다음 프로바이더 시도. 심볼: {}", provider.getProviderName(), symbol);
+                throttled = true;
+            } catch (CallNotPermittedException e) {
+                log.info("프로바이더 {} 서킷이 열려 있어 다음 프로바이더 시도. 심볼: {}", provider.getProviderName(), symbol);
+                throttled = true;
+            } catch (Exception e) {
+                log.warn("프로바이더 {} 과거 시세 조회 실패. 심볼: {}, 오류: {}", provider.getProviderName(), symbol, e.getMessage());
+            }
+        }
+        return throttled ? BackfillResult.THROTTLED : BackfillResult.FAILED;
+    }
+
+    // 최근 SETTLE_DAYS일은 받은 봉이 있는 날까지만 확인한 것으로 봄
+    private static LocalDate coveredThrough(BackfillRequest request, OhlcvSeries series, LocalDate today) {
+        LocalDate settled = today.minusDays(SETTLE_DAYS);
+        LocalDate covered = request.to().isAfter(settled) ? settled : request.to();
+        if (!series.isEmpty()) {
+            LocalDate lastBar = series.date(series.size() - 1);
+            if (lastBar.isAfter(covered)) {
+                covered = lastBar.isAfter(request.to()) ? request.to() : lastBar;
+            }
+        }
+        return covered;
+    }
+
+    private void validateDays(int days) {
+        if (days <= 0 || days > maxDays) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + maxDays + "일 이하여야 합니다: " + days);
+        }
+    }
+
+    private Object lock(String symbol) {
+        return fetchLocks.computeIfAbsent(symbol, k -> new Object());
+    }
+
+    // 장중의 당일 봉은 확정되지 않았으므로 저장하지 않음
+    private static OhlcvSeries toSeries(List<StockPriceDto> bars, LocalDate today) {
+        OhlcvSeries.Builder builder = OhlcvSeries.builder(bars.size());
+        for (StockPriceDto bar : bars) {
+            if (bar.getLastTradingDay() == null || bar.getClose() <= 0) {
+                continue;
+            }
+            LocalDate date = LocalDate.parse(bar.getLastTradingDay().substring(0, 10));
+            if (date.isBefore(today)) {
+                builder.add(date, bar.getOpen(), bar.getHigh(), bar.getLow(), bar.getClose(), bar.getVolume());
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<StockPriceDto> toDtos(String symbol, OhlcvSeries series) {
+        List<StockPriceDto> result = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            double close = series.close(i);
+            double previousClose = i > 0 ? series.close(i - 1) : 0.0;
+            double change = previousClose > 0 ? close - previousClose : 0.0;
+            LocalDate date = series.date(i);
+            result.add(StockPriceDto.builder()
+                    .symbol(symbol)
+                    .price(close)
+                    .open(series.open(i))
+                    .high(series.high(i))
+                    .low(series.low(i))
+                    .close(close)
+                    .volume(series.volume(i))
+                    .change(change)
+                    .changePercent(previousClose > 0 ? (change / previousClose) * 100 : 0.0)
+                    .lastTradingDay(date.toString())
+                    .timeStamp(date.atStartOfDay())
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.market.dto.HistoryBackfillStatsDto;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriority;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriorityContext;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과거 일봉 백필 작업
+ * 저장소에 있는 심볼과 설정한 심볼 목록(backfill.symbols)의 최근 lookback-days일을 빈 구간만 채웁니다.
+ * 이미 채워진 심볼은 어제 봉 하나를 받는 compact 요청 한 번으로 끝나므로, 매일 실행해도 전체 이력을 다시 받지 않습니다.
+ *
+ * 백그라운드 우선순위(RequestPriority.BACKGROUND)로 실행되어 사용자 요청용 토큰을 쓰지 않습니다.
+ * 모든 프로바이더의 토큰이 없으면 throttle-wait-ms만큼 쉬었다가 같은 요청을 다시 시도하고,
+ * 실행 시간이 max-run-minutes를 넘으면 중단합니다. 남은 심볼은 다음 실행에서 이어서 채워집니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HistoryBackfillJob {
+
+    private final HistoricalDataService historicalDataService;
+    private final OhlcvStore ohlcvStore;
+
+    @Value("${stock.market.history.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.market.history.backfill.symbols:}")
+    private String configuredSymbols;
+
+    @Value("${stock.market.history.backfill.lookback-days:365}")
+    private int lookbackDays;
+
+    @Value("${stock.market.history.backfill.throttle-wait-ms:15000}")
+    private long throttleWaitMs;
+
+    @Value("${stock.market.history.backfill.max-run-minutes:180}")
+    private long maxRunMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile HistoryBackfillStatsDto lastRun = HistoryBackfillStatsDto.builder().build();
+
+    @Scheduled(cron = "${stock.market.history.backfill.cron:0 0 7 * * TUE-SAT}",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 백필을 한 번 실행합니다. 이미 실행 중이면 마지막 실행 통계를 반환합니다.
+     *
+     * @return 실행 통계
+     */
+    public HistoryBackfillStatsDto run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("과거 시세 백필이 이미 실행 중입니다.");
+            return lastRun;
+        }
+        try {
+            lastRun = RequestPriorityContext.callWith(RequestPriority.BACKGROUND, this::backfillAll);
+            return lastRun;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 실행 통계를 반환합니다.
+     */
+    public HistoryBackfillStatsDto getStats() {
+        return lastRun;
+    }
+
+    private HistoryBackfillStatsDto backfillAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startedNanos = System.nanoTime();
+        long deadline = startedNanos + TimeUnit.MINUTES.toNanos(maxRunMinutes);
+        Set<String> symbols = universe();
+
+        int upToDate = 0;
+        int compactRequests = 0;
+        int fullRequests = 0;
+        int failed = 0;
+        int throttleWaits = 0;
+        boolean aborted = false;
+
+        log.info("과거 시세 백필 시작. 심볼: {}개, 기간: {}일", symbols.size(), lookbackDays);
+
+        symbols:
+        for (String symbol : symbols) {
+            List<BackfillRequest> plan;
+            try {
+                plan = historicalDataService.planBackfill(symbol, lookbackDays);
+            } catch (IllegalArgumentException e) {
+                log.warn("백필 대상에서 제외합니다. 심볼: {}, 오류: {}", symbol, e.getMessage());
+                failed++;
+                continue;
+            }
+            if (plan.isEmpty()) {
+                upToDate++;
+                continue;
+            }
+
+            for (BackfillRequest request : plan) {
+                BackfillResult result = historicalDataService.backfill(symbol, request);
+                while (result == BackfillResult.THROTTLED) {
+                    if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(throttleWaitMs) - deadline > 0) {
+                        aborted = true;
+                        break symbols;
+                    }
+                    throttleWaits++;
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(throttleWaitMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        aborted = true;
+                        break symbols;
+                    }
+                    result = historicalDataService.backfill(symbol, request);
+                }
+
+                if (result == BackfillResult.FAILED) {
+                    failed++;
+                    // 같은 심볼의 나머지 요청은 다음 실행에서 다시 계획
+                    continue symbols;
+                }
+                if (request.compact()) {
+                    compactRequests++;
+                } else {
+                    fullRequests++;
+                }
+            }
+        }
+
+        HistoryBackfillStatsDto stats = HistoryBackfillStatsDto.builder()
+                .startedAt(startedAt)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos))
+                .symbols(symbols.size())
+                .upToDate(upToDate)
+                .compactRequests(compactRequests)
+                .fullRequests(fullRequests)
+                .failed(failed)
+                .throttleWaits(throttleWaits)
+                .aborted(aborted)
+                .build();
+        log.info("과거 시세 백필 완료. 심볼: {}개, 최신: {}개, compact: {}회, full: {}회, 실패: {}, 한도 대기: {}회, 중단: {}",
+                stats.getSymbols(), upToDate, compactRequests, fullRequests, failed, throttleWaits, aborted);
+        return stats;
+    }
+
+    private Set<String> universe() {
+        Set<String> symbols = new TreeSet<>(ohlcvStore.symbols());
+        Arrays.stream(configuredSymbols.split(","))
+                .map(String::trim)
+                .filter(symbol -> !symbol.isEmpty())
+                .forEach(symbol -> SymbolRegistry.tryNormalize(symbol).ifPresentOrElse(symbols::add,
+                        () -> log.warn("잘못된 백필 심볼 무시: {}", symbol)));
+        return symbols;
+    }
+}
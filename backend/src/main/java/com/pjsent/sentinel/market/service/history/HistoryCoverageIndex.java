@@ -0,0 +1,185 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 심볼별 일봉 수집 구간 색인
+ * 프로바이더에 요청해 확인을 마친 날짜 구간을 기록합니다. 주말/휴장일처럼 봉이 없는 날도 구간에 포함되므로,
+ * 저장된 봉만으로는 구분할 수 없는 "확인했지만 봉이 없는 날"과 "아직 받지 않은 날"을 구분할 수 있습니다.
+ *
+ * 구간은 심볼마다 OHLCV 저장소 디렉터리의 {SYMBOL}.coverage 파일에 한 줄씩(시작일,종료일) 기록합니다.
+ * 색인 파일이 없는 심볼은 저장된 첫 봉부터 마지막 봉까지를 확인한 구간으로 간주합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HistoryCoverageIndex {
+
+    private static final String FILE_SUFFIX = ".coverage";
+
+    private final OhlcvStore ohlcvStore;
+
+    private final ConcurrentMap<String, Coverage> coverages = new ConcurrentHashMap<>();
+
+    /**
+     * 기간 안에서 아직 확인하지 않은 구간을 반환합니다.
+     *
+     * @param symbol 주식 심볼
+     * @param from 시작일
+     * @param to 종료일
+     * @return 날짜 오름차순 빈 구간
+     */
+    public List<DateRange> gaps(String symbol, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        return coverage(OhlcvStore.normalize(symbol)).gaps(epochDay(from), epochDay(to));
+    }
+
+    /**
+     * 구간을 확인한 것으로 기록합니다. 겹치거나 이어지는 구간은 하나로 합칩니다.
+     */
+    public void markCovered(String symbol, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return;
+        }
+        String key = OhlcvStore.normalize(symbol);
+        Coverage coverage = coverage(key);
+        synchronized (coverage) {
+            coverage.add(epochDay(from), epochDay(to));
+            save(key, coverage);
+        }
+    }
+
+    /**
+     * 확인한 구간 목록을 반환합니다.
+     */
+    public List<DateRange> ranges(String symbol) {
+        return coverage(OhlcvStore.normalize(symbol)).ranges();
+    }
+
+    private Coverage coverage(String symbol) {
+        return coverages.computeIfAbsent(symbol, this::load);
+    }
+
+    private Coverage load(String symbol) {
+        Coverage coverage = new Coverage();
+        Path file = file(symbol);
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    String[] dates = line.split(",");
+                    if (dates.length == 2) {
+                        coverage.add(epochDay(LocalDate.parse(dates[0].trim())), epochDay(LocalDate.parse(dates[1].trim())));
+                    }
+                }
+                return coverage;
+            } catch (IOException | DateTimeParseException e) {
+                log.warn("수집 구간 색인을 읽을 수 없어 저장된 봉으로 대체합니다. 심볼: {}, 오류: {}", symbol, e.getMessage());
+                coverage = new Coverage();
+            }
+        }
+
+        Optional<LocalDate> first = ohlcvStore.firstDate(symbol);
+        Optional<LocalDate> last = ohlcvStore.lastDate(symbol);
+        if (first.isPresent() && last.isPresent()) {
+            coverage.add(epochDay(first.get()), epochDay(last.get()));
+        }
+        return coverage;
+    }
+
+    private void save(String symbol, Coverage coverage) {
+        Path file = file(symbol);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        List<String> lines = coverage.ranges().stream()
+                .map(range -> range.from() + "," + range.to())
+                .toList();
+        try {
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 색인을 잃어도 다음 조회에서 빈 구간을 다시 요청할 뿐이므로 예외를 전파하지 않음
+            log.warn("수집 구간 색인 기록 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
+        }
+    }
+
+    private Path file(String symbol) {
+        return ohlcvStore.directory().resolve(symbol + FILE_SUFFIX);
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * 서로 겹치지 않는 구간 집합 (시작 epoch day -> 종료 epoch day, 양 끝 포함)
+     */
+    private static final class Coverage {
+
+        private final TreeMap<Integer, Integer> ranges = new TreeMap<>();
+
+        synchronized void add(int from, int to) {
+            int start = from;
+            int end = to;
+            Map.Entry<Integer, Integer> lower = ranges.floorEntry(start);
+            if (lower != null && lower.getValue() >= start - 1) {
+                start = lower.getKey();
+                end = Math.max(end, lower.getValue());
+                ranges.remove(lower.getKey());
+            }
+            Map.Entry<Integer, Integer> next = ranges.ceilingEntry(start);
+            while (next != null && next.getKey() <= end + 1) {
+                end = Math.max(end, next.getValue());
+                ranges.remove(next.getKey());
+                next = ranges.ceilingEntry(start);
+            }
+            ranges.put(start, end);
+        }
+
+        synchronized List<DateRange> gaps(int from, int to) {
+            List<DateRange> gaps = new ArrayList<>();
+            int cursor = from;
+            Map.Entry<Integer, Integer> lower = ranges.floorEntry(from);
+            if (lower != null && lower.getValue() >= from) {
+                cursor = lower.getValue() + 1;
+            }
+            for (Map.Entry<Integer, Integer> range : ranges.subMap(from, false, to, true).entrySet()) {
+                if (cursor > to) {
+                    break;
+                }
+                if (range.getKey() > cursor) {
+                    gaps.add(new DateRange(LocalDate.ofEpochDay(cursor), LocalDate.ofEpochDay(range.getKey() - 1)));
+                }
+                cursor = Math.max(cursor, range.getValue() + 1);
+            }
+            if (cursor <= to) {
+                gaps.add(new DateRange(LocalDate.ofEpochDay(cursor), LocalDate.ofEpochDay(to)));
+            }
+            return gaps;
+        }
+
+        synchronized List<DateRange> ranges() {
+            List<DateRange> result = new ArrayList<>(ranges.size());
+            ranges.forEach((from, to) -> result.add(new DateRange(LocalDate.ofEpochDay(from), LocalDate.ofEpochDay(to))));
+            return result;
+        }
+    }
+}
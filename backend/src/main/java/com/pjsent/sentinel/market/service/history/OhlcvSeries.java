@@ -0,0 +1,216 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 일봉 OHLCV 열(column) 묶음
+ * 봉 하나를 객체로 만들지 않고 열마다 primitive 배열로 보관합니다. 날짜는 epoch day(int)입니다.
+ * OhlcvStore의 범위 조회 결과이자 저장 입력 형식이며, 배열은 외부에 노출하지 않습니다.
+ */
+public final class OhlcvSeries {
+
+    private static final OhlcvSeries EMPTY = new OhlcvSeries(new int[0], new double[0], new double[0],
+            new double[0], new double[0], new long[0], 0);
+
+    private final int[] epochDays;
+    private final double[] opens;
+    private final double[] highs;
+    private final double[] lows;
+    private final double[] closes;
+    private final long[] volumes;
+    private final int size;
+
+    OhlcvSeries(int[] epochDays, double[] opens, double[] highs, double[] lows, double[] closes, long[] volumes,
+                int size) {
+        this.epochDays = epochDays;
+        this.opens = opens;
+        this.highs = highs;
+        this.lows = lows;
+        this.closes = closes;
+        this.volumes = volumes;
+        this.size = size;
+    }
+
+    public static OhlcvSeries empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int epochDay(int index) {
+        return epochDays[checkIndex(index)];
+    }
+
+    public LocalDate date(int index) {
+        return LocalDate.ofEpochDay(epochDay(index));
+    }
+
+    public double open(int index) {
+        return opens[checkIndex(index)];
+    }
+
+    public double high(int index) {
+        return highs[checkIndex(index)];
+    }
+
+    public double low(int index) {
+        return lows[checkIndex(index)];
+    }
+
+    public double close(int index) {
+        return closes[checkIndex(index)];
+    }
+
+    public long volume(int index) {
+        return volumes[checkIndex(index)];
+    }
+
+    /**
+     * 날짜 오름차순으로 정렬하고 같은 날짜는 마지막 값만 남깁니다.
+     */
+    OhlcvSeries sortedUnique() {
+        boolean sorted = true;
+        for (int i = 1; i < size && sorted; i++) {
+            sorted = epochDays[i - 1] < epochDays[i];
+        }
+        if (sorted) {
+            return this;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // 안정 정렬이므로 같은 날짜는 입력 순서가 유지됨
+        Arrays.sort(order, (a, b) -> Integer.compare(epochDays[a], epochDays[b]));
+
+        Builder builder = new Builder(size);
+        for (Integer index : order) {
+            // 같은 날짜가 이어지면 마지막 슬롯을 덮어써 나중에 들어온 값만 남김
+            if (builder.size > 0 && builder.epochDays[builder.size - 1] == epochDays[index]) {
+                builder.size--;
+            }
+            builder.put(epochDays[index], opens[index], highs[index], lows[index], closes[index], volumes[index]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 정렬된 두 묶음을 합칩니다. 같은 날짜는 newer 값을 사용합니다.
+     */
+    static OhlcvSeries merge(OhlcvSeries older, OhlcvSeries newer) {
+        Builder builder = new Builder(older.size + newer.size);
+        int i = 0;
+        int j = 0;
+        while (i < older.size || j < newer.size) {
+            if (j >= newer.size || (i < older.size && older.epochDays[i] < newer.epochDays[j])) {
+                builder.copy(older, i++);
+            } else {
+                if (i < older.size && older.epochDays[i] == newer.epochDays[j]) {
+                    i++;
+                }
+                builder.copy(newer, j++);
+            }
+        }
+        return builder.build();
+    }
+
+    int[] epochDays() {
+        return epochDays;
+    }
+
+    double[] opens() {
+        return opens;
+    }
+
+    double[] highs() {
+        return highs;
+    }
+
+    double[] lows() {
+        return lows;
+    }
+
+    double[] closes() {
+        return closes;
+    }
+
+    long[] volumes() {
+        return volumes;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+
+    /**
+     * 봉을 하나씩 추가하여 OhlcvSeries를 만듭니다.
+     */
+    public static final class Builder {
+
+        private int[] epochDays;
+        private double[] opens;
+        private double[] highs;
+        private double[] lows;
+        private double[] closes;
+        private long[] volumes;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 8);
+            epochDays = new int[capacity];
+            opens = new double[capacity];
+            highs = new double[capacity];
+            lows = new double[capacity];
+            closes = new double[capacity];
+            volumes = new long[capacity];
+        }
+
+        public Builder add(LocalDate date, double open, double high, double low, double close, long volume) {
+            return put(Math.toIntExact(date.toEpochDay()), open, high, low, close, volume);
+        }
+
+        Builder put(int epochDay, double open, double high, double low, double close, long volume) {
+            if (size == epochDays.length) {
+                int capacity = size * 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                opens = Arrays.copyOf(opens, capacity);
+                highs = Arrays.copyOf(highs, capacity);
+                lows = Arrays.copyOf(lows, capacity);
+                closes = Arrays.copyOf(closes, capacity);
+                volumes = Arrays.copyOf(volumes, capacity);
+            }
+            epochDays[size] = epochDay;
+            opens[size] = open;
+            highs[size] = high;
+            lows[size] = low;
+            closes[size] = close;
+            volumes[size] = volume;
+            size++;
+            return this;
+        }
+
+        private void copy(OhlcvSeries source, int index) {
+            put(source.epochDays[index], source.opens[index], source.highs[index], source.lows[index],
+                    source.closes[index], source.volumes[index]);
+        }
+
+        public OhlcvSeries build() {
+            return size == 0 ? EMPTY : new OhlcvSeries(epochDays, opens, highs, lows, closes, volumes, size);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.pjsent.sentinel.market.service.history;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 심볼별 메모리 매핑 일봉 OHLCV 저장소
+ * 심볼마다 파일 하나({store-dir}/{SYMBOL}.ohlcv)를 두고, 파일 안에 열(column)별 primitive 배열을 연속으로 배치합니다.
+ *
+ * 파일 구조 (little endian)
+ * - 헤더 32바이트: magic, version, capacity, count
+ * - int    epochDay[capacity]  (오름차순)
+ * - double open[capacity], high[capacity], low[capacity], close[capacity]
+ * - long   volume[capacity]
+ *
+ * 범위 조회는 epochDay 열에서 이진 탐색 후 각 열을 bulk 복사합니다.
+ * 마지막 날짜 이후의 봉은 제자리에 추가(append)하고, 마지막 날짜와 같은 봉은 덮어씁니다.
+ * 중간 날짜를 채우거나 용량이 부족할 때만 병합한 새 파일을 만들어 원자적으로 교체합니다.
+ * count는 봉을 모두 쓴 뒤 마지막에 갱신하므로 기록 중 중단되어도 이전 봉까지는 유효합니다.
+ */
+@Component
+@Slf4j
+public class OhlcvStore {
+
+    private static final int MAGIC = 0x4F484C43; // "OHLC"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int CAPACITY_SLOT = 2;
+    private static final int COUNT_SLOT = 3;
+    private static final int DOUBLE_COLUMNS = 4;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final String FILE_SUFFIX = ".ohlcv";
+
+    @Value("${stock.market.history.store-dir:data/ohlcv}")
+    private String storeDir;
+
+    @Value("${stock.market.history.initial-capacity:512}")
+    private int initialCapacity;
+
+    private Path root;
+
+    private final ConcurrentMap<String, Segment> segments = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        root = Paths.get(storeDir);
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("OHLCV 저장소 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+        log.info("OHLCV 저장소 경로: {}", root.toAbsolutePath());
+    }
+
+    /**
+     * 기간 안의 봉을 조회합니다. (양 끝 포함)
+     *
+     * @param symbol 주식 심볼
+     * @param from 시작일
+     * @param to 종료일
+     * @return 날짜 오름차순 봉 묶음, 저장된 봉이 없으면 빈 묶음
+     */
+    public OhlcvSeries read(String symbol, LocalDate from, LocalDate to) {
+        Segment segment = segment(symbol);
+        segment.lock.readLock().lock();
+        try {
+            if (segment.count == 0 || from.isAfter(to)) {
+                return OhlcvSeries.empty();
+            }
+            int start = segment.lowerBound(Math.toIntExact(from.toEpochDay()));
+            int end = segment.lowerBound(Math.toIntExact(to.toEpochDay()) + 1);
+            return segment.copy(start, end - start);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 봉을 저장합니다. 같은 날짜의 봉은 새 값으로 교체됩니다.
+     *
+     * @param symbol 주식 심볼
+     * @param bars 저장할 봉 (정렬 불필요)
+     * @return 저장한 봉 수
+     */
+    public int upsert(String symbol, OhlcvSeries bars) {
+        if (bars.isEmpty()) {
+            return 0;
+        }
+        OhlcvSeries sorted = bars.sortedUnique();
+        String key = normalize(symbol);
+        Segment segment = segment(key);
+        segment.lock.writeLock().lock();
+        try {
+            int firstNewDay = sorted.epochDays()[0];
+            int lastDay = segment.count > 0 ? segment.epochDay(segment.count - 1) : Integer.MIN_VALUE;
+            int start = firstNewDay == lastDay ? segment.count - 1 : segment.count;
+
+            if (firstNewDay >= lastDay && start + sorted.size() <= segment.capacity) {
+                segment.write(start, sorted);
+            } else {
+                OhlcvSeries merged = OhlcvSeries.merge(segment.copy(0, segment.count), sorted);
+                rewrite(key, segment, merged);
+            }
+            return sorted.size();
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 첫 봉의 날짜를 반환합니다.
+     */
+    public Optional<LocalDate> firstDate(String symbol) {
+        Segment segment = segment(symbol);
+        segment.lock.readLock().lock();
+        try {
+            return segment.count == 0 ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(segment.epochDay(0)));
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 마지막 봉의 날짜를 반환합니다.
+     */
+    public Optional<LocalDate> lastDate(String symbol) {
+        Segment segment = segment(symbol);
+        segment.lock.readLock().lock();
+        try {
+            return segment.count == 0
+                    ? Optional.empty()
+                    : Optional.of(LocalDate.ofEpochDay(segment.epochDay(segment.count - 1)));
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 봉 수를 반환합니다.
+     */
+    public int size(String symbol) {
+        Segment segment = segment(symbol);
+        segment.lock.readLock().lock();
+        try {
+            return segment.count;
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소에 파일이 있는 심볼 목록을 반환합니다.
+     */
+    public List<String> symbols() {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(FILE_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - FILE_SUFFIX.length()))
+                    .filter(SymbolRegistry::isNormalized)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("OHLCV 저장소 목록을 읽을 수 없습니다: " + root, e);
+        }
+    }
+
+    Path directory() {
+        return root;
+    }
+
+    private Segment segment(String symbol) {
+        return segments.computeIfAbsent(normalize(symbol), this::open);
+    }
+
+    private Segment open(String symbol) {
+        Segment segment = new Segment();
+        Path file = file(symbol);
+        if (Files.exists(file)) {
+            try {
+                segment.attach(map(file, Files.size(file)));
+            } catch (IOException e) {
+                throw new IllegalStateException("OHLCV 파일을 열 수 없습니다: " + file, e);
+            }
+        }
+        return segment;
+    }
+
+    private void rewrite(String symbol, Segment segment, OhlcvSeries merged) {
+        int capacity = Math.max(initialCapacity, merged.size() * 2);
+        capacity += capacity & 1; // double 열 정렬을 위해 짝수로 맞춤
+
+        Path file = file(symbol);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.deleteIfExists(temp);
+            Segment fresh = new Segment();
+            fresh.attach(map(temp, fileSize(capacity)));
+            fresh.initHeader(capacity);
+            fresh.write(0, merged);
+            fresh.buffer.force();
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            segment.attach(map(file, fileSize(capacity)));
+            log.debug("OHLCV 파일 재작성. 심볼: {}, 봉 수: {}, 용량: {}", symbol, merged.size(), capacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("OHLCV 파일을 기록할 수 없습니다: " + file, e);
+        }
+    }
+
+    private MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // 채널을 닫아도 매핑은 유지됨
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static long fileSize(int capacity) {
+        return HEADER_BYTES + (long) capacity * (Integer.BYTES + DOUBLE_COLUMNS * Double.BYTES + Long.BYTES);
+    }
+
+    private Path file(String symbol) {
+        return root.resolve(symbol + FILE_SUFFIX);
+    }
+
+    static String normalize(String symbol) {
+        return SymbolRegistry.normalize(symbol);
+    }
+
+    /**
+     * 심볼 하나의 매핑된 파일과 열 뷰
+     */
+    private static final class Segment {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private MappedByteBuffer buffer;
+        private IntBuffer ints;
+        private DoubleBuffer doubles;
+        private LongBuffer longs;
+        private int capacity;
+        private int count;
+
+        void attach(MappedByteBuffer mapped) {
+            buffer = mapped;
+            ints = mapped.duplicate().order(ORDER).asIntBuffer();
+            doubles = mapped.duplicate().order(ORDER).asDoubleBuffer();
+            longs = mapped.duplicate().order(ORDER).asLongBuffer();
+            if (ints.get(0) != MAGIC || ints.get(1) != VERSION) {
+                if (ints.get(0) == 0) {
+                    capacity = 0;
+                    count = 0;
+                    return;
+                }
+                throw new IllegalStateException("OHLCV 파일 형식이 올바르지 않습니다.");
+            }
+            capacity = ints.get(CAPACITY_SLOT);
+            count = ints.get(COUNT_SLOT);
+        }
+
+        void initHeader(int newCapacity) {
+            ints.put(0, MAGIC);
+            ints.put(1, VERSION);
+            ints.put(CAPACITY_SLOT, newCapacity);
+            ints.put(COUNT_SLOT, 0);
+            capacity = newCapacity;
+            count = 0;
+        }
+
+        int epochDay(int index) {
+            return ints.get(HEADER_BYTES / Integer.BYTES + index);
+        }
+
+        /**
+         * key 이상인 첫 위치를 찾습니다.
+         */
+        int lowerBound(int key) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDay(mid) < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        OhlcvSeries copy(int start, int length) {
+            if (length <= 0) {
+                return OhlcvSeries.empty();
+            }
+            int[] epochDays = new int[length];
+            double[] opens = new double[length];
+            double[] highs = new double[length];
+            double[] lows = new double[length];
+            double[] closes = new double[length];
+            long[] volumes = new long[length];
+            ints.get(HEADER_BYTES / Integer.BYTES + start, epochDays);
+            doubles.get(doubleIndex(0, start), opens);
+            doubles.get(doubleIndex(1, start), highs);
+            doubles.get(doubleIndex(2, start), lows);
+            doubles.get(doubleIndex(3, start), closes);
+            longs.get(longIndex(start), volumes);
+            return new OhlcvSeries(epochDays, opens, highs, lows, closes, volumes, length);
+        }
+
+        void write(int start, OhlcvSeries bars) {
+            int length = bars.size();
+            ints.put(HEADER_BYTES / Integer.BYTES + start, bars.epochDays(), 0, length);
+            doubles.put(doubleIndex(0, start), bars.opens(), 0, length);
+            doubles.put(doubleIndex(1, start), bars.highs(), 0, length);
+            doubles.put(doubleIndex(2, start), bars.lows(), 0, length);
+            doubles.put(doubleIndex(3, start), bars.closes(), 0, length);
+            longs.put(longIndex(start), bars.volumes(), 0, length);
+            count = start + length;
+            ints.put(COUNT_SLOT, count);
+        }
+
+        private int doubleIndex(int column, int index) {
+            long offset = HEADER_BYTES + (long) capacity * Integer.BYTES + (long) column * capacity * Double.BYTES;
+            return (int) (offset / Double.BYTES) + index;
+        }
+
+        private int longIndex(int index) {
+            long offset = HEADER_BYTES + (long) capacity * Integer.BYTES
+                    + (long) DOUBLE_COLUMNS * capacity * Double.BYTES;
+            return (int) (offset / Long.BYTES) + index;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.pjsent.sentinel.market.service.persistence;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * market_data 일별 파티션 관리 (PostgreSQL 전용)
+ * market_data가 timestamp 기준 RANGE 파티션 테이블이면(db/postgresql/market_data_partitioned.sql) 하루에 파티션 하나(market_data_pYYYYMMDD)를 둡니다.
+ * 보관 기간이 지난 날짜는 행 단위 DELETE 대신 파티션을 통째로 삭제하므로, 테이블 bloat와 긴 잠금이 생기지 않습니다.
+ *
+ * 이 이름 규칙을 따르는 파티션만 다루고, 기본(DEFAULT) 파티션이나 직접 만든 파티션은 건드리지 않습니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MarketDataPartitionManager {
+
+    private static final String TABLE = "market_data";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{8})");
+
+    private static final String PARTITIONED_SQL = "SELECT COUNT(*) FROM pg_partitioned_table pt "
+            + "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?";
+
+    private static final String PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * market_data가 PostgreSQL 파티션 테이블인지 확인합니다. 다른 데이터베이스(H2 등)에서는 항상 false입니다.
+     */
+    public boolean isPartitioned() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(PARTITIONED_SQL, Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 이름 규칙을 따르는 일별 파티션의 날짜를 오름차순으로 반환합니다.
+     */
+    public Set<LocalDate> partitionDays() {
+        List<String> names = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, TABLE);
+        Set<LocalDate> days = new TreeSet<>();
+        for (String name : names) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                days.add(LocalDate.parse(matcher.group(1), SUFFIX_FORMAT));
+            }
+        }
+        return days;
+    }
+
+    /**
+     * from부터 days일 동안의 파티션 중 없는 것을 만듭니다.
+     *
+     * @return 새로 만든 파티션 수
+     */
+    public int createPartitions(LocalDate from, int days) {
+        Set<LocalDate> existing = partitionDays();
+        int created = 0;
+        for (int i = 0; i < days; i++) {
+            LocalDate day = from.plusDays(i);
+            if (existing.contains(day)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+            created++;
+            log.info("market_data 파티션 생성: {}", partitionName(day));
+        }
+        return created;
+    }
+
+    /**
+     * 하루치 파티션을 삭제합니다.
+     *
+     * @return 삭제한 파티션에 있던 행 수
+     */
+    public long dropPartition(LocalDate day) {
+        String name = partitionName(day);
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + name, Long.class);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+        log.info("market_data 파티션 삭제: {}, 행 수: {}", name, rows);
+        return Objects.requireNonNullElse(rows, 0L);
+    }
+
+    static String partitionName(LocalDate day) {
+        return TABLE + "_p" + day.format(SUFFIX_FORMAT);
+    }
+}
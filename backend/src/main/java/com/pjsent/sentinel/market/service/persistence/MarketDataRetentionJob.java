@@ -0,0 +1,298 @@
+package com.pjsent.sentinel.market.service.persistence;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.market.dto.MarketDataRetentionStatsDto;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * market_data 보관 기간 정리 작업
+ * 보관 기간은 심볼별(symbol-days) > 데이터 소스별(source-days) > 기본(default-days) 순서로 적용합니다.
+ *
+ * - PostgreSQL 파티션 테이블이면 앞으로 쓸 일별 파티션을 미리 만들고,
+ *   모든 규칙의 보관 기간을 넘긴 날짜의 파티션은 통째로 삭제합니다.
+ * - 그 밖의 행은 chunk-size개씩 나눠 삭제합니다. 각 DELETE는 별도 트랜잭션이라 잠금이 짧고,
+ *   chunk 사이에 pause-ms만큼 쉬어 사용자 요청과 write-behind 기록에 여유를 줍니다.
+ * - 실행 시간이 max-run-minutes를 넘으면 중단합니다. 남은 행은 다음 실행에서 이어서 삭제됩니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MarketDataRetentionJob {
+
+    private static final String DEFAULT_RULE = "default";
+    private static final String PARTITION_RULE = "partitions";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MarketDataPartitionManager partitionManager;
+
+    @Value("${stock.market.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.market.retention.default-days:30}")
+    private int defaultDays;
+
+    // 심볼별 보관 일수 (예: "AAPL:90,TSLA:7")
+    @Value("${stock.market.retention.symbol-days:}")
+    private String symbolDaysConfig;
+
+    // 데이터 소스별 보관 일수 (예: "AlphaVantage:7")
+    @Value("${stock.market.retention.source-days:}")
+    private String sourceDaysConfig;
+
+    @Value("${stock.market.retention.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${stock.market.retention.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${stock.market.retention.max-run-minutes:30}")
+    private long maxRunMinutes;
+
+    @Value("${stock.market.retention.partition.precreate-days:7}")
+    private int precreateDays;
+
+    private final Map<String, Integer> symbolDays = new LinkedHashMap<>();
+    private final Map<String, Integer> sourceDays = new LinkedHashMap<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile MarketDataRetentionStatsDto lastRun = MarketDataRetentionStatsDto.builder().build();
+
+    @PostConstruct
+    void init() {
+        parseDays(symbolDaysConfig, symbolDays, true);
+        parseDays(sourceDaysConfig, sourceDays, false);
+        log.info("시세 보관 기간 설정. 기본: {}일, 심볼별: {}, 소스별: {}", defaultDays, symbolDays, sourceDays);
+    }
+
+    @Scheduled(cron = "${stock.market.retention.cron:0 30 4 * * *}",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 보관 기간 정리를 한 번 실행합니다. 이미 실행 중이면 마지막 실행 통계를 반환합니다.
+     *
+     * @return 실행 통계
+     */
+    public MarketDataRetentionStatsDto run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("시세 보관 기간 정리가 이미 실행 중입니다.");
+            return lastRun;
+        }
+        try {
+            lastRun = new Run(LocalDateTime.now()).execute();
+            return lastRun;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 실행 통계를 반환합니다.
+     */
+    public MarketDataRetentionStatsDto getStats() {
+        return lastRun;
+    }
+
+    /**
+     * 모든 규칙 중 가장 긴 보관 일수
+     */
+    int maxRetentionDays() {
+        int max = defaultDays;
+        for (int days : symbolDays.values()) {
+            max = Math.max(max, days);
+        }
+        for (int days : sourceDays.values()) {
+            max = Math.max(max, days);
+        }
+        return max;
+    }
+
+    private static String notIn(String column, int size) {
+        if (size == 0) {
+            return "";
+        }
+        return " AND " + column + " NOT IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+
+    private static void parseDays(String config, Map<String, Integer> target, boolean upperCase) {
+        target.clear();
+        if (config == null || config.isBlank()) {
+            return;
+        }
+        for (String entry : config.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                log.warn("잘못된 보관 기간 설정 무시: {}", entry);
+                continue;
+            }
+            try {
+                int days = Integer.parseInt(parts[1].trim());
+                if (days < 1) {
+                    throw new NumberFormatException();
+                }
+                String key = parts[0].trim();
+                target.put(upperCase ? key.toUpperCase() : key, days);
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 보관 기간 설정 무시: {}", entry);
+            }
+        }
+    }
+
+    /**
+     * 실행 한 번의 상태
+     */
+    private final class Run {
+
+        private final LocalDateTime startedAt;
+        private final long startedNanos = System.nanoTime();
+        private final long deadline;
+        private final Map<String, Long> rowsByRule = new LinkedHashMap<>();
+
+        private boolean partitioned;
+        private int partitionsCreated;
+        private int partitionsDropped;
+        private int chunks;
+        private boolean aborted;
+
+        Run(LocalDateTime startedAt) {
+            this.startedAt = startedAt;
+            this.deadline = startedNanos + TimeUnit.MINUTES.toNanos(maxRunMinutes);
+        }
+
+        MarketDataRetentionStatsDto execute() {
+            log.info("시세 보관 기간 정리 시작. 기본: {}일, 심볼 규칙: {}개, 소스 규칙: {}개",
+                    defaultDays, symbolDays.size(), sourceDays.size());
+            try {
+                managePartitions();
+                deleteExpiredRows();
+            } catch (DataAccessException e) {
+                aborted = true;
+                log.error("시세 보관 기간 정리 실패. 오류: {}", e.getMessage(), e);
+            }
+
+            long rowsReclaimed = rowsByRule.values().stream().mapToLong(Long::longValue).sum();
+            MarketDataRetentionStatsDto stats = MarketDataRetentionStatsDto.builder()
+                    .startedAt(startedAt)
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos))
+                    .partitioned(partitioned)
+                    .partitionsCreated(partitionsCreated)
+                    .partitionsDropped(partitionsDropped)
+                    .chunks(chunks)
+                    .rowsReclaimed(rowsReclaimed)
+                    .rowsByRule(Collections.unmodifiableMap(rowsByRule))
+                    .aborted(aborted)
+                    .build();
+            log.info("시세 보관 기간 정리 완료. 삭제 행: {}, 파티션 생성/삭제: {}/{}, chunk: {}회, 소요: {}ms, 중단: {}",
+                    rowsReclaimed, partitionsCreated, partitionsDropped, chunks, stats.getElapsedMs(), aborted);
+            return stats;
+        }
+
+        private void managePartitions() {
+            partitioned = partitionManager.isPartitioned();
+            if (!partitioned) {
+                return;
+            }
+            LocalDate today = startedAt.toLocalDate();
+            partitionsCreated = partitionManager.createPartitions(today, precreateDays);
+
+            // 하루 전체가 가장 긴 보관 기간보다 오래된 파티션만 삭제
+            LocalDateTime cutoff = startedAt.minusDays(maxRetentionDays());
+            for (LocalDate day : partitionManager.partitionDays()) {
+                if (day.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                    break;
+                }
+                rowsByRule.merge(PARTITION_RULE, partitionManager.dropPartition(day), Long::sum);
+                partitionsDropped++;
+            }
+        }
+
+        private void deleteExpiredRows() {
+            for (Map.Entry<String, Integer> rule : symbolDays.entrySet()) {
+                if (!deleteInChunks("symbol:" + rule.getKey(), " AND symbol = ?",
+                        List.of(rule.getKey()), rule.getValue())) {
+                    return;
+                }
+            }
+
+            String notOverriddenSymbol = notIn("symbol", symbolDays.size());
+            for (Map.Entry<String, Integer> rule : sourceDays.entrySet()) {
+                List<Object> args = new ArrayList<>();
+                args.add(rule.getKey());
+                args.addAll(symbolDays.keySet());
+                if (!deleteInChunks("source:" + rule.getKey(), " AND data_source = ?" + notOverriddenSymbol,
+                        args, rule.getValue())) {
+                    return;
+                }
+            }
+
+            List<Object> args = new ArrayList<>(symbolDays.keySet());
+            args.addAll(sourceDays.keySet());
+            deleteInChunks(DEFAULT_RULE, notOverriddenSymbol + notIn("data_source", sourceDays.size()),
+                    args, defaultDays);
+        }
+
+        /**
+         * 조건에 맞는 보관 기간 초과 행을 chunk 단위로 삭제합니다.
+         *
+         * @param condition timestamp 조건 뒤에 붙일 추가 조건 (" AND ..." 형식, 없으면 빈 문자열)
+         * @return 끝까지 삭제했으면 true, 제한 시간 초과나 인터럽트로 멈췄으면 false
+         */
+        private boolean deleteInChunks(String rule, String condition, List<Object> conditionArgs, int days) {
+            String sql = "DELETE FROM market_data WHERE id IN "
+                    + "(SELECT id FROM market_data WHERE timestamp < ?" + condition + " LIMIT ?)";
+            List<Object> args = new ArrayList<>();
+            args.add(Timestamp.valueOf(startedAt.minusDays(days)));
+            args.addAll(conditionArgs);
+            args.add(chunkSize);
+            Object[] params = args.toArray();
+
+            while (true) {
+                int deleted = jdbcTemplate.update(sql, params);
+                chunks++;
+                if (deleted > 0) {
+                    rowsByRule.merge(rule, (long) deleted, Long::sum);
+                }
+                if (deleted < chunkSize) {
+                    return true;
+                }
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pauseMs) - deadline > 0) {
+                    aborted = true;
+                    log.warn("시세 보관 기간 정리 제한 시간 초과. 규칙: {}", rule);
+                    return false;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    aborted = true;
+                    return false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.pjsent.sentinel.market.service.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.entity.MarketData;
+import com.pjsent.sentinel.market.repository.MarketDataRepository;
+import com.pjsent.sentinel.market.service.cache.QuoteCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 캐시 웜 스타트
+ * 애플리케이션이 준비되면 market_data에 저장된 심볼별 최신 시세를 L1 시세 캐시에 복원합니다.
+ * 재시작 직후의 요청이 모두 프로바이더 호출(캐시 미스)로 이어지는 것을 막고,
+ * 복원된 값은 stale 상태로 바로 제공되면서 백그라운드에서 재검증됩니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuoteWarmStarter {
+
+    private final MarketDataRepository marketDataRepository;
+    private final QuoteCache quoteCache;
+
+    @Value("${stock.market.persistence.warm-start.enabled:true}")
+    private boolean enabled;
+
+    // 이 시간보다 오래된 시세는 복원하지 않음 (기본값: 캐시 stale TTL)
+    @Value("${stock.market.persistence.warm-start.max-age-seconds:600}")
+    private long maxAgeSeconds;
+
+    @Value("${stock.market.cache.quote.max-entries:1000}")
+    private int maxEntries;
+
+    /**
+     * 저장된 시세를 캐시에 복원합니다.
+     *
+     * @return 복원된 심볼 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int warmUp() {
+        if (!enabled) {
+            return 0;
+        }
+        try {
+            LocalDateTime since = LocalDateTime.now().minusSeconds(maxAgeSeconds);
+            List<MarketData> latest = marketDataRepository.findLatestPerSymbolSince(since, PageRequest.of(0, maxEntries));
+
+            int restored = 0;
+            for (MarketData row : latest) {
+                long fetchedAt = row.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (quoteCache.restore(row.getSymbol(), toQuote(row), fetchedAt)) {
+                    restored++;
+                }
+            }
+            log.info("시세 캐시 웜 스타트 완료. 조회: {}, 복원: {}", latest.size(), restored);
+            return restored;
+        } catch (Exception e) {
+            log.warn("시세 캐시 웜 스타트 실패. 오류: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private StockPriceDto toQuote(MarketData row) {
+        double price = row.getPrice().doubleValue();
+        double changePercent = toDouble(row.getChangePercent());
+        // 전일 종가와 변화량은 저장하지 않으므로 현재가와 변화율로 계산
+        double previousClose = changePercent > -100 ? price / (1 + changePercent / 100) : 0.0;
+        return StockPriceDto.builder()
+                .symbol(row.getSymbol())
+                .price(price)
+                .high(toDouble(row.getHigh24h()))
+                .low(toDouble(row.getLow24h()))
+                .close(previousClose)
+                .change(price - previousClose)
+                .changePercent(changePercent)
+                .lastTradingDay(row.getTimestamp().toLocalDate().toString())
+                .timeStamp(row.getTimestamp())
+                .provider(row.getDataSource())
+                .build();
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
+}
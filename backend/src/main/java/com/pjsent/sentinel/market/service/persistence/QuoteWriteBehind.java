@@ -0,0 +1,246 @@
+package com.pjsent.sentinel.market.service.persistence;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.QuotePersistenceStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 write-behind 영속화
+ * 프로바이더에서 조회한 시세를 요청 스레드에서 바로 저장하지 않고 대기열에 넣은 뒤,
+ * 전용 스레드가 모아서 market_data 테이블에 JDBC 배치 INSERT로 기록합니다.
+ *
+ * 대기열은 심볼 단위로 병합되고 크기가 제한됩니다.
+ * - 같은 심볼의 시세가 이미 대기 중이면 최신 값으로 덮어씀 (merged)
+ * - 대기열이 가득 차면 새 심볼의 시세는 버림 (dropped)
+ * 저장은 최선 노력(best effort)이며, 실패한 배치는 재시도하지 않고 failed로 집계합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuoteWriteBehind {
+
+    private static final String INSERT_SQL = "INSERT INTO market_data "
+            + "(symbol, price, change_percent, high_24h, low_24h, data_source, timestamp) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${stock.market.persistence.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.market.persistence.batch-size:200}")
+    private int batchSize;
+
+    @Value("${stock.market.persistence.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${stock.market.persistence.max-pending:5000}")
+    private int maxPending;
+
+    // 심볼 -> 대기 중인 시세 (this로 동기화)
+    private final Map<String, PendingQuote> pending = new LinkedHashMap<>();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("시세 영속화가 비활성화되어 있습니다.");
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "QuoteWriteBehind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("시세 write-behind 시작. 배치 크기: {}, 주기: {}ms, 최대 대기: {}", batchSize, flushIntervalMs, maxPending);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        synchronized (this) {
+            notifyAll();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전까지 쌓인 시세 기록
+        flush();
+    }
+
+    /**
+     * 시세를 저장 대기열에 넣습니다. 요청 스레드를 막지 않습니다.
+     *
+     * @param quote 프로바이더에서 조회한 시세
+     * @return 대기열에 들어갔거나 병합되었으면 true, 비활성화/유효하지 않은 값/대기열 초과로 버려지면 false
+     */
+    public boolean enqueue(StockPriceDto quote) {
+        if (!enabled || quote == null || quote.getSymbol() == null || quote.getPrice() <= 0) {
+            return false;
+        }
+        PendingQuote entry = new PendingQuote(quote, LocalDateTime.now());
+        synchronized (this) {
+            if (pending.replace(quote.getSymbol(), entry) != null) {
+                merged.increment();
+                return true;
+            }
+            if (pending.size() >= maxPending) {
+                dropped.increment();
+                return false;
+            }
+            pending.put(quote.getSymbol(), entry);
+            enqueued.increment();
+            if (pending.size() >= batchSize) {
+                notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 시세를 모두 배치 단위로 기록합니다.
+     *
+     * @return 기록에 성공한 행 수
+     */
+    public int flush() {
+        int total = 0;
+        List<PendingQuote> batch = drain();
+        while (!batch.isEmpty()) {
+            int count = write(batch);
+            if (count == 0) {
+                // DB 장애 시 남은 대기열을 바로 다시 시도하지 않고 다음 주기로 넘김
+                break;
+            }
+            total += count;
+            batch = drain();
+        }
+        return total;
+    }
+
+    /**
+     * 영속화 통계를 반환합니다.
+     */
+    public QuotePersistenceStatsDto getStats() {
+        int pendingCount;
+        synchronized (this) {
+            pendingCount = pending.size();
+        }
+        return QuotePersistenceStatsDto.builder()
+                .enqueued(enqueued.sum())
+                .merged(merged.sum())
+                .dropped(dropped.sum())
+                .written(written.sum())
+                .failed(failed.sum())
+                .batches(batches.sum())
+                .pending(pendingCount)
+                .build();
+    }
+
+    private void runFlusher() {
+        while (running) {
+            synchronized (this) {
+                if (running && pending.size() < batchSize) {
+                    try {
+                        wait(flushIntervalMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.warn("시세 write-behind 처리 중 오류. 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    private synchronized List<PendingQuote> drain() {
+        List<PendingQuote> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        Iterator<PendingQuote> iterator = pending.values().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private int write(List<PendingQuote> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                StockPriceDto quote = entry.quote();
+                ps.setString(1, quote.getSymbol());
+                ps.setBigDecimal(2, decimal(quote.getPrice()));
+                ps.setBigDecimal(3, decimal(quote.getChangePercent()));
+                setPositiveDecimal(ps, 4, quote.getHigh());
+                setPositiveDecimal(ps, 5, quote.getLow());
+                ps.setString(6, quote.getProvider() != null ? quote.getProvider() : "UNKNOWN");
+                ps.setTimestamp(7, Timestamp.valueOf(entry.fetchedAt()));
+            });
+            written.add(batch.size());
+            batches.increment();
+            log.debug("시세 {}건 기록 완료", batch.size());
+            return batch.size();
+        } catch (DataAccessException e) {
+            failed.add(batch.size());
+            log.warn("시세 배치 기록 실패. 건수: {}, 오류: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private static void setPositiveDecimal(PreparedStatement ps, int index, double value) throws SQLException {
+        if (value > 0) {
+            ps.setBigDecimal(index, decimal(value));
+        } else {
+            ps.setNull(index, Types.DECIMAL);
+        }
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 대기 중인 시세와 조회 시각
+     */
+    private record PendingQuote(StockPriceDto quote, LocalDateTime fetchedAt) {
+    }
+}
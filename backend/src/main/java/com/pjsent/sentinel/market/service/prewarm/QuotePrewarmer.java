@@ -0,0 +1,276 @@
+package com.pjsent.sentinel.market.service.prewarm;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.market.dto.QuotePrewarmStatusDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.market.service.cache.CachedQuote;
+import com.pjsent.sentinel.market.service.cache.QuoteCache;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriority;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriorityContext;
+import com.pjsent.sentinel.market.service.ratelimit.TokenBucket;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
+import com.pjsent.sentinel.portfolio.repository.SymbolHoldingSummary;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보유 종목 기반 시세 사전 갱신기
+ * portfolio_holdings에서 심볼별 보유 사용자 수와 평가액 합계를 집계해 핫 심볼 목록을 만들고,
+ * 캐시가 다음 주기 전에 신선하지 않게 될 심볼을 우선순위 순으로 미리 갱신합니다.
+ *
+ * - 우선순위 점수 = holder-weight × (보유 사용자 수 / 최대값) + (1 - holder-weight) × (평가액 / 최대값)
+ * - 갱신은 백그라운드 우선순위로 실행되어 사용자 요청용으로 예약된 프로바이더 토큰을 쓰지 않음
+ * - 사전 갱신 자체도 분당 symbols-per-minute 예산(토큰 버킷) 안에서만 실행하고, 넘는 심볼은 다음 주기로 미룸
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuotePrewarmer {
+
+    private final PortfolioHoldingRepository holdingRepository;
+    private final QuoteCache quoteCache;
+    private final MarketDataService marketDataService;
+    private final ProviderRateLimiter rateLimiter;
+
+    @Value("${stock.market.prewarm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.market.prewarm.interval-ms:30000}")
+    private long intervalMs;
+
+    @Value("${stock.market.prewarm.hot-set-refresh-ms:300000}")
+    private long hotSetRefreshMs;
+
+    @Value("${stock.market.prewarm.max-symbols:200}")
+    private int maxSymbols;
+
+    @Value("${stock.market.prewarm.symbols-per-minute:30}")
+    private int symbolsPerMinute;
+
+    @Value("${stock.market.prewarm.holder-weight:0.5}")
+    private double holderWeight;
+
+    private TokenBucket budget;
+
+    private volatile List<HotSymbol> hotSymbols = List.of();
+    private volatile long hotSetLoadedAt;
+
+    private final ConcurrentMap<String, RefreshState> refreshStates = new ConcurrentHashMap<>();
+
+    private final LongAdder cycles = new LongAdder();
+    private final LongAdder refreshed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deferredByBudget = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        budget = new TokenBucket(Math.max(symbolsPerMinute, 1), 0, System::nanoTime);
+        if (enabled) {
+            log.info("시세 사전 갱신 설정. 주기: {}ms, 최대 심볼: {}, 분당 예산: {}", intervalMs, maxSymbols, symbolsPerMinute);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.market.prewarm.interval-ms:30000}",
+            initialDelayString = "${stock.market.prewarm.initial-delay-ms:30000}",
+            scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    void scheduledRun() {
+        if (enabled) {
+            runCycle();
+        }
+    }
+
+    /**
+     * 사전 갱신 주기 하나를 실행합니다.
+     *
+     * @return 갱신에 성공한 심볼 수
+     */
+    public int runCycle() {
+        cycles.increment();
+        long now = System.currentTimeMillis();
+        if (now - hotSetLoadedAt >= hotSetRefreshMs) {
+            reloadHotSymbols(now);
+        }
+
+        // 다음 주기 전에 신선하지 않게 될 심볼을 우선순위 순으로 선택
+        long horizon = now + intervalMs;
+        List<String> due = new ArrayList<>();
+        for (HotSymbol hot : hotSymbols) {
+            Optional<CachedQuote> cached = quoteCache.peek(hot.symbol());
+            if (cached.isEmpty() || cached.get().getFreshUntil() <= horizon) {
+                due.add(hot.symbol());
+            }
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<String> batch = new ArrayList<>(due.size());
+        for (String symbol : due) {
+            if (!budget.tryAcquire(RequestPriority.BACKGROUND, 0, 0)) {
+                break;
+            }
+            batch.add(symbol);
+        }
+        deferredByBudget.add(due.size() - batch.size());
+        if (batch.isEmpty()) {
+            log.debug("사전 갱신 예산 소진. 대기 심볼: {}", due.size());
+            return 0;
+        }
+
+        Map<String, StockPriceDto> prices;
+        try {
+            prices = RequestPriorityContext.callWith(RequestPriority.BACKGROUND,
+                    () -> marketDataService.refreshQuotes(batch));
+        } catch (RuntimeException e) {
+            log.warn("시세 사전 갱신 실패. 심볼 수: {}, 오류: {}", batch.size(), e.getMessage());
+            prices = Map.of();
+        }
+
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        for (String symbol : batch) {
+            RefreshState state = refreshStates.computeIfAbsent(symbol, key -> new RefreshState());
+            if (prices.containsKey(symbol)) {
+                state.lastRefreshedAt = refreshedAt;
+                state.lastError = null;
+                refreshed.increment();
+            } else {
+                state.lastError = "프로바이더 갱신 실패";
+                failed.increment();
+            }
+        }
+        log.debug("시세 사전 갱신. 대상: {}, 요청: {}, 성공: {}", due.size(), batch.size(), prices.size());
+        return prices.size();
+    }
+
+    /**
+     * 핫 심볼별 신선도와 예산 사용량을 반환합니다.
+     */
+    public QuotePrewarmStatusDto getStatus() {
+        long now = System.currentTimeMillis();
+        List<QuotePrewarmStatusDto.SymbolFreshness> symbols = new ArrayList<>(hotSymbols.size());
+        int freshSymbols = 0;
+        for (HotSymbol hot : hotSymbols) {
+            Optional<CachedQuote> cached = quoteCache.peek(hot.symbol());
+            boolean fresh = cached.isPresent() && cached.get().isFresh(now);
+            if (fresh) {
+                freshSymbols++;
+            }
+            RefreshState state = refreshStates.get(hot.symbol());
+            symbols.add(QuotePrewarmStatusDto.SymbolFreshness.builder()
+                    .symbol(hot.symbol())
+                    .holders(hot.holders())
+                    .marketValue(hot.marketValue())
+                    .score(hot.score())
+                    .fresh(fresh)
+                    .ageMs(cached.map(entry -> now - entry.getCachedAt()).orElse(-1L))
+                    .lastRefreshedAt(state != null ? state.lastRefreshedAt : null)
+                    .lastError(state != null ? state.lastError : null)
+                    .build());
+        }
+
+        return QuotePrewarmStatusDto.builder()
+                .enabled(enabled)
+                .hotSetLoadedAt(hotSetLoadedAt > 0
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(hotSetLoadedAt), ZoneId.systemDefault())
+                        : null)
+                .hotSymbols(symbols.size())
+                .freshSymbols(freshSymbols)
+                .cycles(cycles.sum())
+                .refreshed(refreshed.sum())
+                .failed(failed.sum())
+                .deferredByBudget(deferredByBudget.sum())
+                .budget(QuotePrewarmStatusDto.Budget.builder()
+                        .symbolsPerMinute(budget.getCapacity())
+                        .remaining(budget.availableTokens())
+                        .granted(budget.getGranted())
+                        .rejected(budget.getRejected())
+                        .build())
+                .providerQuota(rateLimiter.getStats())
+                .symbols(symbols)
+                .build();
+    }
+
+    private void reloadHotSymbols(long now) {
+        List<SymbolHoldingSummary> summaries;
+        try {
+            summaries = holdingRepository.summarizeBySymbol();
+        } catch (DataAccessException e) {
+            // 이전 목록을 유지하고 다음 주기에 다시 시도
+            log.warn("보유 종목 집계 실패. 오류: {}", e.getMessage());
+            return;
+        }
+
+        long maxHolders = 1;
+        double maxMarketValue = 0;
+        for (SymbolHoldingSummary summary : summaries) {
+            maxHolders = Math.max(maxHolders, holders(summary));
+            maxMarketValue = Math.max(maxMarketValue, marketValue(summary));
+        }
+
+        List<HotSymbol> ranked = new ArrayList<>(summaries.size());
+        for (SymbolHoldingSummary summary : summaries) {
+            String symbol = SymbolRegistry.tryNormalize(summary.getSymbol()).orElse(null);
+            if (symbol == null) {
+                continue;
+            }
+            long holders = holders(summary);
+            double marketValue = marketValue(summary);
+            double score = holderWeight * holders / maxHolders
+                    + (1 - holderWeight) * (maxMarketValue > 0 ? marketValue / maxMarketValue : 0);
+            ranked.add(new HotSymbol(symbol, holders, marketValue, score));
+        }
+        ranked.sort(Comparator.comparingDouble(HotSymbol::score).reversed());
+
+        List<HotSymbol> selected = List.copyOf(ranked.subList(0, Math.min(ranked.size(), maxSymbols)));
+        hotSymbols = selected;
+        hotSetLoadedAt = now;
+        refreshStates.keySet().retainAll(selected.stream().map(HotSymbol::symbol).toList());
+        log.info("핫 심볼 목록 갱신. 보유 심볼: {}, 사전 갱신 대상: {}", ranked.size(), selected.size());
+    }
+
+    private static long holders(SymbolHoldingSummary summary) {
+        return summary.getHolderCount() != null ? summary.getHolderCount() : 0;
+    }
+
+    private static double marketValue(SymbolHoldingSummary summary) {
+        BigDecimal value = summary.getMarketValue();
+        return value != null ? value.doubleValue() : 0;
+    }
+
+    /**
+     * 핫 심볼과 우선순위 점수
+     */
+    private record HotSymbol(String symbol, long holders, double marketValue, double score) {
+    }
+
+    /**
+     * 심볼별 마지막 사전 갱신 결과
+     */
+    private static final class RefreshState {
+        private volatile LocalDateTime lastRefreshedAt;
+        private volatile String lastError;
+    }
+}
@@ -1,16 +1,29 @@
 package com.pjsent.sentinel.market.service.provider;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.provider.decoder.AlphaVantageQuoteDecoder;
+import com.pjsent.sentinel.market.service.provider.decoder.AlphaVantageTimeSeriesDecoder;
+import com.pjsent.sentinel.market.service.provider.decoder.DecodeResult;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +33,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AlphaVantageProvider implements MarketDataProvider {
     
+    @Qualifier("alphaVantageRestTemplate")
     private final RestTemplate restTemplate;
+    private final ProviderRateLimiter rateLimiter;
     
     @Value("${stock.market.alphavantage.api-key}")
     private String apiKey;
@@ -31,8 +46,29 @@ public class AlphaVantageProvider implements MarketDataProvider {
     @Value("${stock.market.alphavantage.enabled:true}")
     private boolean enabled;
     
+    @Value("${stock.market.alphavantage.rate-limit:5}")
+    private int rateLimit;
+    
+    // REALTIME_BULK_QUOTES는 프리미엄 키에서만 사용 가능
+    @Value("${stock.market.alphavantage.bulk-quotes-enabled:false}")
+    private boolean bulkQuotesEnabled;
+    
     private static final String QUOTE_FUNCTION = "GLOBAL_QUOTE";
-
+    private static final String BULK_QUOTE_FUNCTION = "REALTIME_BULK_QUOTES";
+    private static final String DAILY_FUNCTION = "TIME_SERIES_DAILY";
+    private static final String INTRADAY_FUNCTION = "TIME_SERIES_INTRADAY";
+    private static final String GLOBAL_QUOTE_PAYLOAD = "Global Quote";
+    private static final String BULK_QUOTE_PAYLOAD = "data";
+    private static final String TIME_SERIES_PAYLOAD = "Time Series";
+    private static final int MAX_BULK_SYMBOLS = 100;
+    // outputsize=compact 응답의 거래일 수
+    private static final int COMPACT_TRADING_DAYS = 100;
+    // compact 응답이 확실히 포함하는 달력 일수 (주 5거래일 기준)
+    public static final int COMPACT_CALENDAR_DAYS = COMPACT_TRADING_DAYS * 7 / 5;
+    private static final Set<String> INTRADAY_INTERVALS = Set.of("1min", "5min", "15min", "30min", "60min");
+    
+    private final AlphaVantageQuoteDecoder decoder = new AlphaVantageQuoteDecoder();
+    private final AlphaVantageTimeSeriesDecoder timeSeriesDecoder = new AlphaVantageTimeSeriesDecoder();
     
     @Override
     public StockPriceDto getMarketData(String symbol) {
@@ -40,27 +76,155 @@ public class AlphaVantageProvider implements MarketDataProvider {
             throw new IllegalStateException("AlphaVantage API가 사용 불가능합니다.");
         }
         
+        rateLimiter.acquire(getProviderName(), rateLimit);
+        
         log.info("AlphaVantage에서 {} 심볼의 시장 데이터를 가져오는 중", symbol);
         
         try {
-            String url = buildQuoteUrl(symbol);
-            log.debug("AlphaVantage API 호출 URL: {}", url);
+            URI uri = buildQuoteUri(symbol);
+            log.debug("AlphaVantage API 호출. 함수: {}, 심볼: {}", QUOTE_FUNCTION, symbol);
             
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+            DecodeResult<StockPriceDto> result = restTemplate.execute(uri, HttpMethod.GET, this::acceptJson,
+                    response -> decoder.decodeGlobalQuote(response.getBody(), symbol, getProviderName()));
             
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseQuoteResponse(symbol, response.getBody());
-            } else {
-                log.warn("AlphaVantage API 응답이 비정상입니다. 상태코드: {}", response.getStatusCode());
-                throw new RuntimeException("AlphaVantage API 응답 오류");
+            if (result != null && result.getKind() == DecodeResult.Kind.UNKNOWN_SYMBOL) {
+                log.info("AlphaVantage에 시세가 없는 심볼입니다. 심볼: {}", symbol);
+                throw new UnknownSymbolException(symbol, result.getMessage());
             }
+            StockPriceDto quote = unwrap(result, GLOBAL_QUOTE_PAYLOAD);
+            log.debug("AlphaVantage 데이터 파싱 완료. 심볼: {}, 가격: {}", symbol, quote.getPrice());
+            return quote;
             
+        } catch (RateLimitExceededException | UnknownSymbolException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("AlphaVantage API 호출 중 오류 발생. 심볼: {}, 오류: {}", symbol, e.getMessage(), e);
+            log.error("AlphaVantage API 호출 중 오류 발생. 심볼: {}, 오류: {}", symbol, e.getMessage());
             throw new RuntimeException("AlphaVantage API 호출 실패: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * REALTIME_BULK_QUOTES로 최대 100개 심볼을 한 번의 호출(토큰 1개)로 조회합니다.
+     * 일괄 조회가 비활성화되어 있으면 심볼별 GLOBAL_QUOTE 호출로 대체합니다.
+     */
+    @Override
+    public QuoteBatchResult getMarketDataBatch(Collection<String> symbols) {
+        if (!bulkQuotesEnabled || symbols.size() <= 1) {
+            return MarketDataProvider.super.getMarketDataBatch(symbols);
+        }
+        if (!isAvailable()) {
+            throw new IllegalStateException("AlphaVantage API가 사용 불가능합니다.");
+        }
+        if (symbols.size() > MAX_BULK_SYMBOLS) {
+            throw new IllegalArgumentException("일괄 조회는 최대 " + MAX_BULK_SYMBOLS + "개 심볼까지 가능합니다.");
+        }
+        
+        rateLimiter.acquire(getProviderName(), rateLimit);
+        
+        log.info("AlphaVantage에서 {}개 심볼의 시장 데이터를 일괄 조회하는 중", symbols.size());
+        
+        // 응답 심볼을 요청한 심볼 표기로 되돌리기 위한 매핑
+        Map<String, String> requestedByUpperCase = new LinkedHashMap<>();
+        symbols.forEach(symbol -> requestedByUpperCase.put(symbol.toUpperCase(), symbol));
+        
+        try {
+            DecodeResult<Map<String, StockPriceDto>> result = restTemplate.execute(buildBulkQuoteUri(symbols),
+                    HttpMethod.GET, this::acceptJson,
+                    response -> decoder.decodeBulkQuotes(response.getBody(), requestedByUpperCase, getProviderName()));
+            
+            Map<String, StockPriceDto> quotes = unwrap(result, BULK_QUOTE_PAYLOAD);
+            log.debug("AlphaVantage 일괄 조회 파싱 완료. 요청: {}, 응답: {}", symbols.size(), quotes.size());
+            return QuoteBatchResult.of(quotes);
+            
+        } catch (RateLimitExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("AlphaVantage 일괄 조회 중 오류 발생. 심볼 수: {}, 오류: {}", symbols.size(), e.getMessage());
+            throw new RuntimeException("AlphaVantage 일괄 조회 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public boolean supportsBatchQuotes() {
+        return bulkQuotesEnabled;
+    }
+    
+    @Override
+    public int getMaxBatchSize() {
+        return bulkQuotesEnabled ? MAX_BULK_SYMBOLS : 1;
+    }
+    
+    /**
+     * TIME_SERIES_DAILY로 최근 days일의 일봉을 조회합니다. (오래된 순)
+     * 최근 100거래일 이내면 compact, 그보다 길면 full 응답을 요청합니다.
+     */
+    @Override
+    public List<StockPriceDto> getHistoricalData(String symbol, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상이어야 합니다.");
+        }
+        String outputSize = days <= COMPACT_CALENDAR_DAYS ? "compact" : "full";
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("function", DAILY_FUNCTION)
+                .queryParam("symbol", symbol)
+                .queryParam("outputsize", outputSize)
+                .queryParam("apikey", apiKey)
+                .encode()
+                .build()
+                .toUri();
+        
+        LocalDate since = LocalDate.now().minusDays(days);
+        return fetchTimeSeries(uri, symbol, DAILY_FUNCTION).stream()
+                .filter(bar -> !LocalDate.parse(bar.getLastTradingDay()).isBefore(since))
+                .toList();
+    }
+    
+    /**
+     * TIME_SERIES_INTRADAY로 최근 분봉을 조회합니다. (오래된 순)
+     * 
+     * @param interval 1min, 5min, 15min, 30min, 60min
+     */
+    @Override
+    public List<StockPriceDto> getTimeSeriesData(String symbol, String interval) {
+        if (!INTRADAY_INTERVALS.contains(interval)) {
+            throw new IllegalArgumentException("지원하지 않는 분봉 간격입니다: " + interval);
+        }
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("function", INTRADAY_FUNCTION)
+                .queryParam("symbol", symbol)
+                .queryParam("interval", interval)
+                .queryParam("apikey", apiKey)
+                .encode()
+                .build()
+                .toUri();
+        return fetchTimeSeries(uri, symbol, INTRADAY_FUNCTION);
+    }
+    
+    private List<StockPriceDto> fetchTimeSeries(URI uri, String symbol, String function) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("AlphaVantage API가 사용 불가능합니다.");
+        }
+        
+        rateLimiter.acquire(getProviderName(), rateLimit);
+        
+        log.info("AlphaVantage에서 {} 심볼의 시계열 데이터를 가져오는 중. 함수: {}", symbol, function);
+        
+        try {
+            DecodeResult<List<StockPriceDto>> result = restTemplate.execute(uri, HttpMethod.GET, this::acceptJson,
+                    response -> timeSeriesDecoder.decode(response.getBody(), symbol, getProviderName()));
+            
+            List<StockPriceDto> bars = unwrap(result, TIME_SERIES_PAYLOAD);
+            log.debug("AlphaVantage 시계열 파싱 완료. 심볼: {}, 봉 수: {}", symbol, bars.size());
+            return bars;
+            
+        } catch (RateLimitExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("AlphaVantage 시계열 호출 중 오류 발생. 심볼: {}, 오류: {}", symbol, e.getMessage());
+            throw new RuntimeException("AlphaVantage 시계열 호출 실패: " + e.getMessage(), e);
+        }
+    }
+    
     @Override
     public boolean isAvailable() {
         return enabled && apiKey != null && !apiKey.trim().isEmpty();
@@ -81,72 +245,52 @@ public class AlphaVantageProvider implements MarketDataProvider {
         return true;
     }
     
-    private String buildQuoteUrl(String symbol) {
-        return String.format("%s?function=%s&symbol=%s&apikey=%s", 
-                           baseUrl, QUOTE_FUNCTION, symbol, apiKey);
+    private URI buildQuoteUri(String symbol) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("function", QUOTE_FUNCTION)
+                .queryParam("symbol", symbol)
+                .queryParam("apikey", apiKey)
+                .encode()
+                .build()
+                .toUri();
     }
     
-    @SuppressWarnings("unchecked")
-    private StockPriceDto parseQuoteResponse(String symbol, Map<String, Object> response) {
-        try {
-            Map<String, Object> globalQuote = (Map<String, Object>) response.get("Global Quote");
-            
-            if (globalQuote == null || globalQuote.isEmpty()) {
-                log.warn("AlphaVantage 응답에서 Global Quote 데이터를 찾을 수 없습니다. 심볼: {}", symbol);
-                throw new RuntimeException("유효하지 않은 응답 데이터");
-            }
-            
-            // AlphaVantage 응답 필드명 (문자열로 접근)
-            String priceStr = (String) globalQuote.get("05. price");
-            String openStr = (String) globalQuote.get("02. open");
-            String highStr = (String) globalQuote.get("03. high");
-            String lowStr = (String) globalQuote.get("04. low");
-            String closeStr = (String) globalQuote.get("08. previous close");
-            String changeStr = (String) globalQuote.get("09. change");
-            String changePercentStr = (String) globalQuote.get("10. change percent");
-            String lastTradingDayStr = (String) globalQuote.get("07. latest trading day");
-            
-            // 문자열을 숫자로 변환
-            double price = parseDouble(priceStr);
-            double open = parseDouble(openStr);
-            double high = parseDouble(highStr);
-            double low = parseDouble(lowStr);
-            double close = parseDouble(closeStr);
-            double change = parseDouble(changeStr);
-            double changePercent = parseDouble(changePercentStr.replace("%", ""));
-            
-            log.debug("AlphaVantage 데이터 파싱 완료. 심볼: {}, 가격: {}", symbol, price);
-            
-            return StockPriceDto.builder()
-                    .symbol(symbol)
-                    .price(price)
-                    .open(open)
-                    .high(high)
-                    .low(low)
-                    .close(close)
-                    .change(change)
-                    .changePercent(changePercent)
-                    .lastTradingDay(lastTradingDayStr)
-                    .timeStamp(LocalDateTime.now())
-                    .provider(getProviderName())
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("AlphaVantage 응답 파싱 중 오류 발생. 심볼: {}, 응답: {}, 오류: {}", 
-                     symbol, response, e.getMessage(), e);
-            throw new RuntimeException("응답 데이터 파싱 실패: " + e.getMessage(), e);
-        }
+    private URI buildBulkQuoteUri(Collection<String> symbols) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .queryParam("function", BULK_QUOTE_FUNCTION)
+                .queryParam("symbol", String.join(",", symbols))
+                .queryParam("apikey", apiKey)
+                .encode()
+                .build()
+                .toUri();
     }
     
-    private double parseDouble(String value) {
-        if (value == null || value.trim().isEmpty() || "N/A".equals(value)) {
-            return 0.0;
+    private void acceptJson(ClientHttpRequest request) {
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+    }
+    
+    /**
+     * 디코딩 결과를 꺼냅니다.
+     * AlphaVantage는 쿼터 초과 시에도 200 OK와 함께 "Note" 또는 "Information" 메시지를 반환합니다.
+     * 이 경우 토큰 버킷을 비워 충전될 때까지 추가 호출 없이 다음 프로바이더로 넘어가도록 합니다.
+     */
+    private <T> T unwrap(DecodeResult<T> result, String payloadName) {
+        if (result == null) {
+            throw new RuntimeException("AlphaVantage API 응답 오류");
         }
-        try {
-            return Double.parseDouble(value.trim());
-        } catch (NumberFormatException e) {
-            log.warn("숫자 변환 실패: {}", value);
-            return 0.0;
+        switch (result.getKind()) {
+            case DATA:
+                return result.getData();
+            case THROTTLED:
+                log.warn("AlphaVantage 호출 한도 초과 응답 수신: {}", result.getMessage());
+                rateLimiter.markExhausted(getProviderName());
+                throw new RateLimitExceededException(getProviderName(), 
+                        "AlphaVantage 호출 한도 초과: " + result.getMessage());
+            case ERROR:
+                throw new RuntimeException("AlphaVantage 오류 응답: " + result.getMessage());
+            default:
+                log.warn("AlphaVantage 응답에서 {} 데이터를 찾을 수 없습니다.", payloadName);
+                throw new RuntimeException("응답 데이터 파싱 실패: 유효하지 않은 응답 데이터");
         }
     }
 }
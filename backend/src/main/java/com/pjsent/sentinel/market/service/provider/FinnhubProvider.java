@@ -1,15 +1,30 @@
 package com.pjsent.sentinel.market.service.provider;
 
-import java.time.LocalDateTime;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.provider.decoder.DecodeResult;
+import com.pjsent.sentinel.market.service.provider.decoder.FinnhubCandleDecoder;
+import com.pjsent.sentinel.market.service.provider.decoder.FinnhubQuoteDecoder;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FinnhubProvider implements MarketDataProvider {
     
+    @Qualifier("finnhubRestTemplate")
     private final RestTemplate restTemplate;
+    private final ProviderRateLimiter rateLimiter;
     
     @Value("${stock.market.finnhub.api-key}")
     private String apiKey;
@@ -30,33 +47,148 @@ public class FinnhubProvider implements MarketDataProvider {
     @Value("${stock.market.finnhub.enabled:true}")
     private boolean enabled;
     
+    @Value("${stock.market.finnhub.rate-limit:60}")
+    private int rateLimit;
+    
+    // 일괄 조회 시 executor 작업 하나가 순차로 호출할 심볼 수 (Finnhub는 다중 심볼 시세 API가 없음)
+    @Value("${stock.market.finnhub.batch-chunk-size:5}")
+    private int batchChunkSize;
+    
+    // 분봉 조회 시 요청할 기간 (주말/휴장일 포함)
+    private static final long INTRADAY_LOOKBACK_DAYS = 5;
+    private static final Map<String, String> INTRADAY_RESOLUTIONS = Map.of(
+            "1min", "1", "5min", "5", "15min", "15", "30min", "30", "60min", "60");
+    
+    private final FinnhubQuoteDecoder decoder = new FinnhubQuoteDecoder();
+    private final FinnhubCandleDecoder candleDecoder = new FinnhubCandleDecoder();
+    
     @Override
     public StockPriceDto getMarketData(String symbol) {
         if (!isAvailable()) {
             throw new IllegalStateException("Finnhub API가 사용 불가능합니다.");
         }
         
+        rateLimiter.acquire(getProviderName(), rateLimit);
+        
         log.info("Finnhub에서 {} 심볼의 시장 데이터를 가져오는 중", symbol);
         
         try {
-            String url = buildQuoteUrl(symbol);
-            log.debug("Finnhub API 호출 URL: {}", url);
+            URI uri = buildQuoteUri(symbol);
+            log.debug("Finnhub API 호출. 심볼: {}", symbol);
             
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+            DecodeResult<StockPriceDto> result = restTemplate.execute(uri, HttpMethod.GET, this::acceptJson,
+                    response -> decoder.decode(response.getBody(), symbol, getProviderName()));
             
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseQuoteResponse(symbol, response.getBody());
-            } else {
-                log.warn("Finnhub API 응답이 비정상입니다. 상태코드: {}", response.getStatusCode());
-                throw new RuntimeException("Finnhub API 응답 오류");
-            }
+            StockPriceDto quote = unwrap(symbol, result);
+            log.debug("Finnhub 데이터 파싱 완료. 심볼: {}, 가격: {}", symbol, quote.getPrice());
+            return quote;
             
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.warn("Finnhub 호출 한도 초과 응답 수신. 심볼: {}", symbol);
+            rateLimiter.markExhausted(getProviderName());
+            throw new RateLimitExceededException(getProviderName(), "Finnhub 호출 한도 초과");
+        } catch (UnknownSymbolException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Finnhub API 호출 중 오류 발생. 심볼: {}, 오류: {}", symbol, e.getMessage(), e);
+            log.error("Finnhub API 호출 중 오류 발생. 심볼: {}, 오류: {}", symbol, e.getMessage());
             throw new RuntimeException("Finnhub API 호출 실패: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Finnhub에는 다중 심볼 시세 API가 없으므로(supportsBatchQuotes = false) 일괄 조회는 심볼별 /quote 호출로 이루어집니다.
+     * 청크 크기는 executor 작업 하나가 순차로 호출하는 심볼 수일 뿐이며, 청크끼리는 병렬로 실행되므로 동시 연결 수를 제한하지 않습니다.
+     * 동시 연결 수는 Finnhub 커넥션 풀의 최대 커넥션 수로 제한됩니다.
+     */
+    @Override
+    public int getMaxBatchSize() {
+        return Math.max(1, batchChunkSize);
+    }
+    
+    /**
+     * /stock/candle(resolution=D)로 최근 days일의 일봉을 조회합니다. (오래된 순)
+     */
+    @Override
+    public List<StockPriceDto> getHistoricalData(String symbol, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상이어야 합니다.");
+        }
+        long to = Instant.now().getEpochSecond();
+        return fetchCandles(symbol, "D", to - TimeUnit.DAYS.toSeconds(days), to);
+    }
+    
+    /**
+     * /stock/candle(resolution=D)로 지정한 기간의 일봉만 조회합니다. (양 끝 포함, 오래된 순)
+     */
+    @Override
+    public List<StockPriceDto> getHistoricalData(String symbol, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+        return fetchCandles(symbol, "D", from.atStartOfDay(ZoneOffset.UTC).toEpochSecond(),
+                to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond() - 1);
+    }
+    
+    /**
+     * /stock/candle로 최근 분봉을 조회합니다. (오래된 순)
+     * 주말/휴장일에도 마지막 거래일의 분봉이 포함되도록 최근 INTRADAY_LOOKBACK_DAYS일을 요청합니다.
+     * 
+     * @param interval 1min, 5min, 15min, 30min, 60min
+     */
+    @Override
+    public List<StockPriceDto> getTimeSeriesData(String symbol, String interval) {
+        String resolution = INTRADAY_RESOLUTIONS.get(interval);
+        if (resolution == null) {
+            throw new IllegalArgumentException("지원하지 않는 분봉 간격입니다: " + interval);
+        }
+        long to = Instant.now().getEpochSecond();
+        return fetchCandles(symbol, resolution, to - TimeUnit.DAYS.toSeconds(INTRADAY_LOOKBACK_DAYS), to);
+    }
+    
+    private List<StockPriceDto> fetchCandles(String symbol, String resolution, long from, long to) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Finnhub API가 사용 불가능합니다.");
+        }
+        
+        rateLimiter.acquire(getProviderName(), rateLimit);
+        
+        log.info("Finnhub에서 {} 심볼의 캔들 데이터를 가져오는 중. 간격: {}", symbol, resolution);
+        
+        try {
+            URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+                    .path("/stock/candle")
+                    .queryParam("symbol", symbol)
+                    .queryParam("resolution", resolution)
+                    .queryParam("from", from)
+                    .queryParam("to", to)
+                    .queryParam("token", apiKey)
+                    .encode()
+                    .build()
+                    .toUri();
+            
+            DecodeResult<List<StockPriceDto>> result = restTemplate.execute(uri, HttpMethod.GET, this::acceptJson,
+                    response -> candleDecoder.decode(response.getBody(), symbol, getProviderName()));
+            
+            if (result != null && result.getKind() == DecodeResult.Kind.EMPTY) {
+                // "s":"no_data" - 기간 안에 거래가 없음
+                return List.of();
+            }
+            List<StockPriceDto> bars = unwrap(symbol, result);
+            log.debug("Finnhub 캔들 파싱 완료. 심볼: {}, 봉 수: {}", symbol, bars.size());
+            return bars;
+            
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.warn("Finnhub 호출 한도 초과 응답 수신. 심볼: {}", symbol);
+            rateLimiter.markExhausted(getProviderName());
+            throw new RateLimitExceededException(getProviderName(), "Finnhub 호출 한도 초과");
+        } catch (UnknownSymbolException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Finnhub 캔들 호출 중 오류 발생. 심볼: {}, 오류: {}", symbol, e.getMessage());
+            throw new RuntimeException("Finnhub 캔들 호출 실패: " + e.getMessage(), e);
+        }
+    }
+    
     @Override
     public boolean isAvailable() {
         return enabled && apiKey != null && !apiKey.trim().isEmpty();
@@ -77,92 +209,35 @@ public class FinnhubProvider implements MarketDataProvider {
         return true;
     }
     
-    private String buildQuoteUrl(String symbol) {
-        return String.format("%s/quote?symbol=%s&token=%s", 
-                           baseUrl, symbol, apiKey);
+    private URI buildQuoteUri(String symbol) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/quote")
+                .queryParam("symbol", symbol)
+                .queryParam("token", apiKey)
+                .encode()
+                .build()
+                .toUri();
     }
     
-
-    private StockPriceDto parseQuoteResponse(String symbol, Map<String, Object> response) {
-        try {
-            // Finnhub 응답 필드 확인
-            Object currentPriceObj = response.get("c");
-            Object openPriceObj = response.get("o");
-            Object highPriceObj = response.get("h");
-            Object lowPriceObj = response.get("l");
-            Object previousCloseObj = response.get("pc");
-            Object timestampObj = response.get("t");
-            
-            if (currentPriceObj == null) {
-                log.warn("Finnhub 응답에서 현재 가격 데이터를 찾을 수 없습니다. 심볼: {}", symbol);
-                throw new RuntimeException("유효하지 않은 응답 데이터");
-            }
-            
-            // 숫자 변환
-            double currentPrice = parseDouble(currentPriceObj);
-            double openPrice = parseDouble(openPriceObj);
-            double highPrice = parseDouble(highPriceObj);
-            double lowPrice = parseDouble(lowPriceObj);
-            double previousClose = parseDouble(previousCloseObj);
-            
-            // 변화량 계산
-            double change = currentPrice - previousClose;
-            double changePercent = previousClose != 0 ? (change / previousClose) * 100 : 0.0;
-            
-            // 타임스탬프 처리 (Unix timestamp)
-            LocalDateTime timestamp = LocalDateTime.now();
-            if (timestampObj instanceof Number) {
-                long unixTimestamp = ((Number) timestampObj).longValue();
-                timestamp = LocalDateTime.ofEpochSecond(unixTimestamp, 0, 
-                    java.time.ZoneOffset.UTC);
-            }
-            
-            log.debug("Finnhub 데이터 파싱 완료. 심볼: {}, 가격: {}", symbol, currentPrice);
-            
-            return StockPriceDto.builder()
-                    .symbol(symbol)
-                    .price(currentPrice)
-                    .open(openPrice)
-                    .high(highPrice)
-                    .low(lowPrice)
-                    .close(previousClose)
-                    .change(change)
-                    .changePercent(changePercent)
-                    .lastTradingDay(timestamp.toLocalDate().toString())
-                    .timeStamp(timestamp)
-                    .provider(getProviderName())
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("Finnhub 응답 파싱 중 오류 발생. 심볼: {}, 응답: {}, 오류: {}", 
-                     symbol, response, e.getMessage(), e);
-            throw new RuntimeException("응답 데이터 파싱 실패: " + e.getMessage(), e);
-        }
+    private void acceptJson(ClientHttpRequest request) {
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
     }
     
-    private double parseDouble(Object value) {
-        if (value == null) {
-            return 0.0;
+    private <T> T unwrap(String symbol, DecodeResult<T> result) {
+        if (result == null) {
+            throw new RuntimeException("Finnhub API 응답 오류");
         }
-        
-        if (value instanceof Number) {
-            return ((Number) value).doubleValue();
-        }
-        
-        if (value instanceof String) {
-            String strValue = ((String) value).trim();
-            if (strValue.isEmpty() || "N/A".equals(strValue)) {
-                return 0.0;
-            }
-            try {
-                return Double.parseDouble(strValue);
-            } catch (NumberFormatException e) {
-                log.warn("숫자 변환 실패: {}", strValue);
-                return 0.0;
-            }
+        switch (result.getKind()) {
+            case DATA:
+                return result.getData();
+            case ERROR:
+                throw new RuntimeException("Finnhub 오류 응답: " + result.getMessage());
+            case UNKNOWN_SYMBOL:
+                log.info("Finnhub에 시세가 없는 심볼입니다. 심볼: {}", symbol);
+                throw new UnknownSymbolException(symbol, result.getMessage());
+            default:
+                log.warn("Finnhub 응답에서 데이터를 찾을 수 없습니다. 심볼: {}", symbol);
+                throw new RuntimeException("응답 데이터 파싱 실패: 유효하지 않은 응답 데이터");
         }
-        
-        log.warn("지원하지 않는 데이터 타입: {}", value.getClass().getSimpleName());
-        return 0.0;
     }
 }
@@ -1,4 +1,7 @@
 package com.pjsent.sentinel.market.service.provider;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import com.pjsent.sentinel.market.dto.StockPriceDto;
 
@@ -10,6 +13,23 @@ public interface MarketDataProvider {
     // api 제공해주는 곳의 이름
     String getProviderName();
 
+    // 여러 심볼 시세 일괄 조회 (기본값: 심볼별 개별 호출)
+    // 조회에 성공한 심볼과 모르는 심볼로 응답한 심볼을 구분해 반환하며, 호출 한도를 넘으면 남은 심볼은 건너뜁니다.
+    default QuoteBatchResult getMarketDataBatch(Collection<String> symbols) {
+        return QuoteBatchResult.fetchEach(getProviderName(), symbols, this::getMarketData);
+    }
+
+    // 다중 심볼 시세 API 지원 여부
+    // false면 호출자는 getMarketDataBatch 대신 심볼마다 getMarketData를 호출해 호출별 성공/실패를 기록합니다.
+    default boolean supportsBatchQuotes() {
+        return false;
+    }
+
+    // 한 번의 getMarketDataBatch 호출에 넘길 수 있는 최대 심볼 수
+    default int getMaxBatchSize() {
+        return 1;
+    }
+
      // Time Series 메서드 (기본값 제공)
     default List<StockPriceDto> getTimeSeriesData(String symbol, String interval) {
         throw new UnsupportedOperationException("Time Series 데이터를 지원하지 않습니다.");
@@ -18,6 +38,16 @@ public interface MarketDataProvider {
     default List<StockPriceDto> getHistoricalData(String symbol, int days) {
         throw new UnsupportedOperationException("Historical 데이터를 지원하지 않습니다.");
     }
+
+    // 기간을 지정한 일봉 조회 (양 끝 포함)
+    // 기본값: from부터 오늘까지 조회한 뒤 to 이후의 봉을 제외 (기간 지정 API가 없는 프로바이더용)
+    default List<StockPriceDto> getHistoricalData(String symbol, LocalDate from, LocalDate to) {
+        int days = (int) Math.max(ChronoUnit.DAYS.between(from, LocalDate.now()), 1);
+        return getHistoricalData(symbol, days).stream()
+                .filter(bar -> bar.getLastTradingDay() != null
+                        && !LocalDate.parse(bar.getLastTradingDay()).isAfter(to))
+                .toList();
+    }
       
     // 지원 여부 확인
     default boolean supportsTimeSeries() {
@@ -28,4 +58,4 @@ public interface MarketDataProvider {
         return false;
     }
 
-} 
+}
@@ -0,0 +1,94 @@
+package com.pjsent.sentinel.market.service.provider;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 일괄 조회 결과
+ * 조회에 성공한 시세와 함께 프로바이더가 모른다고 응답한 심볼을 구분해 담습니다.
+ * 호출자는 모른다는 응답을 프로바이더별로 모아 네거티브 캐시 기록 여부를 판단합니다.
+ * 어느 쪽에도 없는 심볼은 한도 초과나 장애로 응답을 받지 못한 심볼입니다.
+ */
+@Slf4j
+public final class QuoteBatchResult {
+
+    private final Map<String, StockPriceDto> quotes = new LinkedHashMap<>();
+    private final Set<String> unknownSymbols = new LinkedHashSet<>();
+
+    public static QuoteBatchResult empty() {
+        return new QuoteBatchResult();
+    }
+
+    /**
+     * 심볼마다 단건 조회(call)를 순차로 호출해 결과를 모읍니다. 다중 심볼 시세 API가 없는 프로바이더용입니다.
+     * 호출 한도를 넘거나 서킷이 열리면 남은 심볼은 건너뛰고, 그 밖의 실패는 심볼별로 로그를 남긴 뒤 다음 심볼로 넘어갑니다.
+     *
+     * @param providerName 로그에 남길 프로바이더 이름
+     * @param symbols 조회할 심볼
+     * @param call 심볼 하나의 시세 조회
+     */
+    public static QuoteBatchResult fetchEach(String providerName, Collection<String> symbols,
+                                             Function<String, StockPriceDto> call) {
+        QuoteBatchResult result = new QuoteBatchResult();
+        for (String symbol : symbols) {
+            try {
+                result.addQuote(symbol, call.apply(symbol));
+            } catch (RateLimitExceededException | CallNotPermittedException e) {
+                log.info("프로바이더 {} 호출 불가로 남은 심볼을 건너뜀. 심볼: {}, 사유: {}",
+                        providerName, symbol, e.getMessage());
+                break;
+            } catch (UnknownSymbolException e) {
+                result.addUnknown(symbol);
+            } catch (Exception e) {
+                // 실패한 심볼은 결과에서 제외하고 호출자가 다음 프로바이더로 넘김
+                log.warn("프로바이더 {} 시세 조회 실패. 심볼: {}, 오류: {}", providerName, symbol, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    public static QuoteBatchResult of(Map<String, StockPriceDto> quotes) {
+        QuoteBatchResult result = new QuoteBatchResult();
+        quotes.forEach(result::addQuote);
+        return result;
+    }
+
+    public void addQuote(String symbol, StockPriceDto quote) {
+        quotes.put(symbol, quote);
+        unknownSymbols.remove(symbol);
+    }
+
+    public void addUnknown(String symbol) {
+        if (!quotes.containsKey(symbol)) {
+            unknownSymbols.add(symbol);
+        }
+    }
+
+    /**
+     * 다른 청크의 결과를 합칩니다.
+     */
+    public void merge(QuoteBatchResult other) {
+        other.quotes.forEach(this::addQuote);
+        other.unknownSymbols.forEach(this::addUnknown);
+    }
+
+    public Map<String, StockPriceDto> getQuotes() {
+        return Collections.unmodifiableMap(quotes);
+    }
+
+    public Set<String> getUnknownSymbols() {
+        return Collections.unmodifiableSet(unknownSymbols);
+    }
+}
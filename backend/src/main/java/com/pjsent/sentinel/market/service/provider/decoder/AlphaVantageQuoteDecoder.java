@@ -0,0 +1,208 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+/**
+ * AlphaVantage 시세 응답 스트리밍 디코더
+ * 응답 본문을 Map으로 만들지 않고 토큰 단위로 읽어 StockPriceDto로 바로 변환합니다.
+ * 필요 없는 필드(거래량 등)는 읽지 않고 건너뜁니다.
+ *
+ * AlphaVantage는 쿼터 초과 시에도 200 OK와 함께 "Note" 또는 "Information"만 담긴 본문을 반환하므로
+ * 이를 THROTTLED 결과로 구분합니다. 빈 Global Quote는 모르는 심볼(UNKNOWN_SYMBOL)로 구분합니다.
+ */
+public class AlphaVantageQuoteDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String GLOBAL_QUOTE = "Global Quote";
+    private static final String BULK_DATA = "data";
+
+    /**
+     * GLOBAL_QUOTE 응답을 디코딩합니다.
+     *
+     * @param body 응답 본문
+     * @param symbol 요청한 심볼
+     * @param providerName 결과에 기록할 프로바이더 이름
+     */
+    public DecodeResult<StockPriceDto> decodeGlobalQuote(InputStream body, String symbol, String providerName)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DecodeResult.error("JSON 객체가 아닌 응답");
+            }
+
+            StockPriceDto quote = null;
+            boolean payloadPresent = false;
+            String notice = null;
+            String error = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case GLOBAL_QUOTE -> {
+                        payloadPresent = true;
+                        if (value == JsonToken.START_OBJECT) {
+                            quote = readGlobalQuote(parser, symbol, providerName);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "Note", "Information" -> notice = readMessage(parser);
+                    case "Error Message" -> error = readMessage(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (notice != null && !payloadPresent) {
+                return DecodeResult.throttled(notice);
+            }
+            if (error != null) {
+                return DecodeResult.error(error);
+            }
+            if (quote != null) {
+                return DecodeResult.data(quote);
+            }
+            // 모르는 심볼이면 {"Global Quote": {}}처럼 빈 객체를 반환함
+            return payloadPresent ? DecodeResult.unknownSymbol("AlphaVantage에 시세가 없는 심볼입니다: " + symbol)
+                    : DecodeResult.empty();
+        }
+    }
+
+    /**
+     * REALTIME_BULK_QUOTES 응답을 디코딩합니다.
+     *
+     * @param body 응답 본문
+     * @param requestedByUpperCase 대문자 심볼 -> 요청한 심볼 표기
+     * @param providerName 결과에 기록할 프로바이더 이름
+     * @return 요청한 심볼 표기 기준의 시세 (요청하지 않은 심볼은 제외)
+     */
+    public DecodeResult<Map<String, StockPriceDto>> decodeBulkQuotes(InputStream body,
+                                                                     Map<String, String> requestedByUpperCase,
+                                                                     String providerName) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DecodeResult.error("JSON 객체가 아닌 응답");
+            }
+
+            Map<String, StockPriceDto> quotes = null;
+            String notice = null;
+            String message = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case BULK_DATA -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            quotes = readBulkQuotes(parser, requestedByUpperCase, providerName);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "Note", "Information" -> notice = readMessage(parser);
+                    case "Error Message", "message" -> message = readMessage(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (notice != null && quotes == null) {
+                return DecodeResult.throttled(notice);
+            }
+            if (quotes == null) {
+                return message != null ? DecodeResult.error(message) : DecodeResult.empty();
+            }
+            return DecodeResult.data(quotes);
+        }
+    }
+
+    private StockPriceDto readGlobalQuote(JsonParser parser, String symbol, String providerName) throws IOException {
+        StockPriceDto.StockPriceDtoBuilder builder = StockPriceDto.builder().symbol(symbol);
+        boolean hasFields = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            hasFields = true;
+            switch (field) {
+                case "02. open" -> builder.open(JsonDecimals.read(parser));
+                case "03. high" -> builder.high(JsonDecimals.read(parser));
+                case "04. low" -> builder.low(JsonDecimals.read(parser));
+                case "05. price" -> builder.price(JsonDecimals.read(parser));
+                case "07. latest trading day" -> builder.lastTradingDay(parser.getValueAsString());
+                case "08. previous close" -> builder.close(JsonDecimals.read(parser));
+                case "09. change" -> builder.change(JsonDecimals.read(parser));
+                case "10. change percent" -> builder.changePercent(JsonDecimals.read(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        if (!hasFields) {
+            return null;
+        }
+        return builder
+                .timeStamp(LocalDateTime.now())
+                .provider(providerName)
+                .build();
+    }
+
+    private Map<String, StockPriceDto> readBulkQuotes(JsonParser parser, Map<String, String> requestedByUpperCase,
+                                                      String providerName) throws IOException {
+        Map<String, StockPriceDto> quotes = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            StockPriceDto.StockPriceDtoBuilder builder = StockPriceDto.builder();
+            String symbol = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "symbol" -> {
+                        String responseSymbol = parser.getValueAsString();
+                        symbol = responseSymbol != null ? requestedByUpperCase.get(responseSymbol.toUpperCase()) : null;
+                    }
+                    case "timestamp" -> {
+                        String timestamp = parser.getValueAsString();
+                        builder.lastTradingDay(timestamp != null && timestamp.length() >= 10
+                                ? timestamp.substring(0, 10) : timestamp);
+                    }
+                    case "open" -> builder.open(JsonDecimals.read(parser));
+                    case "high" -> builder.high(JsonDecimals.read(parser));
+                    case "low" -> builder.low(JsonDecimals.read(parser));
+                    case "close" -> builder.price(JsonDecimals.read(parser));
+                    case "previous_close" -> builder.close(JsonDecimals.read(parser));
+                    case "change" -> builder.change(JsonDecimals.read(parser));
+                    case "change_percent" -> builder.changePercent(JsonDecimals.read(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (symbol != null) {
+                quotes.put(symbol, builder
+                        .symbol(symbol)
+                        .timeStamp(now)
+                        .provider(providerName)
+                        .build());
+            }
+        }
+        return quotes;
+    }
+
+    private String readMessage(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return "";
+    }
+}
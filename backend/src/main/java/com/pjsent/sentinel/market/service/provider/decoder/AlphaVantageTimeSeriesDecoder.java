@@ -0,0 +1,120 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+/**
+ * AlphaVantage 시계열 응답 스트리밍 디코더
+ * TIME_SERIES_DAILY / TIME_SERIES_INTRADAY 응답의 "Time Series (...)" 객체를 읽어
+ * 봉(bar)마다 StockPriceDto 하나로 변환합니다. 응답은 최신순이므로 오래된 순으로 뒤집어 반환합니다.
+ * 봉의 close는 해당 봉의 종가이며, price도 같은 값으로 채웁니다.
+ */
+public class AlphaVantageTimeSeriesDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String TIME_SERIES_PREFIX = "Time Series";
+
+    /**
+     * 시계열 응답을 디코딩합니다.
+     *
+     * @param body 응답 본문
+     * @param symbol 요청한 심볼
+     * @param providerName 결과에 기록할 프로바이더 이름
+     * @return 오래된 순으로 정렬된 봉 목록
+     */
+    public DecodeResult<List<StockPriceDto>> decode(InputStream body, String symbol, String providerName)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DecodeResult.error("JSON 객체가 아닌 응답");
+            }
+
+            List<StockPriceDto> bars = null;
+            String notice = null;
+            String error = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (field.startsWith(TIME_SERIES_PREFIX) && value == JsonToken.START_OBJECT) {
+                    bars = readBars(parser, symbol, providerName);
+                } else if ("Note".equals(field) || "Information".equals(field)) {
+                    notice = readMessage(parser);
+                } else if ("Error Message".equals(field)) {
+                    error = readMessage(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (notice != null && bars == null) {
+                return DecodeResult.throttled(notice);
+            }
+            if (error != null) {
+                return DecodeResult.error(error);
+            }
+            return bars != null && !bars.isEmpty() ? DecodeResult.data(bars) : DecodeResult.empty();
+        }
+    }
+
+    private List<StockPriceDto> readBars(JsonParser parser, String symbol, String providerName) throws IOException {
+        List<StockPriceDto> bars = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            StockPriceDto.StockPriceDtoBuilder builder = StockPriceDto.builder()
+                    .symbol(symbol)
+                    .lastTradingDay(key.length() >= 10 ? key.substring(0, 10) : key)
+                    .timeStamp(parseTimestamp(key))
+                    .provider(providerName);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "1. open" -> builder.open(JsonDecimals.read(parser));
+                    case "2. high" -> builder.high(JsonDecimals.read(parser));
+                    case "3. low" -> builder.low(JsonDecimals.read(parser));
+                    case "4. close" -> {
+                        double close = JsonDecimals.read(parser);
+                        builder.close(close).price(close);
+                    }
+                    case "5. volume" -> builder.volume((long) JsonDecimals.read(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+            bars.add(builder.build());
+        }
+        Collections.reverse(bars);
+        return bars;
+    }
+
+    // "2024-01-15" 또는 "2024-01-15 16:00:00"
+    private static LocalDateTime parseTimestamp(String key) {
+        if (key.length() > 10) {
+            return LocalDateTime.parse(key.replace(' ', 'T'));
+        }
+        return LocalDate.parse(key).atStartOfDay();
+    }
+
+    private String readMessage(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return "";
+    }
+}
@@ -0,0 +1,66 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+/**
+ * 프로바이더 응답 디코딩 결과
+ * 정상 데이터 외에 호출 한도 초과(THROTTLED)와 오류 응답(ERROR)을 별도 결과로 구분하여
+ * 호출자가 예외 메시지 문자열이 아닌 결과 종류로 분기할 수 있도록 합니다.
+ *
+ * @param <T> 디코딩된 데이터 타입
+ */
+public final class DecodeResult<T> {
+
+    public enum Kind {
+        /** 정상 데이터 */
+        DATA,
+        /** 호출 한도 초과 안내 (AlphaVantage "Note"/"Information") */
+        THROTTLED,
+        /** 프로바이더 오류 메시지 (예: 잘못된 심볼) */
+        ERROR,
+        /** 데이터 항목이 없거나 비어 있음 */
+        EMPTY,
+        /** 프로바이더가 심볼을 모른다고 응답함 (상장 폐지, 오타 등) */
+        UNKNOWN_SYMBOL
+    }
+
+    private final Kind kind;
+    private final T data;
+    private final String message;
+
+    private DecodeResult(Kind kind, T data, String message) {
+        this.kind = kind;
+        this.data = data;
+        this.message = message;
+    }
+
+    public static <T> DecodeResult<T> data(T data) {
+        return new DecodeResult<>(Kind.DATA, data, null);
+    }
+
+    public static <T> DecodeResult<T> throttled(String message) {
+        return new DecodeResult<>(Kind.THROTTLED, null, message);
+    }
+
+    public static <T> DecodeResult<T> error(String message) {
+        return new DecodeResult<>(Kind.ERROR, null, message);
+    }
+
+    public static <T> DecodeResult<T> empty() {
+        return new DecodeResult<>(Kind.EMPTY, null, null);
+    }
+
+    public static <T> DecodeResult<T> unknownSymbol(String message) {
+        return new DecodeResult<>(Kind.UNKNOWN_SYMBOL, null, message);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,127 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+/**
+ * Finnhub /stock/candle 응답 스트리밍 디코더
+ * {"s":"ok","t":[...],"o":[...],"h":[...],"l":[...],"c":[...],"v":[...]} 형식의 열(column) 배열을
+ * primitive 배열로 읽은 뒤 봉마다 StockPriceDto로 변환합니다. (오래된 순)
+ * "s":"no_data"는 EMPTY로 구분합니다.
+ */
+public class FinnhubCandleDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * 캔들 응답을 디코딩합니다.
+     *
+     * @param body 응답 본문
+     * @param symbol 요청한 심볼
+     * @param providerName 결과에 기록할 프로바이더 이름
+     */
+    public DecodeResult<List<StockPriceDto>> decode(InputStream body, String symbol, String providerName)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DecodeResult.error("JSON 객체가 아닌 응답");
+            }
+
+            String status = null;
+            String error = null;
+            long[] times = new long[0];
+            double[] opens = new double[0];
+            double[] highs = new double[0];
+            double[] lows = new double[0];
+            double[] closes = new double[0];
+            double[] volumes = new double[0];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "s" -> status = parser.getValueAsString();
+                    case "error" -> error = parser.getValueAsString();
+                    case "t" -> times = readLongs(parser);
+                    case "o" -> opens = readDoubles(parser);
+                    case "h" -> highs = readDoubles(parser);
+                    case "l" -> lows = readDoubles(parser);
+                    case "c" -> closes = readDoubles(parser);
+                    case "v" -> volumes = readDoubles(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (error != null) {
+                return DecodeResult.error(error);
+            }
+            if (!"ok".equals(status) || times.length == 0) {
+                return DecodeResult.empty();
+            }
+
+            List<StockPriceDto> bars = new ArrayList<>(times.length);
+            for (int i = 0; i < times.length; i++) {
+                LocalDateTime timestamp = LocalDateTime.ofEpochSecond(times[i], 0, ZoneOffset.UTC);
+                double close = valueAt(closes, i);
+                bars.add(StockPriceDto.builder()
+                        .symbol(symbol)
+                        .price(close)
+                        .open(valueAt(opens, i))
+                        .high(valueAt(highs, i))
+                        .low(valueAt(lows, i))
+                        .close(close)
+                        .volume((long) valueAt(volumes, i))
+                        .lastTradingDay(timestamp.toLocalDate().toString())
+                        .timeStamp(timestamp)
+                        .provider(providerName)
+                        .build());
+            }
+            return DecodeResult.data(bars);
+        }
+    }
+
+    private static double valueAt(double[] values, int index) {
+        return index < values.length ? values[index] : 0.0;
+    }
+
+    private static long[] readLongs(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return new long[0];
+        }
+        long[] values = new long[64];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parser.getValueAsLong();
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static double[] readDoubles(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return new double[0];
+        }
+        double[] values = new double[64];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = JsonDecimals.read(parser);
+        }
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,101 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+/**
+ * Finnhub /quote 응답 스트리밍 디코더
+ * {"c":현재가,"o":시가,"h":고가,"l":저가,"pc":전일 종가,"t":유닉스 시간} 을 primitive 값으로 바로 읽습니다.
+ * 변화량/변화율은 기존과 같이 현재가와 전일 종가로 계산합니다.
+ * 현재가/전일 종가/시각이 모두 0인 응답은 모르는 심볼(UNKNOWN_SYMBOL)로 구분합니다.
+ */
+public class FinnhubQuoteDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * /quote 응답을 디코딩합니다.
+     *
+     * @param body 응답 본문
+     * @param symbol 요청한 심볼
+     * @param providerName 결과에 기록할 프로바이더 이름
+     */
+    public DecodeResult<StockPriceDto> decode(InputStream body, String symbol, String providerName)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DecodeResult.error("JSON 객체가 아닌 응답");
+            }
+
+            boolean hasPrice = false;
+            double currentPrice = 0;
+            double openPrice = 0;
+            double highPrice = 0;
+            double lowPrice = 0;
+            double previousClose = 0;
+            long unixTimestamp = -1;
+            String error = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "c" -> {
+                        hasPrice = value != JsonToken.VALUE_NULL;
+                        currentPrice = JsonDecimals.read(parser);
+                    }
+                    case "o" -> openPrice = JsonDecimals.read(parser);
+                    case "h" -> highPrice = JsonDecimals.read(parser);
+                    case "l" -> lowPrice = JsonDecimals.read(parser);
+                    case "pc" -> previousClose = JsonDecimals.read(parser);
+                    case "t" -> {
+                        if (value == JsonToken.VALUE_NUMBER_INT) {
+                            unixTimestamp = parser.getLongValue();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "error" -> error = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (error != null) {
+                return DecodeResult.error(error);
+            }
+            if (!hasPrice) {
+                return DecodeResult.empty();
+            }
+            // Finnhub은 모르는 심볼에도 200 OK와 함께 모든 값이 0인 시세를 반환함
+            if (currentPrice == 0 && previousClose == 0 && unixTimestamp <= 0) {
+                return DecodeResult.unknownSymbol("Finnhub에 시세가 없는 심볼입니다: " + symbol);
+            }
+
+            double change = currentPrice - previousClose;
+            double changePercent = previousClose != 0 ? (change / previousClose) * 100 : 0.0;
+            LocalDateTime timestamp = unixTimestamp >= 0
+                    ? LocalDateTime.ofEpochSecond(unixTimestamp, 0, ZoneOffset.UTC)
+                    : LocalDateTime.now();
+
+            return DecodeResult.data(StockPriceDto.builder()
+                    .symbol(symbol)
+                    .price(currentPrice)
+                    .open(openPrice)
+                    .high(highPrice)
+                    .low(lowPrice)
+                    .close(previousClose)
+                    .change(change)
+                    .changePercent(changePercent)
+                    .lastTradingDay(timestamp.toLocalDate().toString())
+                    .timeStamp(timestamp)
+                    .provider(providerName)
+                    .build());
+        }
+    }
+}
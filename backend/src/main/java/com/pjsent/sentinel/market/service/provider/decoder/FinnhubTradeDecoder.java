@@ -0,0 +1,100 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Finnhub 웹소켓 체결 메시지 스트리밍 디코더
+ * {"type":"trade","data":[{"s":심볼,"p":체결가,"t":밀리초 시각,"v":수량,"c":[조건]}, ...]} 의 체결을
+ * 객체로 만들지 않고 primitive 값 그대로 처리기에 넘깁니다. "ping" 메시지는 empty, "error" 메시지는 오류로 구분합니다.
+ */
+public class FinnhubTradeDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * 체결 한 건을 받는 처리기
+     */
+    @FunctionalInterface
+    public interface TradeHandler {
+        void onTrade(String symbol, double price, long volume, long epochMillis);
+    }
+
+    /**
+     * 메시지를 디코딩해 체결마다 처리기를 호출합니다.
+     *
+     * @param message 웹소켓 텍스트 메시지
+     * @param handler 체결 처리기
+     * @return 처리한 체결 수
+     */
+    public DecodeResult<Integer> decode(String message, TradeHandler handler) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return DecodeResult.error("JSON 객체가 아닌 메시지");
+            }
+
+            String type = null;
+            String error = null;
+            int trades = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "type" -> type = parser.getValueAsString();
+                    case "msg" -> error = parser.getValueAsString();
+                    case "data" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            trades += readTrades(parser, handler);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if ("error".equals(type)) {
+                return DecodeResult.error(error != null ? error : "Finnhub 오류 메시지");
+            }
+            if (trades == 0) {
+                return DecodeResult.empty();
+            }
+            return DecodeResult.data(trades);
+        }
+    }
+
+    private static int readTrades(JsonParser parser, TradeHandler handler) throws IOException {
+        int trades = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String symbol = null;
+            double price = 0;
+            long volume = 0;
+            long timestamp = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "s" -> symbol = parser.getValueAsString();
+                    case "p" -> price = JsonDecimals.read(parser);
+                    case "v" -> volume = (long) JsonDecimals.read(parser);
+                    case "t" -> {
+                        if (value == JsonToken.VALUE_NUMBER_INT) {
+                            timestamp = parser.getLongValue();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (symbol != null && price > 0 && timestamp >= 0) {
+                handler.onTrade(symbol, price, volume, timestamp);
+                trades++;
+            }
+        }
+        return trades;
+    }
+}
@@ -0,0 +1,103 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * JSON 숫자 값 변환 유틸리티
+ * AlphaVantage처럼 숫자를 문자열("150.2500", "0.84%")로 보내는 응답을
+ * 중간 String 생성 없이 파서 버퍼(char[])에서 바로 double로 변환합니다.
+ */
+final class JsonDecimals {
+
+    // 가수가 2^53 이하이고 소수 자릿수가 22 이하이면 한 번의 나눗셈으로 정확히 반올림됨
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private JsonDecimals() {
+    }
+
+    /**
+     * 현재 토큰을 double로 읽습니다. 숫자/문자열 외의 값이나 변환할 수 없는 문자열은 0으로 처리합니다.
+     */
+    static double read(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        parser.skipChildren();
+        return 0.0;
+    }
+
+    /**
+     * "150.2500", "-1.25", "0.8400%" 형식의 십진수를 변환합니다.
+     * 빈 값, "N/A" 등 숫자가 아닌 값은 0을 반환합니다.
+     */
+    static double parse(char[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && buffer[start] == ' ') {
+            start++;
+        }
+        while (end > start && (buffer[end - 1] == ' ' || buffer[end - 1] == '%')) {
+            end--;
+        }
+        if (start == end) {
+            return 0.0;
+        }
+
+        int index = start;
+        boolean negative = buffer[index] == '-';
+        if (negative || buffer[index] == '+') {
+            index++;
+        }
+
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (; index < end; index++) {
+            char c = buffer[index];
+            if (c >= '0' && c <= '9') {
+                if (mantissa > (Long.MAX_VALUE - 9) / 10) {
+                    return parseSlow(buffer, start, end);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                // 지수 표기 등은 JDK 파서로 처리
+                return parseSlow(buffer, start, end);
+            }
+        }
+        if (digits == 0) {
+            return 0.0;
+        }
+        if (mantissa > MAX_EXACT_MANTISSA || scale >= POWERS_OF_TEN.length) {
+            return parseSlow(buffer, start, end);
+        }
+
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    private static double parseSlow(char[] buffer, int start, int end) {
+        try {
+            return Double.parseDouble(new String(buffer, start, end - start));
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
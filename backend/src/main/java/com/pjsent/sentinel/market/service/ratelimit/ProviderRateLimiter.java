@@ -0,0 +1,98 @@
+package com.pjsent.sentinel.market.service.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.RateLimitStatsDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로바이더별 토큰 버킷 레지스트리
+ * 각 프로바이더는 stock.market.{provider}.rate-limit (분당 호출 수)로 버킷을 등록하고,
+ * 외부 API를 호출하기 전에 acquire()로 토큰을 획득해야 합니다.
+ */
+@Component
+@Slf4j
+public class ProviderRateLimiter {
+
+    @Value("${stock.market.rate-limit.max-wait-ms:500}")
+    private long maxWaitMs;
+
+    @Value("${stock.market.rate-limit.max-waiters:2}")
+    private int maxWaiters;
+
+    // 사용자 요청을 위해 남겨두는 토큰 비율 (백그라운드 갱신은 사용 불가)
+    @Value("${stock.market.rate-limit.interactive-reserve-ratio:0.2}")
+    private double interactiveReserveRatio;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 프로바이더 호출 토큰을 획득합니다.
+     * 현재 스레드의 우선순위(RequestPriorityContext)에 따라 대기 여부가 결정됩니다.
+     *
+     * @param providerName 프로바이더 이름
+     * @param permitsPerMinute 분당 허용 호출 수
+     * @throws RateLimitExceededException 토큰을 획득하지 못한 경우
+     */
+    public void acquire(String providerName, int permitsPerMinute) {
+        TokenBucket bucket = bucket(providerName, permitsPerMinute);
+        RequestPriority priority = RequestPriorityContext.current();
+
+        if (!bucket.tryAcquire(priority, maxWaitMs, maxWaiters)) {
+            log.warn("프로바이더 호출 한도 초과. 프로바이더: {}, 우선순위: {}, 잔여 토큰: {}",
+                    providerName, priority, String.format("%.2f", bucket.availableTokens()));
+            throw new RateLimitExceededException(providerName,
+                    providerName + " 호출 한도(" + permitsPerMinute + "회/분)를 초과했습니다.");
+        }
+    }
+
+    /**
+     * 프로바이더가 쿼터 초과 응답을 보낸 경우 버킷을 비워 이후 호출이 네트워크를 타지 않도록 합니다.
+     */
+    public void markExhausted(String providerName) {
+        TokenBucket bucket = buckets.get(providerName);
+        if (bucket != null) {
+            bucket.drain();
+        }
+    }
+
+    /**
+     * 프로바이더의 남은 토큰 수를 반환합니다. 아직 호출된 적 없으면 -1을 반환합니다.
+     */
+    public double remainingTokens(String providerName) {
+        TokenBucket bucket = buckets.get(providerName);
+        return bucket != null ? bucket.availableTokens() : -1;
+    }
+
+    /**
+     * 프로바이더별 호출 한도 통계를 반환합니다.
+     */
+    public Map<String, RateLimitStatsDto> getStats() {
+        Map<String, RateLimitStatsDto> stats = new LinkedHashMap<>();
+        buckets.forEach((providerName, bucket) -> stats.put(providerName, RateLimitStatsDto.builder()
+                .permitsPerMinute(bucket.getCapacity())
+                .availableTokens(bucket.availableTokens())
+                .waiters(bucket.getWaiters())
+                .granted(bucket.getGranted())
+                .rejected(bucket.getRejected())
+                .waited(bucket.getWaited())
+                .build()));
+        return stats;
+    }
+
+    private TokenBucket bucket(String providerName, int permitsPerMinute) {
+        return buckets.computeIfAbsent(providerName, name -> {
+            int reserved = (int) Math.ceil(permitsPerMinute * interactiveReserveRatio);
+            log.info("프로바이더 토큰 버킷 생성. 프로바이더: {}, 분당 한도: {}, 사용자 예약: {}",
+                    name, permitsPerMinute, reserved);
+            return new TokenBucket(permitsPerMinute, reserved, System::nanoTime);
+        });
+    }
+}
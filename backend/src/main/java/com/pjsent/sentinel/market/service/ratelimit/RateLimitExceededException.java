@@ -0,0 +1,20 @@
+package com.pjsent.sentinel.market.service.ratelimit;
+
+/**
+ * 프로바이더 호출 한도 초과 예외
+ * 토큰 버킷이 비어 있거나 프로바이더가 쿼터 초과 응답을 반환한 경우 발생하며,
+ * MarketDataService는 이 예외를 받으면 네트워크 호출 없이 다음 프로바이더로 넘어갑니다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String providerName;
+
+    public RateLimitExceededException(String providerName, String message) {
+        super(message);
+        this.providerName = providerName;
+    }
+
+    public String getProviderName() {
+        return providerName;
+    }
+}
@@ -0,0 +1,11 @@
+package com.pjsent.sentinel.market.service.ratelimit;
+
+/**
+ * 프로바이더 호출 우선순위
+ * INTERACTIVE: 사용자 요청 (짧은 대기 허용, 예약 토큰 사용 가능)
+ * BACKGROUND: 캐시 재검증/사전 갱신 (대기하지 않으며 예약 토큰은 사용 불가)
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BACKGROUND
+}
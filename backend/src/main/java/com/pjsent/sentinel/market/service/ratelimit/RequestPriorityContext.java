@@ -0,0 +1,33 @@
+package com.pjsent.sentinel.market.service.ratelimit;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 프로바이더 호출 우선순위를 보관합니다.
+ * 프로바이더 인터페이스를 바꾸지 않고 백그라운드 작업임을 전달하기 위해 사용합니다.
+ */
+public final class RequestPriorityContext {
+
+    private static final ThreadLocal<RequestPriority> CURRENT =
+            ThreadLocal.withInitial(() -> RequestPriority.INTERACTIVE);
+
+    private RequestPriorityContext() {
+    }
+
+    public static RequestPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 우선순위로 작업을 실행하고 이전 우선순위를 복원합니다.
+     */
+    public static <T> T callWith(RequestPriority priority, Supplier<T> task) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return task.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.pjsent.sentinel.market.service.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 호출 한도를 표현하는 토큰 버킷
+ * 토큰은 연속적으로 충전되며, 버킷 크기는 분당 허용 호출 수와 같습니다.
+ *
+ * - INTERACTIVE 요청은 다음 토큰이 maxWait 이내에 충전될 때만 짧게 대기합니다.
+ *   대기하는 요청은 토큰을 미리 예약(음수 잔량 허용)하므로 깨어난 뒤 다시 경쟁하지 않습니다.
+ * - BACKGROUND 요청은 대기하지 않으며, 사용자 요청을 위해 예약된 토큰(reserved)은 쓰지 않습니다.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final int reservedForInteractive;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private int waiters;
+
+    private long granted;
+    private long rejected;
+    private long waited;
+
+    public TokenBucket(int permitsPerMinute, int reservedForInteractive, LongSupplier nanoClock) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("분당 호출 한도는 0보다 커야 합니다: " + permitsPerMinute);
+        }
+        this.capacity = permitsPerMinute;
+        this.reservedForInteractive = Math.min(Math.max(reservedForInteractive, 0), permitsPerMinute - 1);
+        this.tokensPerNano = permitsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = permitsPerMinute;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 획득합니다.
+     *
+     * @param priority 호출 우선순위
+     * @param maxWaitMillis INTERACTIVE 요청의 최대 대기 시간
+     * @param maxWaiters 동시에 대기할 수 있는 요청 수
+     * @return 획득 성공 여부 (false면 즉시 다음 프로바이더로 넘어가야 함)
+     */
+    public boolean tryAcquire(RequestPriority priority, long maxWaitMillis, int maxWaiters) {
+        long waitNanos = reserve(priority, TimeUnit.MILLISECONDS.toNanos(maxWaitMillis), maxWaiters);
+        if (waitNanos < 0) {
+            return false;
+        }
+        if (waitNanos == 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            refund();
+            return false;
+        } finally {
+            synchronized (this) {
+                waiters--;
+            }
+        }
+    }
+
+    /**
+     * 쿼터 초과 응답을 받은 경우 버킷을 비웁니다.
+     */
+    public synchronized void drain() {
+        refill();
+        tokens = Math.min(tokens, 0);
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return Math.max(tokens, 0);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int getWaiters() {
+        return waiters;
+    }
+
+    public synchronized long getGranted() {
+        return granted;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public synchronized long getWaited() {
+        return waited;
+    }
+
+    private synchronized long reserve(RequestPriority priority, long maxWaitNanos, int maxWaiters) {
+        refill();
+        double floor = priority == RequestPriority.BACKGROUND ? reservedForInteractive : 0;
+        if (tokens - 1 >= floor) {
+            tokens -= 1;
+            granted++;
+            return 0;
+        }
+        if (priority == RequestPriority.BACKGROUND || waiters >= maxWaiters) {
+            rejected++;
+            return -1;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        if (waitNanos > maxWaitNanos) {
+            rejected++;
+            return -1;
+        }
+        tokens -= 1;
+        waiters++;
+        granted++;
+        waited++;
+        return waitNanos;
+    }
+
+    private synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+        granted--;
+        rejected++;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.pjsent.sentinel.market.service.routing;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.ProviderHealthDto;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로바이더별 호출 상태 추적기
+ * 모든 프로바이더 호출은 execute()를 거치며, 프로바이더 이름으로 된 resilience4j 서킷 브레이커와
+ * 응답 시간/오류율의 지수 가중 이동 평균(EWMA)을 함께 갱신합니다.
+ *
+ * - 서킷이 OPEN인 프로바이더는 타임아웃을 기다리지 않고 즉시 건너뜁니다.
+ * - 호출 한도 초과(RateLimitExceededException)는 네트워크를 타지 않으므로 오류로 집계하지 않습니다.
+ * - 모르는 심볼 응답(UnknownSymbolException)은 프로바이더가 정상 응답한 것이므로 성공으로 집계합니다.
+ * - 호출자가 취소(인터럽트)한 호출은 프로바이더의 응답이 아니므로 성공/실패 어느 쪽으로도 집계하지 않습니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProviderHealthTracker {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    // EWMA 가중치 (클수록 최근 호출의 영향이 큼)
+    @Value("${stock.market.routing.ewma-alpha:0.2}")
+    private double ewmaAlpha;
+
+    // 실패 한 번이 다음 프로바이더로 넘어가기까지 낭비하는 예상 시간
+    @Value("${stock.market.routing.failure-penalty-ms:5000}")
+    private long failurePenaltyMs;
+
+    // 토큰이 없는 프로바이더에 더하는 점수 (호출은 가능하지만 뒤로 미룸)
+    @Value("${stock.market.routing.quota-exhausted-penalty-ms:10000}")
+    private long quotaExhaustedPenaltyMs;
+
+    // 분위수 계산에 필요한 최소 성공 응답 수
+    private static final int MIN_PERCENTILE_SAMPLES = 10;
+    private static final int LATENCY_WINDOW_SIZE = 128;
+
+    private final ConcurrentMap<String, HealthState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 서킷 브레이커를 거쳐 프로바이더를 호출하고 응답 시간과 성공 여부를 기록합니다.
+     *
+     * @param providerName 프로바이더 이름
+     * @param call 실제 프로바이더 호출
+     * @return 호출 결과
+     * @throws CallNotPermittedException 서킷이 열려 있어 호출하지 않은 경우
+     */
+    public <T> T execute(String providerName, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreaker(providerName);
+        HealthState state = state(providerName);
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            state.recordNotPermitted();
+            throw e;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.get();
+            long elapsed = System.nanoTime() - startedAt;
+            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            state.recordCall(elapsed, false, ewmaAlpha);
+            return result;
+        } catch (RateLimitExceededException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        } catch (UnknownSymbolException e) {
+            long elapsed = System.nanoTime() - startedAt;
+            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            state.recordCall(elapsed, false, ewmaAlpha);
+            throw e;
+        } catch (RuntimeException e) {
+            if (isCancelled(e)) {
+                circuitBreaker.releasePermission();
+                state.recordCancelled();
+                throw e;
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+            state.recordCall(elapsed, true, ewmaAlpha);
+            throw e;
+        }
+    }
+
+    /**
+     * 호출자가 취소(인터럽트)해서 중단된 호출인지 확인합니다. (예: 헤지 경쟁에서 진 쪽 호출)
+     * 응답 시간 초과(SocketTimeoutException 등 InterruptedIOException의 하위 타입)는 프로바이더 오류로 봅니다.
+     */
+    private static boolean isCancelled(Throwable error) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof ClosedByInterruptException
+                    || cause.getClass() == InterruptedIOException.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 서킷이 열려 있지 않아 호출을 시도할 수 있는지 확인합니다.
+     * HALF_OPEN 상태에서는 시험 호출을 허용하기 위해 true를 반환합니다.
+     */
+    public boolean isCallPermitted(String providerName) {
+        CircuitBreaker.State circuitState = circuitBreaker(providerName).getState();
+        return circuitState != CircuitBreaker.State.OPEN && circuitState != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 라우팅 점수(예상 비용, ms)를 계산합니다. 낮을수록 먼저 시도합니다.
+     * 점수 = EWMA 응답 시간 + 오류율 × 실패 비용 (+ 토큰 소진 시 추가 비용)
+     *
+     * @param providerName 프로바이더 이름
+     * @param remainingTokens 남은 호출 토큰 수 (아직 호출된 적 없으면 음수)
+     */
+    public double score(String providerName, double remainingTokens) {
+        HealthState state = state(providerName);
+        double score = state.latencyMs() + state.errorRate() * failurePenaltyMs;
+        if (remainingTokens >= 0 && remainingTokens < 1) {
+            score += quotaExhaustedPenaltyMs;
+        }
+        return score;
+    }
+
+    /**
+     * 최근 성공 응답들의 응답 시간 분위수(ms)를 반환합니다.
+     *
+     * @param providerName 프로바이더 이름
+     * @param percentile 분위 (예: 95)
+     * @return 분위수, 표본이 부족하면 -1
+     */
+    public double latencyPercentileMs(String providerName, double percentile) {
+        return state(providerName).percentileMs(percentile, MIN_PERCENTILE_SAMPLES);
+    }
+
+    /**
+     * 프로바이더의 현재 상태를 반환합니다.
+     */
+    public ProviderHealthDto getHealth(String providerName, double remainingTokens) {
+        HealthState state = state(providerName);
+        return ProviderHealthDto.builder()
+                .circuitState(circuitBreaker(providerName).getState().name())
+                .ewmaLatencyMs(state.latencyMs())
+                .errorRate(state.errorRate())
+                .remainingTokens(remainingTokens)
+                .score(score(providerName, remainingTokens))
+                .calls(state.calls())
+                .failures(state.failures())
+                .notPermitted(state.notPermitted())
+                .cancelled(state.cancelled())
+                .build();
+    }
+
+    private CircuitBreaker circuitBreaker(String providerName) {
+        return circuitBreakerRegistry.circuitBreaker(providerName);
+    }
+
+    private HealthState state(String providerName) {
+        return states.computeIfAbsent(providerName, name -> new HealthState());
+    }
+
+    /**
+     * 프로바이더 하나의 EWMA 상태. 첫 호출 전에는 0(가장 우선)으로 시작해 한 번은 시도되도록 합니다.
+     */
+    private static final class HealthState {
+
+        private double latencyMs;
+        private double errorRate;
+        private long calls;
+        private long failures;
+        private long notPermitted;
+        private long cancelled;
+
+        // 최근 성공 응답 시간 (원형 버퍼)
+        private final long[] recentLatencies = new long[LATENCY_WINDOW_SIZE];
+        private int latencyIndex;
+        private int latencySamples;
+
+        synchronized void recordCall(long elapsedNanos, boolean failed, double alpha) {
+            double elapsedMs = elapsedNanos / 1_000_000.0;
+            double sample = failed ? 1.0 : 0.0;
+            if (calls == 0) {
+                latencyMs = elapsedMs;
+                errorRate = sample;
+            } else {
+                latencyMs += alpha * (elapsedMs - latencyMs);
+                errorRate += alpha * (sample - errorRate);
+            }
+            calls++;
+            if (failed) {
+                failures++;
+            } else {
+                recentLatencies[latencyIndex] = elapsedNanos;
+                latencyIndex = (latencyIndex + 1) % recentLatencies.length;
+                latencySamples = Math.min(latencySamples + 1, recentLatencies.length);
+            }
+        }
+
+        synchronized double percentileMs(double percentile, int minSamples) {
+            if (latencySamples < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(recentLatencies, latencySamples);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.min(Math.max(rank, 0), sorted.length - 1)] / 1_000_000.0;
+        }
+
+        synchronized void recordNotPermitted() {
+            notPermitted++;
+        }
+
+        synchronized void recordCancelled() {
+            cancelled++;
+        }
+
+        synchronized double latencyMs() {
+            return latencyMs;
+        }
+
+        synchronized double errorRate() {
+            return errorRate;
+        }
+
+        synchronized long calls() {
+            return calls;
+        }
+
+        synchronized long failures() {
+            return failures;
+        }
+
+        synchronized long notPermitted() {
+            return notPermitted;
+        }
+
+        synchronized long cancelled() {
+            return cancelled;
+        }
+    }
+}
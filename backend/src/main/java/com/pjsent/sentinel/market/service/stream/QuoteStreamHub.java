@@ -0,0 +1,413 @@
+package com.pjsent.sentinel.market.service.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
+import com.pjsent.sentinel.market.dto.QuoteStreamStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 스트림 허브 (Server-Sent Events)
+ * 모든 연결이 구독한 심볼의 합집합을 하나의 갱신 루프에서 주기마다 한 번 조회하고, 바뀐 필드만 구독자에게 보냅니다.
+ * 조회는 MarketDataService의 캐시 경로를 그대로 사용하므로, 연결 수와 관계없이 프로바이더 호출은 심볼당 캐시 TTL마다 한 번입니다.
+ *
+ * - 이벤트: 연결 직후 전체 필드(snapshot), 이후 바뀐 필드만(quotes), 보낼 것이 없으면 heartbeat-ms마다 주석 한 줄
+ * - 배압: 연결마다 전송 작업은 동시에 하나만 실행되고, 그동안 쌓인 변경분은 심볼별로 합쳐서 다음 전송에 보냄
+ * - 느린 연결: 변경분을 slow-consumer-timeout-ms 이상 보내지 못하면(전송이 막힌 경우 포함) 연결을 끊음 (클라이언트는 재연결 후 snapshot부터 받음)
+ * - 처음 구독된 심볼: 다음 주기를 기다리지 않고 marketDataExecutor에서 바로 조회 (구독이 몰리면 한 번의 조회로 합침)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class QuoteStreamHub {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String QUOTES_EVENT = "quotes";
+
+    private final MarketDataService marketDataService;
+    @Qualifier("quoteStreamExecutor")
+    private final Executor quoteStreamExecutor;
+    @Qualifier("marketDataExecutor")
+    private final Executor marketDataExecutor;
+
+    @Value("${stock.market.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${stock.market.stream.max-symbols-per-connection:50}")
+    private int maxSymbolsPerConnection;
+
+    @Value("${stock.market.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${stock.market.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${stock.market.stream.slow-consumer-timeout-ms:30000}")
+    private long slowConsumerTimeoutMs;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    private final ConcurrentMap<Long, QuoteSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    // 심볼 -> 구독 연결
+    private final ConcurrentMap<String, Set<QuoteSubscription>> subscribers = new ConcurrentHashMap<>();
+
+    // 심볼 -> 마지막으로 내보낸 시세 (변경 필드 계산 기준)
+    private final ConcurrentMap<String, StockPriceDto> published = new ConcurrentHashMap<>();
+
+    private final Object publishLock = new Object();
+
+    // 아직 시세를 내보낸 적 없는 새 구독 심볼 (즉시 조회 대기)
+    private final Set<String> coldSymbols = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean coldRefreshQueued = new AtomicBoolean();
+
+    private final LongAdder refreshCycles = new LongAdder();
+    private final LongAdder eventsSent = new LongAdder();
+    private final LongAdder updatesSent = new LongAdder();
+    private final LongAdder heartbeatsSent = new LongAdder();
+    private final LongAdder rejectedConnections = new LongAdder();
+    private final LongAdder slowConsumerEvictions = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private volatile int lastRefreshSymbols;
+    private volatile long lastRefreshMs;
+
+    /**
+     * 심볼 목록을 구독하는 SSE 연결을 엽니다.
+     *
+     * @param symbols 구독할 주식 심볼 목록
+     * @return 응답으로 반환할 SseEmitter
+     * @throws IllegalArgumentException 심볼이 없거나 max-symbols-per-connection을 넘는 경우
+     * @throws IllegalStateException 연결 수가 max-connections에 도달한 경우
+     */
+    public SseEmitter subscribe(Collection<String> symbols) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        subscribe(symbols, emitter);
+        return emitter;
+    }
+
+    QuoteSubscription subscribe(Collection<String> symbols, SseEmitter emitter) {
+        Set<String> normalized = normalize(symbols);
+        if (subscriptions.size() >= maxConnections) {
+            rejectedConnections.increment();
+            throw new IllegalStateException("시세 스트림 연결 수가 최대치에 도달했습니다: " + maxConnections);
+        }
+
+        QuoteSubscription subscription = new QuoteSubscription(nextId.incrementAndGet(), normalized, emitter, System.nanoTime());
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(e -> unregister(subscription));
+
+        subscriptions.put(subscription.id(), subscription);
+        List<String> unknown = new ArrayList<>();
+        // 스냅샷과 이후 변경분의 순서가 뒤바뀌지 않도록 발행과 같은 잠금에서 등록
+        synchronized (publishLock) {
+            for (String symbol : normalized) {
+                subscribers.computeIfAbsent(symbol, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+                StockPriceDto latest = published.get(symbol);
+                if (latest != null) {
+                    subscription.offer(symbol, changedFields(null, latest), System.nanoTime());
+                } else {
+                    unknown.add(symbol);
+                }
+            }
+        }
+        log.debug("시세 스트림 구독. 연결: {}, 심볼: {}, 전체 연결 수: {}", subscription.id(), normalized, subscriptions.size());
+
+        if (subscription.hasPending()) {
+            schedule(subscription);
+        }
+        if (!unknown.isEmpty()) {
+            requestColdRefresh(unknown);
+        }
+        return subscription;
+    }
+
+    /**
+     * 처음 구독된 심볼을 다음 주기를 기다리지 않고 바로 조회합니다.
+     * 프로바이더 호출로 막힐 수 있으므로 전송 스레드(quoteStreamExecutor)가 아닌 marketDataExecutor에서 실행하고,
+     * 조회가 끝나기 전에 들어온 심볼은 대기 중인 조회 하나에 합칩니다.
+     */
+    private void requestColdRefresh(Collection<String> symbols) {
+        coldSymbols.addAll(symbols);
+        if (!coldRefreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            marketDataExecutor.execute(this::refreshColdSymbols);
+        } catch (RejectedExecutionException e) {
+            coldRefreshQueued.set(false);
+            log.debug("새 구독 심볼 즉시 조회 생략. 다음 주기에 조회합니다. 심볼: {}", symbols);
+        }
+    }
+
+    private void refreshColdSymbols() {
+        coldRefreshQueued.set(false);
+        List<String> symbols = new ArrayList<>();
+        for (Iterator<String> it = coldSymbols.iterator(); it.hasNext(); ) {
+            String symbol = it.next();
+            it.remove();
+            // 그사이 구독이 끊겼거나 주기 갱신으로 이미 내보낸 심볼은 제외
+            if (subscribers.containsKey(symbol) && !published.containsKey(symbol)) {
+                symbols.add(symbol);
+            }
+        }
+        if (!symbols.isEmpty()) {
+            refresh(symbols);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.market.stream.interval-ms:5000}",
+            scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    void scheduledRefresh() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        refresh(List.copyOf(subscribers.keySet()));
+        sweep();
+    }
+
+    /**
+     * 심볼 시세를 한 번 조회해 바뀐 필드를 구독자에게 보냅니다.
+     *
+     * @return 변경분이 있었던 심볼 수
+     */
+    int refresh(Collection<String> symbols) {
+        if (symbols.isEmpty()) {
+            return 0;
+        }
+        long startedAt = System.currentTimeMillis();
+        BulkStockPriceDto bulk = marketDataService.getStockPricesBulk(List.copyOf(symbols));
+
+        Set<QuoteSubscription> dirty = new LinkedHashSet<>();
+        int changed = 0;
+        synchronized (publishLock) {
+            long now = System.nanoTime();
+            for (Map.Entry<String, StockPriceDto> entry : bulk.getPrices().entrySet()) {
+                String symbol = entry.getKey();
+                StockPriceDto quote = entry.getValue();
+                StockPriceDto previous = published.get(symbol);
+                if (previous == quote) {
+                    continue;
+                }
+                Map<String, Object> fields = changedFields(previous, quote);
+                Set<QuoteSubscription> targets = subscribers.get(symbol);
+                if (targets == null) {
+                    continue;
+                }
+                published.put(symbol, quote);
+                if (fields.isEmpty()) {
+                    continue;
+                }
+                changed++;
+                for (QuoteSubscription subscription : targets) {
+                    subscription.offer(symbol, fields, now);
+                    dirty.add(subscription);
+                }
+            }
+        }
+        dirty.forEach(this::schedule);
+
+        refreshCycles.increment();
+        lastRefreshSymbols = symbols.size();
+        lastRefreshMs = System.currentTimeMillis() - startedAt;
+        if (!bulk.getErrors().isEmpty()) {
+            log.debug("시세 스트림 조회 실패 심볼: {}", bulk.getErrors().keySet());
+        }
+        return changed;
+    }
+
+    /**
+     * 느린 연결을 끊고, 오래 보낸 것이 없는 연결에 heartbeat를 보냅니다.
+     */
+    void sweep() {
+        long now = System.nanoTime();
+        long slowNanos = TimeUnit.MILLISECONDS.toNanos(slowConsumerTimeoutMs);
+        long heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+        for (QuoteSubscription subscription : subscriptions.values()) {
+            long lag = subscription.lagNanos(now);
+            if (lag > slowNanos) {
+                slowConsumerEvictions.increment();
+                log.info("느린 시세 스트림 연결을 끊습니다. 연결: {}, 지연: {}ms",
+                        subscription.id(), TimeUnit.NANOSECONDS.toMillis(lag));
+                close(subscription);
+            } else if (subscription.idleNanos(now) > heartbeatNanos) {
+                schedule(subscription);
+            }
+        }
+    }
+
+    /**
+     * 스트림 통계를 반환합니다.
+     */
+    public QuoteStreamStatsDto getStats() {
+        long coalesced = 0;
+        int pendingConnections = 0;
+        for (QuoteSubscription subscription : subscriptions.values()) {
+            coalesced += subscription.coalesced();
+            if (subscription.hasPending()) {
+                pendingConnections++;
+            }
+        }
+        return QuoteStreamStatsDto.builder()
+                .connections(subscriptions.size())
+                .pendingConnections(pendingConnections)
+                .subscribedSymbols(subscribers.size())
+                .refreshCycles(refreshCycles.sum())
+                .lastRefreshSymbols(lastRefreshSymbols)
+                .lastRefreshMs(lastRefreshMs)
+                .eventsSent(eventsSent.sum())
+                .updatesSent(updatesSent.sum())
+                .heartbeatsSent(heartbeatsSent.sum())
+                .coalescedUpdates(coalesced)
+                .rejectedConnections(rejectedConnections.sum())
+                .slowConsumerEvictions(slowConsumerEvictions.sum())
+                .sendFailures(sendFailures.sum())
+                .build();
+    }
+
+    private void schedule(QuoteSubscription subscription) {
+        if (subscription.isClosed() || !subscription.tryStartSending(System.nanoTime())) {
+            return;
+        }
+        try {
+            quoteStreamExecutor.execute(() -> send(subscription));
+        } catch (RejectedExecutionException e) {
+            // 변경분은 그대로 남아 다음 주기에 다시 시도되고, 계속 밀리면 느린 연결로 정리됨
+            subscription.finishSending();
+        }
+    }
+
+    private void send(QuoteSubscription subscription) {
+        try {
+            Map<String, Map<String, Object>> batch = subscription.drain();
+            while (!subscription.isClosed()) {
+                if (batch.isEmpty()) {
+                    if (subscription.idleNanos(System.nanoTime()) > TimeUnit.MILLISECONDS.toNanos(heartbeatMs)) {
+                        subscription.emitter().send(SseEmitter.event().comment("heartbeat"));
+                        heartbeatsSent.increment();
+                        subscription.markSent(System.nanoTime());
+                    }
+                    break;
+                }
+                subscription.emitter().send(SseEmitter.event()
+                        .name(subscription.eventsSent() == 0 ? SNAPSHOT_EVENT : QUOTES_EVENT)
+                        .data(batch, MediaType.APPLICATION_JSON));
+                eventsSent.increment();
+                updatesSent.add(batch.size());
+                subscription.markEventSent(System.nanoTime());
+                batch = subscription.drain();
+            }
+        } catch (IOException | IllegalStateException e) {
+            sendFailures.increment();
+            log.debug("시세 스트림 전송 실패로 연결을 닫습니다. 연결: {}, 오류: {}", subscription.id(), e.getMessage());
+            close(subscription);
+        } finally {
+            subscription.finishSending();
+        }
+        if (subscription.isClosed()) {
+            subscription.emitter().complete();
+        } else if (subscription.hasPending()) {
+            // 마지막 drain 이후에 들어온 변경분
+            schedule(subscription);
+        }
+    }
+
+    private void close(QuoteSubscription subscription) {
+        unregister(subscription);
+        // 전송 중인 연결은 전송 스레드가 끝난 뒤 닫음 (블로킹된 쓰기와 같은 잠금을 기다리지 않도록)
+        if (!subscription.isSending()) {
+            subscription.emitter().complete();
+        }
+    }
+
+    private void unregister(QuoteSubscription subscription) {
+        subscription.close();
+        if (subscriptions.remove(subscription.id()) == null) {
+            return;
+        }
+        synchronized (publishLock) {
+            for (String symbol : subscription.symbols()) {
+                Set<QuoteSubscription> set = subscribers.get(symbol);
+                if (set != null && set.remove(subscription) && set.isEmpty()) {
+                    // 마지막 구독자가 떠난 심볼은 더 이상 조회하지 않음
+                    subscribers.remove(symbol);
+                    published.remove(symbol);
+                }
+            }
+        }
+        log.debug("시세 스트림 연결 종료. 연결: {}, 전체 연결 수: {}", subscription.id(), subscriptions.size());
+    }
+
+    private Set<String> normalize(Collection<String> symbols) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (symbols != null) {
+            for (String symbol : symbols) {
+                if (symbol != null && !symbol.trim().isEmpty()) {
+                    normalized.add(SymbolRegistry.normalize(symbol));
+                }
+            }
+        }
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("구독할 주식 심볼이 비어있습니다.");
+        }
+        if (normalized.size() > maxSymbolsPerConnection) {
+            throw new IllegalArgumentException("한 연결에서 구독할 수 있는 심볼은 최대 " + maxSymbolsPerConnection + "개입니다.");
+        }
+        return Set.copyOf(normalized);
+    }
+
+    /**
+     * 이전 시세와 달라진 필드만 반환합니다. 이전 시세가 없으면 모든 필드를 반환합니다.
+     */
+    static Map<String, Object> changedFields(StockPriceDto previous, StockPriceDto current) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfChanged(fields, "price", previous == null ? null : previous.getPrice(), current.getPrice());
+        putIfChanged(fields, "open", previous == null ? null : previous.getOpen(), current.getOpen());
+        putIfChanged(fields, "high", previous == null ? null : previous.getHigh(), current.getHigh());
+        putIfChanged(fields, "low", previous == null ? null : previous.getLow(), current.getLow());
+        putIfChanged(fields, "close", previous == null ? null : previous.getClose(), current.getClose());
+        putIfChanged(fields, "volume", previous == null ? null : previous.getVolume(), current.getVolume());
+        putIfChanged(fields, "change", previous == null ? null : previous.getChange(), current.getChange());
+        putIfChanged(fields, "changePercent", previous == null ? null : previous.getChangePercent(), current.getChangePercent());
+        putIfChanged(fields, "lastTradingDay", previous == null ? null : previous.getLastTradingDay(), current.getLastTradingDay());
+        putIfChanged(fields, "timeStamp", previous == null ? null : previous.getTimeStamp(), current.getTimeStamp());
+        putIfChanged(fields, "provider", previous == null ? null : previous.getProvider(), current.getProvider());
+        return fields;
+    }
+
+    private static void putIfChanged(Map<String, Object> fields, String name, Object previous, Object current) {
+        if (current != null && !Objects.equals(previous, current)) {
+            fields.put(name, current);
+        }
+    }
+}
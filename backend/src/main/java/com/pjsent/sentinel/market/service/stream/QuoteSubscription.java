@@ -0,0 +1,142 @@
+package com.pjsent.sentinel.market.service.stream;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 시세 스트림 연결 하나의 구독 상태
+ * 아직 보내지 못한 변경분은 심볼별로 하나만 유지하며, 새 변경분은 기존 변경분에 필드 단위로 덮어씁니다.
+ * 따라서 클라이언트가 느려도 대기 데이터는 구독한 심볼 수를 넘지 않고, 다음 전송에 최신 값이 모두 포함됩니다.
+ */
+final class QuoteSubscription {
+
+    private final long id;
+    private final Set<String> symbols;
+    private final SseEmitter emitter;
+
+    private final Map<String, Map<String, Object>> pending = new LinkedHashMap<>();
+    private long pendingSinceNanos;
+    private long lastSentNanos;
+    private long coalesced;
+    private long eventsSent;
+    private long sendingSinceNanos;
+
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    QuoteSubscription(long id, Set<String> symbols, SseEmitter emitter, long nowNanos) {
+        this.id = id;
+        this.symbols = symbols;
+        this.emitter = emitter;
+        this.lastSentNanos = nowNanos;
+    }
+
+    long id() {
+        return id;
+    }
+
+    Set<String> symbols() {
+        return symbols;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * 변경분을 대기열에 합칩니다.
+     */
+    synchronized void offer(String symbol, Map<String, Object> fields, long nowNanos) {
+        if (pending.isEmpty()) {
+            pendingSinceNanos = nowNanos;
+        }
+        Map<String, Object> existing = pending.get(symbol);
+        if (existing == null) {
+            pending.put(symbol, new LinkedHashMap<>(fields));
+        } else {
+            existing.putAll(fields);
+            coalesced++;
+        }
+    }
+
+    /**
+     * 대기 중인 변경분을 모두 꺼냅니다.
+     */
+    synchronized Map<String, Map<String, Object>> drain() {
+        if (pending.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<String, Object>> batch = new LinkedHashMap<>(pending);
+        pending.clear();
+        return batch;
+    }
+
+    synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * 전송 지연: 보내지 못한 변경분이 기다린 시간과 진행 중인 전송(실행 대기 포함)이 걸린 시간 중 큰 값
+     */
+    synchronized long lagNanos(long nowNanos) {
+        long pendingLag = pending.isEmpty() ? 0 : nowNanos - pendingSinceNanos;
+        long sendingLag = sending.get() ? nowNanos - sendingSinceNanos : 0;
+        return Math.max(pendingLag, sendingLag);
+    }
+
+    synchronized void markSent(long nowNanos) {
+        lastSentNanos = nowNanos;
+    }
+
+    synchronized void markEventSent(long nowNanos) {
+        lastSentNanos = nowNanos;
+        eventsSent++;
+    }
+
+    synchronized long eventsSent() {
+        return eventsSent;
+    }
+
+    synchronized long idleNanos(long nowNanos) {
+        return nowNanos - lastSentNanos;
+    }
+
+    synchronized long coalesced() {
+        return coalesced;
+    }
+
+    boolean tryStartSending(long nowNanos) {
+        if (!sending.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (this) {
+            sendingSinceNanos = nowNanos;
+        }
+        return true;
+    }
+
+    void finishSending() {
+        sending.set(false);
+    }
+
+    boolean isSending() {
+        return sending.get();
+    }
+
+    /**
+     * 연결을 닫힌 상태로 표시합니다.
+     *
+     * @return 이번 호출로 닫혔으면 true
+     */
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
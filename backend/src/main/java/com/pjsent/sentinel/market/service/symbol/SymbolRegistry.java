@@ -0,0 +1,144 @@
+package com.pjsent.sentinel.market.service.symbol;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화된 심볼과 정수 ID를 관리하는 레지스트리
+ *
+ * - 정규화: 앞뒤 공백을 제거하고 대문자로 바꾼 뒤 형식([A-Z0-9][A-Z0-9._-]{0,19})을 검사합니다.
+ *   요청 진입점에서 한 번만 정규화하므로 "aapl"과 " AAPL "은 같은 캐시 항목과 같은 프로바이더 호출을 사용합니다.
+ * - ID: 처음 등록된 순서대로 0부터 촘촘하게 부여되고 프로세스가 끝날 때까지 바뀌지 않습니다.
+ *   체결 버퍼나 봉 집계처럼 갱신이 잦은 구조는 문자열 해시 대신 ID로 배열을 인덱싱합니다(SymbolTable).
+ * - ID는 한 번 부여되면 회수하지 않으므로 등록 가능한 심볼 수는 max-ids로 제한합니다.
+ *
+ * 조회(find, symbol)는 잠금 없이 동작하고, 새 심볼 등록만 잠금을 잡습니다.
+ */
+@Component
+public class SymbolRegistry {
+
+    /** 등록되지 않은 심볼의 ID */
+    public static final int UNKNOWN = -1;
+
+    private static final Pattern SYMBOL_PATTERN = Pattern.compile("[A-Z0-9][A-Z0-9._-]{0,19}");
+
+    @Value("${stock.market.symbols.max-ids:16384}")
+    private int maxIds;
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // ID -> 심볼. 용량이 부족할 때만 두 배로 늘린 복사본으로 교체하고, count를 마지막에 올려 새 항목을 공개함
+    private volatile String[] symbols = new String[64];
+    private volatile int count;
+
+    /**
+     * 심볼을 정규화합니다.
+     *
+     * @param symbol 사용자 입력 심볼
+     * @return 대문자로 정규화된 심볼
+     * @throws IllegalArgumentException 비어 있거나 형식이 맞지 않는 경우
+     */
+    public static String normalize(String symbol) {
+        if (symbol == null || symbol.trim().isEmpty()) {
+            throw new IllegalArgumentException("심볼은 필수입니다.");
+        }
+        String key = symbol.trim().toUpperCase(Locale.ROOT);
+        if (!SYMBOL_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 심볼입니다: " + symbol);
+        }
+        return key;
+    }
+
+    /**
+     * 이미 정규화된 형식인지 확인합니다.
+     */
+    public static boolean isNormalized(String symbol) {
+        return symbol != null && SYMBOL_PATTERN.matcher(symbol).matches();
+    }
+
+    /**
+     * 심볼을 정규화합니다. 형식이 맞지 않으면 empty를 반환합니다.
+     */
+    public static Optional<String> tryNormalize(String symbol) {
+        try {
+            return Optional.of(normalize(symbol));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 심볼의 ID를 반환하고, 처음 보는 심볼이면 새 ID를 부여합니다.
+     *
+     * @param symbol 주식 심볼 (정규화 전이어도 됨)
+     * @return 0 이상의 심볼 ID
+     * @throws IllegalArgumentException 심볼 형식이 맞지 않는 경우
+     * @throws IllegalStateException 등록 가능한 심볼 수를 넘은 경우
+     */
+    public int register(String symbol) {
+        Integer id = symbol != null ? ids.get(symbol) : null;
+        if (id != null) {
+            return id;
+        }
+        String key = normalize(symbol);
+        id = ids.get(key);
+        return id != null ? id : add(key);
+    }
+
+    /**
+     * 정규화된 심볼의 ID를 반환합니다. 정규화하지 않으므로 이미 정규화된 값(체결 메시지, 캐시 키 등)에 사용합니다.
+     *
+     * @return 등록되지 않았으면 UNKNOWN
+     */
+    public int find(String symbol) {
+        Integer id = symbol != null ? ids.get(symbol) : null;
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * ID에 해당하는 정규화된 심볼을 반환합니다.
+     *
+     * @throws IllegalArgumentException 부여되지 않은 ID인 경우
+     */
+    public String symbol(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException("등록되지 않은 심볼 ID입니다: " + id);
+        }
+        return symbols[id];
+    }
+
+    /**
+     * 등록된 심볼 수 (다음에 부여할 ID)
+     */
+    public int size() {
+        return count;
+    }
+
+    private synchronized int add(String key) {
+        Integer existing = ids.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int id = count;
+        if (id >= maxIds) {
+            throw new IllegalStateException("등록 가능한 심볼 수(" + maxIds + "개)를 넘었습니다: " + key);
+        }
+        String[] current = symbols;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, Math.min(current.length * 2, Math.max(maxIds, 1)));
+        }
+        current[id] = key;
+        // 배열과 count를 먼저 공개하므로 find로 얻은 ID는 항상 symbol(id)로 조회할 수 있음
+        symbols = current;
+        count = id + 1;
+        ids.put(key, id);
+        return id;
+    }
+}
@@ -0,0 +1,85 @@
+package com.pjsent.sentinel.market.service.symbol;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 심볼 ID로 인덱싱하는 값 테이블
+ * 문자열 키 해시맵 대신 SymbolRegistry가 부여한 ID로 배열을 직접 조회합니다.
+ *
+ * 조회는 잠금 없이 배열 하나를 읽고, 값 할당(심볼당 한 번)만 잠금을 잡습니다.
+ * 할당 후 배열 참조를 다시 기록(volatile)해 새 값을 공개하며, 용량이 부족할 때만 두 배 크기의 복사본으로 교체합니다.
+ *
+ * @param <T> 심볼별 값 타입
+ */
+public final class SymbolTable<T> {
+
+    private volatile Object[] values = new Object[16];
+    private volatile int size;
+
+    /**
+     * ID의 값을 반환합니다.
+     *
+     * @return 할당되지 않았으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        Object[] current = values;
+        return id >= 0 && id < current.length ? (T) current[id] : null;
+    }
+
+    /**
+     * ID의 값을 반환하고, 없으면 만들어 저장합니다.
+     */
+    public T computeIfAbsent(int id, IntFunction<? extends T> factory) {
+        T value = get(id);
+        return value != null ? value : allocate(id, factory);
+    }
+
+    /**
+     * 할당된 값의 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 할당된 값을 ID 순서대로 순회합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IdConsumer<? super T> consumer) {
+        Object[] current = values;
+        for (int id = 0; id < current.length; id++) {
+            if (current[id] != null) {
+                consumer.accept(id, (T) current[id]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized T allocate(int id, IntFunction<? extends T> factory) {
+        if (id < 0) {
+            throw new IllegalArgumentException("심볼 ID는 0 이상이어야 합니다: " + id);
+        }
+        Object[] current = values;
+        if (id < current.length && current[id] != null) {
+            return (T) current[id];
+        }
+        T value = factory.apply(id);
+        if (id >= current.length) {
+            current = Arrays.copyOf(current, Math.max(current.length * 2, id + 1));
+        }
+        current[id] = value;
+        values = current;
+        size++;
+        return value;
+    }
+
+    /**
+     * 심볼 ID와 값을 받는 콜백
+     */
+    @FunctionalInterface
+    public interface IdConsumer<T> {
+        void accept(int id, T value);
+    }
+}
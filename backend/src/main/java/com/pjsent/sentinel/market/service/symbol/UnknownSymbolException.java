@@ -0,0 +1,20 @@
+package com.pjsent.sentinel.market.service.symbol;
+
+/**
+ * 알 수 없는 심볼 예외
+ * 프로바이더가 심볼을 모른다고 응답했거나(상장 폐지, 오타 등), 네거티브 캐시에 등록된 심볼을 조회한 경우 발생합니다.
+ * 프로바이더 장애가 아니므로 서킷 브레이커 오류로 집계하지 않고, 컨트롤러는 404로 응답합니다.
+ */
+public class UnknownSymbolException extends RuntimeException {
+
+    private final String symbol;
+
+    public UnknownSymbolException(String symbol, String message) {
+        super(message);
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+}
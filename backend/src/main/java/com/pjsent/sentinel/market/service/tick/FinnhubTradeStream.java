@@ -0,0 +1,381 @@
+package com.pjsent.sentinel.market.service.tick;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.TickStreamStatsDto;
+import com.pjsent.sentinel.market.service.bars.BarAggregator;
+import com.pjsent.sentinel.market.service.provider.decoder.DecodeResult;
+import com.pjsent.sentinel.market.service.provider.decoder.FinnhubTradeDecoder;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finnhub 웹소켓 체결 수신기
+ * 웹소켓으로 받은 체결을 심볼별 TickRingBuffer에 기록합니다. REST /quote 호출 없이 최근가/VWAP/장중 고저가를 조회할 수 있습니다.
+ *
+ * - 연결이 끊기거나 idle-timeout-ms 동안 메시지가 없으면 지수 백오프(reconnect-min-ms ~ reconnect-max-ms)로 다시 연결하고,
+ *   연결될 때마다 구독 중인 심볼을 모두 다시 구독합니다.
+ * - 메시지 콜백은 연결마다 순서대로 호출되므로 버퍼의 쓰기 스레드는 하나입니다.
+ *   재연결로 교체된 이전 연결의 메시지는 세대(generation) 번호로 걸러냅니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FinnhubTradeStream {
+
+    private final SymbolRegistry symbolRegistry;
+    private final TickStore tickStore;
+    private final BarAggregator barAggregator;
+
+    @Value("${stock.market.finnhub.websocket.enabled:false}")
+    private boolean enabled;
+
+    @Value("${stock.market.finnhub.websocket.url:wss://ws.finnhub.io}")
+    private String url;
+
+    @Value("${stock.market.finnhub.api-key:}")
+    private String apiKey;
+
+    @Value("${stock.market.finnhub.websocket.symbols:}")
+    private String configuredSymbols;
+
+    @Value("${stock.market.finnhub.websocket.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${stock.market.finnhub.websocket.reconnect-min-ms:1000}")
+    private long reconnectMinMs;
+
+    @Value("${stock.market.finnhub.websocket.reconnect-max-ms:60000}")
+    private long reconnectMaxMs;
+
+    @Value("${stock.market.finnhub.websocket.idle-timeout-ms:60000}")
+    private long idleTimeoutMs;
+
+    private final FinnhubTradeDecoder decoder = new FinnhubTradeDecoder();
+
+    // 구독 심볼 -> 심볼 ID와 기록할 버퍼 (체결 메시지의 심볼 문자열은 여기서 한 번만 조회함)
+    private final ConcurrentMap<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private HttpClient httpClient;
+    private ScheduledExecutorService scheduler;
+
+    private volatile boolean running;
+    private volatile WebSocket webSocket;
+    private volatile long connectedAt;
+    private volatile long lastMessageAt;
+    private volatile int attempt;
+
+    // sendText는 이전 전송이 끝나기 전에 호출할 수 없으므로 전송을 하나의 체인으로 직렬화
+    private CompletableFuture<?> sendChain = CompletableFuture.completedFuture(null);
+
+    private final LongAdder reconnects = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder trades = new LongAdder();
+    private final LongAdder ignoredTrades = new LongAdder();
+    private final LongAdder decodeErrors = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 설정된 심볼을 구독하고 연결을 시작합니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        Arrays.stream(configuredSymbols.split(","))
+                .map(String::trim)
+                .filter(symbol -> !symbol.isEmpty())
+                .forEach(symbol -> {
+                    try {
+                        String key = SymbolRegistry.normalize(symbol);
+                        subscriptions.computeIfAbsent(key, this::subscription);
+                    } catch (IllegalArgumentException e) {
+                        log.warn("잘못된 체결 구독 심볼 무시: {}", symbol);
+                    }
+                });
+
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "FinnhubTradeStream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        long watchdogMs = Math.max(idleTimeoutMs / 2, 100);
+        scheduler.scheduleWithFixedDelay(this::checkIdle, watchdogMs, watchdogMs, TimeUnit.MILLISECONDS);
+        scheduler.execute(this::connect);
+        log.info("Finnhub 체결 수신 시작. 심볼: {}개", subscriptions.size());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        generation.incrementAndGet();
+        WebSocket current = webSocket;
+        webSocket = null;
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown")
+                    .orTimeout(1, TimeUnit.SECONDS)
+                    .whenComplete((socket, error) -> current.abort());
+        }
+        scheduler.shutdownNow();
+        log.info("Finnhub 체결 수신 중지");
+    }
+
+    /**
+     * 심볼을 구독합니다. 연결되어 있지 않으면 다음 연결 때 구독됩니다.
+     */
+    public void subscribe(String symbol) {
+        String key = SymbolRegistry.normalize(symbol);
+        if (subscriptions.putIfAbsent(key, subscription(key)) == null) {
+            WebSocket current = webSocket;
+            if (current != null) {
+                send(current, subscribeMessage("subscribe", key));
+            }
+        }
+    }
+
+    /**
+     * 심볼 구독을 해제합니다. 이미 받은 체결은 버퍼에 남습니다.
+     */
+    public void unsubscribe(String symbol) {
+        String key = SymbolRegistry.normalize(symbol);
+        if (subscriptions.remove(key) != null) {
+            WebSocket current = webSocket;
+            if (current != null) {
+                send(current, subscribeMessage("unsubscribe", key));
+            }
+        }
+    }
+
+    public Set<String> getSubscribedSymbols() {
+        return Set.copyOf(subscriptions.keySet());
+    }
+
+    /**
+     * 수신 상태와 카운터를 반환합니다.
+     */
+    public TickStreamStatsDto getStats() {
+        return TickStreamStatsDto.builder()
+                .enabled(enabled)
+                .connected(webSocket != null)
+                .connectedAt(toDateTime(connectedAt))
+                .lastMessageAt(toDateTime(lastMessageAt))
+                .reconnects(reconnects.sum())
+                .connectFailures(connectFailures.sum())
+                .messages(messages.sum())
+                .trades(trades.sum())
+                .ignoredTrades(ignoredTrades.sum())
+                .decodeErrors(decodeErrors.sum())
+                .subscribedSymbols(List.copyOf(subscriptions.keySet()))
+                .build();
+    }
+
+    private void connect() {
+        if (!running) {
+            return;
+        }
+        long current = generation.incrementAndGet();
+        URI uri = URI.create(apiKey == null || apiKey.isBlank() ? url : url + "?token=" + apiKey);
+        httpClient.newWebSocketBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .buildAsync(uri, new Listener(current))
+                .whenComplete((socket, error) -> {
+                    if (error != null) {
+                        connectFailures.increment();
+                        log.warn("Finnhub 웹소켓 연결 실패. 오류: {}", error.getMessage());
+                        scheduleReconnect(current);
+                    }
+                });
+    }
+
+    private void onOpen(long current, WebSocket socket) {
+        if (current != generation.get()) {
+            socket.abort();
+            return;
+        }
+        webSocket = socket;
+        attempt = 0;
+        connectedAt = System.currentTimeMillis();
+        lastMessageAt = connectedAt;
+        synchronized (this) {
+            sendChain = CompletableFuture.completedFuture(null);
+        }
+        for (String symbol : subscriptions.keySet()) {
+            send(socket, subscribeMessage("subscribe", symbol));
+        }
+        log.info("Finnhub 웹소켓 연결. 구독 심볼: {}개", subscriptions.size());
+    }
+
+    private void onMessage(long current, String message) {
+        if (current != generation.get()) {
+            return;
+        }
+        lastMessageAt = System.currentTimeMillis();
+        messages.increment();
+        try {
+            DecodeResult<Integer> result = decoder.decode(message, this::record);
+            if (result.getKind() == DecodeResult.Kind.ERROR) {
+                log.warn("Finnhub 웹소켓 오류 메시지: {}", result.getMessage());
+            }
+        } catch (IOException e) {
+            decodeErrors.increment();
+            log.debug("Finnhub 체결 메시지 해석 실패. 오류: {}", e.getMessage());
+        }
+    }
+
+    private void record(String symbol, double price, long volume, long epochMillis) {
+        Subscription subscription = subscriptions.get(symbol);
+        if (subscription != null && subscription.buffer().append(epochMillis, price, volume)) {
+            trades.increment();
+            barAggregator.onTrade(subscription.symbolId(), epochMillis, price, volume);
+        } else {
+            ignoredTrades.increment();
+        }
+    }
+
+    private void onDisconnect(long current, String reason) {
+        if (current != generation.get()) {
+            return;
+        }
+        webSocket = null;
+        log.warn("Finnhub 웹소켓 연결 끊김. 사유: {}", reason);
+        scheduleReconnect(current);
+    }
+
+    // 메시지가 끊긴 연결은 닫힘 이벤트 없이 멈춰 있을 수 있으므로 직접 끊고 다시 연결
+    private void checkIdle() {
+        WebSocket current = webSocket;
+        if (current != null && System.currentTimeMillis() - lastMessageAt > idleTimeoutMs) {
+            log.warn("Finnhub 웹소켓이 {}ms 동안 메시지가 없어 다시 연결합니다.", idleTimeoutMs);
+            long stale = generation.get();
+            webSocket = null;
+            current.abort();
+            scheduleReconnect(stale);
+        }
+    }
+
+    private void scheduleReconnect(long failedGeneration) {
+        if (!running || !generation.compareAndSet(failedGeneration, failedGeneration + 1)) {
+            // 이미 다른 경로에서 재연결을 시작함
+            return;
+        }
+        int currentAttempt = attempt++;
+        long backoff = Math.min(reconnectMaxMs, reconnectMinMs << Math.min(currentAttempt, 20));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        reconnects.increment();
+        try {
+            scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.debug("재연결 예약 실패 (종료 중). 오류: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void send(WebSocket socket, String text) {
+        sendChain = sendChain
+                .thenCompose(ignored -> socket.sendText(text, true))
+                .exceptionally(e -> {
+                    log.debug("Finnhub 웹소켓 전송 실패. 메시지: {}, 오류: {}", text, e.getMessage());
+                    return null;
+                });
+    }
+
+    private Subscription subscription(String symbol) {
+        int symbolId = symbolRegistry.register(symbol);
+        return new Subscription(symbolId, tickStore.buffer(symbolId));
+    }
+
+    private static String subscribeMessage(String type, String symbol) {
+        return "{\"type\":\"" + type + "\",\"symbol\":\"" + symbol + "\"}";
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return epochMillis > 0 ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()) : null;
+    }
+
+    /**
+     * 연결 하나의 웹소켓 콜백. 분할된 텍스트 프레임을 모아 메시지 단위로 처리합니다.
+     */
+    private final class Listener implements WebSocket.Listener {
+
+        private final long generation;
+        private final StringBuilder partial = new StringBuilder();
+
+        private Listener(long generation) {
+            this.generation = generation;
+        }
+
+        @Override
+        public void onOpen(WebSocket socket) {
+            FinnhubTradeStream.this.onOpen(generation, socket);
+            socket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                String message = partial.toString();
+                partial.setLength(0);
+                onMessage(generation, message);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            onDisconnect(generation, "close " + statusCode + " " + reason);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            onDisconnect(generation, String.valueOf(error.getMessage()));
+        }
+    }
+
+    private record Subscription(int symbolId, TickRingBuffer buffer) {
+    }
+}
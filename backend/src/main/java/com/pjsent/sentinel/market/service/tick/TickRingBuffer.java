@@ -0,0 +1,220 @@
+package com.pjsent.sentinel.market.service.tick;
+
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+import com.pjsent.sentinel.market.dto.IntradayTickStatsDto;
+
+/**
+ * 심볼 하나의 체결(틱) 링 버퍼
+ * 생성 시 용량(2의 거듭제곱)만큼 시각/가격/수량 배열을 미리 할당하고, 가장 오래된 체결부터 덮어씁니다.
+ *
+ * - 쓰기: 수신 스레드 하나가 기록합니다. 슬롯을 쓴 뒤 sequence를 올려 읽는 쪽에 공개합니다.
+ *   쓰기 잠금은 재연결 직후 이전 연결의 콜백이 잠깐 겹치는 경우에만 경합하므로 평소에는 비용이 거의 없습니다.
+ * - 읽기: 잠금 없이 읽습니다. 장중 집계(최근가/VWAP/고가/저가)는 StampedLock의 낙관적 읽기로 일관된 값을 얻고,
+ *   최근 체결 목록은 복사하는 동안 쓰기가 있었으면 덮어써졌을 수 있는 슬롯을 sequence로 확인해 버립니다.
+ * - 장중 집계는 체결마다 갱신하므로 조회는 O(1)이며, 세션 시간대 기준으로 날짜가 바뀌면 초기화합니다.
+ */
+public final class TickRingBuffer {
+
+    private final String symbol;
+    private final ZoneId sessionZone;
+    private final int mask;
+    private final long[] times;
+    private final double[] prices;
+    private final long[] volumes;
+
+    // 기록을 마친 체결 수 (다음에 쓸 위치)
+    private volatile long sequence;
+
+    // 장중 집계 (lock으로 보호, 읽기는 낙관적)
+    private final StampedLock lock = new StampedLock();
+    private long sessionStart = Long.MIN_VALUE;
+    private long nextSessionStart = Long.MIN_VALUE;
+    private double lastPrice;
+    private long lastTradeAt;
+    private double high;
+    private double low;
+    private double turnover;
+    private long volume;
+    private long trades;
+
+    /**
+     * @param symbol 주식 심볼
+     * @param capacity 보관할 체결 수 (2의 거듭제곱으로 올림)
+     * @param sessionZone 장중 집계를 초기화할 날짜 기준 시간대
+     */
+    public TickRingBuffer(String symbol, int capacity, ZoneId sessionZone) {
+        if (capacity <= 0 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("링 버퍼 용량은 1 이상 16777216 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.symbol = symbol;
+        this.sessionZone = sessionZone;
+        this.mask = size - 1;
+        this.times = new long[size];
+        this.prices = new double[size];
+        this.volumes = new long[size];
+    }
+
+    /**
+     * 체결 하나를 기록합니다.
+     *
+     * @param epochMillis 체결 시각 (epoch 밀리초)
+     * @param price 체결가
+     * @param quantity 체결 수량
+     * @return 기록했으면 true, 가격이 0 이하이면 false
+     */
+    public boolean append(long epochMillis, double price, long quantity) {
+        if (!(price > 0) || quantity < 0) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            long next = sequence;
+            int slot = (int) (next & mask);
+            times[slot] = epochMillis;
+            prices[slot] = price;
+            volumes[slot] = quantity;
+
+            if (epochMillis >= nextSessionStart) {
+                startSession(epochMillis);
+            }
+            // 이전 세션의 늦은 체결은 버퍼에만 남기고 장중 집계에는 넣지 않음
+            if (epochMillis >= sessionStart) {
+                if (epochMillis >= lastTradeAt) {
+                    lastPrice = price;
+                    lastTradeAt = epochMillis;
+                }
+                if (trades == 0 || price > high) {
+                    high = price;
+                }
+                if (trades == 0 || price < low) {
+                    low = price;
+                }
+                turnover += price * quantity;
+                volume += quantity;
+                trades++;
+            }
+            sequence = next + 1;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 현재 세션의 장중 집계를 반환합니다.
+     *
+     * @return 장중 집계, 이번 세션에 체결이 없으면 null
+     */
+    public IntradayTickStatsDto stats() {
+        while (true) {
+            long stamp = lock.tryOptimisticRead();
+            long start = sessionStart;
+            double last = lastPrice;
+            long lastAt = lastTradeAt;
+            double sessionHigh = high;
+            double sessionLow = low;
+            double sessionTurnover = turnover;
+            long sessionVolume = volume;
+            long sessionTrades = trades;
+            if (stamp == 0 || !lock.validate(stamp)) {
+                // 쓰기 중이면 잠깐 뒤에 다시 읽음
+                Thread.onSpinWait();
+                continue;
+            }
+            if (sessionTrades == 0) {
+                return null;
+            }
+            return IntradayTickStatsDto.builder()
+                    .symbol(symbol)
+                    .lastPrice(last)
+                    .lastTradeAt(lastAt)
+                    // 수량 없는 체결만 있으면 단순 최근가로 대체
+                    .vwap(sessionVolume > 0 ? sessionTurnover / sessionVolume : last)
+                    .high(sessionHigh)
+                    .low(sessionLow)
+                    .volume(sessionVolume)
+                    .trades(sessionTrades)
+                    .sessionStart(start)
+                    .build();
+        }
+    }
+
+    /**
+     * 최근 체결을 오래된 것부터 반환합니다.
+     *
+     * @param max 최대 개수
+     */
+    public List<Tick> recent(int max) {
+        long stamp = lock.tryOptimisticRead();
+        long end = sequence;
+        int count = (int) Math.min(Math.min(max, end), mask + 1L);
+        long begin = end - count;
+        long[] copiedTimes = new long[count];
+        double[] copiedPrices = new double[count];
+        long[] copiedVolumes = new long[count];
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((begin + i) & mask);
+            copiedTimes[i] = times[slot];
+            copiedPrices[i] = prices[slot];
+            copiedVolumes[i] = volumes[slot];
+        }
+
+        int skip = 0;
+        if (stamp == 0 || !lock.validate(stamp)) {
+            // 복사하는 동안 쓰기가 있었으면 덮어썼을 수 있는 슬롯을 제외 (쓰는 중인 슬롯 포함)
+            VarHandle.loadLoadFence();
+            long overwrittenBefore = sequence + 1 - (mask + 1L);
+            skip = (int) Math.max(0, Math.min(count, overwrittenBefore - begin));
+        }
+        List<Tick> result = new ArrayList<>(count - skip);
+        for (int i = skip; i < count; i++) {
+            result.add(new Tick(copiedTimes[i], copiedPrices[i], copiedVolumes[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 지금까지 기록한 체결 수
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    private void startSession(long epochMillis) {
+        ZonedDateTime start = Instant.ofEpochMilli(epochMillis).atZone(sessionZone).toLocalDate().atStartOfDay(sessionZone);
+        sessionStart = start.toInstant().toEpochMilli();
+        nextSessionStart = start.plusDays(1).toInstant().toEpochMilli();
+        lastPrice = 0;
+        lastTradeAt = Long.MIN_VALUE;
+        high = 0;
+        low = 0;
+        turnover = 0;
+        volume = 0;
+        trades = 0;
+    }
+
+    /**
+     * 체결 하나 (epoch 밀리초, 가격, 수량)
+     */
+    public record Tick(long epochMillis, double price, long volume) {
+    }
+}
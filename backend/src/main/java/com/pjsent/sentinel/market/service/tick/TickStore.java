@@ -0,0 +1,84 @@
+package com.pjsent.sentinel.market.service.tick;
+
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pjsent.sentinel.market.dto.IntradayTickStatsDto;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+import com.pjsent.sentinel.market.service.symbol.SymbolTable;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 심볼별 체결 링 버퍼 저장소
+ * 버퍼는 심볼이 처음 구독될 때 한 번 할당되고 이후에는 재사용됩니다.
+ * 버퍼는 SymbolRegistry의 심볼 ID로 인덱싱하므로 조회는 HTTP 호출이나 문자열 해시 없이 메모리에서 O(1)로 끝납니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TickStore {
+
+    private final SymbolRegistry symbolRegistry;
+
+    @Value("${stock.market.ticks.buffer-capacity:4096}")
+    private int bufferCapacity;
+
+    @Value("${stock.market.ticks.session-zone:America/New_York}")
+    private String sessionZoneId;
+
+    private ZoneId sessionZone;
+
+    private final SymbolTable<TickRingBuffer> buffers = new SymbolTable<>();
+
+    @PostConstruct
+    void init() {
+        sessionZone = ZoneId.of(sessionZoneId);
+    }
+
+    /**
+     * 심볼의 버퍼를 반환하고, 없으면 할당합니다.
+     */
+    public TickRingBuffer buffer(String symbol) {
+        return buffer(symbolRegistry.register(symbol));
+    }
+
+    /**
+     * 심볼 ID의 버퍼를 반환하고, 없으면 할당합니다.
+     */
+    public TickRingBuffer buffer(int symbolId) {
+        return buffers.computeIfAbsent(symbolId,
+                id -> new TickRingBuffer(symbolRegistry.symbol(id), bufferCapacity, sessionZone));
+    }
+
+    /**
+     * 할당된 버퍼를 반환합니다.
+     *
+     * @param symbol 정규화된 주식 심볼
+     */
+    public Optional<TickRingBuffer> find(String symbol) {
+        return Optional.ofNullable(buffers.get(symbolRegistry.find(symbol)));
+    }
+
+    /**
+     * 심볼의 장중 체결 집계를 반환합니다.
+     *
+     * @param symbol 정규화된 주식 심볼
+     * @return 이번 세션에 체결이 없으면 empty
+     */
+    public Optional<IntradayTickStatsDto> stats(String symbol) {
+        TickRingBuffer buffer = buffers.get(symbolRegistry.find(symbol));
+        return buffer != null ? Optional.ofNullable(buffer.stats()) : Optional.empty();
+    }
+
+    public Set<String> symbols() {
+        Set<String> symbols = new HashSet<>();
+        buffers.forEach((id, buffer) -> symbols.add(buffer.symbol()));
+        return Set.copyOf(symbols);
+    }
+}
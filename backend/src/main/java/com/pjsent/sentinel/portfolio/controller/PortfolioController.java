@@ -2,6 +2,8 @@ package com.pjsent.sentinel.portfolio.controller;
 
 import com.pjsent.sentinel.portfolio.dto.*;
 import com.pjsent.sentinel.portfolio.service.PortfolioService;
+import com.pjsent.sentinel.portfolio.service.reconciliation.PortfolioReconciliationJob;
+import com.pjsent.sentinel.portfolio.service.revaluation.HoldingRevaluator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,8 @@ import java.util.List;
 public class PortfolioController {
 
     private final PortfolioService portfolioService;
+    private final PortfolioReconciliationJob reconciliationJob;
+    private final HoldingRevaluator holdingRevaluator;
 
     /**
      * 사용자의 모든 포트폴리오 조회
@@ -40,6 +44,16 @@ public class PortfolioController {
         return ResponseEntity.ok(portfolios);
     }
 
+    /**
+     * 사용자의 포트폴리오 요약 목록 조회 (목록 화면용, 보유 종목 상세 제외)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<PortfolioSummaryDto>> getPortfolioSummaries(@RequestParam Long userId) {
+        log.info("포트폴리오 요약 목록 조회 요청. 사용자 ID: {}", userId);
+        
+        return ResponseEntity.ok(portfolioService.getPortfolioSummariesByUserId(userId));
+    }
+
     /**
      * 특정 포트폴리오 조회
      */
@@ -156,4 +170,36 @@ public class PortfolioController {
         
         return ResponseEntity.ok(portfolio);
     }
+
+    /**
+     * 포트폴리오 재계산 소요 시간 통계 조회 (가격 조회 / 저장 구간별)
+     */
+    @GetMapping("/recalculation/stats")
+    public ResponseEntity<PortfolioRecalculationStatsDto> getRecalculationStats() {
+        return ResponseEntity.ok(portfolioService.getRecalculationStats());
+    }
+
+    /**
+     * 포트폴리오 평가 스냅샷 캐시 통계 조회
+     */
+    @GetMapping("/valuation/stats")
+    public ResponseEntity<PortfolioValuationCacheStatsDto> getValuationCacheStats() {
+        return ResponseEntity.ok(portfolioService.getValuationCacheStats());
+    }
+
+    /**
+     * 포트폴리오 합계 점검 작업의 마지막 실행 통계 조회
+     */
+    @GetMapping("/reconciliation/stats")
+    public ResponseEntity<PortfolioReconciliationStatsDto> getReconciliationStats() {
+        return ResponseEntity.ok(reconciliationJob.getStats());
+    }
+
+    /**
+     * 시세 갱신에 따른 보유 종목 재평가 통계 조회
+     */
+    @GetMapping("/revaluation/stats")
+    public ResponseEntity<PortfolioRevaluationStatsDto> getRevaluationStats() {
+        return ResponseEntity.ok(holdingRevaluator.getStats());
+    }
 }
@@ -0,0 +1,21 @@
+package com.pjsent.sentinel.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 포트폴리오 재계산 통계 DTO
+ * fetch는 트랜잭션 밖에서 시세를 일괄 조회한 시간, persist는 가격 반영 및 저장 트랜잭션 시간입니다.
+ */
+@Getter
+@Builder
+public class PortfolioRecalculationStatsDto {
+    private long recalculations;
+    private long priceFailures;
+    private double avgFetchMs;
+    private long maxFetchMs;
+    private long lastFetchMs;
+    private double avgPersistMs;
+    private long maxPersistMs;
+    private long lastPersistMs;
+}
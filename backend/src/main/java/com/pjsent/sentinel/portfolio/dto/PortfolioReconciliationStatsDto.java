@@ -0,0 +1,26 @@
+package com.pjsent.sentinel.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포트폴리오 합계 점검 작업의 마지막 실행 통계 DTO
+ * driftDetected는 저장된 합계가 보유 종목 합산 값과 허용 오차보다 크게 달랐던 포트폴리오 수이고,
+ * maxValueDrift/maxCostDrift는 그중 가장 큰 차이(절댓값)입니다. driftedPortfolioIds는 최대 20개까지만 담습니다.
+ */
+@Getter
+@Builder
+public class PortfolioReconciliationStatsDto {
+    private LocalDateTime startedAt;
+    private long elapsedMs;
+    private long portfoliosChecked;
+    private int driftDetected;
+    private int repaired;
+    private BigDecimal maxValueDrift;
+    private BigDecimal maxCostDrift;
+    private List<Long> driftedPortfolioIds;
+}
@@ -0,0 +1,26 @@
+package com.pjsent.sentinel.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시세 갱신에 따른 보유 종목 재평가 통계 DTO
+ * ticksCoalesced는 반영 전에 같은 심볼의 더 새로운 가격으로 덮어쓴 시세 수이고,
+ * holdingsUpdated는 현재가가 실제로 바뀐 보유 종목 행 수, portfoliosRefreshed는 합계를 다시 계산한 포트폴리오 수입니다.
+ */
+@Getter
+@Builder
+public class PortfolioRevaluationStatsDto {
+    private boolean enabled;
+    private int indexedSymbols;
+    private int indexedHoldings;
+    private int pendingSymbols;
+    private int pendingPortfolios;
+    private long ticksReceived;
+    private long ticksCoalesced;
+    private long flushes;
+    private long holdingsUpdated;
+    private long portfoliosRefreshed;
+    private long failures;
+    private long lastFlushMs;
+}
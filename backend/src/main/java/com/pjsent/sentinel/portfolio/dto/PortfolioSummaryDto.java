@@ -0,0 +1,25 @@
+package com.pjsent.sentinel.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 요약 DTO
+ * 목록 화면용으로 보유 종목 상세 대신 보유 종목 수만 포함
+ */
+@Getter
+@Builder
+public class PortfolioSummaryDto {
+    private Long id;
+    private String name;
+    private String description;
+    private BigDecimal totalValue;
+    private BigDecimal totalCost;
+    private BigDecimal totalGainLoss;
+    private BigDecimal totalGainLossPercent;
+    private long holdingCount;
+    private LocalDateTime updatedAt;
+}
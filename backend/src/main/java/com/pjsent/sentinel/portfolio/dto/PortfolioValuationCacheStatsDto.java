@@ -0,0 +1,22 @@
+package com.pjsent.sentinel.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 포트폴리오 평가 스냅샷 캐시 통계 DTO
+ * staleDiscarded는 계산 도중 버전이 바뀌어 저장하지 않은 스냅샷 수, priceInvalidations는 새 시세 반영으로 버전을 올린 포트폴리오 수입니다.
+ */
+@Getter
+@Builder
+public class PortfolioValuationCacheStatsDto {
+    private boolean enabled;
+    private int entries;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long staleDiscarded;
+    private long evictions;
+    private long invalidations;
+    private long priceInvalidations;
+}
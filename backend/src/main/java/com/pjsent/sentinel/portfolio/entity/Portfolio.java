@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -58,7 +59,15 @@ public class Portfolio {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금: 시세 재평가의 합계 UPDATE(refreshTotals)도 버전을 올리므로,
+    // 그 전에 읽은 엔티티로 합계를 덮어쓰거나 오래된 합계에 변경분을 더하지 않음
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 엔티티 그래프 없이 여러 포트폴리오의 보유 종목을 읽을 때 포트폴리오마다 쿼리가 나가지 않도록 IN 조회로 묶음
     @OneToMany(mappedBy = "portfolio", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<PortfolioHolding> holdings = new ArrayList<>();
 
     @Builder
@@ -108,23 +117,47 @@ public class Portfolio {
     }
 
     /**
-     * 보유 종목 추가
+     * 보유 종목 추가 (보유 종목의 평가액과 원가를 합계에 더함)
      */
     public void addHolding(PortfolioHolding holding) {
         holdings.add(holding);
         holding.setPortfolio(this);
+        applyDelta(valueOf(holding.getMarketValue()), valueOf(holding.getTotalCost()));
     }
 
     /**
-     * 보유 종목 제거
+     * 보유 종목 제거 (보유 종목의 평가액과 원가를 합계에서 뺌)
      */
     public void removeHolding(PortfolioHolding holding) {
-        holdings.remove(holding);
+        if (holdings.remove(holding)) {
+            applyDelta(valueOf(holding.getMarketValue()).negate(), valueOf(holding.getTotalCost()).negate());
+        }
         holding.setPortfolio(null);
     }
 
     /**
-     * 포트폴리오 재계산
+     * 보유 종목 현재가 변경 (변경분만 합계에 반영)
+     */
+    public void updateHoldingPrice(PortfolioHolding holding, BigDecimal currentPrice) {
+        BigDecimal previousValue = valueOf(holding.getMarketValue());
+        BigDecimal previousCost = valueOf(holding.getTotalCost());
+        holding.updateCurrentPrice(currentPrice);
+        applyChange(holding, previousValue, previousCost);
+    }
+
+    /**
+     * 보유 종목 수량/평균 단가 변경 (변경분만 합계에 반영)
+     */
+    public void updateHolding(PortfolioHolding holding, BigDecimal quantity, BigDecimal averageCost) {
+        BigDecimal previousValue = valueOf(holding.getMarketValue());
+        BigDecimal previousCost = valueOf(holding.getTotalCost());
+        holding.updateHolding(quantity, averageCost);
+        applyChange(holding, previousValue, previousCost);
+    }
+
+    /**
+     * 포트폴리오 재계산 (모든 보유 종목을 다시 합산)
+     * 보유 종목 변경은 변경분만 합계에 반영하므로, 전체 재계산은 명시적 재계산과 합계 불일치 보정에만 사용합니다.
      */
     public void recalculate() {
         BigDecimal totalValue = BigDecimal.ZERO;
@@ -143,4 +176,22 @@ public class Portfolio {
         this.totalCost = totalCost;
         calculateGainLoss();
     }
+
+    private void applyChange(PortfolioHolding holding, BigDecimal previousValue, BigDecimal previousCost) {
+        applyDelta(valueOf(holding.getMarketValue()).subtract(previousValue),
+                valueOf(holding.getTotalCost()).subtract(previousCost));
+    }
+
+    private void applyDelta(BigDecimal valueDelta, BigDecimal costDelta) {
+        if (valueDelta.signum() == 0 && costDelta.signum() == 0) {
+            return;
+        }
+        this.totalValue = totalValue.add(valueDelta);
+        this.totalCost = totalCost.add(costDelta);
+        calculateGainLoss();
+    }
+
+    private static BigDecimal valueOf(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
 }
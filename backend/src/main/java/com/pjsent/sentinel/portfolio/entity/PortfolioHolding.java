@@ -9,6 +9,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -22,6 +23,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PortfolioHolding {
 
+    private static final int AMOUNT_SCALE = 2;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
@@ -63,22 +66,34 @@ public class PortfolioHolding {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금: 시세 재평가의 현재가 UPDATE(applyCurrentPrice)도 버전을 올리므로,
+    // 그 전에 읽은 엔티티로 현재가/평가액을 덮어쓰지 않음
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
     public PortfolioHolding(Portfolio portfolio, String symbol, BigDecimal quantity, BigDecimal averageCost) {
         this.portfolio = portfolio;
         this.symbol = symbol;
         this.quantity = quantity;
         this.averageCost = averageCost;
-        this.totalCost = quantity.multiply(averageCost);
+        this.totalCost = amount(quantity.multiply(averageCost));
     }
 
     /**
      * 현재 가격 업데이트 및 손익 재계산
+     * 가격이 그대로면 아무것도 다시 계산하지 않습니다.
+     * 포트폴리오 합계에 반영하려면 Portfolio.updateHoldingPrice()를 사용합니다.
      */
     public void updateCurrentPrice(BigDecimal currentPrice) {
+        if (currentPrice != null && this.currentPrice != null && marketValue != null
+                && currentPrice.compareTo(this.currentPrice) == 0) {
+            return;
+        }
         this.currentPrice = currentPrice;
         if (currentPrice != null && quantity != null) {
-            this.marketValue = quantity.multiply(currentPrice);
+            this.marketValue = amount(quantity.multiply(currentPrice));
             calculateGainLoss();
         }
     }
@@ -87,21 +102,14 @@ public class PortfolioHolding {
      * 수량 업데이트
      */
     public void updateQuantity(BigDecimal newQuantity) {
-        this.quantity = newQuantity;
-        this.totalCost = quantity.multiply(averageCost);
-        if (currentPrice != null) {
-            this.marketValue = quantity.multiply(currentPrice);
-            calculateGainLoss();
-        }
+        updateHolding(newQuantity, averageCost);
     }
 
     /**
      * 평균 단가 업데이트
      */
     public void updateAverageCost(BigDecimal newAverageCost) {
-        this.averageCost = newAverageCost;
-        this.totalCost = quantity.multiply(averageCost);
-        calculateGainLoss();
+        updateHolding(quantity, newAverageCost);
     }
 
     /**
@@ -112,7 +120,7 @@ public class PortfolioHolding {
             this.gainLoss = marketValue.subtract(totalCost);
             if (totalCost.compareTo(BigDecimal.ZERO) > 0) {
                 this.gainLossPercent = gainLoss
-                        .divide(totalCost, 4, java.math.RoundingMode.HALF_UP)
+                        .divide(totalCost, 4, RoundingMode.HALF_UP)
                         .multiply(BigDecimal.valueOf(100));
             } else {
                 this.gainLossPercent = BigDecimal.ZERO;
@@ -123,6 +131,14 @@ public class PortfolioHolding {
         }
     }
 
+    /**
+     * 금액을 컬럼 scale(소수 2자리)로 맞춤
+     * 메모리의 값과 DB에 저장된 값이 같아야 포트폴리오 합계를 변경분만으로 유지해도 오차가 쌓이지 않음
+     */
+    static BigDecimal amount(BigDecimal value) {
+        return value.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
     /**
      * 포트폴리오 설정 (양방향 관계 설정용)
      */
@@ -132,14 +148,19 @@ public class PortfolioHolding {
 
     /**
      * 보유 종목 정보 업데이트 (수량과 평균 단가를 함께 업데이트)
+     * 포트폴리오 합계에 반영하려면 Portfolio.updateHolding()을 사용합니다.
      */
     public void updateHolding(BigDecimal newQuantity, BigDecimal newAverageCost) {
+        boolean costChanged = newQuantity.compareTo(quantity) != 0 || newAverageCost.compareTo(averageCost) != 0;
         this.quantity = newQuantity;
         this.averageCost = newAverageCost;
-        this.totalCost = quantity.multiply(averageCost);
+        if (!costChanged) {
+            return;
+        }
+        this.totalCost = amount(quantity.multiply(averageCost));
         if (currentPrice != null) {
-            this.marketValue = quantity.multiply(currentPrice);
-            calculateGainLoss();
+            this.marketValue = amount(quantity.multiply(currentPrice));
         }
+        calculateGainLoss();
     }
 }
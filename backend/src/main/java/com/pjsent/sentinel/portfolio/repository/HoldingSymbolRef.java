@@ -0,0 +1,13 @@
+package com.pjsent.sentinel.portfolio.repository;
+
+/**
+ * 보유 종목 ID, 포트폴리오 ID, 심볼 (심볼 -> 보유 종목 색인 구성용 프로젝션)
+ */
+public interface HoldingSymbolRef {
+
+    Long getId();
+
+    Long getPortfolioId();
+
+    String getSymbol();
+}
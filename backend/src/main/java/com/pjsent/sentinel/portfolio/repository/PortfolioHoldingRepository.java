@@ -2,10 +2,14 @@ package com.pjsent.sentinel.portfolio.repository;
 
 import com.pjsent.sentinel.portfolio.entity.PortfolioHolding;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -66,4 +70,36 @@ public interface PortfolioHoldingRepository extends JpaRepository<PortfolioHoldi
      */
     @Query("SELECT h FROM PortfolioHolding h JOIN h.portfolio p WHERE p.userId = :userId AND h.symbol = :symbol")
     List<PortfolioHolding> findByUserIdAndSymbol(@Param("userId") UUID userId, @Param("symbol") String symbol);
+
+    /**
+     * 전체 포트폴리오의 보유 종목을 심볼별로 집계 (보유 사용자 수, 평가액 합계)
+     */
+    @Query("SELECT h.symbol AS symbol, COUNT(DISTINCT p.userId) AS holderCount, "
+            + "COALESCE(SUM(h.marketValue), 0) AS marketValue "
+            + "FROM PortfolioHolding h JOIN h.portfolio p GROUP BY h.symbol")
+    List<SymbolHoldingSummary> summarizeBySymbol();
+
+    /**
+     * 전체 보유 종목의 ID, 포트폴리오 ID, 심볼 조회 (심볼 -> 보유 종목 색인 구성용)
+     */
+    @Query("SELECT h.id AS id, h.portfolio.id AS portfolioId, h.symbol AS symbol FROM PortfolioHolding h")
+    List<HoldingSymbolRef> findAllSymbolRefs();
+
+    /**
+     * 보유 종목들에 새 현재가를 반영 (UPDATE 한 번, 현재가가 이미 같은 행은 건너뜀)
+     * 평가액과 손익은 PortfolioHolding과 같은 반올림(평가액 소수 2자리, 수익률 비율 소수 4자리)으로 계산합니다.
+     * 버전을 올리므로 UPDATE 이전에 읽은 보유 종목 엔티티를 저장하면 낙관적 잠금 예외가 발생합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PortfolioHolding h SET h.currentPrice = :price, "
+            + "h.marketValue = ROUND(h.quantity * :price, 2), "
+            + "h.gainLoss = ROUND(h.quantity * :price, 2) - h.totalCost, "
+            + "h.gainLossPercent = CASE WHEN h.totalCost > 0 "
+            + "THEN ROUND((ROUND(h.quantity * :price, 2) - h.totalCost) / h.totalCost, 4) * 100 ELSE 0 END, "
+            + "h.updatedAt = :now, h.version = h.version + 1 "
+            + "WHERE h.id IN :ids AND (h.currentPrice IS NULL OR h.currentPrice <> :price)")
+    int applyCurrentPrice(@Param("ids") Collection<Long> ids, @Param("price") BigDecimal price,
+                          @Param("now") LocalDateTime now);
 }
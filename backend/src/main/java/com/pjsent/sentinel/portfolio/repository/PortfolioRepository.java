@@ -1,11 +1,16 @@
 package com.pjsent.sentinel.portfolio.repository;
 
 import com.pjsent.sentinel.portfolio.entity.Portfolio;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,11 +27,34 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
      */
     List<Portfolio> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    /**
+     * 사용자 ID로 포트폴리오 목록을 보유 종목과 함께 조회 (조인 쿼리 한 번)
+     */
+    @EntityGraph(attributePaths = "holdings")
+    List<Portfolio> findWithHoldingsByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * 사용자 ID로 포트폴리오 요약 목록 조회 (보유 종목 엔티티를 읽지 않고 개수만 집계)
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.description AS description, "
+            + "p.totalValue AS totalValue, p.totalCost AS totalCost, "
+            + "p.totalGainLoss AS totalGainLoss, p.totalGainLossPercent AS totalGainLossPercent, "
+            + "(SELECT COUNT(h) FROM PortfolioHolding h WHERE h.portfolio = p) AS holdingCount, "
+            + "p.updatedAt AS updatedAt "
+            + "FROM Portfolio p WHERE p.userId = :userId ORDER BY p.createdAt DESC")
+    List<PortfolioSummary> findSummariesByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자 ID와 포트폴리오 ID로 포트폴리오 조회
      */
     Optional<Portfolio> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * 사용자 ID와 포트폴리오 ID로 포트폴리오를 보유 종목과 함께 조회 (조인 쿼리 한 번)
+     */
+    @EntityGraph(attributePaths = "holdings")
+    Optional<Portfolio> findWithHoldingsByIdAndUserId(Long id, Long userId);
+
     /**
      * 사용자 ID로 포트폴리오 개수 조회
      */
@@ -42,6 +70,41 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
      */
     Optional<Portfolio> findByUserIdAndName(Long userId, String name);
 
+    /**
+     * 저장된 합계가 보유 종목 합산 값과 허용 오차보다 크게 다른 포트폴리오 조회 (집계 쿼리 한 번)
+     */
+    @Query("SELECT p.id AS portfolioId, p.totalValue AS totalValue, p.totalCost AS totalCost, "
+            + "COALESCE(SUM(h.marketValue), 0) AS holdingsValue, COALESCE(SUM(h.totalCost), 0) AS holdingsCost "
+            + "FROM Portfolio p LEFT JOIN p.holdings h "
+            + "GROUP BY p.id, p.totalValue, p.totalCost "
+            + "HAVING ABS(p.totalValue - COALESCE(SUM(h.marketValue), 0)) > :tolerance "
+            + "OR ABS(p.totalCost - COALESCE(SUM(h.totalCost), 0)) > :tolerance")
+    List<PortfolioTotalsDrift> findTotalsDrift(@Param("tolerance") BigDecimal tolerance);
+
+    /**
+     * 포트폴리오 총 가치/총 비용을 보유 종목 합계로 다시 계산 (UPDATE 한 번)
+     * 손익은 이 UPDATE가 바꾼 합계를 읽어야 하므로 이어서 refreshGainLoss()를 실행합니다.
+     * 버전을 올리므로 UPDATE 이전에 읽은 포트폴리오 엔티티를 저장하면 낙관적 잠금 예외가 발생합니다.
+     */
+    @Modifying
+    @Query("UPDATE Portfolio p SET "
+            + "p.totalValue = (SELECT COALESCE(SUM(h.marketValue), 0) FROM PortfolioHolding h WHERE h.portfolio.id = p.id), "
+            + "p.totalCost = (SELECT COALESCE(SUM(h.totalCost), 0) FROM PortfolioHolding h WHERE h.portfolio.id = p.id), "
+            + "p.updatedAt = :now, p.version = p.version + 1 "
+            + "WHERE p.id IN :ids")
+    int refreshTotals(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 포트폴리오 손익을 저장된 총 가치/총 비용으로 다시 계산 (Portfolio와 같은 반올림)
+     */
+    @Modifying
+    @Query("UPDATE Portfolio p SET "
+            + "p.totalGainLoss = CASE WHEN p.totalCost > 0 THEN p.totalValue - p.totalCost ELSE 0 END, "
+            + "p.totalGainLossPercent = CASE WHEN p.totalCost > 0 "
+            + "THEN ROUND((p.totalValue - p.totalCost) / p.totalCost, 4) * 100 ELSE 0 END "
+            + "WHERE p.id IN :ids")
+    int refreshGainLoss(@Param("ids") Collection<Long> ids);
+
     /**
      * 사용자 ID로 포트폴리오 총 가치 합계 조회
      */
@@ -0,0 +1,31 @@
+package com.pjsent.sentinel.portfolio.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 요약 (목록 화면용 프로젝션)
+ */
+public interface PortfolioSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    BigDecimal getTotalValue();
+
+    BigDecimal getTotalCost();
+
+    BigDecimal getTotalGainLoss();
+
+    BigDecimal getTotalGainLossPercent();
+
+    /**
+     * 보유 종목 수
+     */
+    Long getHoldingCount();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,25 @@
+package com.pjsent.sentinel.portfolio.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 저장된 포트폴리오 합계와 보유 종목 합산 값 (합계 불일치 점검용 프로젝션)
+ */
+public interface PortfolioTotalsDrift {
+
+    Long getPortfolioId();
+
+    BigDecimal getTotalValue();
+
+    BigDecimal getTotalCost();
+
+    /**
+     * 보유 종목 평가액 합계
+     */
+    BigDecimal getHoldingsValue();
+
+    /**
+     * 보유 종목 원가 합계
+     */
+    BigDecimal getHoldingsCost();
+}
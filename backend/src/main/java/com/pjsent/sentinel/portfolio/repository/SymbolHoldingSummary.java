@@ -0,0 +1,21 @@
+package com.pjsent.sentinel.portfolio.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 심볼별 보유 현황 집계 (전체 포트폴리오 기준)
+ */
+public interface SymbolHoldingSummary {
+
+    String getSymbol();
+
+    /**
+     * 해당 심볼을 보유한 사용자 수
+     */
+    Long getHolderCount();
+
+    /**
+     * 전체 보유 평가액 합계
+     */
+    BigDecimal getMarketValue();
+}
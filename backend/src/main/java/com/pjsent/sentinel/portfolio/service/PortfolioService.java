@@ -1,19 +1,31 @@
 package com.pjsent.sentinel.portfolio.service;
 
 import com.pjsent.sentinel.common.exception.ResourceNotFoundException;
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
 import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.market.service.hedging.HedgeEndpoint;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
 import com.pjsent.sentinel.portfolio.dto.*;
 import com.pjsent.sentinel.portfolio.entity.Portfolio;
 import com.pjsent.sentinel.portfolio.entity.PortfolioHolding;
 import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
 import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.service.revaluation.HoldingSymbolIndex;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuation;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
@@ -29,14 +41,26 @@ public class PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final PortfolioHoldingRepository holdingRepository;
     private final MarketDataService marketDataService;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioValuationCache valuationCache;
+    private final HoldingSymbolIndex holdingIndex;
+
+    private final LongAdder recalculations = new LongAdder();
+    private final LongAdder priceFailures = new LongAdder();
+    private final LongAdder fetchMsTotal = new LongAdder();
+    private final LongAdder persistMsTotal = new LongAdder();
+    private final AtomicLong fetchMsMax = new AtomicLong();
+    private final AtomicLong persistMsMax = new AtomicLong();
+    private volatile long lastFetchMs;
+    private volatile long lastPersistMs;
 
     /**
-     * 사용자의 모든 포트폴리오 조회
+     * 사용자의 모든 포트폴리오 조회 (보유 종목 포함, 쿼리 한 번)
      */
     public List<PortfolioDto> getPortfoliosByUserId(Long userId) {
         log.info("사용자 포트폴리오 목록 조회. 사용자 ID: {}", userId);
         
-        List<Portfolio> portfolios = portfolioRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        List<Portfolio> portfolios = portfolioRepository.findWithHoldingsByUserIdOrderByCreatedAtDesc(userId);
         
         return portfolios.stream()
                 .map(this::convertToDto)
@@ -44,15 +68,57 @@ public class PortfolioService {
     }
 
     /**
-     * 특정 포트폴리오 조회
+     * 사용자의 포트폴리오 요약 목록 조회 (목록 화면용, 보유 종목 상세 제외)
+     */
+    public List<PortfolioSummaryDto> getPortfolioSummariesByUserId(Long userId) {
+        log.info("사용자 포트폴리오 요약 목록 조회. 사용자 ID: {}", userId);
+        
+        return portfolioRepository.findSummariesByUserId(userId).stream()
+                .map(summary -> PortfolioSummaryDto.builder()
+                        .id(summary.getId())
+                        .name(summary.getName())
+                        .description(summary.getDescription())
+                        .totalValue(summary.getTotalValue())
+                        .totalCost(summary.getTotalCost())
+                        .totalGainLoss(summary.getTotalGainLoss())
+                        .totalGainLossPercent(summary.getTotalGainLossPercent())
+                        .holdingCount(summary.getHoldingCount() != null ? summary.getHoldingCount() : 0L)
+                        .updatedAt(summary.getUpdatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 포트폴리오 조회 (평가 스냅샷 캐시 사용)
      */
     public PortfolioDto getPortfolioById(Long portfolioId, Long userId) {
         log.info("포트폴리오 조회. 포트폴리오 ID: {}, 사용자 ID: {}", portfolioId, userId);
         
-        Portfolio portfolio = portfolioRepository.findByIdAndUserId(portfolioId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("포트폴리오", portfolioId));
+        return getValuation(portfolioId, userId).portfolio();
+    }
+
+    /**
+     * 포트폴리오 평가 스냅샷 조회
+     * 마지막 변경 이후 계산된 스냅샷이 있으면 DB를 읽지 않고 반환하고, 없으면 보유 종목을 읽어 계산한 뒤 저장합니다.
+     */
+    public PortfolioValuation getValuation(Long portfolioId, Long userId) {
+        Optional<PortfolioValuation> cached = valuationCache.get(portfolioId);
+        if (cached.isPresent() && userId.equals(cached.get().portfolio().getUserId())) {
+            return cached.get();
+        }
         
-        return convertToDto(portfolio);
+        // 버전은 DB를 읽기 전에 확인해야 계산 도중의 변경을 감지할 수 있음
+        long version = valuationCache.version(portfolioId);
+        PortfolioValuation valuation = PortfolioValuation.of(version, convertToDto(findPortfolio(portfolioId, userId)));
+        valuationCache.put(portfolioId, valuation);
+        return valuation;
+    }
+
+    /**
+     * 포트폴리오 평가 스냅샷 캐시 통계 조회
+     */
+    public PortfolioValuationCacheStatsDto getValuationCacheStats() {
+        return valuationCache.getStats();
     }
 
     /**
@@ -97,6 +163,7 @@ public class PortfolioService {
         
         portfolio.updatePortfolio(request.getName(), request.getDescription());
         Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        valuationCache.invalidate(portfolioId);
         
         log.info("포트폴리오 수정 완료. ID: {}, 이름: {}", savedPortfolio.getId(), savedPortfolio.getName());
         return convertToDto(savedPortfolio);
@@ -112,7 +179,9 @@ public class PortfolioService {
         Portfolio portfolio = portfolioRepository.findByIdAndUserId(portfolioId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("포트폴리오", portfolioId));
         
+        portfolio.getHoldings().forEach(holding -> holdingIndex.remove(holding.getSymbol(), holding.getId()));
         portfolioRepository.delete(portfolio);
+        valuationCache.invalidate(portfolioId);
         log.info("포트폴리오 삭제 완료. ID: {}", portfolioId);
     }
 
@@ -127,34 +196,38 @@ public class PortfolioService {
         Portfolio portfolio = portfolioRepository.findByIdAndUserId(portfolioId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("포트폴리오", portfolioId));
         
+        // 심볼은 정규화된 형태로 저장하여 "aapl"과 "AAPL"이 별도 종목으로 쌓이지 않도록 함
+        String symbol = SymbolRegistry.normalize(request.getSymbol());
+        
         // 이미 존재하는 종목인지 확인
-        if (holdingRepository.existsByPortfolioIdAndSymbol(portfolioId, request.getSymbol())) {
-            throw new IllegalArgumentException("이미 존재하는 보유 종목입니다: " + request.getSymbol());
+        if (holdingRepository.existsByPortfolioIdAndSymbol(portfolioId, symbol)) {
+            throw new IllegalArgumentException("이미 존재하는 보유 종목입니다: " + symbol);
         }
         
         PortfolioHolding holding = PortfolioHolding.builder()
                 .portfolio(portfolio)
-                .symbol(request.getSymbol())
+                .symbol(symbol)
                 .quantity(request.getQuantity())
                 .averageCost(request.getAverageCost())
                 .build();
         
         // 현재 가격 조회 및 설정
         try {
-            var stockPrice = marketDataService.getStockPrice(request.getSymbol());
+            var stockPrice = marketDataService.getStockPrice(symbol, HedgeEndpoint.PORTFOLIO);
             holding.updateCurrentPrice(BigDecimal.valueOf(stockPrice.getPrice()));
         } catch (Exception e) {
-            log.warn("현재 가격 조회 실패. 심볼: {}, 오류: {}", request.getSymbol(), e.getMessage());
+            log.warn("현재 가격 조회 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
             // 현재 가격 조회 실패해도 보유 종목은 생성
         }
         
         PortfolioHolding savedHolding = holdingRepository.save(holding);
         portfolio.addHolding(savedHolding);
-        portfolio.recalculate();
         portfolioRepository.save(portfolio);
+        valuationCache.invalidate(portfolioId);
+        holdingIndex.add(symbol, savedHolding.getId(), portfolioId);
         
         log.info("보유 종목 추가 완료. ID: {}, 심볼: {}", savedHolding.getId(), savedHolding.getSymbol());
-        return convertToHoldingDto(savedHolding);
+        return convertToHoldingDto(savedHolding, portfolioId);
     }
 
     /**
@@ -175,14 +248,14 @@ public class PortfolioService {
             throw new IllegalArgumentException("해당 포트폴리오의 보유 종목이 아닙니다.");
         }
         
-        holding.updateHolding(request.getQuantity(), request.getAverageCost());
+        portfolio.updateHolding(holding, request.getQuantity(), request.getAverageCost());
         PortfolioHolding savedHolding = holdingRepository.save(holding);
         
-        portfolio.recalculate();
         portfolioRepository.save(portfolio);
+        valuationCache.invalidate(portfolioId);
         
         log.info("보유 종목 수정 완료. ID: {}, 심볼: {}", savedHolding.getId(), savedHolding.getSymbol());
-        return convertToHoldingDto(savedHolding);
+        return convertToHoldingDto(savedHolding, portfolioId);
     }
 
     /**
@@ -204,39 +277,102 @@ public class PortfolioService {
         
         portfolio.removeHolding(holding);
         holdingRepository.delete(holding);
-        portfolio.recalculate();
         portfolioRepository.save(portfolio);
+        valuationCache.invalidate(portfolioId);
+        holdingIndex.remove(holding.getSymbol(), holdingId);
         
         log.info("보유 종목 삭제 완료. ID: {}, 심볼: {}", holdingId, holding.getSymbol());
     }
 
     /**
      * 포트폴리오 재계산 (현재 가격 반영)
+     *
+     * 시세 조회는 외부 HTTP 호출이므로 트랜잭션 밖에서 수행합니다.
+     * 1. 짧은 트랜잭션에서 보유 종목 심볼만 읽고
+     * 2. 트랜잭션 없이 일괄 조회(병렬, 마감 시간 적용)로 가격을 가져온 뒤
+     * 3. 짧은 쓰기 트랜잭션에서 포트폴리오를 다시 읽어 가격을 반영하고 저장합니다.
+     * 조회 도중 보유 종목이 바뀌어도 3단계에서 최신 상태를 기준으로 반영합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PortfolioDto recalculatePortfolio(Long portfolioId, Long userId) {
         log.info("포트폴리오 재계산. 포트폴리오 ID: {}, 사용자 ID: {}", portfolioId, userId);
         
-        Portfolio portfolio = portfolioRepository.findByIdAndUserId(portfolioId, userId)
+        List<String> symbols = transactionTemplate.execute(status -> 
+                findPortfolio(portfolioId, userId).getHoldings().stream()
+                        .map(PortfolioHolding::getSymbol)
+                        .distinct()
+                        .collect(Collectors.toList()));
+        
+        long fetchStartedAt = System.nanoTime();
+        BulkStockPriceDto bulkPrices = symbols.isEmpty() ? null : marketDataService.getStockPricesBulk(symbols);
+        long fetchMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fetchStartedAt);
+        
+        long persistStartedAt = System.nanoTime();
+        PortfolioDto result = transactionTemplate.execute(status -> {
+            Portfolio portfolio = findPortfolio(portfolioId, userId);
+            if (bulkPrices != null) {
+                applyPrices(portfolio, bulkPrices);
+            }
+            portfolio.recalculate();
+            return convertToDto(portfolioRepository.save(portfolio));
+        });
+        long persistMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - persistStartedAt);
+        valuationCache.invalidate(portfolioId);
+        
+        int priceFailures = bulkPrices != null ? bulkPrices.getErrors().size() : 0;
+        recordRecalculation(fetchMs, persistMs, priceFailures);
+        log.info("포트폴리오 재계산 완료. ID: {}, 총 가치: {}, 종목 수: {}, 가격 조회: {}ms, 저장: {}ms", 
+                portfolioId, result.getTotalValue(), symbols.size(), fetchMs, persistMs);
+        
+        return result;
+    }
+
+    /**
+     * 포트폴리오 재계산 소요 시간 통계 조회
+     */
+    public PortfolioRecalculationStatsDto getRecalculationStats() {
+        long count = recalculations.sum();
+        return PortfolioRecalculationStatsDto.builder()
+                .recalculations(count)
+                .priceFailures(priceFailures.sum())
+                .avgFetchMs(count > 0 ? (double) fetchMsTotal.sum() / count : 0.0)
+                .maxFetchMs(fetchMsMax.get())
+                .lastFetchMs(lastFetchMs)
+                .avgPersistMs(count > 0 ? (double) persistMsTotal.sum() / count : 0.0)
+                .maxPersistMs(persistMsMax.get())
+                .lastPersistMs(lastPersistMs)
+                .build();
+    }
+
+    private Portfolio findPortfolio(Long portfolioId, Long userId) {
+        return portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("포트폴리오", portfolioId));
-        
-        // 모든 보유 종목의 현재 가격 업데이트
+    }
+
+    private void applyPrices(Portfolio portfolio, BulkStockPriceDto bulkPrices) {
         for (PortfolioHolding holding : portfolio.getHoldings()) {
-            try {
-                var stockPrice = marketDataService.getStockPrice(holding.getSymbol());
+            // 일괄 조회 결과는 정규화된 심볼을 키로 사용 (정규화 이전에 저장된 종목 포함)
+            String key = SymbolRegistry.tryNormalize(holding.getSymbol())
+                    .orElseGet(() -> holding.getSymbol().trim());
+            var stockPrice = bulkPrices.getPrices().get(key);
+            if (stockPrice != null) {
                 holding.updateCurrentPrice(BigDecimal.valueOf(stockPrice.getPrice()));
-            } catch (Exception e) {
-                log.warn("현재 가격 조회 실패. 심볼: {}, 오류: {}", holding.getSymbol(), e.getMessage());
+            } else if (bulkPrices.getErrors().containsKey(key)) {
+                log.warn("현재 가격 조회 실패. 심볼: {}, 오류: {}", holding.getSymbol(), 
+                        bulkPrices.getErrors().get(key));
             }
         }
-        
-        portfolio.recalculate();
-        Portfolio savedPortfolio = portfolioRepository.save(portfolio);
-        
-        log.info("포트폴리오 재계산 완료. ID: {}, 총 가치: {}", 
-                savedPortfolio.getId(), savedPortfolio.getTotalValue());
-        
-        return convertToDto(savedPortfolio);
+    }
+
+    private void recordRecalculation(long fetchMs, long persistMs, int failures) {
+        recalculations.increment();
+        priceFailures.add(failures);
+        fetchMsTotal.add(fetchMs);
+        fetchMsMax.accumulateAndGet(fetchMs, Math::max);
+        lastFetchMs = fetchMs;
+        persistMsTotal.add(persistMs);
+        persistMsMax.accumulateAndGet(persistMs, Math::max);
+        lastPersistMs = persistMs;
     }
 
     /**
@@ -244,7 +380,7 @@ public class PortfolioService {
      */
     private PortfolioDto convertToDto(Portfolio portfolio) {
         List<PortfolioHoldingDto> holdingDtos = portfolio.getHoldings().stream()
-                .map(this::convertToHoldingDto)
+                .map(holding -> convertToHoldingDto(holding, portfolio.getId()))
                 .collect(Collectors.toList());
         
         return PortfolioDto.builder()
@@ -264,11 +400,12 @@ public class PortfolioService {
 
     /**
      * PortfolioHolding 엔티티를 DTO로 변환
+     * 포트폴리오 ID는 호출자가 넘겨 holding.getPortfolio()를 거치지 않음 (지연 로딩 프록시 초기화 방지)
      */
-    private PortfolioHoldingDto convertToHoldingDto(PortfolioHolding holding) {
+    private PortfolioHoldingDto convertToHoldingDto(PortfolioHolding holding, Long portfolioId) {
         return PortfolioHoldingDto.builder()
                 .id(holding.getId())
-                .portfolioId(holding.getPortfolio().getId())
+                .portfolioId(portfolioId)
                 .symbol(holding.getSymbol())
                 .quantity(holding.getQuantity())
                 .averageCost(holding.getAverageCost())
@@ -1,11 +1,13 @@
 package com.pjsent.sentinel.portfolio.service;
 
 import com.pjsent.sentinel.common.exception.ResourceNotFoundException;
+import com.pjsent.sentinel.portfolio.dto.PortfolioDto;
 import com.pjsent.sentinel.portfolio.dto.RebalancingRecommendationDto;
 import com.pjsent.sentinel.portfolio.entity.Portfolio;
 import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
 import com.pjsent.sentinel.portfolio.service.rebalancing.RebalancingStrategy;
 import com.pjsent.sentinel.portfolio.service.rebalancing.RebalancingStrategyFactory;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ import java.util.Map;
 public class RebalancingService {
 
     private final PortfolioRepository portfolioRepository;
+    private final PortfolioService portfolioService;
     private final RebalancingStrategyFactory strategyFactory;
 
     /**
@@ -83,8 +86,8 @@ public class RebalancingService {
         log.info("전략 추천 요청 - 포트폴리오 ID: {}, 위험허용도: {}, 투자기간: {}",
                 portfolioId, riskTolerance, investmentHorizon);
 
-        Portfolio portfolio = portfolioRepository.findByIdAndUserId(portfolioId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("포트폴리오", portfolioId));
+        // 평가 스냅샷 캐시 사용
+        PortfolioDto portfolio = portfolioService.getValuation(portfolioId, userId).portfolio();
 
         double portfolioValue = portfolio.getTotalValue() != null
                 ? portfolio.getTotalValue().doubleValue()
@@ -156,13 +159,12 @@ public class RebalancingService {
             Long userId,
             Map<String, Double> targetAllocation) {
 
-        Portfolio portfolio = portfolioRepository.findByIdAndUserId(portfolioId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("포트폴리오", portfolioId));
+        // 현재 배분은 평가 스냅샷에 계산된 비중을 사용 (마지막 변경 이후 다시 계산하지 않음)
+        PortfolioValuation valuation = portfolioService.getValuation(portfolioId, userId);
 
         validateTargetAllocation(targetAllocation);
 
-        // 현재 배분 계산
-        Map<String, Double> currentAllocation = calculateCurrentAllocation(portfolio);
+        Map<String, Double> currentAllocation = valuation.weights();
 
         // 편차 계산
         Map<String, Double> deviations = new HashMap<>();
@@ -219,26 +221,4 @@ public class RebalancingService {
             }
         }
     }
-
-    /**
-     * 현재 자산 배분 계산
-     */
-    private Map<String, Double> calculateCurrentAllocation(Portfolio portfolio) {
-        Map<String, Double> allocation = new HashMap<>();
-
-        if (portfolio.getTotalValue() == null || portfolio.getTotalValue().doubleValue() == 0) {
-            return allocation;
-        }
-
-        double totalValue = portfolio.getTotalValue().doubleValue();
-
-        portfolio.getHoldings().forEach(holding -> {
-            if (holding.getMarketValue() != null) {
-                double weight = (holding.getMarketValue().doubleValue() / totalValue) * 100;
-                allocation.put(holding.getSymbol(), weight);
-            }
-        });
-
-        return allocation;
-    }
-}
\ No newline at end of file
+}
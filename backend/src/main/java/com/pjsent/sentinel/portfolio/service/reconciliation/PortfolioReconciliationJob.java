@@ -0,0 +1,154 @@
+package com.pjsent.sentinel.portfolio.service.reconciliation;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.portfolio.dto.PortfolioReconciliationStatsDto;
+import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.repository.PortfolioTotalsDrift;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 포트폴리오 합계 점검 작업
+ * 포트폴리오 합계(total_value, total_cost)는 보유 종목 변경 때 변경분만 더하고 빼서 유지합니다.
+ * 동시 수정이나 직접 실행한 SQL로 합계가 보유 종목과 어긋날 수 있으므로, 주기적으로 전체를 다시 합산해 비교합니다.
+ *
+ * - 비교는 DB 집계 쿼리 한 번으로 하고, 허용 오차(tolerance)보다 크게 다른 포트폴리오만 읽어 옵니다.
+ * - 어긋난 포트폴리오는 경고 로그로 남기고, repair가 켜져 있으면 포트폴리오마다 짧은 트랜잭션에서 전체 재계산으로 보정합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PortfolioReconciliationJob {
+
+    private static final int MAX_REPORTED_IDS = 20;
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioValuationCache valuationCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${stock.portfolio.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.portfolio.reconciliation.tolerance:0.01}")
+    private BigDecimal tolerance;
+
+    @Value("${stock.portfolio.reconciliation.repair:true}")
+    private boolean repair;
+
+    @Value("${stock.portfolio.reconciliation.max-repairs:100}")
+    private int maxRepairs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile PortfolioReconciliationStatsDto lastRun = PortfolioReconciliationStatsDto.builder().build();
+
+    @Scheduled(initialDelayString = "${stock.portfolio.reconciliation.initial-delay-ms:300000}",
+            fixedDelayString = "${stock.portfolio.reconciliation.interval-ms:3600000}",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 합계 점검을 한 번 실행합니다. 이미 실행 중이면 마지막 실행 통계를 반환합니다.
+     *
+     * @return 실행 통계
+     */
+    public PortfolioReconciliationStatsDto run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("포트폴리오 합계 점검이 이미 실행 중입니다.");
+            return lastRun;
+        }
+        try {
+            lastRun = reconcile();
+            return lastRun;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 실행 통계를 반환합니다.
+     */
+    public PortfolioReconciliationStatsDto getStats() {
+        return lastRun;
+    }
+
+    private PortfolioReconciliationStatsDto reconcile() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+
+        long checked = portfolioRepository.count();
+        List<PortfolioTotalsDrift> drifts = portfolioRepository.findTotalsDrift(tolerance);
+
+        BigDecimal maxValueDrift = BigDecimal.ZERO;
+        BigDecimal maxCostDrift = BigDecimal.ZERO;
+        List<Long> driftedIds = new ArrayList<>();
+        int repaired = 0;
+        for (PortfolioTotalsDrift drift : drifts) {
+            BigDecimal valueDrift = drift.getTotalValue().subtract(drift.getHoldingsValue());
+            BigDecimal costDrift = drift.getTotalCost().subtract(drift.getHoldingsCost());
+            maxValueDrift = maxValueDrift.max(valueDrift.abs());
+            maxCostDrift = maxCostDrift.max(costDrift.abs());
+            if (driftedIds.size() < MAX_REPORTED_IDS) {
+                driftedIds.add(drift.getPortfolioId());
+            }
+            log.warn("포트폴리오 합계 불일치. ID: {}, 총 가치: {} (보유 종목 합계: {}), 총 비용: {} (보유 종목 합계: {})",
+                    drift.getPortfolioId(), drift.getTotalValue(), drift.getHoldingsValue(),
+                    drift.getTotalCost(), drift.getHoldingsCost());
+            if (repair && repaired < maxRepairs && repair(drift.getPortfolioId())) {
+                repaired++;
+            }
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if (drifts.isEmpty()) {
+            log.debug("포트폴리오 합계 점검 완료. 점검: {}개, 소요 시간: {}ms", checked, elapsedMs);
+        } else {
+            log.warn("포트폴리오 합계 점검 완료. 점검: {}개, 불일치: {}개, 보정: {}개, 최대 차이(가치/비용): {}/{}, 소요 시간: {}ms",
+                    checked, drifts.size(), repaired, maxValueDrift, maxCostDrift, elapsedMs);
+        }
+        return PortfolioReconciliationStatsDto.builder()
+                .startedAt(startedAt)
+                .elapsedMs(elapsedMs)
+                .portfoliosChecked(checked)
+                .driftDetected(drifts.size())
+                .repaired(repaired)
+                .maxValueDrift(maxValueDrift)
+                .maxCostDrift(maxCostDrift)
+                .driftedPortfolioIds(driftedIds)
+                .build();
+    }
+
+    private boolean repair(Long portfolioId) {
+        try {
+            Boolean repaired = transactionTemplate.execute(status -> portfolioRepository.findById(portfolioId)
+                    .map(portfolio -> {
+                        portfolio.recalculate();
+                        portfolioRepository.save(portfolio);
+                        valuationCache.invalidate(portfolioId);
+                        return true;
+                    })
+                    .orElse(false));
+            return Boolean.TRUE.equals(repaired);
+        } catch (DataAccessException e) {
+            log.warn("포트폴리오 합계 보정 실패. ID: {}, 오류: {}", portfolioId, e.getMessage());
+            return false;
+        }
+    }
+}
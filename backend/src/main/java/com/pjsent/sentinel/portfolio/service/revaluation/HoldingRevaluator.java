@@ -0,0 +1,202 @@
+package com.pjsent.sentinel.portfolio.service.revaluation;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.event.QuoteUpdatedEvent;
+import com.pjsent.sentinel.portfolio.dto.PortfolioRevaluationStatsDto;
+import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
+import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시세 갱신 -> 보유 종목 재평가
+ * 새 시세(QuoteUpdatedEvent)가 들어오면 그 심볼을 보유한 모든 보유 종목의 현재가/평가액/손익과
+ * 해당 포트폴리오의 합계를 갱신합니다. 소유자가 재계산을 요청하지 않아도 저장된 평가 값이 최신 시세를 따라갑니다.
+ *
+ * - 이벤트 처리: 보유 종목 색인(HoldingSymbolIndex)에 있는 심볼이면 심볼별 대기 가격만 바꾸고 바로 반환합니다.
+ *   flush 전에 같은 심볼의 시세가 여러 번 오면 마지막 가격만 반영합니다.
+ * - flush: 심볼마다 색인의 보유 종목 ID를 batch-size개씩 묶어 UPDATE 한 번으로 현재가를 반영하고,
+ *   바뀐 보유 종목의 포트폴리오를 batch-size개씩 묶어 합계를 보유 종목 합산으로 다시 계산합니다.
+ *   포트폴리오 평가 스냅샷 버전은 합계 갱신 트랜잭션이 커밋된 이후에 올립니다.
+ * - 두 UPDATE 모두 엔티티의 @Version을 올리므로, 그 전에 보유 종목/포트폴리오를 읽은 사용자 수정은
+ *   재평가 값을 덮어쓰지 않고 낙관적 잠금 예외(409)로 실패합니다.
+ * - 실패한 심볼의 가격과 포트폴리오는 다음 flush에서 다시 시도합니다(그 사이 더 새로운 가격이 오면 새 가격 우선).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HoldingRevaluator {
+
+    // portfolio_holdings.current_price 컬럼 scale
+    private static final int PRICE_SCALE = 4;
+
+    private final HoldingSymbolIndex holdingIndex;
+    private final PortfolioHoldingRepository holdingRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioValuationCache valuationCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${stock.portfolio.revaluation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.portfolio.revaluation.batch-size:500}")
+    private int batchSize;
+
+    // 심볼 -> 반영 대기 중인 가격
+    private final ConcurrentMap<String, BigDecimal> pendingPrices = new ConcurrentHashMap<>();
+    // 합계 갱신에 실패해 다음 flush에서 다시 시도할 포트폴리오 ID
+    private final Set<Long> pendingPortfolios = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder ticksReceived = new LongAdder();
+    private final LongAdder ticksCoalesced = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder holdingsUpdated = new LongAdder();
+    private final LongAdder portfoliosRefreshed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long lastFlushMs;
+
+    /**
+     * 보유 중인 심볼의 새 시세를 반영 대기열에 넣습니다. 시세를 받은 스레드에서 DB를 건드리지 않습니다.
+     */
+    @EventListener
+    public void onQuoteUpdated(QuoteUpdatedEvent event) {
+        StockPriceDto quote = event.quote();
+        if (!enabled || quote == null || quote.getPrice() <= 0 || !holdingIndex.contains(event.symbol())) {
+            return;
+        }
+        ticksReceived.increment();
+        BigDecimal price = BigDecimal.valueOf(quote.getPrice()).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+        if (pendingPrices.put(event.symbol(), price) != null) {
+            ticksCoalesced.increment();
+        }
+    }
+
+    /**
+     * 대기 중인 가격을 보유 종목과 포트폴리오 합계에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${stock.portfolio.revaluation.flush-interval-ms:1000}",
+            scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    public synchronized void flush() {
+        if (pendingPrices.isEmpty() && pendingPortfolios.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Set<Long> portfolioIds = new TreeSet<>(pendingPortfolios);
+        pendingPortfolios.removeAll(portfolioIds);
+
+        int symbols = 0;
+        for (String symbol : List.copyOf(pendingPrices.keySet())) {
+            BigDecimal price = pendingPrices.remove(symbol);
+            if (price == null) {
+                continue;
+            }
+            symbols++;
+            if (!applyPrice(symbol, price, portfolioIds)) {
+                pendingPrices.putIfAbsent(symbol, price);
+            }
+        }
+        int refreshed = refreshPortfolios(portfolioIds);
+
+        flushes.increment();
+        lastFlushMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.debug("보유 종목 재평가. 심볼: {}개, 포트폴리오: {}개, 소요 시간: {}ms", symbols, refreshed, lastFlushMs);
+    }
+
+    public PortfolioRevaluationStatsDto getStats() {
+        return PortfolioRevaluationStatsDto.builder()
+                .enabled(enabled)
+                .indexedSymbols(holdingIndex.symbolCount())
+                .indexedHoldings(holdingIndex.holdingCount())
+                .pendingSymbols(pendingPrices.size())
+                .pendingPortfolios(pendingPortfolios.size())
+                .ticksReceived(ticksReceived.sum())
+                .ticksCoalesced(ticksCoalesced.sum())
+                .flushes(flushes.sum())
+                .holdingsUpdated(holdingsUpdated.sum())
+                .portfoliosRefreshed(portfoliosRefreshed.sum())
+                .failures(failures.sum())
+                .lastFlushMs(lastFlushMs)
+                .build();
+    }
+
+    /**
+     * 심볼을 보유한 보유 종목에 가격을 반영하고, 바뀐 보유 종목의 포트폴리오 ID를 모읍니다.
+     *
+     * @return 모든 묶음을 반영했으면 true
+     */
+    private boolean applyPrice(String symbol, BigDecimal price, Set<Long> portfolioIds) {
+        Map<Long, Long> holdings = holdingIndex.holdings(symbol);
+        for (List<Long> ids : partition(holdings.keySet())) {
+            try {
+                Integer updated = transactionTemplate.execute(status ->
+                        holdingRepository.applyCurrentPrice(ids, price, LocalDateTime.now()));
+                if (updated != null && updated > 0) {
+                    holdingsUpdated.add(updated);
+                    // 가격이 이미 같아 건너뛴 행의 포트폴리오도 포함되지만 합계 재계산 결과는 같음
+                    ids.forEach(id -> portfolioIds.add(holdings.get(id)));
+                }
+            } catch (DataAccessException e) {
+                failures.increment();
+                log.warn("보유 종목 현재가 반영 실패. 심볼: {}, 오류: {}", symbol, e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 포트폴리오 합계를 보유 종목 합산으로 다시 계산합니다.
+     *
+     * @return 다시 계산한 포트폴리오 수
+     */
+    private int refreshPortfolios(Set<Long> portfolioIds) {
+        int refreshed = 0;
+        for (List<Long> ids : partition(portfolioIds)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    portfolioRepository.refreshTotals(ids, LocalDateTime.now());
+                    portfolioRepository.refreshGainLoss(ids);
+                    valuationCache.invalidateRevalued(ids);
+                });
+                refreshed += ids.size();
+                portfoliosRefreshed.add(ids.size());
+            } catch (DataAccessException e) {
+                failures.increment();
+                pendingPortfolios.addAll(ids);
+                log.warn("포트폴리오 합계 갱신 실패. 포트폴리오: {}개, 오류: {}", ids.size(), e.getMessage());
+            }
+        }
+        return refreshed;
+    }
+
+    // ID를 정렬해 batch-size개씩 나눔 (여러 트랜잭션이 같은 행을 같은 순서로 잠그도록)
+    private List<List<Long>> partition(Set<Long> ids) {
+        List<Long> sorted = new ArrayList<>(new TreeSet<>(ids));
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += batchSize) {
+            batches.add(sorted.subList(from, Math.min(from + batchSize, sorted.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,170 @@
+package com.pjsent.sentinel.portfolio.service.revaluation;
+
+import com.pjsent.sentinel.common.config.SchedulingConfig;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+import com.pjsent.sentinel.portfolio.repository.HoldingSymbolRef;
+import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 심볼 -> 보유 종목 색인
+ * 새 시세가 들어온 심볼을 보유한 보유 종목 ID와 그 포트폴리오 ID를 DB 조회 없이 찾기 위한 메모리 색인입니다.
+ *
+ * - 애플리케이션 시작 시, 그리고 rebuild-interval-ms마다 DB에서 다시 만듭니다(다른 인스턴스에서 추가/삭제된 보유 종목 반영).
+ * - 이 인스턴스의 보유 종목 추가/삭제는 트랜잭션 커밋 이후에 바로 반영합니다.
+ *   재구성 도중의 추가/삭제는 기록해 두었다가 새 색인에 다시 적용합니다.
+ * - 심볼은 정규화된 형태를 키로 사용합니다(정규화 이전에 저장된 종목 포함).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HoldingSymbolIndex {
+
+    private final PortfolioHoldingRepository holdingRepository;
+
+    // 심볼 -> (보유 종목 ID -> 포트폴리오 ID)
+    private volatile ConcurrentMap<String, ConcurrentMap<Long, Long>> holdingsBySymbol = new ConcurrentHashMap<>();
+
+    private final Queue<Change> changesDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${stock.portfolio.revaluation.index-rebuild-interval-ms:600000}",
+            fixedDelayString = "${stock.portfolio.revaluation.index-rebuild-interval-ms:600000}",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB의 전체 보유 종목으로 색인을 다시 만듭니다.
+     *
+     * @return 색인된 보유 종목 수, 실패하면 -1
+     */
+    public synchronized int rebuild() {
+        rebuilding = true;
+        changesDuringRebuild.clear();
+        try {
+            ConcurrentMap<String, ConcurrentMap<Long, Long>> rebuilt = new ConcurrentHashMap<>();
+            int count = 0;
+            for (HoldingSymbolRef ref : holdingRepository.findAllSymbolRefs()) {
+                new Change(key(ref.getSymbol()), ref.getId(), ref.getPortfolioId()).applyTo(rebuilt);
+                count++;
+            }
+            holdingsBySymbol = rebuilt;
+            rebuilding = false;
+            Change change;
+            while ((change = changesDuringRebuild.poll()) != null) {
+                change.applyTo(rebuilt);
+            }
+            log.debug("보유 종목 색인 재구성. 심볼: {}개, 보유 종목: {}개", rebuilt.size(), count);
+            return count;
+        } catch (DataAccessException e) {
+            log.warn("보유 종목 색인 재구성 실패. 오류: {}", e.getMessage());
+            return -1;
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * 보유 종목을 색인에 추가합니다. 트랜잭션 안에서 호출되면 커밋 이후에 추가합니다.
+     */
+    public void add(String symbol, Long holdingId, Long portfolioId) {
+        afterCommit(new Change(key(symbol), holdingId, portfolioId));
+    }
+
+    /**
+     * 보유 종목을 색인에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 제거합니다.
+     */
+    public void remove(String symbol, Long holdingId) {
+        afterCommit(new Change(key(symbol), holdingId, null));
+    }
+
+    /**
+     * 심볼을 보유한 보유 종목이 있는지 확인합니다.
+     */
+    public boolean contains(String symbol) {
+        return holdingsBySymbol.containsKey(key(symbol));
+    }
+
+    /**
+     * 심볼을 보유한 보유 종목 ID -> 포트폴리오 ID (복사본)
+     */
+    public Map<Long, Long> holdings(String symbol) {
+        Map<Long, Long> holdings = holdingsBySymbol.get(key(symbol));
+        return holdings != null ? Map.copyOf(holdings) : Map.of();
+    }
+
+    public int symbolCount() {
+        return holdingsBySymbol.size();
+    }
+
+    public int holdingCount() {
+        return holdingsBySymbol.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void apply(Change change) {
+        change.applyTo(holdingsBySymbol);
+        if (rebuilding) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private static String key(String symbol) {
+        return SymbolRegistry.tryNormalize(symbol).orElseGet(() -> symbol.trim());
+    }
+
+    /**
+     * 색인 변경 (portfolioId가 null이면 제거)
+     */
+    private record Change(String symbol, Long holdingId, Long portfolioId) {
+
+        void applyTo(ConcurrentMap<String, ConcurrentMap<Long, Long>> index) {
+            // 빈 맵 제거와 겹치지 않도록 추가도 compute 안에서 수행
+            if (portfolioId != null) {
+                index.compute(symbol, (key, holdings) -> {
+                    ConcurrentMap<Long, Long> target = holdings != null ? holdings : new ConcurrentHashMap<>();
+                    target.put(holdingId, portfolioId);
+                    return target;
+                });
+            } else {
+                index.computeIfPresent(symbol, (key, holdings) -> {
+                    holdings.remove(holdingId);
+                    return holdings.isEmpty() ? null : holdings;
+                });
+            }
+        }
+    }
+}
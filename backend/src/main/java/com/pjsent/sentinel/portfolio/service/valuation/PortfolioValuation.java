@@ -0,0 +1,40 @@
+package com.pjsent.sentinel.portfolio.service.valuation;
+
+import com.pjsent.sentinel.portfolio.dto.PortfolioDto;
+import com.pjsent.sentinel.portfolio.dto.PortfolioHoldingDto;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 포트폴리오 평가 스냅샷
+ * 특정 버전 시점의 포트폴리오 DTO(총액, 손익, 보유 종목별 손익)와 보유 종목별 비중을 함께 보관합니다.
+ *
+ * @param version 스냅샷을 계산하기 직전에 읽은 포트폴리오 버전
+ * @param portfolio 포트폴리오 DTO
+ * @param weights 심볼별 평가액 비중 (%, 총 가치 기준)
+ */
+public record PortfolioValuation(long version, PortfolioDto portfolio, Map<String, Double> weights) {
+
+    /**
+     * 포트폴리오 DTO에서 비중을 계산하여 스냅샷을 만듭니다.
+     * 총 가치가 없거나 0이면 비중은 비어 있습니다.
+     */
+    public static PortfolioValuation of(long version, PortfolioDto portfolio) {
+        Map<String, Double> weights = new HashMap<>();
+        BigDecimal totalValue = portfolio.getTotalValue();
+        boolean hasValue = totalValue != null && totalValue.signum() != 0;
+
+        if (portfolio.getHoldings() != null) {
+            for (PortfolioHoldingDto holding : portfolio.getHoldings()) {
+                if (hasValue && holding.getMarketValue() != null) {
+                    weights.put(holding.getSymbol(),
+                            holding.getMarketValue().doubleValue() / totalValue.doubleValue() * 100);
+                }
+            }
+        }
+        return new PortfolioValuation(version, portfolio, Collections.unmodifiableMap(weights));
+    }
+}
@@ -0,0 +1,155 @@
+package com.pjsent.sentinel.portfolio.service.valuation;
+
+import com.pjsent.sentinel.portfolio.dto.PortfolioValuationCacheStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트폴리오 평가 스냅샷 캐시
+ * 계산된 평가 결과(PortfolioValuation)를 포트폴리오 ID와 버전으로 보관합니다.
+ *
+ * - 조회: 스냅샷의 버전이 현재 버전과 같을 때만 hit입니다.
+ * - 계산: 호출자는 DB를 읽기 전에 version()을 읽어 스냅샷에 담습니다.
+ *   계산 도중 버전이 바뀌었으면 put()이 저장하지 않으므로 변경 이전 상태가 새 버전으로 남지 않습니다.
+ * - 무효화: 보유 종목 변경은 트랜잭션 커밋 이후에 버전을 올립니다(커밋 전에 올리면 아직 이전 값을 읽은 조회가 새 버전으로 저장될 수 있음).
+ *   새 시세는 HoldingRevaluator가 보유 종목과 포트폴리오 합계에 반영한 트랜잭션이 커밋된 이후에 버전을 올립니다.
+ */
+@Component
+@Slf4j
+public class PortfolioValuationCache {
+
+    @Value("${stock.portfolio.valuation-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.portfolio.valuation-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final ConcurrentMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final Map<Long, PortfolioValuation> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, PortfolioValuation> eldest) {
+                    boolean evict = size() > maxEntries;
+                    if (evict) {
+                        evictions.increment();
+                    }
+                    return evict;
+                }
+            });
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder staleDiscarded = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder priceInvalidations = new LongAdder();
+
+    /**
+     * 포트폴리오의 현재 버전 (변경된 적이 없으면 0)
+     */
+    public long version(Long portfolioId) {
+        AtomicLong version = versions.get(portfolioId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * 현재 버전의 스냅샷을 반환합니다.
+     */
+    public Optional<PortfolioValuation> get(Long portfolioId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        PortfolioValuation valuation = snapshots.get(portfolioId);
+        if (valuation != null && valuation.version() == version(portfolioId)) {
+            hits.increment();
+            return Optional.of(valuation);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 스냅샷을 저장합니다. 계산 도중 버전이 바뀌었으면 저장하지 않습니다.
+     */
+    public void put(Long portfolioId, PortfolioValuation valuation) {
+        if (!enabled) {
+            return;
+        }
+        if (valuation.version() != version(portfolioId)) {
+            staleDiscarded.increment();
+            return;
+        }
+        snapshots.put(portfolioId, valuation);
+        puts.increment();
+    }
+
+    /**
+     * 포트폴리오 버전을 올립니다. 트랜잭션 안에서 호출되면 커밋 이후에 올리고, 롤백되면 올리지 않습니다.
+     * 삭제된 포트폴리오도 버전을 지우지 않고 올립니다(버전이 0으로 돌아가면 삭제 전에 읽은 스냅샷이 저장될 수 있음).
+     */
+    public void invalidate(Long portfolioId) {
+        afterCommit(() -> bump(portfolioId));
+    }
+
+    /**
+     * 새 시세가 반영된 포트폴리오들의 버전을 올립니다. 시세 반영 트랜잭션이 커밋된 이후에 올립니다.
+     */
+    public void invalidateRevalued(Collection<Long> portfolioIds) {
+        List<Long> ids = List.copyOf(portfolioIds);
+        afterCommit(() -> {
+            for (Long portfolioId : ids) {
+                bump(portfolioId);
+                priceInvalidations.increment();
+            }
+        });
+    }
+
+    public PortfolioValuationCacheStatsDto getStats() {
+        return PortfolioValuationCacheStatsDto.builder()
+                .enabled(enabled)
+                .entries(snapshots.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .puts(puts.sum())
+                .staleDiscarded(staleDiscarded.sum())
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .priceInvalidations(priceInvalidations.sum())
+                .build();
+    }
+
+    private void bump(Long portfolioId) {
+        versions.computeIfAbsent(portfolioId, id -> new AtomicLong()).incrementAndGet();
+        snapshots.remove(portfolioId);
+        invalidations.increment();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- market_data 심볼별 최신 행 조회 인덱스 (MarketDataRepository.findLatestBySymbols)
+-- 운영 DB는 ddl-auto: validate이므로 직접 실행합니다. CONCURRENTLY는 트랜잭션 블록 밖에서 실행해야 합니다.
+-- 파티션 테이블(market_data_partitioned.sql)로 전환한 경우에는 전환 스크립트가 이미 만듭니다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_market_data_symbol_timestamp
+    ON market_data (symbol, timestamp DESC);
@@ -0,0 +1,54 @@
+-- market_data를 timestamp 기준 일별 RANGE 파티션 테이블로 전환 (PostgreSQL 13+)
+-- 운영 DB는 ddl-auto: validate이므로 이 스크립트를 점검 시간에 한 번 직접 실행합니다.
+-- 전환 후 일별 파티션(market_data_pYYYYMMDD) 생성/삭제는 MarketDataRetentionJob이 맡습니다.
+
+BEGIN;
+
+ALTER TABLE market_data RENAME TO market_data_legacy;
+ALTER INDEX IF EXISTS idx_market_data_symbol_timestamp RENAME TO idx_market_data_legacy_symbol_timestamp;
+
+-- 파티션 테이블의 기본 키에는 파티션 키(timestamp)가 포함되어야 함
+CREATE TABLE market_data (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    symbol         VARCHAR(20)    NOT NULL,
+    price          NUMERIC(15, 4) NOT NULL,
+    volume         BIGINT,
+    change_percent NUMERIC(8, 4),
+    high_24h       NUMERIC(15, 4),
+    low_24h        NUMERIC(15, 4),
+    market_cap     BIGINT,
+    data_source    VARCHAR(50)    NOT NULL,
+    timestamp      TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- 파티션 테이블의 인덱스는 모든 파티션(이후 만들 파티션 포함)에 자동으로 생성됨
+CREATE INDEX idx_market_data_symbol_timestamp ON market_data (symbol, timestamp DESC);
+
+-- 일별 파티션이 아직 없는 시각의 행을 받는 기본 파티션 (보관 정리 대상이 아님)
+CREATE TABLE market_data_default PARTITION OF market_data DEFAULT;
+
+-- 기존 행이 있는 날짜의 파티션을 만든 뒤 옮김
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR day IN
+        SELECT DISTINCT CAST(timestamp AS DATE) FROM market_data_legacy
+        UNION
+        SELECT CAST(generate_series(CURRENT_DATE, CURRENT_DATE + 6, INTERVAL '1 day') AS DATE)
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS market_data_p%s PARTITION OF market_data FOR VALUES FROM (%L) TO (%L)',
+                       to_char(day, 'YYYYMMDD'), day, day + 1);
+    END LOOP;
+END $$;
+
+INSERT INTO market_data (id, symbol, price, volume, change_percent, high_24h, low_24h, market_cap, data_source, timestamp)
+SELECT id, symbol, price, volume, change_percent, high_24h, low_24h, market_cap, data_source, timestamp
+FROM market_data_legacy;
+
+SELECT setval(pg_get_serial_sequence('market_data', 'id'), COALESCE((SELECT MAX(id) FROM market_data), 0) + 1, false);
+
+DROP TABLE market_data_legacy;
+
+COMMIT;
@@ -0,0 +1,10 @@
+-- portfolios/portfolio_holdings 낙관적 잠금 버전 컬럼 (Portfolio.version, PortfolioHolding.version)
+-- 운영 DB는 ddl-auto: validate이므로 이 버전을 배포하기 전에 직접 실행합니다.
+-- 기존 행은 버전 0에서 시작합니다.
+
+BEGIN;
+
+ALTER TABLE portfolios ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE portfolio_holdings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMIT;
@@ -0,0 +1,120 @@
+package com.pjsent.sentinel.common.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 스텁 서버를 대상으로 커넥션 풀이 연결을 재사용하는지 확인합니다.
+ * 서버가 본 원격 포트 수 = 새로 맺은 TCP 연결(핸드셰이크) 수입니다.
+ * 프로바이더 일괄 조회처럼 동시 호출이 몰리는 상황을 재현하기 위해 여러 스레드에서 호출합니다.
+ * SimpleClientHttpRequestFactory와의 응답 시간 비교는 HttpClientPoolsBenchmark(./gradlew jmh)에서 합니다.
+ */
+@DisplayName("HttpClientPools 테스트")
+class HttpClientPoolsTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 50;
+    private static final int MAX_CONNECTIONS = THREADS;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClientPools httpClientPools;
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/quote", exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{\"c\":150.25}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(THREADS * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        httpClientPools = new HttpClientPools();
+        ReflectionTestUtils.setField(httpClientPools, "acquireTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(httpClientPools, "idleTimeoutSeconds", 30L);
+        ReflectionTestUtils.setField(httpClientPools, "timeToLiveSeconds", 300L);
+        ReflectionTestUtils.setField(httpClientPools, "validateAfterInactivityMs", 2000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        httpClientPools.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        assertTrue(serverExecutor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("커넥션 풀은 동시 호출에서도 풀 크기 이상의 연결을 새로 맺지 않아야 한다")
+    void should_ReuseConnections_When_PooledClient() throws Exception {
+        // Given
+        ClientHttpRequestFactory pooledFactory = httpClientPools.create("quote", 2500, 5000, MAX_CONNECTIONS);
+
+        // When
+        int connections = run(new RestTemplate(pooledFactory));
+
+        // Then
+        assertTrue(connections <= MAX_CONNECTIONS,
+                "요청 " + THREADS * REQUESTS_PER_THREAD + "건에 새 연결 " + connections + "개");
+
+        HttpPoolStatsDto stats = httpClientPools.getStats().get("quote");
+        assertEquals(0, stats.getLeased());
+        assertEquals(0, stats.getPending());
+        assertEquals(MAX_CONNECTIONS, stats.getMax());
+    }
+
+    // 동시 호출 중 새로 맺은 연결 수를 반환
+    private int run(RestTemplate restTemplate) throws Exception {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/quote";
+        restTemplate.getForObject(url, String.class);
+        remotePorts.clear();
+
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(callers.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        assertNotNull(restTemplate.getForObject(url, String.class));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        return remotePorts.size();
+    }
+}
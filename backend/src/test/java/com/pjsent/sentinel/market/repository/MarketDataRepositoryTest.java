@@ -0,0 +1,96 @@
+package com.pjsent.sentinel.market.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.pjsent.sentinel.market.entity.MarketData;
+
+@DataJpaTest
+@DisplayName("MarketDataRepository 테스트")
+class MarketDataRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 2, 10, 0);
+
+    @Autowired
+    private MarketDataRepository marketDataRepository;
+
+    @Autowired
+    private MarketDataRepositoryImpl marketDataRepositoryImpl;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        insert("AAPL", 185.0, BASE);
+        insert("AAPL", 186.0, BASE.plusMinutes(5));
+        insert("AAPL", 184.0, BASE.plusMinutes(1));
+        insert("MSFT", 374.0, BASE.plusMinutes(2));
+        // 같은 시각에 저장된 행은 나중에 저장된 행(id가 큰 행)을 사용
+        insert("MSFT", 375.0, BASE.plusMinutes(3));
+        insert("MSFT", 376.0, BASE.plusMinutes(3));
+        insert("TSLA", 250.0, BASE);
+    }
+
+    @Test
+    @DisplayName("여러 심볼의 최신 행을 한 번에 조회해야 한다")
+    void should_FindLatestRowPerSymbol() {
+        // When
+        Map<String, MarketData> latest = bySymbol(marketDataRepository.findLatestBySymbols(
+                List.of("AAPL", "MSFT", "GOOGL", "AAPL")));
+
+        // Then
+        assertEquals(2, latest.size());
+        assertEquals(0, new BigDecimal("186.0").compareTo(latest.get("AAPL").getPrice()));
+        assertEquals(0, new BigDecimal("376.0").compareTo(latest.get("MSFT").getPrice()));
+        assertFalse(latest.containsKey("GOOGL"));
+        assertFalse(latest.containsKey("TSLA"));
+    }
+
+    @Test
+    @DisplayName("DISTINCT ON 조회와 이식 가능한 조회의 결과가 같아야 한다")
+    void should_ReturnSameRows_When_DistinctOnOrPortable() {
+        // When
+        Map<String, MarketData> distinctOn = bySymbol(marketDataRepositoryImpl.findLatestBySymbols(
+                List.of("AAPL", "MSFT", "TSLA"), true));
+        Map<String, MarketData> portable = bySymbol(marketDataRepositoryImpl.findLatestBySymbols(
+                List.of("AAPL", "MSFT", "TSLA"), false));
+
+        // Then
+        assertEquals(3, distinctOn.size());
+        distinctOn.forEach((symbol, row) -> assertEquals(row.getId(), portable.get(symbol).getId()));
+    }
+
+    @Test
+    @DisplayName("심볼이 없으면 쿼리 없이 빈 목록을 반환해야 한다")
+    void should_ReturnEmpty_When_NoSymbols() {
+        assertTrue(marketDataRepository.findLatestBySymbols(List.of()).isEmpty());
+    }
+
+    private void insert(String symbol, double price, LocalDateTime timestamp) {
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO market_data (symbol, price, data_source, timestamp) VALUES (?, ?, ?, ?)")
+                .setParameter(1, symbol)
+                .setParameter(2, BigDecimal.valueOf(price))
+                .setParameter(3, "Test")
+                .setParameter(4, Timestamp.valueOf(timestamp))
+                .executeUpdate();
+    }
+
+    private static Map<String, MarketData> bySymbol(List<MarketData> rows) {
+        return rows.stream().collect(Collectors.toMap(MarketData::getSymbol, row -> row));
+    }
+}
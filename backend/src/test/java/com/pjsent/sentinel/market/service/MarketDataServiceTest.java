@@ -7,17 +7,40 @@ import static org.mockito.Mockito.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
+import com.pjsent.sentinel.market.dto.ProviderHealthDto;
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.bars.BarAggregator;
+import com.pjsent.sentinel.market.service.cache.CachedQuote;
+import com.pjsent.sentinel.market.service.cache.NegativeQuoteCache;
+import com.pjsent.sentinel.market.service.cache.QuoteCache;
+import com.pjsent.sentinel.market.service.coalescing.QuoteRequestCoalescer;
+import com.pjsent.sentinel.market.service.event.QuoteUpdatedEvent;
 import com.pjsent.sentinel.market.service.factory.MarketDataProviderFactory;
+import com.pjsent.sentinel.market.service.hedging.QuoteHedger;
+import com.pjsent.sentinel.market.service.persistence.QuoteWriteBehind;
 import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.provider.QuoteBatchResult;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MarketDataService 테스트")
@@ -29,9 +52,45 @@ class MarketDataServiceTest {
     @Mock
     private MarketDataProvider mockProvider;
     
+    @Mock
+    private QuoteCache quoteCache;
+    
+    @Mock
+    private NegativeQuoteCache negativeQuoteCache;
+    
+    @Spy
+    private QuoteRequestCoalescer requestCoalescer = new QuoteRequestCoalescer();
+    
+    @Spy
+    private ProviderHealthTracker healthTracker = new ProviderHealthTracker(CircuitBreakerRegistry.ofDefaults());
+    
+    @Mock
+    private Executor marketDataExecutor;
+    
+    @Mock
+    private ProviderRateLimiter rateLimiter;
+    
+    @Mock
+    private QuoteHedger quoteHedger;
+    
+    @Mock
+    private QuoteWriteBehind quoteWriteBehind;
+    
+    @Mock
+    private BarAggregator barAggregator;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private MarketDataService marketDataService;
     
+    @BeforeEach
+    void setUp() {
+        // 서킷 브레이커는 프로바이더 이름 단위로 생성됨
+        lenient().when(mockProvider.getProviderName()).thenReturn("TestProvider");
+    }
+    
     @Test
     @DisplayName("프로바이더가 성공할 때 데이터를 반환해야 한다")
     void should_ReturnData_When_ProviderSucceeds() {
@@ -53,6 +112,239 @@ class MarketDataServiceTest {
         verify(mockProvider).getMarketData(symbol);
     }
     
+    @Test
+    @DisplayName("프로바이더 조회 결과를 캐시에 저장해야 한다")
+    void should_PutResultIntoCache_When_CacheMiss() {
+        // Given
+        String symbol = "AAPL";
+        StockPriceDto expectedData = createMockStockPriceDto(symbol, "TestProvider");
+        
+        when(quoteCache.get(symbol)).thenReturn(Optional.empty());
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMarketData(symbol)).thenReturn(expectedData);
+        
+        // When
+        marketDataService.getStockPrice(symbol);
+        
+        // Then
+        verify(quoteCache).put(symbol, expectedData);
+        verify(quoteWriteBehind).enqueue(expectedData);
+    }
+    
+    @Test
+    @DisplayName("대소문자와 공백이 다른 심볼은 정규화된 심볼 하나로 조회해야 한다")
+    void should_UseNormalizedSymbol_When_SymbolCaseDiffers() {
+        // Given
+        StockPriceDto expectedData = createMockStockPriceDto("AAPL", "TestProvider");
+        
+        when(quoteCache.get("AAPL")).thenReturn(Optional.empty());
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMarketData("AAPL")).thenReturn(expectedData);
+        
+        // When
+        marketDataService.getStockPrice(" aapl ");
+        
+        // Then
+        verify(quoteCache).get("AAPL");
+        verify(quoteCache).put("AAPL", expectedData);
+        verify(mockProvider).getMarketData("AAPL");
+    }
+    
+    @Test
+    @DisplayName("일괄 조회는 형식이 맞지 않는 심볼을 실패로 기록하고 나머지는 정규화해 조회해야 한다")
+    void should_NormalizeBulkSymbols_And_RejectInvalidOnes() {
+        // Given
+        StockPriceDto cachedData = createMockStockPriceDto("AAPL", "CachedProvider");
+        long now = System.currentTimeMillis();
+        CachedQuote entry = CachedQuote.builder()
+                .quote(cachedData)
+                .cachedAt(now)
+                .freshUntil(now + 60_000)
+                .staleUntil(now + 600_000)
+                .build();
+        when(quoteCache.get("AAPL")).thenReturn(Optional.of(entry));
+        
+        // When
+        BulkStockPriceDto result = marketDataService.getStockPricesBulk(List.of("aapl", "AAPL ", "../etc"));
+        
+        // Then
+        assertEquals(Map.of("AAPL", cachedData), result.getPrices());
+        assertEquals(Map.of("../etc", "유효하지 않은 심볼입니다."), result.getErrors());
+        verify(quoteCache, times(1)).get("AAPL");
+        verifyNoInteractions(providerFactory);
+    }
+    
+    @Test
+    @DisplayName("신선한 캐시가 있으면 프로바이더를 호출하지 않아야 한다")
+    void should_ReturnCachedData_When_CacheIsFresh() {
+        // Given
+        String symbol = "AAPL";
+        StockPriceDto cachedData = createMockStockPriceDto(symbol, "CachedProvider");
+        long now = System.currentTimeMillis();
+        CachedQuote entry = CachedQuote.builder()
+                .quote(cachedData)
+                .cachedAt(now)
+                .freshUntil(now + 60_000)
+                .staleUntil(now + 600_000)
+                .build();
+        
+        when(quoteCache.get(symbol)).thenReturn(Optional.of(entry));
+        
+        // When
+        StockPriceDto result = marketDataService.getStockPrice(symbol);
+        
+        // Then
+        assertEquals("CachedProvider", result.getProvider());
+        verifyNoInteractions(providerFactory);
+    }
+    
+    @Test
+    @DisplayName("stale 캐시는 즉시 반환하고 백그라운드에서 갱신해야 한다")
+    void should_ReturnStaleDataAndRevalidate_When_CacheIsStale() {
+        // Given
+        String symbol = "AAPL";
+        StockPriceDto staleData = createMockStockPriceDto(symbol, "StaleProvider");
+        StockPriceDto freshData = createMockStockPriceDto(symbol, "TestProvider");
+        long now = System.currentTimeMillis();
+        CachedQuote entry = CachedQuote.builder()
+                .quote(staleData)
+                .cachedAt(now - 120_000)
+                .freshUntil(now - 60_000)
+                .staleUntil(now + 600_000)
+                .build();
+        
+        when(quoteCache.get(symbol)).thenReturn(Optional.of(entry));
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMarketData(symbol)).thenReturn(freshData);
+        runTasksInCallerThread();
+        
+        // When
+        StockPriceDto result = marketDataService.getStockPrice(symbol);
+        
+        // Then
+        assertEquals("StaleProvider", result.getProvider());
+        verify(quoteCache, timeout(1000)).put(symbol, freshData);
+    }
+    
+    @Test
+    @DisplayName("일부 심볼이 실패해도 나머지 심볼의 시세를 반환해야 한다")
+    void should_ReturnPartialResults_When_SomeSymbolsFail() {
+        // Given
+        ReflectionTestUtils.setField(marketDataService, "bulkTimeoutMs", 1000L);
+        runTasksInCallerThread();
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMarketData("AAPL")).thenReturn(createMockStockPriceDto("AAPL", "TestProvider"));
+        when(mockProvider.getMarketData("INVALID")).thenThrow(new RuntimeException("알 수 없는 심볼"));
+        
+        // When
+        BulkStockPriceDto result = marketDataService.getStockPricesBulk(Arrays.asList("AAPL", "INVALID", "AAPL", " "));
+        
+        // Then
+        assertEquals(1, result.getPrices().size());
+        assertEquals("AAPL", result.getPrices().get("AAPL").getSymbol());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().containsKey("INVALID"));
+        verify(mockProvider, times(1)).getMarketData("AAPL");
+    }
+    
+    @Test
+    @DisplayName("다중 심볼 API가 없는 프로바이더의 심볼별 실패는 프로바이더 상태에 실패로 기록해야 한다")
+    void should_RecordPerSymbolFailures_When_ProviderHasNoBatchApi() {
+        // Given
+        ReflectionTestUtils.setField(marketDataService, "bulkTimeoutMs", 1000L);
+        runTasksInCallerThread();
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMaxBatchSize()).thenReturn(3);
+        when(mockProvider.getMarketData("AAPL")).thenReturn(createMockStockPriceDto("AAPL", "TestProvider"));
+        when(mockProvider.getMarketData("MSFT")).thenThrow(new RuntimeException("연결 실패"));
+        when(mockProvider.getMarketData("GOOGL")).thenThrow(new RuntimeException("연결 실패"));
+        
+        // When
+        BulkStockPriceDto result = marketDataService.getStockPricesBulk(List.of("AAPL", "MSFT", "GOOGL"));
+        
+        // Then
+        assertEquals(1, result.getPrices().size());
+        assertEquals(2, result.getErrors().size());
+        verify(mockProvider, never()).getMarketDataBatch(any());
+        ProviderHealthDto health = healthTracker.getHealth("TestProvider", -1);
+        assertEquals(3, health.getCalls());
+        assertEquals(2, health.getFailures());
+    }
+    
+    @Test
+    @DisplayName("일괄 조회를 지원하는 프로바이더는 청크 단위로 호출해야 한다")
+    void should_FetchInChunks_When_ProviderSupportsBatch() {
+        // Given
+        ReflectionTestUtils.setField(marketDataService, "bulkTimeoutMs", 1000L);
+        runTasksInCallerThread();
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.supportsBatchQuotes()).thenReturn(true);
+        when(mockProvider.getMaxBatchSize()).thenReturn(2);
+        when(mockProvider.getMarketDataBatch(List.of("AAPL", "MSFT"))).thenReturn(QuoteBatchResult.of(Map.of(
+                "AAPL", createMockStockPriceDto("AAPL", "TestProvider"),
+                "MSFT", createMockStockPriceDto("MSFT", "TestProvider"))));
+        when(mockProvider.getMarketDataBatch(List.of("GOOGL"))).thenReturn(QuoteBatchResult.of(Map.of(
+                "GOOGL", createMockStockPriceDto("GOOGL", "TestProvider"))));
+        
+        // When
+        BulkStockPriceDto result = marketDataService.getStockPricesBulk(List.of("AAPL", "MSFT", "GOOGL"));
+        
+        // Then
+        assertEquals(3, result.getPrices().size());
+        assertTrue(result.getErrors().isEmpty());
+        verify(mockProvider, times(2)).getMarketDataBatch(any());
+        verify(mockProvider, never()).getMarketData(anyString());
+        verify(quoteCache, times(3)).put(anyString(), any(StockPriceDto.class));
+    }
+    
+    @Test
+    @DisplayName("일괄 조회에서 모든 프로바이더가 모르는 심볼이면 네거티브 캐시에 기록해야 한다")
+    void should_MarkUnknown_When_AllProvidersReportUnknownSymbolInBulk() {
+        // Given
+        ReflectionTestUtils.setField(marketDataService, "bulkTimeoutMs", 1000L);
+        runTasksInCallerThread();
+        MarketDataProvider secondProvider = mock(MarketDataProvider.class);
+        when(secondProvider.getProviderName()).thenReturn("SecondProvider");
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider, secondProvider));
+        when(mockProvider.getMarketData("AAPL")).thenReturn(createMockStockPriceDto("AAPL", "TestProvider"));
+        when(mockProvider.getMarketData("ZZZZ"))
+                .thenThrow(new UnknownSymbolException("ZZZZ", "TestProvider에 없는 심볼입니다."));
+        when(mockProvider.getMarketData("QQQQ"))
+                .thenThrow(new UnknownSymbolException("QQQQ", "TestProvider에 없는 심볼입니다."));
+        when(secondProvider.getMarketData("ZZZZ"))
+                .thenThrow(new UnknownSymbolException("ZZZZ", "SecondProvider에 없는 심볼입니다."));
+        when(secondProvider.getMarketData("QQQQ")).thenThrow(new RuntimeException("연결 실패"));
+        
+        // When
+        BulkStockPriceDto result = marketDataService.getStockPricesBulk(List.of("AAPL", "zzzz", "QQQQ"));
+        
+        // Then
+        assertEquals(1, result.getPrices().size());
+        assertEquals("AAPL", result.getPrices().get("AAPL").getSymbol());
+        assertEquals("알 수 없는 심볼입니다.", result.getErrors().get("ZZZZ"));
+        assertTrue(result.getErrors().containsKey("QQQQ"));
+        verify(negativeQuoteCache).markUnknown("ZZZZ");
+        // 한 프로바이더라도 장애로 응답하지 못한 심볼은 기록하지 않음
+        verify(negativeQuoteCache, never()).markUnknown("QQQQ");
+    }
+    
+    @Test
+    @DisplayName("마감 시간까지 끝나지 않은 심볼은 실패로 기록해야 한다")
+    void should_RecordTimeout_When_DeadlineExceeded() {
+        // Given
+        ReflectionTestUtils.setField(marketDataService, "bulkTimeoutMs", 50L);
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        // executor가 작업을 실행하지 않아 완료되지 않는 상황
+        doNothing().when(marketDataExecutor).execute(any(Runnable.class));
+        
+        // When
+        BulkStockPriceDto result = marketDataService.getStockPricesBulk(List.of("AAPL"));
+        
+        // Then
+        assertTrue(result.getPrices().isEmpty());
+        assertTrue(result.getErrors().get("AAPL").contains("시간이 초과"));
+    }
+    
     @Test
     @DisplayName("사용 가능한 프로바이더가 없을 때 예외를 발생시켜야 한다")
     void should_ThrowException_When_NoAvailableProviders() {
@@ -68,6 +360,47 @@ class MarketDataServiceTest {
         assertTrue(exception.getMessage().contains("사용 가능한 시장 데이터 프로바이더가 없습니다"));
     }
     
+    @Test
+    @DisplayName("프로바이더에서 새로 조회한 시세는 QuoteUpdatedEvent로 발행해야 한다")
+    void should_PublishQuoteUpdatedEvent_When_QuoteFetched() {
+        // Given
+        StockPriceDto expectedData = createMockStockPriceDto("AAPL", "TestProvider");
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMarketData("AAPL")).thenReturn(expectedData);
+        
+        // When
+        marketDataService.getStockPrice("AAPL");
+        
+        // Then
+        verify(eventPublisher).publishEvent(new QuoteUpdatedEvent("AAPL", expectedData));
+    }
+    
+    @Test
+    @DisplayName("모든 프로바이더가 모르는 심볼이면 네거티브 캐시에 기록해야 한다")
+    void should_MarkUnknown_When_AllProvidersReportUnknownSymbol() {
+        // Given
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getMarketData("ZZZZ"))
+                .thenThrow(new UnknownSymbolException("ZZZZ", "TestProvider에 없는 심볼입니다."));
+        
+        // When & Then
+        assertThrows(UnknownSymbolException.class, () -> marketDataService.getStockPrice("zzzz"));
+        verify(negativeQuoteCache).markUnknown("ZZZZ");
+        verify(quoteCache, never()).put(anyString(), any(StockPriceDto.class));
+    }
+    
+    @Test
+    @DisplayName("네거티브 캐시에 있는 심볼은 프로바이더를 호출하지 않고 거절해야 한다")
+    void should_RejectWithoutProviderCall_When_SymbolIsNegativelyCached() {
+        // Given
+        when(negativeQuoteCache.isUnknown("ZZZZ")).thenReturn(true);
+        
+        // When & Then
+        assertThrows(UnknownSymbolException.class, () -> marketDataService.getStockPrice("ZZZZ"));
+        verify(providerFactory, never()).getAvailableProviders();
+        verify(mockProvider, never()).getMarketData(anyString());
+    }
+    
     @Test
     @DisplayName("빈 심볼로 요청할 때 예외를 발생시켜야 한다")
     void should_ThrowException_When_SymbolIsEmpty() {
@@ -109,6 +442,13 @@ class MarketDataServiceTest {
         verify(providerFactory).logProviderStatus();
     }
     
+    private void runTasksInCallerThread() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(marketDataExecutor).execute(any(Runnable.class));
+    }
+    
     private StockPriceDto createMockStockPriceDto(String symbol, String provider) {
         return StockPriceDto.builder()
                 .symbol(symbol)
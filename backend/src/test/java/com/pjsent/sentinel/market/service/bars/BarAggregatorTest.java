@@ -0,0 +1,198 @@
+package com.pjsent.sentinel.market.service.bars;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.history.OhlcvSeries;
+import com.pjsent.sentinel.market.service.history.OhlcvStore;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+
+@DisplayName("BarAggregator 테스트")
+class BarAggregatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 2);
+
+    @TempDir
+    Path storeDir;
+
+    private OhlcvStore ohlcvStore;
+    private BarAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        ohlcvStore = new OhlcvStore();
+        ReflectionTestUtils.setField(ohlcvStore, "storeDir", storeDir.toString());
+        ReflectionTestUtils.setField(ohlcvStore, "initialCapacity", 4);
+        ohlcvStore.init();
+
+        SymbolRegistry symbolRegistry = new SymbolRegistry();
+        ReflectionTestUtils.setField(symbolRegistry, "maxIds", 100);
+
+        aggregator = new BarAggregator(ohlcvStore, symbolRegistry);
+        ReflectionTestUtils.setField(aggregator, "sessionZoneId", "America/New_York");
+        ReflectionTestUtils.setField(aggregator, "retentionConfig", "1m:3,5m:10,1h:10,1d:10");
+        ReflectionTestUtils.setField(aggregator, "quoteQuietMs", 60000L);
+        aggregator.init();
+    }
+
+    @Test
+    @DisplayName("체결은 현지 시각 기준 1분/5분 봉으로 묶이고 마지막 항목은 만들어지는 중인 봉이어야 한다")
+    void should_RollUpMinuteAndFiveMinuteBars() {
+        // Given
+        aggregator.onTrade("AAPL", at(10, 0, 10), 100.0, 10);
+        aggregator.onTrade("AAPL", at(10, 0, 40), 101.5, 20);
+        aggregator.onTrade("AAPL", at(10, 1, 30), 99.0, 5);
+        aggregator.onTrade("AAPL", at(10, 4, 59), 100.5, 15);
+
+        // When
+        aggregator.onTrade("AAPL", at(10, 5, 0), 102.0, 1);
+
+        // Then
+        List<StockPriceDto> minutes = aggregator.bars("AAPL", BarResolution.ONE_MINUTE, 10);
+        assertEquals(4, minutes.size());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 0), minutes.get(0).getTimeStamp());
+        assertEquals(100.0, minutes.get(0).getOpen());
+        assertEquals(101.5, minutes.get(0).getHigh());
+        assertEquals(101.5, minutes.get(0).getClose());
+        assertEquals(30, minutes.get(0).getVolume());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 5), minutes.get(3).getTimeStamp());
+
+        List<StockPriceDto> fiveMinutes = aggregator.bars("AAPL", BarResolution.FIVE_MINUTES, 10);
+        assertEquals(2, fiveMinutes.size());
+        StockPriceDto closed = fiveMinutes.get(0);
+        assertEquals(100.0, closed.getOpen());
+        assertEquals(101.5, closed.getHigh());
+        assertEquals(99.0, closed.getLow());
+        assertEquals(100.5, closed.getClose());
+        assertEquals(50, closed.getVolume());
+
+        StockPriceDto forming = aggregator.formingBar("AAPL", BarResolution.ONE_HOUR).orElseThrow();
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 0), forming.getTimeStamp());
+        assertEquals(102.0, forming.getPrice());
+        assertEquals(51, forming.getVolume());
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘은 마감 봉은 오래된 것부터 버려야 한다")
+    void should_KeepOnlyRetainedBars() {
+        // Given
+        for (int minute = 0; minute < 6; minute++) {
+            aggregator.onTrade("AAPL", at(10, minute, 0), 100.0 + minute, 1);
+        }
+
+        // When
+        List<StockPriceDto> minutes = aggregator.bars("AAPL", BarResolution.ONE_MINUTE, 10);
+
+        // Then
+        assertEquals(4, minutes.size());
+        assertEquals(102.0, minutes.get(0).getClose());
+        assertEquals(105.0, minutes.get(3).getClose());
+        assertEquals(2, aggregator.bars("AAPL", BarResolution.ONE_MINUTE, 2).size());
+    }
+
+    @Test
+    @DisplayName("이미 지나간 1분 구간의 체결은 어느 해상도에도 반영하지 않아야 한다")
+    void should_DropUpdate_When_OlderThanCurrentMinute() {
+        // Given
+        aggregator.onTrade("AAPL", at(10, 0, 0), 100.0, 10);
+        aggregator.onTrade("AAPL", at(10, 2, 0), 101.0, 10);
+
+        // When
+        aggregator.onTrade("AAPL", at(10, 1, 0), 90.0, 10);
+
+        // Then
+        StockPriceDto hour = aggregator.formingBar("AAPL", BarResolution.ONE_HOUR).orElseThrow();
+        assertEquals(100.0, hour.getLow());
+        assertEquals(101.0, hour.getClose());
+        assertEquals(20, hour.getVolume());
+        assertEquals(1, aggregator.getStats().getLateUpdates());
+        assertEquals(2, aggregator.getStats().getUpdates());
+    }
+
+    @Test
+    @DisplayName("시세 스냅샷은 누적 거래량 증가분만 더하고, 최근 체결이 있는 심볼에는 반영하지 않아야 한다")
+    void should_ApplyQuoteVolumeDelta_And_SkipQuote_When_TradesRecent() {
+        // Given
+        aggregator.onQuote(quote("MSFT", 370.0, 1000), at(10, 0, 0));
+        aggregator.onQuote(quote("MSFT", 371.0, 1500), at(10, 0, 30));
+        aggregator.onQuote(quote("MSFT", 371.0, 1500), at(10, 0, 45));
+
+        // When
+        aggregator.onTrade("TSLA", at(10, 0, 0), 250.0, 5);
+        aggregator.onQuote(quote("TSLA", 251.0, 9000), at(10, 0, 30));
+
+        // Then
+        StockPriceDto msft = aggregator.formingBar("MSFT", BarResolution.ONE_MINUTE).orElseThrow();
+        assertEquals(370.0, msft.getOpen());
+        assertEquals(371.0, msft.getClose());
+        assertEquals(500, msft.getVolume());
+
+        StockPriceDto tsla = aggregator.formingBar("TSLA", BarResolution.ONE_MINUTE).orElseThrow();
+        assertEquals(250.0, tsla.getClose());
+        assertEquals(5, tsla.getVolume());
+        assertEquals(2, aggregator.getStats().getQuoteUpdatesSkipped());
+    }
+
+    @Test
+    @DisplayName("하루가 지나면 마감된 일봉을 OhlcvStore에 저장해야 한다")
+    void should_FlushClosedDailyBar_When_DayEnds() {
+        // Given
+        aggregator.onTrade("AAPL", at(9, 30, 0), 100.0, 10);
+        aggregator.onTrade("AAPL", at(15, 59, 0), 104.0, 30);
+        aggregator.onTrade("AAPL", at(12, 0, 0), 98.0, 0);
+
+        // When
+        aggregator.sealExpired(DAY.plusDays(1).atTime(0, 0, 30).atZone(ZONE).toInstant().toEpochMilli());
+        int written = aggregator.flush();
+
+        // Then
+        assertEquals(1, written);
+        OhlcvSeries stored = ohlcvStore.read("AAPL", DAY, DAY);
+        assertEquals(1, stored.size());
+        assertEquals(100.0, stored.open(0));
+        assertEquals(104.0, stored.high(0));
+        assertEquals(100.0, stored.low(0));
+        assertEquals(104.0, stored.close(0));
+        assertEquals(40L, stored.volume(0));
+        assertTrue(aggregator.formingBar("AAPL", BarResolution.ONE_DAY).isEmpty());
+        assertEquals(1, aggregator.getStats().getLateUpdates());
+    }
+
+    @Test
+    @DisplayName("같은 날짜의 일봉이 이미 저장되어 있으면 덮어쓰지 않아야 한다")
+    void should_NotOverwriteStoredDailyBar() {
+        // Given
+        ohlcvStore.upsert("AAPL", OhlcvSeries.builder(1).add(DAY, 1, 2, 0.5, 1.5, 7).build());
+        aggregator.onTrade("AAPL", at(10, 0, 0), 100.0, 10);
+
+        // When
+        aggregator.onTrade("AAPL", DAY.plusDays(1).atTime(9, 30).atZone(ZONE).toInstant().toEpochMilli(), 101.0, 1);
+        int written = aggregator.flush();
+
+        // Then
+        assertEquals(0, written);
+        assertEquals(1.5, ohlcvStore.read("AAPL", DAY, DAY).close(0));
+        assertEquals(1, aggregator.getStats().getDailyBarsSkipped());
+    }
+
+    private static long at(int hour, int minute, int second) {
+        return DAY.atTime(hour, minute, second).atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static StockPriceDto quote(String symbol, double price, long volume) {
+        return StockPriceDto.builder().symbol(symbol).price(price).volume(volume).build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.pjsent.sentinel.market.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.NegativeQuoteCacheStatsDto;
+
+@DisplayName("NegativeQuoteCache 테스트")
+class NegativeQuoteCacheTest {
+
+    private NegativeQuoteCache negativeQuoteCache;
+
+    @BeforeEach
+    void setUp() {
+        negativeQuoteCache = new NegativeQuoteCache();
+        ReflectionTestUtils.setField(negativeQuoteCache, "enabled", true);
+        ReflectionTestUtils.setField(negativeQuoteCache, "baseTtlMs", 1000L);
+        ReflectionTestUtils.setField(negativeQuoteCache, "maxTtlMs", 5000L);
+        ReflectionTestUtils.setField(negativeQuoteCache, "maxEntries", 2);
+        ReflectionTestUtils.setField(negativeQuoteCache, "filterBits", 1024);
+        negativeQuoteCache.init();
+    }
+
+    @Test
+    @DisplayName("기록된 심볼만 거절해야 한다")
+    void should_RejectOnlyMarkedSymbols() {
+        // Given
+        negativeQuoteCache.markUnknown("ZZZZ");
+
+        // When & Then
+        assertTrue(negativeQuoteCache.isUnknown("ZZZZ"));
+        assertFalse(negativeQuoteCache.isUnknown("AAPL"));
+        assertEquals(1, negativeQuoteCache.getStats().getRejected());
+    }
+
+    @Test
+    @DisplayName("다시 기록될 때마다 TTL이 두 배로 늘고 최대 TTL을 넘지 않아야 한다")
+    void should_DoubleTtl_When_MarkedAgain() {
+        // When & Then
+        assertEquals(1000L, negativeQuoteCache.markUnknown("ZZZZ"));
+        assertEquals(2000L, negativeQuoteCache.markUnknown("ZZZZ"));
+        assertEquals(4000L, negativeQuoteCache.markUnknown("ZZZZ"));
+        assertEquals(5000L, negativeQuoteCache.markUnknown("ZZZZ"));
+        assertEquals(5000L, negativeQuoteCache.ttl(40));
+    }
+
+    @Test
+    @DisplayName("조회에 성공한 심볼은 기록이 지워지고 TTL도 처음부터 시작해야 한다")
+    void should_ResetStrikes_When_Cleared() {
+        // Given
+        negativeQuoteCache.markUnknown("ZZZZ");
+        negativeQuoteCache.markUnknown("ZZZZ");
+
+        // When
+        negativeQuoteCache.clear("ZZZZ");
+
+        // Then
+        assertFalse(negativeQuoteCache.isUnknown("ZZZZ"));
+        assertEquals(1000L, negativeQuoteCache.markUnknown("ZZZZ"));
+        assertEquals(1, negativeQuoteCache.getStats().getCleared());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 심볼은 거절하지 않고 정리 후 필터에서도 빠져야 한다")
+    void should_PassThrough_When_TtlElapsed() {
+        // Given
+        ReflectionTestUtils.setField(negativeQuoteCache, "baseTtlMs", 0L);
+        negativeQuoteCache.markUnknown("ZZZZ");
+
+        // When
+        boolean beforeCleanup = negativeQuoteCache.isUnknown("ZZZZ");
+        negativeQuoteCache.cleanup();
+        boolean afterCleanup = negativeQuoteCache.isUnknown("ZZZZ");
+
+        // Then
+        assertFalse(beforeCleanup);
+        assertFalse(afterCleanup);
+        NegativeQuoteCacheStatsDto stats = negativeQuoteCache.getStats();
+        // 정리 전에는 필터를 통과해 항목까지 확인하고, 정리 후에는 필터에서 바로 걸러짐
+        assertEquals(1, stats.getFilterFalsePositives());
+        assertEquals(0, stats.getRejected());
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 새 심볼은 기록하지 않아야 한다")
+    void should_DropNewSymbol_When_Full() {
+        // Given
+        negativeQuoteCache.markUnknown("AAAA");
+        negativeQuoteCache.markUnknown("BBBB");
+
+        // When
+        long ttl = negativeQuoteCache.markUnknown("CCCC");
+
+        // Then
+        assertEquals(0L, ttl);
+        assertFalse(negativeQuoteCache.isUnknown("CCCC"));
+        assertTrue(negativeQuoteCache.isUnknown("AAAA"));
+        assertEquals(1, negativeQuoteCache.getStats().getDropped());
+    }
+
+    @Test
+    @DisplayName("비활성화되면 기록하지도 거절하지도 않아야 한다")
+    void should_DoNothing_When_Disabled() {
+        // Given
+        ReflectionTestUtils.setField(negativeQuoteCache, "enabled", false);
+
+        // When
+        long ttl = negativeQuoteCache.markUnknown("ZZZZ");
+
+        // Then
+        assertEquals(0L, ttl);
+        assertFalse(negativeQuoteCache.isUnknown("ZZZZ"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.pjsent.sentinel.market.service.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pjsent.sentinel.market.dto.QuoteCacheStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteCache 테스트")
+class QuoteCacheTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    private QuoteCache quoteCache;
+
+    @BeforeEach
+    void setUp() {
+        quoteCache = new QuoteCache(redisTemplateProvider, new ObjectMapper());
+        ReflectionTestUtils.setField(quoteCache, "maxEntries", 2);
+        ReflectionTestUtils.setField(quoteCache, "freshTtlSeconds", 60L);
+        ReflectionTestUtils.setField(quoteCache, "staleTtlSeconds", 600L);
+        ReflectionTestUtils.setField(quoteCache, "ttlOverrides", "TSLA:0");
+        ReflectionTestUtils.setField(quoteCache, "redisEnabled", false);
+        quoteCache.init();
+    }
+
+    @Test
+    @DisplayName("저장한 시세는 신선한 L1 hit로 반환되어야 한다")
+    void should_ReturnFreshEntry_When_Cached() {
+        // Given
+        quoteCache.put("AAPL", quote("AAPL"));
+
+        // When
+        Optional<CachedQuote> result = quoteCache.get("AAPL");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isFresh(System.currentTimeMillis()));
+        assertEquals(1, quoteCache.getStats().getL1().getHits());
+    }
+
+    @Test
+    @DisplayName("심볼별 TTL이 만료된 시세는 stale로 반환되어야 한다")
+    void should_ReturnStaleEntry_When_SymbolTtlElapsed() {
+        // Given
+        quoteCache.put("TSLA", quote("TSLA"));
+
+        // When
+        Optional<CachedQuote> result = quoteCache.get("TSLA");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isFresh(System.currentTimeMillis()));
+        assertEquals(1, quoteCache.getStats().getL1().getStaleHits());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거해야 한다")
+    void should_EvictLeastRecentlyUsed_When_MaxEntriesExceeded() {
+        // Given
+        quoteCache.put("AAPL", quote("AAPL"));
+        quoteCache.put("MSFT", quote("MSFT"));
+        quoteCache.get("AAPL");
+
+        // When
+        quoteCache.put("GOOGL", quote("GOOGL"));
+
+        // Then
+        QuoteCacheStatsDto stats = quoteCache.getStats();
+        assertEquals(2, stats.getL1Size());
+        assertEquals(1, stats.getL1().getEvictions());
+        assertTrue(quoteCache.get("AAPL").isPresent());
+        assertFalse(quoteCache.get("MSFT").isPresent());
+    }
+
+    @Test
+    @DisplayName("Redis가 비활성화되어 있으면 L2에 접근하지 않아야 한다")
+    void should_NotTouchRedis_When_L2Disabled() {
+        // When
+        quoteCache.put("AAPL", quote("AAPL"));
+        quoteCache.get("MSFT");
+
+        // Then
+        verifyNoInteractions(redisTemplateProvider);
+        assertEquals(1, quoteCache.getStats().getL1().getMisses());
+    }
+
+    @Test
+    @DisplayName("peek은 통계를 바꾸지 않고 L1 항목만 확인해야 한다")
+    void should_NotCountStats_When_Peeked() {
+        // Given
+        quoteCache.put("AAPL", quote("AAPL"));
+
+        // When
+        Optional<CachedQuote> cached = quoteCache.peek("AAPL");
+        Optional<CachedQuote> missing = quoteCache.peek("MSFT");
+
+        // Then
+        assertTrue(cached.isPresent());
+        assertTrue(missing.isEmpty());
+        assertEquals(0, quoteCache.getStats().getL1().getHits());
+        assertEquals(0, quoteCache.getStats().getL1().getMisses());
+    }
+
+    @Test
+    @DisplayName("복원한 시세는 원래 조회 시각 기준으로 stale 여부가 정해져야 한다")
+    void should_RestoreAsStale_When_FetchedBeforeFreshTtl() {
+        // Given
+        long fetchedAt = System.currentTimeMillis() - 120_000;
+
+        // When
+        boolean restored = quoteCache.restore("AAPL", quote("AAPL"), fetchedAt);
+
+        // Then
+        assertTrue(restored);
+        Optional<CachedQuote> result = quoteCache.get("AAPL");
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isFresh(System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("stale 구간이 지난 시세나 이미 캐시된 심볼은 복원하지 않아야 한다")
+    void should_SkipRestore_When_ExpiredOrAlreadyCached() {
+        // Given
+        quoteCache.put("MSFT", quote("MSFT"));
+
+        // When & Then
+        assertFalse(quoteCache.restore("AAPL", quote("AAPL"), System.currentTimeMillis() - 601_000));
+        assertFalse(quoteCache.restore("MSFT", quote("MSFT"), System.currentTimeMillis()));
+        assertEquals(1, quoteCache.getStats().getL1Size());
+    }
+
+    private StockPriceDto quote(String symbol) {
+        return StockPriceDto.builder()
+                .symbol(symbol)
+                .price(100.0)
+                .provider("TestProvider")
+                .build();
+    }
+}
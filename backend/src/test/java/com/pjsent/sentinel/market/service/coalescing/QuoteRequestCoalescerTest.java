@@ -0,0 +1,136 @@
+package com.pjsent.sentinel.market.service.coalescing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.CoalescingStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+@DisplayName("QuoteRequestCoalescer 테스트")
+class QuoteRequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private QuoteRequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new QuoteRequestCoalescer();
+        ReflectionTestUtils.setField(coalescer, "maxWaitMs", 5000L);
+    }
+
+    @Test
+    @DisplayName("같은 심볼의 동시 요청은 프로바이더를 한 번만 호출해야 한다")
+    void should_CallLoaderOnce_When_ConcurrentRequestsForSameSymbol() throws Exception {
+        // Given
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        // When
+        List<Future<StockPriceDto>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("AAPL", () -> {
+                loaderCalls.incrementAndGet();
+                await(release);
+                return StockPriceDto.builder().symbol("AAPL").price(150.0).build();
+            })));
+        }
+        waitUntilAllJoined();
+        release.countDown();
+
+        // Then
+        for (Future<StockPriceDto> future : futures) {
+            assertEquals(150.0, future.get(5, TimeUnit.SECONDS).getPrice());
+        }
+        executor.shutdown();
+
+        CoalescingStatsDto stats = coalescer.getStats();
+        assertEquals(1, loaderCalls.get());
+        assertEquals(1, stats.getUpstreamCalls());
+        assertEquals(CALLERS - 1, stats.getCoalescedCalls());
+        assertEquals(0, stats.getInFlight());
+    }
+
+    @Test
+    @DisplayName("leader의 실패는 합류한 모든 요청에 전달되어야 한다")
+    void should_PropagateFailure_When_LoaderFails() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        // When
+        List<Future<StockPriceDto>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("AAPL", () -> {
+                await(release);
+                throw new RuntimeException("프로바이더 실패");
+            })));
+        }
+        waitUntilAllJoined();
+        release.countDown();
+
+        // Then
+        for (Future<StockPriceDto> future : futures) {
+            Exception exception = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertEquals("프로바이더 실패", exception.getCause().getMessage());
+        }
+        executor.shutdown();
+        assertEquals(CALLERS - 1, coalescer.getStats().getSharedFailures());
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 follower는 타임아웃되어야 한다")
+    void should_TimeoutFollower_When_LeaderTooSlow() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(coalescer, "maxWaitMs", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<StockPriceDto> leader = executor.submit(() -> coalescer.execute("AAPL", () -> {
+            await(release);
+            return StockPriceDto.builder().symbol("AAPL").price(150.0).build();
+        }));
+        while (coalescer.getStats().getInFlight() == 0) {
+            Thread.sleep(5);
+        }
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> coalescer.execute("AAPL", () -> null));
+        assertTrue(exception.getMessage().contains("대기 시간이 초과"));
+
+        release.countDown();
+        assertEquals(150.0, leader.get(5, TimeUnit.SECONDS).getPrice());
+        executor.shutdown();
+        assertEquals(1, coalescer.getStats().getTimeouts());
+    }
+
+    private void waitUntilAllJoined() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (coalescer.getStats().getCoalescedCalls() < CALLERS - 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
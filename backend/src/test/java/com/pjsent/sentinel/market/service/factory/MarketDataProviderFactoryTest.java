@@ -0,0 +1,119 @@
+package com.pjsent.sentinel.market.service.factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MarketDataProviderFactory 라우팅 테스트")
+class MarketDataProviderFactoryTest {
+
+    @Mock
+    private MarketDataProvider alphaVantage;
+
+    @Mock
+    private MarketDataProvider finnhub;
+
+    @Mock
+    private ProviderRateLimiter rateLimiter;
+
+    private ProviderHealthTracker healthTracker;
+    private MarketDataProviderFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .build());
+        healthTracker = new ProviderHealthTracker(registry);
+        ReflectionTestUtils.setField(healthTracker, "ewmaAlpha", 0.5);
+        ReflectionTestUtils.setField(healthTracker, "failurePenaltyMs", 5000L);
+        ReflectionTestUtils.setField(healthTracker, "quotaExhaustedPenaltyMs", 10000L);
+
+        lenient().when(alphaVantage.getProviderName()).thenReturn("AlphaVantage");
+        lenient().when(finnhub.getProviderName()).thenReturn("Finnhub");
+        lenient().when(alphaVantage.isAvailable()).thenReturn(true);
+        lenient().when(finnhub.isAvailable()).thenReturn(true);
+        lenient().when(rateLimiter.remainingTokens(anyString())).thenReturn(-1.0);
+
+        factory = new MarketDataProviderFactory(List.of(alphaVantage, finnhub), healthTracker, rateLimiter);
+    }
+
+    @Test
+    @DisplayName("호출 기록이 없으면 등록 순서를 유지해야 한다")
+    void should_KeepRegistrationOrder_When_NoSamples() {
+        // When
+        List<MarketDataProvider> providers = factory.getAvailableProviders();
+
+        // Then
+        assertEquals(List.of(alphaVantage, finnhub), providers);
+    }
+
+    @Test
+    @DisplayName("실패가 잦은 프로바이더는 뒤로 밀려야 한다")
+    void should_DeprioritizeProvider_When_ErrorRateIsHigh() {
+        // Given
+        healthTracker.execute("Finnhub", () -> "ok");
+        assertThrows(RuntimeException.class, () -> healthTracker.execute("AlphaVantage", () -> {
+            throw new RuntimeException("읽기 타임아웃");
+        }));
+
+        // When
+        List<MarketDataProvider> providers = factory.getAvailableProviders();
+
+        // Then
+        assertEquals(List.of(finnhub, alphaVantage), providers);
+    }
+
+    @Test
+    @DisplayName("호출 토큰이 소진된 프로바이더는 뒤로 밀려야 한다")
+    void should_DeprioritizeProvider_When_QuotaExhausted() {
+        // Given
+        when(rateLimiter.remainingTokens("AlphaVantage")).thenReturn(0.0);
+
+        // When
+        List<MarketDataProvider> providers = factory.getAvailableProviders();
+
+        // Then
+        assertEquals(List.of(finnhub, alphaVantage), providers);
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 프로바이더는 호출 없이 제외되어야 한다")
+    void should_SkipProvider_When_CircuitIsOpen() {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, () -> healthTracker.execute("AlphaVantage", () -> {
+                throw new RuntimeException("503");
+            }));
+        }
+
+        // When
+        List<MarketDataProvider> providers = factory.getAvailableProviders();
+
+        // Then
+        assertEquals(List.of(finnhub), providers);
+        assertThrows(CallNotPermittedException.class, () -> healthTracker.execute("AlphaVantage", () -> "ok"));
+        assertEquals("OPEN", factory.getProviderHealth().get("AlphaVantage").getCircuitState());
+    }
+}
@@ -0,0 +1,166 @@
+package com.pjsent.sentinel.market.service.hedging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.HedgingStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriority;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriorityContext;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteHedger 테스트")
+class QuoteHedgerTest {
+
+    @Mock
+    private ProviderHealthTracker healthTracker;
+
+    @Mock
+    private ProviderRateLimiter rateLimiter;
+
+    @Mock
+    private MarketDataProvider primary;
+
+    @Mock
+    private MarketDataProvider backup;
+
+    private ExecutorService executor;
+    private QuoteHedger quoteHedger;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        quoteHedger = new QuoteHedger(healthTracker, rateLimiter, executor);
+        ReflectionTestUtils.setField(quoteHedger, "enabled", true);
+        ReflectionTestUtils.setField(quoteHedger, "minDelayMs", 10L);
+        ReflectionTestUtils.setField(quoteHedger, "defaultDelayMs", 1000L);
+        ReflectionTestUtils.setField(quoteHedger, "minBackupTokens", 2.0);
+        ReflectionTestUtils.setField(quoteHedger, "maxBurst", 5.0);
+        ReflectionTestUtils.setField(quoteHedger, "quoteEnabled", true);
+        ReflectionTestUtils.setField(quoteHedger, "quoteDelayPercentile", 95.0);
+        ReflectionTestUtils.setField(quoteHedger, "quoteBudgetRatio", 0.1);
+        quoteHedger.init();
+
+        lenient().when(primary.getProviderName()).thenReturn("AlphaVantage");
+        lenient().when(backup.getProviderName()).thenReturn("Finnhub");
+        lenient().when(healthTracker.latencyPercentileMs(eq("AlphaVantage"), anyDouble())).thenReturn(50.0);
+        lenient().when(rateLimiter.remainingTokens(anyString())).thenReturn(-1.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("1순위 프로바이더가 p95 안에 응답하면 헤지하지 않아야 한다")
+    void should_NotHedge_When_PrimaryAnswersInTime() {
+        // When
+        HedgedQuote result = quoteHedger.race(HedgeEndpoint.QUOTE, primary, backup,
+                provider -> quote(provider.getProviderName(), 150.0));
+
+        // Then
+        assertEquals("AlphaVantage", result.getQuote().getProvider());
+        assertEquals(1, result.getAttempted());
+        assertEquals(0, quoteHedger.getStats().getHedgesFired());
+    }
+
+    @Test
+    @DisplayName("1순위 프로바이더가 지연되면 2순위 프로바이더의 응답을 사용하고 지연된 호출은 취소해야 한다")
+    void should_UseBackup_When_PrimaryIsSlow() {
+        // When
+        long startedAt = System.currentTimeMillis();
+        HedgedQuote result = quoteHedger.race(HedgeEndpoint.QUOTE, primary, backup, provider -> {
+            if (provider == primary) {
+                sleep(3000);
+            }
+            return quote(provider.getProviderName(), 150.0);
+        });
+
+        // Then
+        HedgingStatsDto stats = quoteHedger.getStats();
+        assertEquals("Finnhub", result.getQuote().getProvider());
+        assertEquals(2, result.getAttempted());
+        assertTrue(System.currentTimeMillis() - startedAt < 3000);
+        assertEquals(1, stats.getHedgesFired());
+        assertEquals(1, stats.getHedgeWins());
+        assertEquals(1, stats.getCancelled());
+    }
+
+    @Test
+    @DisplayName("2순위 프로바이더의 호출 토큰이 부족하면 헤지하지 않고 1순위 응답을 기다려야 한다")
+    void should_SkipHedge_When_BackupQuotaIsLow() {
+        // Given
+        when(rateLimiter.remainingTokens("Finnhub")).thenReturn(1.0);
+
+        // When
+        HedgedQuote result = quoteHedger.race(HedgeEndpoint.QUOTE, primary, backup, provider -> {
+            sleep(200);
+            return quote(provider.getProviderName(), 150.0);
+        });
+
+        // Then
+        assertEquals("AlphaVantage", result.getQuote().getProvider());
+        assertEquals(1, quoteHedger.getStats().getSkippedByQuota());
+        assertEquals(0, quoteHedger.getStats().getHedgesFired());
+    }
+
+    @Test
+    @DisplayName("헤지 예산을 모두 쓰면 더 이상 헤지하지 않아야 한다")
+    void should_SkipHedge_When_BudgetExhausted() {
+        // When (초기 예산 1회 + 요청 2건의 적립분 0.2)
+        for (int i = 0; i < 2; i++) {
+            quoteHedger.race(HedgeEndpoint.QUOTE, primary, backup, provider -> {
+                if (provider == primary) {
+                    sleep(100);
+                }
+                return quote(provider.getProviderName(), 150.0);
+            });
+        }
+
+        // Then
+        assertEquals(1, quoteHedger.getStats().getHedgesFired());
+        assertEquals(1, quoteHedger.getStats().getSkippedByBudget());
+    }
+
+    @Test
+    @DisplayName("백그라운드 요청에는 헤지를 적용하지 않아야 한다")
+    void should_NotHedge_When_BackgroundPriority() {
+        // When
+        boolean hedge = RequestPriorityContext.callWith(RequestPriority.BACKGROUND,
+                () -> quoteHedger.shouldHedge(HedgeEndpoint.QUOTE, List.of(primary, backup)));
+
+        // Then
+        assertFalse(hedge);
+        assertTrue(quoteHedger.shouldHedge(HedgeEndpoint.QUOTE, List.of(primary, backup)));
+    }
+
+    private static StockPriceDto quote(String provider, double price) {
+        return StockPriceDto.builder().symbol("AAPL").price(price).provider(provider).build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
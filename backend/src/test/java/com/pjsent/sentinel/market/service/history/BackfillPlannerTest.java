@@ -0,0 +1,92 @@
+package com.pjsent.sentinel.market.service.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("BackfillPlanner 테스트")
+class BackfillPlannerTest {
+
+    // 2024-06-14는 금요일
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    private BackfillPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new BackfillPlanner();
+        ReflectionTestUtils.setField(planner, "mergeGapDays", 30);
+    }
+
+    @Test
+    @DisplayName("어제 봉만 비어 있으면 compact 요청 하나를 만들어야 한다")
+    void should_PlanSingleCompactRequest_When_OnlyRecentDayMissing() {
+        // When
+        List<BackfillRequest> plan = planner.plan(List.of(range("2024-06-14", "2024-06-14")), TODAY);
+
+        // Then
+        assertEquals(1, plan.size());
+        assertEquals(LocalDate.of(2024, 6, 14), plan.get(0).from());
+        assertTrue(plan.get(0).compact());
+    }
+
+    @Test
+    @DisplayName("주말만 남은 빈 구간은 요청하지 않아야 한다")
+    void should_SkipGap_When_OnlyWeekendMissing() {
+        // When
+        List<BackfillRequest> plan = planner.plan(List.of(range("2024-06-08", "2024-06-09")), TODAY);
+
+        // Then
+        assertTrue(plan.isEmpty());
+    }
+
+    @Test
+    @DisplayName("빈 구간의 양 끝 주말은 요청에서 제외해야 한다")
+    void should_TrimWeekends_When_GapStartsOrEndsOnWeekend() {
+        // When
+        List<BackfillRequest> plan = planner.plan(List.of(range("2024-06-08", "2024-06-16")), TODAY);
+
+        // Then
+        assertEquals(LocalDate.of(2024, 6, 10), plan.get(0).from());
+        assertEquals(LocalDate.of(2024, 6, 14), plan.get(0).to());
+    }
+
+    @Test
+    @DisplayName("가까운 빈 구간은 한 요청으로 합쳐야 한다")
+    void should_MergeGaps_When_CloseTogether() {
+        // When
+        List<BackfillRequest> plan = planner.plan(List.of(
+                range("2024-05-06", "2024-05-10"),
+                range("2024-05-20", "2024-05-24"),
+                range("2024-06-14", "2024-06-14")), TODAY);
+
+        // Then
+        assertEquals(1, plan.size());
+        assertEquals(LocalDate.of(2024, 5, 6), plan.get(0).from());
+        assertEquals(LocalDate.of(2024, 6, 14), plan.get(0).to());
+    }
+
+    @Test
+    @DisplayName("오래된 빈 구간은 full, 최근 빈 구간은 compact 요청으로 나눠야 한다")
+    void should_SplitFullAndCompact_When_GapsFarApart() {
+        // When
+        List<BackfillRequest> plan = planner.plan(List.of(
+                range("2023-01-02", "2023-01-31"),
+                range("2024-06-14", "2024-06-14")), TODAY);
+
+        // Then
+        assertEquals(2, plan.size());
+        assertFalse(plan.get(0).compact());
+        assertTrue(plan.get(1).compact());
+    }
+
+    private static DateRange range(String from, String to) {
+        return new DateRange(LocalDate.parse(from), LocalDate.parse(to));
+    }
+}
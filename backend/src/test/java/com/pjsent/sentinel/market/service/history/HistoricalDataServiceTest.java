@@ -0,0 +1,197 @@
+package com.pjsent.sentinel.market.service.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.factory.MarketDataProviderFactory;
+import com.pjsent.sentinel.market.service.provider.MarketDataProvider;
+import com.pjsent.sentinel.market.service.routing.ProviderHealthTracker;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoricalDataService 테스트")
+class HistoricalDataServiceTest {
+
+    @Mock
+    private MarketDataProviderFactory providerFactory;
+
+    @Mock
+    private MarketDataProvider mockProvider;
+
+    @TempDir
+    Path storeDir;
+
+    private OhlcvStore ohlcvStore;
+
+    private HistoricalDataService historicalDataService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        ohlcvStore = new OhlcvStore();
+        ReflectionTestUtils.setField(ohlcvStore, "storeDir", storeDir.toString());
+        ReflectionTestUtils.setField(ohlcvStore, "initialCapacity", 16);
+        ohlcvStore.init();
+
+        BackfillPlanner backfillPlanner = new BackfillPlanner();
+        ReflectionTestUtils.setField(backfillPlanner, "mergeGapDays", 30);
+        historicalDataService = new HistoricalDataService(providerFactory,
+                new ProviderHealthTracker(CircuitBreakerRegistry.ofDefaults()), ohlcvStore,
+                new HistoryCoverageIndex(ohlcvStore), backfillPlanner);
+        ReflectionTestUtils.setField(historicalDataService, "maxDays", 3650);
+
+        lenient().when(mockProvider.getProviderName()).thenReturn("TestProvider");
+        lenient().when(mockProvider.supportsHistoricalData()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("저장된 봉이 없으면 프로바이더에서 조회해 확정된 봉만 저장해야 한다")
+    void should_FetchAndStoreCompletedBars_When_StoreIsEmpty() {
+        // Given
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getHistoricalData(eq("AAPL"), any(LocalDate.class), any(LocalDate.class))).thenReturn(bars(3));
+
+        // When
+        List<StockPriceDto> result = historicalDataService.getDailyHistory("aapl", 30);
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(today.minusDays(3).toString(), result.get(0).getLastTradingDay());
+        assertEquals(today.minusDays(1).toString(), result.get(2).getLastTradingDay());
+        assertEquals(result.get(2).getClose(), result.get(2).getPrice());
+        assertEquals(1.0, result.get(1).getChange(), 1e-9);
+        // 당일 봉은 저장하지 않음
+        assertEquals(3, ohlcvStore.size("AAPL"));
+    }
+
+    @Test
+    @DisplayName("같은 날 같은 기간을 다시 조회하면 프로바이더를 호출하지 않아야 한다")
+    void should_NotCallProvider_When_RangeAlreadyFetchedToday() {
+        // Given
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getHistoricalData(eq("AAPL"), any(LocalDate.class), any(LocalDate.class))).thenReturn(bars(3));
+        historicalDataService.getDailyHistory("AAPL", 30);
+
+        // When
+        List<StockPriceDto> result = historicalDataService.getDailyHistory("AAPL", 10);
+
+        // Then
+        assertEquals(3, result.size());
+        verify(mockProvider, times(1)).getHistoricalData(anyString(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("이미 채워진 구간은 다시 요청하지 않고 빈 구간만 요청해야 한다")
+    void should_RequestOnlyMissingRange_When_OlderRangeCovered() {
+        // Given
+        LocalDate lastStored = today.minusDays(20);
+        ohlcvStore.upsert("AAPL", OhlcvSeries.builder(2)
+                .add(today.minusDays(60), 99.0, 101.0, 98.0, 100.0, 1000L)
+                .add(lastStored, 99.0, 101.0, 98.0, 100.0, 1000L)
+                .build());
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getHistoricalData(eq("AAPL"), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(bars(3));
+
+        // When
+        historicalDataService.getDailyHistory("AAPL", 30);
+
+        // Then
+        ArgumentCaptor<LocalDate> from = ArgumentCaptor.forClass(LocalDate.class);
+        verify(mockProvider).getHistoricalData(eq("AAPL"), from.capture(), any(LocalDate.class));
+        assertTrue(from.getValue().isAfter(lastStored));
+    }
+
+    @Test
+    @DisplayName("프로바이더가 실패해도 저장된 봉이 있으면 저장된 봉을 반환해야 한다")
+    void should_ReturnStoredBars_When_ProviderFails() {
+        // Given
+        ohlcvStore.upsert("AAPL", OhlcvSeries.builder(1)
+                .add(today.minusDays(10), 99.0, 101.0, 98.0, 100.0, 1000L)
+                .build());
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getHistoricalData(eq("AAPL"), any(LocalDate.class), any(LocalDate.class))).thenThrow(new RuntimeException("API Error"));
+
+        // When
+        List<StockPriceDto> result = historicalDataService.getDailyHistory("AAPL", 30);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(100.0, result.get(0).getPrice());
+    }
+
+    @Test
+    @DisplayName("프로바이더가 실패하고 저장된 봉도 없으면 예외가 발생해야 한다")
+    void should_ThrowException_When_ProviderFailsAndStoreIsEmpty() {
+        // Given
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(mockProvider));
+        when(mockProvider.getHistoricalData(eq("AAPL"), any(LocalDate.class), any(LocalDate.class))).thenThrow(new RuntimeException("API Error"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> historicalDataService.getDailyHistory("AAPL", 30));
+    }
+
+    @Test
+    @DisplayName("과거 시세를 지원하지 않는 프로바이더는 건너뛰어야 한다")
+    void should_SkipProvider_When_HistoricalDataNotSupported() {
+        // Given
+        MarketDataProvider quoteOnlyProvider = mock(MarketDataProvider.class);
+        when(quoteOnlyProvider.supportsHistoricalData()).thenReturn(false);
+        when(providerFactory.getAvailableProviders()).thenReturn(List.of(quoteOnlyProvider, mockProvider));
+        when(mockProvider.getHistoricalData(eq("AAPL"), any(LocalDate.class), any(LocalDate.class))).thenReturn(bars(2));
+
+        // When
+        List<StockPriceDto> result = historicalDataService.getDailyHistory("AAPL", 30);
+
+        // Then
+        assertEquals(2, result.size());
+        verify(quoteOnlyProvider, never()).getHistoricalData(anyString(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("조회 기간이 범위를 벗어나면 예외가 발생해야 한다")
+    void should_ThrowException_When_DaysOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> historicalDataService.getDailyHistory("AAPL", 0));
+        assertThrows(IllegalArgumentException.class, () -> historicalDataService.getDailyHistory("AAPL", 3651));
+        verifyNoInteractions(providerFactory);
+    }
+
+    // 직전 count일의 일봉 + 장중인 당일 봉 (종가 = 100 + 순번)
+    private List<StockPriceDto> bars(int count) {
+        List<StockPriceDto> bars = new ArrayList<>();
+        for (int i = 0; i <= count; i++) {
+            LocalDate date = today.minusDays(count - i);
+            bars.add(StockPriceDto.builder()
+                    .symbol("AAPL")
+                    .price(100.0 + i)
+                    .open(99.0 + i)
+                    .high(101.0 + i)
+                    .low(98.0 + i)
+                    .close(100.0 + i)
+                    .volume(1000L + i)
+                    .lastTradingDay(date.toString())
+                    .provider("TestProvider")
+                    .build());
+        }
+        return bars;
+    }
+}
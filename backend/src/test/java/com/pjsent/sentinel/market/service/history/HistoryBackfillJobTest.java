@@ -0,0 +1,99 @@
+package com.pjsent.sentinel.market.service.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.HistoryBackfillStatsDto;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoryBackfillJob 테스트")
+class HistoryBackfillJobTest {
+
+    @Mock
+    private HistoricalDataService historicalDataService;
+
+    @Mock
+    private OhlcvStore ohlcvStore;
+
+    @InjectMocks
+    private HistoryBackfillJob backfillJob;
+
+    private final BackfillRequest compactRequest =
+            new BackfillRequest(LocalDate.now().minusDays(1), LocalDate.now().minusDays(1), true);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(backfillJob, "configuredSymbols", "");
+        ReflectionTestUtils.setField(backfillJob, "lookbackDays", 365);
+        ReflectionTestUtils.setField(backfillJob, "throttleWaitMs", 1L);
+        ReflectionTestUtils.setField(backfillJob, "maxRunMinutes", 1L);
+    }
+
+    @Test
+    @DisplayName("이미 채워진 심볼은 요청하지 않고 빈 구간이 있는 심볼만 요청해야 한다")
+    void should_RequestOnlySymbolsWithGaps() {
+        // Given
+        when(ohlcvStore.symbols()).thenReturn(List.of("AAPL", "MSFT"));
+        when(historicalDataService.planBackfill("AAPL", 365)).thenReturn(List.of());
+        when(historicalDataService.planBackfill("MSFT", 365)).thenReturn(List.of(compactRequest));
+        when(historicalDataService.backfill("MSFT", compactRequest)).thenReturn(BackfillResult.FETCHED);
+
+        // When
+        HistoryBackfillStatsDto stats = backfillJob.run();
+
+        // Then
+        assertEquals(2, stats.getSymbols());
+        assertEquals(1, stats.getUpToDate());
+        assertEquals(1, stats.getCompactRequests());
+        assertEquals(0, stats.getFullRequests());
+        verify(historicalDataService, never()).backfill(eq("AAPL"), any());
+    }
+
+    @Test
+    @DisplayName("호출 한도에 걸리면 기다렸다가 같은 요청을 다시 시도해야 한다")
+    void should_RetrySameRequest_When_Throttled() {
+        // Given
+        when(ohlcvStore.symbols()).thenReturn(List.of("AAPL"));
+        when(historicalDataService.planBackfill("AAPL", 365)).thenReturn(List.of(compactRequest));
+        when(historicalDataService.backfill("AAPL", compactRequest))
+                .thenReturn(BackfillResult.THROTTLED, BackfillResult.THROTTLED, BackfillResult.FETCHED);
+
+        // When
+        HistoryBackfillStatsDto stats = backfillJob.run();
+
+        // Then
+        assertEquals(2, stats.getThrottleWaits());
+        assertEquals(1, stats.getCompactRequests());
+        assertFalse(stats.isAborted());
+        verify(historicalDataService, times(3)).backfill("AAPL", compactRequest);
+    }
+
+    @Test
+    @DisplayName("설정한 심볼도 저장소의 심볼과 함께 백필해야 한다")
+    void should_IncludeConfiguredSymbols() {
+        // Given
+        ReflectionTestUtils.setField(backfillJob, "configuredSymbols", "msft, aapl");
+        when(ohlcvStore.symbols()).thenReturn(List.of("AAPL"));
+        when(historicalDataService.planBackfill(anyString(), eq(365))).thenReturn(List.of());
+
+        // When
+        HistoryBackfillStatsDto stats = backfillJob.run();
+
+        // Then
+        assertEquals(2, stats.getSymbols());
+        verify(historicalDataService).planBackfill("MSFT", 365);
+    }
+}
@@ -0,0 +1,106 @@
+package com.pjsent.sentinel.market.service.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("HistoryCoverageIndex 테스트")
+class HistoryCoverageIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @TempDir
+    Path storeDir;
+
+    private OhlcvStore ohlcvStore;
+
+    private HistoryCoverageIndex coverageIndex;
+
+    @BeforeEach
+    void setUp() {
+        ohlcvStore = new OhlcvStore();
+        ReflectionTestUtils.setField(ohlcvStore, "storeDir", storeDir.toString());
+        ReflectionTestUtils.setField(ohlcvStore, "initialCapacity", 16);
+        ohlcvStore.init();
+        coverageIndex = new HistoryCoverageIndex(ohlcvStore);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 전체 기간이 빈 구간이어야 한다")
+    void should_ReturnWholeRange_When_NothingCovered() {
+        // When
+        List<DateRange> gaps = coverageIndex.gaps("AAPL", START, START.plusDays(9));
+
+        // Then
+        assertEquals(List.of(new DateRange(START, START.plusDays(9))), gaps);
+    }
+
+    @Test
+    @DisplayName("확인한 구간 사이와 바깥만 빈 구간으로 반환해야 한다")
+    void should_ReturnOnlyUncoveredRanges_When_PartiallyCovered() {
+        // Given
+        coverageIndex.markCovered("AAPL", START.plusDays(2), START.plusDays(3));
+        coverageIndex.markCovered("AAPL", START.plusDays(6), START.plusDays(7));
+
+        // When
+        List<DateRange> gaps = coverageIndex.gaps("AAPL", START, START.plusDays(9));
+
+        // Then
+        assertEquals(List.of(
+                new DateRange(START, START.plusDays(1)),
+                new DateRange(START.plusDays(4), START.plusDays(5)),
+                new DateRange(START.plusDays(8), START.plusDays(9))), gaps);
+    }
+
+    @Test
+    @DisplayName("겹치거나 이어지는 구간은 하나로 합쳐야 한다")
+    void should_MergeRanges_When_OverlappingOrAdjacent() {
+        // When
+        coverageIndex.markCovered("AAPL", START, START.plusDays(3));
+        coverageIndex.markCovered("AAPL", START.plusDays(8), START.plusDays(9));
+        coverageIndex.markCovered("AAPL", START.plusDays(4), START.plusDays(8));
+
+        // Then
+        assertEquals(List.of(new DateRange(START, START.plusDays(9))), coverageIndex.ranges("AAPL"));
+        assertTrue(coverageIndex.gaps("AAPL", START.plusDays(1), START.plusDays(9)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("색인을 다시 열어도 기록한 구간이 유지되어야 한다")
+    void should_KeepRanges_When_Reloaded() {
+        // Given
+        coverageIndex.markCovered("AAPL", START, START.plusDays(3));
+
+        // When
+        HistoryCoverageIndex reloaded = new HistoryCoverageIndex(ohlcvStore);
+
+        // Then
+        assertEquals(List.of(new DateRange(START, START.plusDays(3))), reloaded.ranges("AAPL"));
+    }
+
+    @Test
+    @DisplayName("색인 파일이 없으면 저장된 첫 봉부터 마지막 봉까지를 확인한 구간으로 봐야 한다")
+    void should_SeedFromStoredBars_When_IndexFileMissing() {
+        // Given
+        ohlcvStore.upsert("AAPL", OhlcvSeries.builder(2)
+                .add(START.plusDays(1), 1, 1, 1, 1, 1)
+                .add(START.plusDays(5), 1, 1, 1, 1, 1)
+                .build());
+
+        // When
+        List<DateRange> gaps = coverageIndex.gaps("AAPL", START, START.plusDays(9));
+
+        // Then
+        assertEquals(List.of(
+                new DateRange(START, START),
+                new DateRange(START.plusDays(6), START.plusDays(9))), gaps);
+    }
+}
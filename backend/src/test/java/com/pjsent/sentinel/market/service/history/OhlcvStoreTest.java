@@ -0,0 +1,175 @@
+package com.pjsent.sentinel.market.service.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("OhlcvStore 테스트")
+class OhlcvStoreTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @TempDir
+    Path storeDir;
+
+    private OhlcvStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore();
+    }
+
+    @Test
+    @DisplayName("마지막 날짜 이후의 봉은 이어서 저장되어야 한다")
+    void should_AppendBars_When_NewerThanLastDate() {
+        // Given
+        store.upsert("AAPL", bars(0, 3));
+
+        // When
+        store.upsert("AAPL", bars(3, 2));
+
+        // Then
+        OhlcvSeries series = store.read("AAPL", START, START.plusDays(10));
+        assertEquals(5, series.size());
+        assertEquals(START, series.date(0));
+        assertEquals(START.plusDays(4), series.date(4));
+        assertEquals(104.0, series.close(4));
+        assertEquals(1004L, series.volume(4));
+    }
+
+    @Test
+    @DisplayName("마지막 날짜와 같은 봉은 새 값으로 덮어써야 한다")
+    void should_OverwriteLastBar_When_SameDate() {
+        // Given
+        store.upsert("AAPL", bars(0, 3));
+
+        // When
+        store.upsert("AAPL", OhlcvSeries.builder(1).add(START.plusDays(2), 1, 2, 0.5, 1.5, 7).build());
+
+        // Then
+        assertEquals(3, store.size("AAPL"));
+        OhlcvSeries series = store.read("AAPL", START.plusDays(2), START.plusDays(2));
+        assertEquals(1, series.size());
+        assertEquals(1.5, series.close(0));
+        assertEquals(7L, series.volume(0));
+    }
+
+    @Test
+    @DisplayName("입력에 같은 날짜가 여러 번 있으면 마지막 값만 날짜 순서대로 저장해야 한다")
+    void should_KeepLastBarPerDate_When_InputHasDuplicateDates() {
+        // Given
+        OhlcvSeries input = OhlcvSeries.builder(3)
+                .add(START.plusDays(1), 1, 1, 1, 1, 1)
+                .add(START.plusDays(1), 2, 2, 2, 2, 2)
+                .add(START, 3, 3, 3, 3, 3)
+                .build();
+
+        // When
+        store.upsert("AAPL", input);
+        store.upsert("AAPL", bars(2, 1));
+
+        // Then
+        OhlcvSeries series = store.read("AAPL", START, START.plusDays(10));
+        assertEquals(3, store.size("AAPL"));
+        assertEquals(3, series.size());
+        assertEquals(START, series.date(0));
+        assertEquals(3.0, series.close(0));
+        assertEquals(START.plusDays(1), series.date(1));
+        assertEquals(2.0, series.close(1));
+        assertEquals(START.plusDays(2), series.date(2));
+    }
+
+    @Test
+    @DisplayName("이전 기간을 채우면 날짜 순서대로 병합되어야 한다")
+    void should_MergeInOrder_When_BackfillingOlderBars() {
+        // Given
+        store.upsert("AAPL", bars(5, 3));
+
+        // When
+        store.upsert("AAPL", bars(0, 6));
+
+        // Then
+        OhlcvSeries series = store.read("AAPL", START, START.plusDays(10));
+        assertEquals(8, series.size());
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals(START.plusDays(i), series.date(i));
+            assertEquals(100.0 + i, series.close(i));
+        }
+        assertEquals(START, store.firstDate("AAPL").orElseThrow());
+        assertEquals(START.plusDays(7), store.lastDate("AAPL").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 파일을 늘려 모든 봉을 유지해야 한다")
+    void should_KeepAllBars_When_CapacityExceeded() {
+        // When
+        store.upsert("AAPL", bars(0, 4));
+        store.upsert("AAPL", bars(4, 10));
+
+        // Then
+        assertEquals(14, store.size("AAPL"));
+        assertEquals(113.0, store.read("AAPL", START, START.plusDays(20)).close(13));
+    }
+
+    @Test
+    @DisplayName("기간 조회는 양 끝 날짜를 포함해야 한다")
+    void should_ReturnInclusiveRange_When_Reading() {
+        // Given
+        store.upsert("AAPL", bars(0, 10));
+
+        // When
+        OhlcvSeries series = store.read("AAPL", START.plusDays(2), START.plusDays(4));
+
+        // Then
+        assertEquals(3, series.size());
+        assertEquals(START.plusDays(2), series.date(0));
+        assertEquals(START.plusDays(4), series.date(2));
+        assertTrue(store.read("AAPL", START.plusDays(20), START.plusDays(30)).isEmpty());
+        assertTrue(store.read("MSFT", START, START.plusDays(30)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("저장소를 다시 열어도 저장된 봉을 읽을 수 있어야 한다")
+    void should_ReadStoredBars_When_Reopened() {
+        // Given
+        store.upsert("aapl", bars(0, 5));
+
+        // When
+        OhlcvStore reopened = newStore();
+
+        // Then
+        OhlcvSeries series = reopened.read("AAPL", START, START.plusDays(10));
+        assertEquals(5, series.size());
+        assertEquals(102.0, series.close(2));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 심볼은 예외가 발생해야 한다")
+    void should_ThrowException_When_SymbolIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> store.upsert("../AAPL", bars(0, 1)));
+    }
+
+    private OhlcvStore newStore() {
+        OhlcvStore newStore = new OhlcvStore();
+        ReflectionTestUtils.setField(newStore, "storeDir", storeDir.toString());
+        ReflectionTestUtils.setField(newStore, "initialCapacity", 4);
+        newStore.init();
+        return newStore;
+    }
+
+    // START + offset 부터 count일 동안의 봉 (종가 = 100 + 일차)
+    private static OhlcvSeries bars(int offset, int count) {
+        OhlcvSeries.Builder builder = OhlcvSeries.builder(count);
+        for (int i = offset; i < offset + count; i++) {
+            builder.add(START.plusDays(i), 99.0 + i, 101.0 + i, 98.0 + i, 100.0 + i, 1000L + i);
+        }
+        return builder.build();
+    }
+}
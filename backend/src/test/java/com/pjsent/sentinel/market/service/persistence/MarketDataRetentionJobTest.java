@@ -0,0 +1,120 @@
+package com.pjsent.sentinel.market.service.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.MarketDataRetentionStatsDto;
+
+@DisplayName("MarketDataRetentionJob 테스트 (H2)")
+class MarketDataRetentionJobTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MarketDataRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:retention-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE market_data (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "symbol VARCHAR(20) NOT NULL, price DECIMAL(15, 4) NOT NULL, "
+                + "data_source VARCHAR(50) NOT NULL, timestamp TIMESTAMP NOT NULL)");
+
+        job = new MarketDataRetentionJob(jdbcTemplate, new MarketDataPartitionManager(jdbcTemplate));
+        ReflectionTestUtils.setField(job, "defaultDays", 30);
+        ReflectionTestUtils.setField(job, "symbolDaysConfig", "");
+        ReflectionTestUtils.setField(job, "sourceDaysConfig", "");
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "pauseMs", 0L);
+        ReflectionTestUtils.setField(job, "maxRunMinutes", 30L);
+        ReflectionTestUtils.setField(job, "precreateDays", 7);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 행은 chunk 단위로 나눠 삭제해야 한다")
+    void should_DeleteExpiredRowsInChunks() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            insert("AAPL", "Finnhub", 40);
+        }
+        insert("AAPL", "Finnhub", 1);
+        insert("MSFT", "Finnhub", 29);
+        job.init();
+
+        // When
+        MarketDataRetentionStatsDto stats = job.run();
+
+        // Then
+        assertEquals(5, stats.getRowsReclaimed());
+        assertEquals(3, stats.getChunks());
+        assertEquals(5L, stats.getRowsByRule().get("default"));
+        assertFalse(stats.isPartitioned());
+        assertFalse(stats.isAborted());
+        assertEquals(2, count());
+        assertSame(stats, job.getStats());
+    }
+
+    @Test
+    @DisplayName("보관 기간은 심볼별 > 데이터 소스별 > 기본 순서로 적용해야 한다")
+    void should_ApplySymbolThenSourceThenDefaultRetention() {
+        // Given
+        ReflectionTestUtils.setField(job, "symbolDaysConfig", "aapl:90");
+        ReflectionTestUtils.setField(job, "sourceDaysConfig", "AlphaVantage:7");
+        job.init();
+        insert("AAPL", "Finnhub", 60);        // 유지 (심볼 90일)
+        insert("AAPL", "Finnhub", 100);       // 삭제
+        insert("AAPL", "AlphaVantage", 10);   // 유지 (심볼 규칙 우선)
+        insert("MSFT", "AlphaVantage", 10);   // 삭제 (소스 7일)
+        insert("MSFT", "Finnhub", 20);        // 유지 (기본 30일)
+        insert("MSFT", "Finnhub", 40);        // 삭제
+
+        // When
+        MarketDataRetentionStatsDto stats = job.run();
+
+        // Then
+        assertEquals(3, stats.getRowsReclaimed());
+        assertEquals(1L, stats.getRowsByRule().get("symbol:AAPL"));
+        assertEquals(1L, stats.getRowsByRule().get("source:AlphaVantage"));
+        assertEquals(1L, stats.getRowsByRule().get("default"));
+        assertEquals(3, count());
+        assertEquals(90, job.maxRetentionDays());
+    }
+
+    @Test
+    @DisplayName("실행 제한 시간을 넘으면 남은 행을 두고 중단해야 한다")
+    void should_Abort_When_RunTimeExceeded() {
+        // Given
+        ReflectionTestUtils.setField(job, "maxRunMinutes", 0L);
+        job.init();
+        for (int i = 0; i < 5; i++) {
+            insert("AAPL", "Finnhub", 40);
+        }
+
+        // When
+        MarketDataRetentionStatsDto stats = job.run();
+
+        // Then
+        assertTrue(stats.isAborted());
+        assertEquals(2, stats.getRowsReclaimed());
+        assertEquals(3, count());
+    }
+
+    private void insert(String symbol, String source, int daysAgo) {
+        jdbcTemplate.update("INSERT INTO market_data (symbol, price, data_source, timestamp) VALUES (?, ?, ?, ?)",
+                symbol, 100, source, Timestamp.valueOf(LocalDateTime.now().minusDays(daysAgo)));
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM market_data", Integer.class);
+    }
+}
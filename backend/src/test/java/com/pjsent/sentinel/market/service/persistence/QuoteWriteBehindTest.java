@@ -0,0 +1,140 @@
+package com.pjsent.sentinel.market.service.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.QuotePersistenceStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteWriteBehind 테스트")
+class QuoteWriteBehindTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private QuoteWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        // 플러시 스레드는 시작하지 않고 flush()를 직접 호출
+        writeBehind = new QuoteWriteBehind(jdbcTemplate);
+        ReflectionTestUtils.setField(writeBehind, "enabled", true);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 2);
+        ReflectionTestUtils.setField(writeBehind, "maxPending", 3);
+    }
+
+    @Test
+    @DisplayName("대기 중인 같은 심볼의 시세는 최신 값으로 병합되어야 한다")
+    void should_MergeQuotes_When_SameSymbolPending() {
+        // When
+        writeBehind.enqueue(quote("AAPL", 150.0));
+        writeBehind.enqueue(quote("AAPL", 151.0));
+
+        // Then
+        QuotePersistenceStatsDto stats = writeBehind.getStats();
+        assertEquals(1, stats.getEnqueued());
+        assertEquals(1, stats.getMerged());
+        assertEquals(1, stats.getPending());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 새 심볼의 시세는 버려야 한다")
+    void should_DropQuote_When_QueueIsFull() {
+        // Given
+        writeBehind.enqueue(quote("AAPL", 150.0));
+        writeBehind.enqueue(quote("MSFT", 390.0));
+        writeBehind.enqueue(quote("GOOGL", 140.0));
+
+        // When
+        boolean accepted = writeBehind.enqueue(quote("TSLA", 250.0));
+        boolean merged = writeBehind.enqueue(quote("AAPL", 152.0));
+
+        // Then
+        assertFalse(accepted);
+        assertTrue(merged);
+        assertEquals(1, writeBehind.getStats().getDropped());
+        assertEquals(3, writeBehind.getStats().getPending());
+    }
+
+    @Test
+    @DisplayName("대기 중인 시세를 배치 크기 단위로 기록해야 한다")
+    @SuppressWarnings("unchecked")
+    void should_WriteInBatches_When_Flushed() {
+        // Given
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+                    return new int[0][];
+                });
+        writeBehind.enqueue(quote("AAPL", 150.0));
+        writeBehind.enqueue(quote("MSFT", 390.0));
+        writeBehind.enqueue(quote("GOOGL", 140.0));
+
+        // When
+        int written = writeBehind.flush();
+
+        // Then
+        assertEquals(3, written);
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(2, writeBehind.getStats().getBatches());
+        assertEquals(0, writeBehind.getStats().getPending());
+    }
+
+    @Test
+    @DisplayName("배치 기록에 실패하면 실패 건수를 집계하고 남은 대기열은 다음 주기로 넘겨야 한다")
+    @SuppressWarnings("unchecked")
+    void should_CountFailure_When_BatchUpdateFails() {
+        // Given
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+        writeBehind.enqueue(quote("AAPL", 150.0));
+        writeBehind.enqueue(quote("MSFT", 390.0));
+        writeBehind.enqueue(quote("GOOGL", 140.0));
+
+        // When
+        int written = writeBehind.flush();
+
+        // Then
+        assertEquals(0, written);
+        assertEquals(2, writeBehind.getStats().getFailed());
+        assertEquals(1, writeBehind.getStats().getPending());
+    }
+
+    @Test
+    @DisplayName("가격이 없는 시세는 대기열에 넣지 않아야 한다")
+    void should_IgnoreQuote_When_PriceIsMissing() {
+        // When
+        boolean accepted = writeBehind.enqueue(quote("AAPL", 0.0));
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(0, writeBehind.getStats().getPending());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private StockPriceDto quote(String symbol, double price) {
+        return StockPriceDto.builder()
+                .symbol(symbol)
+                .price(price)
+                .provider("TestProvider")
+                .build();
+    }
+}
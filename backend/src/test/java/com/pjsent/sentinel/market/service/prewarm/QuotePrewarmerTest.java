@@ -0,0 +1,184 @@
+package com.pjsent.sentinel.market.service.prewarm;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.QuotePrewarmStatusDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.market.service.cache.CachedQuote;
+import com.pjsent.sentinel.market.service.cache.QuoteCache;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriority;
+import com.pjsent.sentinel.market.service.ratelimit.RequestPriorityContext;
+import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
+import com.pjsent.sentinel.portfolio.repository.SymbolHoldingSummary;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuotePrewarmer 테스트")
+class QuotePrewarmerTest {
+
+    @Mock
+    private PortfolioHoldingRepository holdingRepository;
+
+    @Mock
+    private QuoteCache quoteCache;
+
+    @Mock
+    private MarketDataService marketDataService;
+
+    @Mock
+    private ProviderRateLimiter rateLimiter;
+
+    @InjectMocks
+    private QuotePrewarmer prewarmer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(prewarmer, "enabled", true);
+        ReflectionTestUtils.setField(prewarmer, "intervalMs", 30000L);
+        ReflectionTestUtils.setField(prewarmer, "hotSetRefreshMs", 300000L);
+        ReflectionTestUtils.setField(prewarmer, "maxSymbols", 200);
+        ReflectionTestUtils.setField(prewarmer, "symbolsPerMinute", 30);
+        ReflectionTestUtils.setField(prewarmer, "holderWeight", 0.5);
+
+        // 점수: MSFT 0.75 > AAPL 0.6 > TSLA 0.06
+        lenient().when(holdingRepository.summarizeBySymbol()).thenReturn(List.of(
+                summary("AAPL", 10, 1000),
+                summary("TSLA", 1, 100),
+                summary("MSFT", 5, 5000)));
+        lenient().when(quoteCache.peek(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("곧 신선하지 않게 될 심볼만 점수 순으로 갱신해야 한다")
+    void should_RefreshDueSymbolsByScore() {
+        // Given
+        prewarmer.init();
+        when(quoteCache.peek("AAPL")).thenReturn(Optional.of(cached(System.currentTimeMillis() + 600_000)));
+        when(marketDataService.refreshQuotes(anyCollection())).thenReturn(Map.of(
+                "MSFT", quote("MSFT"), "TSLA", quote("TSLA")));
+
+        // When
+        int refreshed = prewarmer.runCycle();
+
+        // Then
+        assertEquals(2, refreshed);
+        verify(marketDataService).refreshQuotes(List.of("MSFT", "TSLA"));
+    }
+
+    @Test
+    @DisplayName("예산을 넘는 심볼은 다음 주기로 미뤄야 한다")
+    void should_DeferSymbols_When_BudgetExhausted() {
+        // Given
+        ReflectionTestUtils.setField(prewarmer, "symbolsPerMinute", 1);
+        prewarmer.init();
+        when(marketDataService.refreshQuotes(anyCollection())).thenReturn(Map.of("MSFT", quote("MSFT")));
+
+        // When
+        prewarmer.runCycle();
+
+        // Then
+        verify(marketDataService).refreshQuotes(List.of("MSFT"));
+        QuotePrewarmStatusDto status = prewarmer.getStatus();
+        assertEquals(2, status.getDeferredByBudget());
+        assertEquals(1, status.getBudget().getGranted());
+    }
+
+    @Test
+    @DisplayName("사전 갱신은 백그라운드 우선순위로 실행되어야 한다")
+    void should_RefreshWithBackgroundPriority() {
+        // Given
+        prewarmer.init();
+        AtomicReference<RequestPriority> priority = new AtomicReference<>();
+        when(marketDataService.refreshQuotes(anyCollection())).thenAnswer(invocation -> {
+            priority.set(RequestPriorityContext.current());
+            return Map.of();
+        });
+
+        // When
+        prewarmer.runCycle();
+
+        // Then
+        assertEquals(RequestPriority.BACKGROUND, priority.get());
+    }
+
+    @Test
+    @DisplayName("상태에는 심볼별 신선도와 마지막 갱신 결과가 포함되어야 한다")
+    void should_ReportFreshnessPerSymbol() {
+        // Given
+        prewarmer.init();
+        when(marketDataService.refreshQuotes(anyCollection())).thenReturn(Map.of("MSFT", quote("MSFT")));
+        prewarmer.runCycle();
+        when(quoteCache.peek("MSFT")).thenReturn(Optional.of(cached(System.currentTimeMillis() + 60_000)));
+
+        // When
+        QuotePrewarmStatusDto status = prewarmer.getStatus();
+
+        // Then
+        assertEquals(3, status.getHotSymbols());
+        assertEquals(1, status.getFreshSymbols());
+        assertEquals(1, status.getRefreshed());
+        assertEquals(2, status.getFailed());
+
+        QuotePrewarmStatusDto.SymbolFreshness msft = status.getSymbols().get(0);
+        assertEquals("MSFT", msft.getSymbol());
+        assertTrue(msft.isFresh());
+        assertNotNull(msft.getLastRefreshedAt());
+        assertNull(msft.getLastError());
+
+        QuotePrewarmStatusDto.SymbolFreshness tsla = status.getSymbols().get(2);
+        assertFalse(tsla.isFresh());
+        assertEquals(-1, tsla.getAgeMs());
+        assertNotNull(tsla.getLastError());
+    }
+
+    private static SymbolHoldingSummary summary(String symbol, long holders, double marketValue) {
+        return new SymbolHoldingSummary() {
+            @Override
+            public String getSymbol() {
+                return symbol;
+            }
+
+            @Override
+            public Long getHolderCount() {
+                return holders;
+            }
+
+            @Override
+            public BigDecimal getMarketValue() {
+                return BigDecimal.valueOf(marketValue);
+            }
+        };
+    }
+
+    private static CachedQuote cached(long freshUntil) {
+        long now = System.currentTimeMillis();
+        return CachedQuote.builder()
+                .quote(quote("AAPL"))
+                .cachedAt(now)
+                .freshUntil(freshUntil)
+                .staleUntil(freshUntil + 600_000)
+                .build();
+    }
+
+    private static StockPriceDto quote(String symbol) {
+        return StockPriceDto.builder().symbol(symbol).price(100.0).provider("TestProvider").build();
+    }
+}
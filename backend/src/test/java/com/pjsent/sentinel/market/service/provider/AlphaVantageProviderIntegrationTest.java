@@ -4,8 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import com.pjsent.sentinel.market.dto.StockPriceDto;
@@ -29,12 +31,29 @@ import com.pjsent.sentinel.market.dto.StockPriceDto;
 @DisplayName("AlphaVantageProvider 통합 테스트")
 class AlphaVantageProviderIntegrationTest {
     
-    @MockBean
+    @MockBean(name = "alphaVantageRestTemplate")
     private RestTemplate restTemplate;
     
     @Autowired
     private AlphaVantageProvider alphaVantageProvider;
     
+    private static final String GLOBAL_QUOTE_RESPONSE = """
+            {
+              "Global Quote": {
+                "01. symbol": "AAPL",
+                "02. open": "149.50",
+                "03. high": "151.00",
+                "04. low": "148.75",
+                "05. price": "150.25",
+                "06. volume": "50000000",
+                "07. latest trading day": "2024-01-15",
+                "08. previous close": "149.00",
+                "09. change": "1.25",
+                "10. change percent": "0.84%"
+              }
+            }
+            """;
+    
     @Test
     @DisplayName("사용 가능한 상태일 때 true를 반환해야 한다")
     void should_ReturnTrue_When_ProviderIsAvailable() {
@@ -60,11 +79,7 @@ class AlphaVantageProviderIntegrationTest {
     void should_GetStockDataSuccessfully_When_ValidResponse() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> mockResponse = createMockAlphaVantageResponse();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(mockResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse(GLOBAL_QUOTE_RESPONSE);
         
         // When
         StockPriceDto result = alphaVantageProvider.getMarketData(symbol);
@@ -88,7 +103,7 @@ class AlphaVantageProviderIntegrationTest {
     void should_ThrowException_When_ApiCallFails() {
         // Given
         String symbol = "AAPL";
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
                 .thenThrow(new RuntimeException("API 호출 실패"));
         
         // When & Then
@@ -104,11 +119,7 @@ class AlphaVantageProviderIntegrationTest {
     void should_ThrowException_When_InvalidResponseData() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> invalidResponse = new HashMap<>();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(invalidResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse("{}");
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -118,22 +129,9 @@ class AlphaVantageProviderIntegrationTest {
         assertTrue(exception.getMessage().contains("응답 데이터 파싱 실패"));
     }
     
-    private Map<String, Object> createMockAlphaVantageResponse() {
-        Map<String, Object> response = new HashMap<>();
-        Map<String, Object> globalQuote = new HashMap<>();
-        
-        globalQuote.put("01. symbol", "AAPL");
-        globalQuote.put("02. open", "149.50");
-        globalQuote.put("03. high", "151.00");
-        globalQuote.put("04. low", "148.75");
-        globalQuote.put("05. price", "150.25");
-        globalQuote.put("06. volume", "50000000");
-        globalQuote.put("07. latest trading day", "2024-01-15");
-        globalQuote.put("08. previous close", "149.00");
-        globalQuote.put("09. change", "1.25");
-        globalQuote.put("10. change percent", "0.84%");
-        
-        response.put("Global Quote", globalQuote);
-        return response;
+    private void stubResponse(String json) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
     }
 }
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.HashMap;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +16,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
 
 @ExtendWith(MockitoExtension.class)
 @TestPropertySource(properties = {
@@ -34,9 +40,29 @@ class AlphaVantageProviderTest {
     @Mock
     private RestTemplate restTemplate;
     
+    @Mock
+    private ProviderRateLimiter rateLimiter;
+    
     @InjectMocks
     private AlphaVantageProvider alphaVantageProvider;
     
+    private static final String GLOBAL_QUOTE_RESPONSE = """
+            {
+              "Global Quote": {
+                "01. symbol": "AAPL",
+                "02. open": "149.50",
+                "03. high": "151.00",
+                "04. low": "148.75",
+                "05. price": "150.25",
+                "06. volume": "50000000",
+                "07. latest trading day": "2024-01-15",
+                "08. previous close": "149.00",
+                "09. change": "1.25",
+                "10. change percent": "0.84%"
+              }
+            }
+            """;
+    
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(alphaVantageProvider, "apiKey", "test-api-key");
@@ -90,11 +116,7 @@ class AlphaVantageProviderTest {
     void should_GetStockDataSuccessfully_When_ValidResponse() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> mockResponse = createMockAlphaVantageResponse();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(mockResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse(GLOBAL_QUOTE_RESPONSE);
         
         // When
         StockPriceDto result = alphaVantageProvider.getMarketData(symbol);
@@ -130,7 +152,7 @@ class AlphaVantageProviderTest {
     void should_ThrowException_When_ApiCallFails() {
         // Given
         String symbol = "AAPL";
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
                 .thenThrow(new RuntimeException("API 호출 실패"));
         
         // When & Then
@@ -146,11 +168,7 @@ class AlphaVantageProviderTest {
     void should_ThrowException_When_InvalidResponseData() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> invalidResponse = new HashMap<>();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(invalidResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse("{}");
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -160,22 +178,67 @@ class AlphaVantageProviderTest {
         assertTrue(exception.getMessage().contains("응답 데이터 파싱 실패"));
     }
     
-    private Map<String, Object> createMockAlphaVantageResponse() {
-        Map<String, Object> response = new HashMap<>();
-        Map<String, Object> globalQuote = new HashMap<>();
+    @Test
+    @DisplayName("쿼터 초과 Note 응답 시 호출 한도 예외를 발생시키고 버킷을 비워야 한다")
+    void should_ThrowRateLimitException_When_NoteResponse() {
+        // Given
+        stubResponse("{\"Note\": \"Thank you for using Alpha Vantage! "
+                + "Our standard API call frequency is 5 calls per minute.\"}");
         
-        globalQuote.put("01. symbol", "AAPL");
-        globalQuote.put("02. open", "149.50");
-        globalQuote.put("03. high", "151.00");
-        globalQuote.put("04. low", "148.75");
-        globalQuote.put("05. price", "150.25");
-        globalQuote.put("06. volume", "50000000");
-        globalQuote.put("07. latest trading day", "2024-01-15");
-        globalQuote.put("08. previous close", "149.00");
-        globalQuote.put("09. change", "1.25");
-        globalQuote.put("10. change percent", "0.84%");
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> {
+            alphaVantageProvider.getMarketData("AAPL");
+        });
+        verify(rateLimiter).markExhausted("AlphaVantage");
+    }
+    
+    @Test
+    @DisplayName("토큰이 없으면 API를 호출하지 않고 즉시 예외를 발생시켜야 한다")
+    void should_NotCallApi_When_RateLimitExceeded() {
+        // Given
+        doThrow(new RateLimitExceededException("AlphaVantage", "호출 한도 초과"))
+                .when(rateLimiter).acquire(eq("AlphaVantage"), anyInt());
         
-        response.put("Global Quote", globalQuote);
-        return response;
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> {
+            alphaVantageProvider.getMarketData("AAPL");
+        });
+        verifyNoInteractions(restTemplate);
+    }
+    
+    @Test
+    @DisplayName("일괄 조회가 활성화되면 한 번의 호출로 여러 심볼을 가져와야 한다")
+    void should_FetchAllSymbolsInOneCall_When_BulkQuotesEnabled() {
+        // Given
+        ReflectionTestUtils.setField(alphaVantageProvider, "bulkQuotesEnabled", true);
+        stubResponse("""
+                {"endpoint": "Realtime Bulk Quotes", "message": "", "data": [
+                  {"symbol": "AAPL", "timestamp": "2024-01-15 16:00:00.000", "close": "150.25",
+                   "previous_close": "149.00", "change": "1.25", "change_percent": "0.84%"},
+                  {"symbol": "MSFT", "timestamp": "2024-01-15 16:00:00.000", "close": "390.10",
+                   "previous_close": "388.00", "change": "2.10", "change_percent": "0.54"}
+                ]}
+                """);
+        
+        // When
+        Map<String, StockPriceDto> result = alphaVantageProvider.getMarketDataBatch(List.of("aapl", "MSFT", "GOOGL"))
+                .getQuotes();
+        
+        // Then
+        assertTrue(alphaVantageProvider.supportsBatchQuotes());
+        assertEquals(100, alphaVantageProvider.getMaxBatchSize());
+        assertEquals(2, result.size());
+        assertEquals(150.25, result.get("aapl").getPrice());
+        assertEquals(0.84, result.get("aapl").getChangePercent());
+        assertEquals("2024-01-15", result.get("MSFT").getLastTradingDay());
+        verify(rateLimiter, times(1)).acquire(eq("AlphaVantage"), anyInt());
+        verify(restTemplate, times(1)).execute(
+                argThat((URI uri) -> uri.toString().contains("REALTIME_BULK_QUOTES")), eq(HttpMethod.GET), any(), any());
+    }
+    
+    private void stubResponse(String json) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
     }
 }
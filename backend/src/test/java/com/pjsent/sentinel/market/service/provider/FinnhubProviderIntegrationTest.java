@@ -4,17 +4,19 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import com.pjsent.sentinel.market.dto.StockPriceDto;
@@ -28,12 +30,16 @@ import com.pjsent.sentinel.market.dto.StockPriceDto;
 @DisplayName("FinnhubProvider 통합 테스트")
 class FinnhubProviderIntegrationTest {
     
-    @MockBean
+    @MockBean(name = "finnhubRestTemplate")
     private RestTemplate restTemplate;
     
     @Autowired
     private FinnhubProvider finnhubProvider;
     
+    private static final String QUOTE_RESPONSE = """
+            {"c": 150.25, "d": 1.25, "dp": 0.84, "h": 151.00, "l": 148.75, "o": 149.50, "pc": 149.00, "t": 1705276800}
+            """;
+    
     @Test
     @DisplayName("사용 가능한 상태일 때 true를 반환해야 한다")
     void should_ReturnTrue_When_ProviderIsAvailable() {
@@ -59,11 +65,7 @@ class FinnhubProviderIntegrationTest {
     void should_GetStockDataSuccessfully_When_ValidResponse() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> mockResponse = createMockFinnhubResponse();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(mockResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse(QUOTE_RESPONSE);
         
         // When
         StockPriceDto result = finnhubProvider.getMarketData(symbol);
@@ -87,7 +89,7 @@ class FinnhubProviderIntegrationTest {
     void should_ThrowException_When_ApiCallFails() {
         // Given
         String symbol = "AAPL";
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
                 .thenThrow(new RuntimeException("API 호출 실패"));
         
         // When & Then
@@ -103,11 +105,7 @@ class FinnhubProviderIntegrationTest {
     void should_ThrowException_When_InvalidResponseData() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> invalidResponse = new HashMap<>();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(invalidResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse("{}");
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -117,18 +115,9 @@ class FinnhubProviderIntegrationTest {
         assertTrue(exception.getMessage().contains("응답 데이터 파싱 실패"));
     }
     
-    private Map<String, Object> createMockFinnhubResponse() {
-        Map<String, Object> response = new HashMap<>();
-        
-        response.put("c", 150.25);  // current price
-        response.put("o", 149.50);  // open
-        response.put("h", 151.00);  // high
-        response.put("l", 148.75);  // low
-        response.put("pc", 149.00); // previous close
-        response.put("d", 1.25);    // change
-        response.put("dp", 0.84);   // change percent
-        response.put("t", 1705276800); // timestamp
-        
-        return response;
+    private void stubResponse(String json) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
     }
 }
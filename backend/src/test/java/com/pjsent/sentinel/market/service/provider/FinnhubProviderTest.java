@@ -4,8 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +15,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.provider.decoder.DecodeResult;
+import com.pjsent.sentinel.market.service.ratelimit.ProviderRateLimiter;
+import com.pjsent.sentinel.market.service.ratelimit.RateLimitExceededException;
+import com.pjsent.sentinel.market.service.symbol.UnknownSymbolException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FinnhubProvider 테스트")
@@ -28,6 +37,9 @@ class FinnhubProviderTest {
     @Mock
     private RestTemplate restTemplate;
     
+    @Mock
+    private ProviderRateLimiter rateLimiter;
+    
     @InjectMocks
     private FinnhubProvider finnhubProvider;
     
@@ -84,11 +96,7 @@ class FinnhubProviderTest {
     void should_GetStockDataSuccessfully_When_ValidResponse() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> mockResponse = createMockFinnhubResponse();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(mockResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse("{\"c\": 150.25, \"o\": 149.50, \"h\": 151.00, \"l\": 148.75, \"pc\": 149.00, \"t\": 1705276800}");
         
         // When
         StockPriceDto result = finnhubProvider.getMarketData(symbol);
@@ -103,6 +111,7 @@ class FinnhubProviderTest {
         assertEquals(149.00, result.getClose());
         assertEquals(1.25, result.getChange());
         assertEquals(0.84, result.getChangePercent(), 0.01);
+        assertEquals("2024-01-15", result.getLastTradingDay());
         assertEquals("Finnhub", result.getProvider());
     }
     
@@ -123,7 +132,7 @@ class FinnhubProviderTest {
     void should_ThrowException_When_ApiCallFails() {
         // Given
         String symbol = "AAPL";
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
                 .thenThrow(new RuntimeException("API 호출 실패"));
         
         // When & Then
@@ -139,11 +148,7 @@ class FinnhubProviderTest {
     void should_ThrowException_When_InvalidResponseData() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> invalidResponse = new HashMap<>();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(invalidResponse, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse("{}");
         
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -153,16 +158,25 @@ class FinnhubProviderTest {
         assertTrue(exception.getMessage().contains("응답 데이터 파싱 실패"));
     }
     
+    @Test
+    @DisplayName("모든 값이 0인 응답은 알 수 없는 심볼 예외를 발생시켜야 한다")
+    void should_ThrowUnknownSymbolException_When_QuoteIsAllZero() {
+        // Given
+        stubResponse("{\"c\": 0, \"d\": null, \"dp\": null, \"h\": 0, \"l\": 0, \"o\": 0, \"pc\": 0, \"t\": 0}");
+        
+        // When & Then
+        UnknownSymbolException exception = assertThrows(UnknownSymbolException.class, () -> {
+            finnhubProvider.getMarketData("ZZZZ");
+        });
+        assertEquals("ZZZZ", exception.getSymbol());
+    }
+    
     @Test
     @DisplayName("null 값이 포함된 응답을 올바르게 처리해야 한다")
     void should_HandleNullValues_When_ResponseContainsNulls() {
         // Given
         String symbol = "AAPL";
-        Map<String, Object> responseWithNulls = createMockFinnhubResponseWithNulls();
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseWithNulls, HttpStatus.OK);
-        
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubResponse("{\"c\": 150.25, \"o\": null, \"h\": null, \"l\": null, \"pc\": null, \"t\": null}");
         
         // When
         StockPriceDto result = finnhubProvider.getMarketData(symbol);
@@ -179,25 +193,80 @@ class FinnhubProviderTest {
         assertEquals(0.0, result.getChangePercent()); // previousClose가 0이므로 0.0
     }
     
-    private Map<String, Object> createMockFinnhubResponse() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("c", 150.25);  // current price
-        response.put("o", 149.50);  // open
-        response.put("h", 151.00);  // high
-        response.put("l", 148.75);  // low
-        response.put("pc", 149.00); // previous close
-        response.put("t", 1705276800L); // timestamp
-        return response;
-    }
-    
-    private Map<String, Object> createMockFinnhubResponseWithNulls() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("c", 150.25);  // current price
-        response.put("o", null);    // open (null)
-        response.put("h", null);    // high (null)
-        response.put("l", null);    // low (null)
-        response.put("pc", null);   // previous close (null)
-        response.put("t", null);    // timestamp (null)
-        return response;
+    @Test
+    @DisplayName("429 응답 시 호출 한도 예외를 발생시키고 버킷을 비워야 한다")
+    void should_ThrowRateLimitException_When_TooManyRequests() {
+        // Given
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS,
+                        "Too Many Requests", new HttpHeaders(), new byte[0], StandardCharsets.UTF_8));
+        
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> {
+            finnhubProvider.getMarketData("AAPL");
+        });
+        verify(rateLimiter).markExhausted("Finnhub");
+    }
+    
+    @Test
+    @DisplayName("일봉 캔들 응답을 오래된 순 일봉 목록으로 변환해야 한다")
+    void should_ReturnDailyBars_When_CandleResponseIsValid() {
+        // Given
+        stubResponse("""
+                {"c":[185.5,186.2],"h":[186.0,187.1],"l":[184.1,185.0],"o":[184.5,185.6],
+                 "s":"ok","t":[1705276800,1705363200],"v":[51000000,48000000]}
+                """);
+        
+        // When
+        List<StockPriceDto> result = finnhubProvider.getHistoricalData("AAPL", 30);
+        
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("2024-01-15", result.get(0).getLastTradingDay());
+        assertEquals(185.5, result.get(0).getPrice());
+        assertEquals(184.5, result.get(0).getOpen());
+        assertEquals(51000000L, result.get(0).getVolume());
+        assertEquals("2024-01-16", result.get(1).getLastTradingDay());
+        assertEquals(186.2, result.get(1).getClose());
+    }
+    
+    @Test
+    @DisplayName("기간 안에 거래가 없으면 빈 목록을 반환해야 한다")
+    void should_ReturnEmptyList_When_CandleResponseHasNoData() {
+        // Given
+        stubResponse("{\"s\":\"no_data\"}");
+        
+        // When
+        List<StockPriceDto> result = finnhubProvider.getHistoricalData("AAPL", 30);
+        
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("캔들 조회에서 알 수 없는 심볼이면 알 수 없는 심볼 예외를 그대로 전달해야 한다")
+    void should_ThrowUnknownSymbolException_When_CandleSymbolIsUnknown() {
+        // Given
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
+                .thenReturn(DecodeResult.unknownSymbol("Symbol not supported"));
+
+        // When & Then
+        UnknownSymbolException exception = assertThrows(UnknownSymbolException.class, () -> {
+            finnhubProvider.getHistoricalData("ZZZZ", 30);
+        });
+        assertEquals("ZZZZ", exception.getSymbol());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 간격이면 예외가 발생해야 한다")
+    void should_ThrowException_When_IntervalIsNotSupported() {
+        assertThrows(IllegalArgumentException.class, () -> finnhubProvider.getTimeSeriesData("AAPL", "2min"));
+        verifyNoInteractions(restTemplate);
+    }
+    
+    private void stubResponse(String json) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
     }
 }
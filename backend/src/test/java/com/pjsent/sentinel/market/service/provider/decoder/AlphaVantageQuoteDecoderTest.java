@@ -0,0 +1,100 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+
+@DisplayName("AlphaVantageQuoteDecoder 테스트")
+class AlphaVantageQuoteDecoderTest {
+
+    private final AlphaVantageQuoteDecoder decoder = new AlphaVantageQuoteDecoder();
+
+    @Test
+    @DisplayName("알 수 없는 필드는 건너뛰고 시세 필드만 읽어야 한다")
+    void should_SkipUnknownFields_When_DecodingGlobalQuote() throws Exception {
+        // Given
+        String json = """
+                {"Meta": {"nested": [1, 2, {"x": "y"}]},
+                 "Global Quote": {"01. symbol": "IBM", "05. price": "1.10", "06. volume": "123",
+                                  "08. previous close": "1.00", "10. change percent": " 10.0000% "}}
+                """;
+
+        // When
+        DecodeResult<StockPriceDto> result = decoder.decodeGlobalQuote(body(json), "IBM", "AlphaVantage");
+
+        // Then
+        assertEquals(DecodeResult.Kind.DATA, result.getKind());
+        assertEquals(1.10, result.getData().getPrice());
+        assertEquals(1.00, result.getData().getClose());
+        assertEquals(10.0, result.getData().getChangePercent());
+    }
+
+    @Test
+    @DisplayName("Information만 있는 응답은 호출 한도 초과로 구분해야 한다")
+    void should_ReturnThrottled_When_InformationOnly() throws Exception {
+        // When
+        DecodeResult<StockPriceDto> result = decoder.decodeGlobalQuote(
+                body("{\"Information\": \"API rate limit is 25 requests per day.\"}"), "IBM", "AlphaVantage");
+
+        // Then
+        assertEquals(DecodeResult.Kind.THROTTLED, result.getKind());
+        assertTrue(result.getMessage().contains("25 requests per day"));
+    }
+
+    @Test
+    @DisplayName("Error Message 응답은 오류로 구분해야 한다")
+    void should_ReturnError_When_ErrorMessage() throws Exception {
+        // When
+        DecodeResult<StockPriceDto> result = decoder.decodeGlobalQuote(
+                body("{\"Error Message\": \"Invalid API call.\"}"), "NOPE", "AlphaVantage");
+
+        // Then
+        assertEquals(DecodeResult.Kind.ERROR, result.getKind());
+        assertEquals("Invalid API call.", result.getMessage());
+    }
+
+    @Test
+    @DisplayName("빈 Global Quote는 알 수 없는 심볼로 구분해야 한다")
+    void should_ReturnUnknownSymbol_When_GlobalQuoteIsEmpty() throws Exception {
+        // When
+        DecodeResult<StockPriceDto> result = decoder.decodeGlobalQuote(
+                body("{\"Global Quote\": {}}"), "NOPE", "AlphaVantage");
+
+        // Then
+        assertEquals(DecodeResult.Kind.UNKNOWN_SYMBOL, result.getKind());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 응답의 심볼은 요청한 표기로 돌려줘야 한다")
+    void should_MapToRequestedSymbol_When_DecodingBulkQuotes() throws Exception {
+        // Given
+        String json = """
+                {"endpoint": "Realtime Bulk Quotes", "data": [
+                  {"symbol": "BRK.B", "timestamp": "2024-01-15 16:00:00.000", "close": "350.5", "previous_close": "350"},
+                  {"symbol": "UNKNOWN", "close": "1"}
+                ]}
+                """;
+
+        // When
+        DecodeResult<Map<String, StockPriceDto>> result = decoder.decodeBulkQuotes(
+                body(json), Map.of("BRK.B", "brk.b"), "AlphaVantage");
+
+        // Then
+        assertEquals(DecodeResult.Kind.DATA, result.getKind());
+        assertEquals(1, result.getData().size());
+        assertEquals(350.5, result.getData().get("brk.b").getPrice());
+        assertEquals("2024-01-15", result.getData().get("brk.b").getLastTradingDay());
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
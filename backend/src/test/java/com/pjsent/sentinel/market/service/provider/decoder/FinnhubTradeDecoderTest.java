@@ -0,0 +1,57 @@
+package com.pjsent.sentinel.market.service.provider.decoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FinnhubTradeDecoder 테스트")
+class FinnhubTradeDecoderTest {
+
+    private final FinnhubTradeDecoder decoder = new FinnhubTradeDecoder();
+
+    @Test
+    @DisplayName("메시지에 담긴 체결을 순서대로 처리기에 넘겨야 한다")
+    void should_EmitEachTrade_When_TradeMessage() throws Exception {
+        // Given
+        String message = """
+                {"data":[{"c":["1","12"],"p":185.64,"s":"AAPL","t":1704207600000,"v":100},
+                         {"c":null,"p":374.1,"s":"MSFT","t":1704207600600,"v":20}],"type":"trade"}
+                """;
+        List<String> trades = new ArrayList<>();
+
+        // When
+        DecodeResult<Integer> result = decoder.decode(message,
+                (symbol, price, volume, time) -> trades.add(symbol + "@" + price + "x" + volume + "/" + time));
+
+        // Then
+        assertEquals(DecodeResult.Kind.DATA, result.getKind());
+        assertEquals(2, result.getData());
+        assertEquals(List.of("AAPL@185.64x100/1704207600000", "MSFT@374.1x20/1704207600600"), trades);
+    }
+
+    @Test
+    @DisplayName("ping 메시지는 체결 없음으로 구분해야 한다")
+    void should_ReturnEmpty_When_Ping() throws Exception {
+        // When
+        DecodeResult<Integer> result = decoder.decode("{\"type\":\"ping\"}", (symbol, price, volume, time) -> fail());
+
+        // Then
+        assertEquals(DecodeResult.Kind.EMPTY, result.getKind());
+    }
+
+    @Test
+    @DisplayName("error 메시지는 오류로 구분해야 한다")
+    void should_ReturnError_When_ErrorMessage() throws Exception {
+        // When
+        DecodeResult<Integer> result = decoder.decode("{\"type\":\"error\",\"msg\":\"Invalid symbol\"}",
+                (symbol, price, volume, time) -> fail());
+
+        // Then
+        assertEquals(DecodeResult.Kind.ERROR, result.getKind());
+        assertEquals("Invalid symbol", result.getMessage());
+    }
+}
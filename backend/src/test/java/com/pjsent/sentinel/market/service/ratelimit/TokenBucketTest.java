@@ -0,0 +1,100 @@
+package com.pjsent.sentinel.market.service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("분당 한도만큼 호출한 뒤에는 즉시 거부해야 한다")
+    void should_RejectImmediately_When_BucketIsEmpty() {
+        // Given
+        TokenBucket bucket = new TokenBucket(5, 0, clock::get);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+        }
+
+        // Then
+        assertFalse(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+        assertEquals(5, bucket.getGranted());
+        assertEquals(1, bucket.getRejected());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 충전되어야 한다")
+    void should_RefillTokens_When_TimeElapses() {
+        // Given
+        TokenBucket bucket = new TokenBucket(60, 0, clock::get);
+        for (int i = 0; i < 60; i++) {
+            bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0);
+        }
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        // Then
+        assertEquals(2.0, bucket.availableTokens(), 0.001);
+        assertTrue(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+    }
+
+    @Test
+    @DisplayName("백그라운드 요청은 사용자 예약 토큰을 사용할 수 없어야 한다")
+    void should_KeepReservedTokens_When_BackgroundRequest() {
+        // Given
+        TokenBucket bucket = new TokenBucket(5, 2, clock::get);
+
+        // When
+        int backgroundGranted = 0;
+        while (bucket.tryAcquire(RequestPriority.BACKGROUND, 0, 0)) {
+            backgroundGranted++;
+        }
+
+        // Then
+        assertEquals(3, backgroundGranted);
+        assertTrue(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+        assertTrue(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+        assertFalse(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+    }
+
+    @Test
+    @DisplayName("다음 토큰이 대기 시간 안에 충전되면 사용자 요청은 대기 후 획득해야 한다")
+    void should_WaitForNextToken_When_WithinMaxWait() {
+        // Given (분당 60,000회 = 1ms마다 토큰 1개)
+        TokenBucket bucket = new TokenBucket(60_000, 0, System::nanoTime);
+        while (bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0)) {
+            // 버킷 비우기
+        }
+
+        // When
+        boolean acquired = bucket.tryAcquire(RequestPriority.INTERACTIVE, 100, 1);
+
+        // Then
+        assertTrue(acquired);
+        assertEquals(1, bucket.getWaited());
+        assertEquals(0, bucket.getWaiters());
+    }
+
+    @Test
+    @DisplayName("쿼터 초과 응답 후에는 버킷이 비어 있어야 한다")
+    void should_EmptyBucket_When_Drained() {
+        // Given
+        TokenBucket bucket = new TokenBucket(5, 0, clock::get);
+
+        // When
+        bucket.drain();
+
+        // Then
+        assertEquals(0.0, bucket.availableTokens(), 0.001);
+        assertFalse(bucket.tryAcquire(RequestPriority.INTERACTIVE, 0, 0));
+    }
+}
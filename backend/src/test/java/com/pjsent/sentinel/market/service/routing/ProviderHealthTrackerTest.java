@@ -0,0 +1,86 @@
+package com.pjsent.sentinel.market.service.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.pjsent.sentinel.market.dto.ProviderHealthDto;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@DisplayName("ProviderHealthTracker 테스트")
+class ProviderHealthTrackerTest {
+
+    private static final String PROVIDER = "TestProvider";
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ProviderHealthTracker healthTracker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        healthTracker = new ProviderHealthTracker(circuitBreakerRegistry);
+        ReflectionTestUtils.setField(healthTracker, "ewmaAlpha", 0.2);
+        ReflectionTestUtils.setField(healthTracker, "failurePenaltyMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 인터럽트 상태가 다음 테스트로 넘어가지 않도록 정리
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("인터럽트로 취소된 호출은 성공이나 실패로 집계하지 않아야 한다")
+    void should_IgnoreCall_When_CancelledByInterrupt() {
+        // Given
+        ResourceAccessException interrupted = new ResourceAccessException("I/O error",
+                new InterruptedIOException("Request aborted"));
+
+        // When
+        assertThrows(ResourceAccessException.class, () -> healthTracker.execute(PROVIDER, () -> {
+            Thread.currentThread().interrupt();
+            throw interrupted;
+        }));
+        Thread.interrupted();
+        // 인터럽트 상태가 지워졌어도 원인이 인터럽트면 취소로 봄
+        assertThrows(ResourceAccessException.class, () -> healthTracker.execute(PROVIDER, () -> {
+            throw interrupted;
+        }));
+
+        // Then
+        ProviderHealthDto health = healthTracker.getHealth(PROVIDER, -1);
+        assertEquals(0, health.getCalls());
+        assertEquals(0, health.getFailures());
+        assertEquals(2, health.getCancelled());
+        assertEquals(0.0, health.getErrorRate());
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker(PROVIDER).getMetrics();
+        assertEquals(0, metrics.getNumberOfFailedCalls());
+        assertEquals(0, metrics.getNumberOfSuccessfulCalls());
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과는 프로바이더 실패로 집계해야 한다")
+    void should_RecordFailure_When_ReadTimedOut() {
+        // When
+        assertThrows(ResourceAccessException.class, () -> healthTracker.execute(PROVIDER, () -> {
+            throw new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+        }));
+
+        // Then
+        ProviderHealthDto health = healthTracker.getHealth(PROVIDER, -1);
+        assertEquals(1, health.getCalls());
+        assertEquals(1, health.getFailures());
+        assertEquals(0, health.getCancelled());
+        assertEquals(1, circuitBreakerRegistry.circuitBreaker(PROVIDER).getMetrics().getNumberOfFailedCalls());
+    }
+}
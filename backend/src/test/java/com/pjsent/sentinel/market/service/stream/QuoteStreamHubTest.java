@@ -0,0 +1,273 @@
+package com.pjsent.sentinel.market.service.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
+import com.pjsent.sentinel.market.dto.QuoteStreamStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.MarketDataService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteStreamHub 테스트")
+class QuoteStreamHubTest {
+
+    @Mock
+    private MarketDataService marketDataService;
+
+    private final Queue<Runnable> queuedTasks = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk());
+    }
+
+    @Test
+    @DisplayName("연결 직후에는 전체 필드를, 이후에는 바뀐 필드만 보내야 한다")
+    void should_SendSnapshotThenChangedFields() {
+        // Given
+        QuoteStreamHub hub = hub(Runnable::run);
+        RecordingEmitter emitter = new RecordingEmitter();
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 150.0)));
+        hub.subscribe(List.of("aapl"), emitter);
+
+        // When
+        hub.refresh(List.of("AAPL"));
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 151.5)));
+        hub.refresh(List.of("AAPL"));
+
+        // Then
+        assertEquals(List.of(QuoteStreamHub.SNAPSHOT_EVENT, QuoteStreamHub.QUOTES_EVENT), emitter.names);
+        Map<String, Object> snapshot = emitter.batches.get(0).get("AAPL");
+        assertEquals(150.0, snapshot.get("price"));
+        assertEquals("TestProvider", snapshot.get("provider"));
+        assertEquals(Map.of("price", 151.5), emitter.batches.get(1).get("AAPL"));
+    }
+
+    @Test
+    @DisplayName("같은 심볼을 구독한 연결이 여러 개여도 주기마다 한 번만 조회해야 한다")
+    void should_RefreshOncePerCycle_When_ManySubscribers() {
+        // Given
+        QuoteStreamHub hub = hub(Runnable::run);
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            hub.subscribe(List.of("AAPL"), emitter);
+            emitters.add(emitter);
+        }
+        clearInvocations(marketDataService);
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 150.0)));
+
+        // When
+        hub.scheduledRefresh();
+
+        // Then
+        verify(marketDataService, times(1)).getStockPricesBulk(List.of("AAPL"));
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(1, emitter.batches.size());
+        }
+        assertEquals(3, hub.getStats().getUpdatesSent());
+    }
+
+    @Test
+    @DisplayName("전송 중에 쌓인 변경분은 심볼별로 합쳐서 한 번에 보내야 한다")
+    void should_CoalesceUpdates_When_SendIsBusy() {
+        // Given
+        QuoteStreamHub hub = hub(queuedTasks::add);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(List.of("AAPL"), emitter);
+
+        // When
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 150.0)));
+        hub.refresh(List.of("AAPL"));
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 152.0)));
+        hub.refresh(List.of("AAPL"));
+        runQueuedTasks();
+
+        // Then
+        assertEquals(1, emitter.batches.size());
+        assertEquals(152.0, emitter.batches.get(0).get("AAPL").get("price"));
+        assertEquals(1, hub.getStats().getCoalescedUpdates());
+    }
+
+    @Test
+    @DisplayName("새 구독 심볼의 첫 조회는 전송 executor가 아닌 조회 executor에서 한 번으로 합쳐 실행해야 한다")
+    void should_RefreshColdSymbolsOnMarketDataExecutor_When_SubscriptionsBurst() {
+        // Given
+        Queue<Runnable> refreshTasks = new ArrayDeque<>();
+        QuoteStreamHub hub = hub(queuedTasks::add, refreshTasks::add);
+        RecordingEmitter emitter = new RecordingEmitter();
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 150.0), quote("MSFT", 400.0)));
+
+        // When
+        hub.subscribe(List.of("AAPL"), emitter);
+        hub.subscribe(List.of("MSFT"), new RecordingEmitter());
+        hub.subscribe(List.of("AAPL", "MSFT"), new RecordingEmitter());
+
+        // Then
+        assertTrue(queuedTasks.isEmpty());
+        assertEquals(1, refreshTasks.size());
+        verify(marketDataService, never()).getStockPricesBulk(anyList());
+
+        refreshTasks.poll().run();
+        verify(marketDataService, times(1)).getStockPricesBulk(argThat(symbols ->
+                symbols.size() == 2 && symbols.containsAll(List.of("AAPL", "MSFT"))));
+        runQueuedTasks();
+        assertEquals(List.of(QuoteStreamHub.SNAPSHOT_EVENT), emitter.names);
+    }
+
+    @Test
+    @DisplayName("제한 시간 동안 전송하지 못한 느린 연결은 끊어야 한다")
+    void should_EvictSlowConsumer() throws InterruptedException {
+        // Given
+        QuoteStreamHub hub = hub(queuedTasks::add);
+        ReflectionTestUtils.setField(hub, "slowConsumerTimeoutMs", 0L);
+        hub.subscribe(List.of("AAPL"), new RecordingEmitter());
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 150.0)));
+        hub.refresh(List.of("AAPL"));
+        Thread.sleep(2);
+
+        // When
+        hub.sweep();
+
+        // Then
+        QuoteStreamStatsDto stats = hub.getStats();
+        assertEquals(1, stats.getSlowConsumerEvictions());
+        assertEquals(0, stats.getConnections());
+        assertEquals(0, stats.getSubscribedSymbols());
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 구독 목록에서 제거해야 한다")
+    void should_Unsubscribe_When_SendFails() {
+        // Given
+        QuoteStreamHub hub = hub(Runnable::run);
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        hub.subscribe(List.of("AAPL", "MSFT"), emitter);
+        when(marketDataService.getStockPricesBulk(anyList())).thenReturn(bulk(quote("AAPL", 150.0)));
+
+        // When
+        hub.refresh(List.of("AAPL"));
+
+        // Then
+        QuoteStreamStatsDto stats = hub.getStats();
+        assertEquals(1, stats.getSendFailures());
+        assertEquals(0, stats.getConnections());
+        assertEquals(0, stats.getSubscribedSymbols());
+    }
+
+    @Test
+    @DisplayName("심볼이 없거나 연결 수가 최대치면 구독을 거부해야 한다")
+    void should_RejectSubscription_When_InvalidOrFull() {
+        // Given
+        QuoteStreamHub hub = hub(Runnable::run);
+        ReflectionTestUtils.setField(hub, "maxConnections", 1);
+        hub.subscribe(List.of("AAPL"), new RecordingEmitter());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> hub.subscribe(List.of(" ", ""), new RecordingEmitter()));
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(List.of("MSFT"), new RecordingEmitter()));
+        assertEquals(1, hub.getStats().getRejectedConnections());
+    }
+
+    @Test
+    @DisplayName("이전 시세와 같은 필드는 변경분에서 제외해야 한다")
+    void should_ReturnOnlyChangedFields() {
+        // Given
+        StockPriceDto previous = quote("AAPL", 150.0);
+        StockPriceDto current = quote("AAPL", 150.0);
+        current.setVolume(2_000_000L);
+
+        // When
+        Map<String, Object> fields = QuoteStreamHub.changedFields(previous, current);
+
+        // Then
+        assertEquals(Map.of("volume", 2_000_000L), fields);
+        assertTrue(QuoteStreamHub.changedFields(previous, quote("AAPL", 150.0)).isEmpty());
+    }
+
+    private QuoteStreamHub hub(Executor executor) {
+        return hub(executor, executor);
+    }
+
+    private QuoteStreamHub hub(Executor senderExecutor, Executor refreshExecutor) {
+        QuoteStreamHub hub = new QuoteStreamHub(marketDataService, senderExecutor, refreshExecutor);
+        ReflectionTestUtils.setField(hub, "maxConnections", 100);
+        ReflectionTestUtils.setField(hub, "maxSymbolsPerConnection", 10);
+        ReflectionTestUtils.setField(hub, "emitterTimeoutMs", 60000L);
+        ReflectionTestUtils.setField(hub, "heartbeatMs", 60000L);
+        ReflectionTestUtils.setField(hub, "slowConsumerTimeoutMs", 30000L);
+        return hub;
+    }
+
+    private void runQueuedTasks() {
+        Runnable task;
+        while ((task = queuedTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static BulkStockPriceDto bulk(StockPriceDto... quotes) {
+        BulkStockPriceDto bulk = new BulkStockPriceDto();
+        for (StockPriceDto quote : quotes) {
+            bulk.getPrices().put(quote.getSymbol(), quote);
+        }
+        return bulk;
+    }
+
+    private static StockPriceDto quote(String symbol, double price) {
+        return StockPriceDto.builder()
+                .symbol(symbol)
+                .price(price)
+                .volume(1_000_000L)
+                .lastTradingDay("2024-01-02")
+                .provider("TestProvider")
+                .build();
+    }
+
+    /**
+     * 보낸 이벤트 이름과 데이터를 기록하는 SseEmitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Map<String, Map<String, Object>>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof Map<?, ?> batch) {
+                    batches.add((Map<String, Map<String, Object>>) batch);
+                } else if (data instanceof String text && text.startsWith("event:")) {
+                    names.add(text.substring("event:".length(), text.indexOf('\n')));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.pjsent.sentinel.market.service.symbol;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("SymbolRegistry 테스트")
+class SymbolRegistryTest {
+
+    private SymbolRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SymbolRegistry();
+        ReflectionTestUtils.setField(registry, "maxIds", 100);
+    }
+
+    @Test
+    @DisplayName("심볼은 공백을 제거하고 대문자로 정규화해야 한다")
+    void should_NormalizeSymbol() {
+        assertEquals("AAPL", SymbolRegistry.normalize(" aapl "));
+        assertEquals("BRK.B", SymbolRegistry.normalize("brk.b"));
+        assertTrue(SymbolRegistry.isNormalized("BRK.B"));
+        assertFalse(SymbolRegistry.isNormalized("aapl"));
+    }
+
+    @Test
+    @DisplayName("비어 있거나 형식이 맞지 않는 심볼은 예외가 발생해야 한다")
+    void should_ThrowException_When_SymbolIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> SymbolRegistry.normalize(null));
+        assertThrows(IllegalArgumentException.class, () -> SymbolRegistry.normalize(" "));
+        assertThrows(IllegalArgumentException.class, () -> SymbolRegistry.normalize("../AAPL"));
+        assertThrows(IllegalArgumentException.class, () -> SymbolRegistry.normalize("A".repeat(21)));
+        assertTrue(SymbolRegistry.tryNormalize("AA PL").isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 심볼은 표기와 관계없이 같은 ID를 받고 ID는 0부터 촘촘하게 부여되어야 한다")
+    void should_AssignDenseIds() {
+        // When
+        int aapl = registry.register("aapl");
+        int msft = registry.register("MSFT");
+
+        // Then
+        assertEquals(0, aapl);
+        assertEquals(1, msft);
+        assertEquals(aapl, registry.register(" AAPL "));
+        assertEquals(aapl, registry.find("AAPL"));
+        assertEquals(SymbolRegistry.UNKNOWN, registry.find("aapl"));
+        assertEquals(SymbolRegistry.UNKNOWN, registry.find("TSLA"));
+        assertEquals("MSFT", registry.symbol(msft));
+        assertEquals(2, registry.size());
+        assertThrows(IllegalArgumentException.class, () -> registry.symbol(2));
+    }
+
+    @Test
+    @DisplayName("등록 가능한 심볼 수를 넘으면 예외가 발생해야 한다")
+    void should_ThrowException_When_RegistryIsFull() {
+        // Given
+        ReflectionTestUtils.setField(registry, "maxIds", 2);
+        registry.register("AAPL");
+        registry.register("MSFT");
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> registry.register("TSLA"));
+        assertEquals(0, registry.register("AAPL"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 등록해도 심볼마다 ID는 하나여야 한다")
+    void should_AssignSingleId_When_RegisteredConcurrently() throws InterruptedException {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> assignments = ConcurrentHashMap.newKeySet();
+        AtomicInteger mismatches = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 80; i++) {
+                    String symbol = "SYM" + i;
+                    int id = registry.register(symbol);
+                    assignments.add(symbol + "=" + id);
+                    if (!symbol.equals(registry.symbol(id))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(80, registry.size());
+        assertEquals(80, assignments.size());
+        assertEquals(0, mismatches.get());
+    }
+}
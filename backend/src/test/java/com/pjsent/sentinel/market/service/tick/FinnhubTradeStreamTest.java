@@ -0,0 +1,175 @@
+package com.pjsent.sentinel.market.service.tick;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pjsent.sentinel.market.dto.IntradayTickStatsDto;
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.bars.BarAggregator;
+import com.pjsent.sentinel.market.service.bars.BarResolution;
+import com.pjsent.sentinel.market.service.history.OhlcvStore;
+import com.pjsent.sentinel.market.service.symbol.SymbolRegistry;
+
+@DisplayName("FinnhubTradeStream 테스트 (로컬 웹소켓 서버)")
+class FinnhubTradeStreamTest {
+
+    private static final long TIMEOUT_MS = 5000;
+
+    @TempDir
+    Path storeDir;
+
+    private LocalTradeFeedServer server;
+    private TickStore tickStore;
+    private BarAggregator barAggregator;
+    private FinnhubTradeStream stream;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LocalTradeFeedServer();
+
+        SymbolRegistry symbolRegistry = new SymbolRegistry();
+        ReflectionTestUtils.setField(symbolRegistry, "maxIds", 100);
+
+        tickStore = new TickStore(symbolRegistry);
+        ReflectionTestUtils.setField(tickStore, "bufferCapacity", 64);
+        ReflectionTestUtils.setField(tickStore, "sessionZoneId", "America/New_York");
+        tickStore.init();
+
+        OhlcvStore ohlcvStore = new OhlcvStore();
+        ReflectionTestUtils.setField(ohlcvStore, "storeDir", storeDir.toString());
+        ReflectionTestUtils.setField(ohlcvStore, "initialCapacity", 4);
+        ohlcvStore.init();
+        barAggregator = new BarAggregator(ohlcvStore, symbolRegistry);
+        ReflectionTestUtils.setField(barAggregator, "sessionZoneId", "America/New_York");
+        ReflectionTestUtils.setField(barAggregator, "retentionConfig", "1m:10,5m:10,1h:10,1d:10");
+        ReflectionTestUtils.setField(barAggregator, "quoteQuietMs", 60000L);
+        barAggregator.init();
+
+        stream = new FinnhubTradeStream(symbolRegistry, tickStore, barAggregator);
+        ReflectionTestUtils.setField(stream, "enabled", true);
+        ReflectionTestUtils.setField(stream, "url", server.url());
+        ReflectionTestUtils.setField(stream, "apiKey", "test-key");
+        ReflectionTestUtils.setField(stream, "configuredSymbols", "AAPL, msft");
+        ReflectionTestUtils.setField(stream, "connectTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(stream, "reconnectMinMs", 50L);
+        ReflectionTestUtils.setField(stream, "reconnectMaxMs", 200L);
+        ReflectionTestUtils.setField(stream, "idleTimeoutMs", 10000L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        stream.stop();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("녹화된 체결을 재생하면 구독한 심볼의 장중 집계를 계산해야 한다")
+    void should_AggregateReplayedTrades() throws Exception {
+        // Given
+        stream.start();
+        assertEquals(Set.of(subscribe("AAPL"), subscribe("MSFT")), awaitMessages(2));
+
+        // When
+        server.replay(LocalTradeFeedServer.recording("/finnhub/trades.jsonl"));
+        await(() -> stream.getStats().getMessages() == 5);
+
+        // Then
+        IntradayTickStatsDto aapl = tickStore.stats("AAPL").orElseThrow();
+        assertEquals(185.5, aapl.getLastPrice());
+        assertEquals(185.7, aapl.getHigh());
+        assertEquals(185.5, aapl.getLow());
+        assertEquals(300, aapl.getVolume());
+        assertEquals(3, aapl.getTrades());
+        assertEquals(185.58, aapl.getVwap(), 1e-9);
+
+        IntradayTickStatsDto msft = tickStore.stats("MSFT").orElseThrow();
+        assertEquals(374.22, msft.getVwap(), 1e-9);
+        assertEquals(2, msft.getTrades());
+
+        assertTrue(tickStore.stats("TSLA").isEmpty());
+        assertEquals(5, stream.getStats().getTrades());
+        assertEquals(1, stream.getStats().getIgnoredTrades());
+
+        List<StockPriceDto> bars = barAggregator.bars("AAPL", BarResolution.ONE_MINUTE, 10);
+        assertEquals(1, bars.size());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 0), bars.get(0).getTimeStamp());
+        assertEquals(185.64, bars.get(0).getOpen());
+        assertEquals(185.7, bars.get(0).getHigh());
+        assertEquals(185.5, bars.get(0).getClose());
+        assertEquals(300, bars.get(0).getVolume());
+        assertTrue(barAggregator.bars("TSLA", BarResolution.ONE_MINUTE, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 다시 연결하고 모든 심볼을 다시 구독해야 한다")
+    void should_ReconnectAndResubscribe_When_ConnectionDropped() throws Exception {
+        // Given
+        stream.start();
+        awaitMessages(2);
+        stream.subscribe("GOOGL");
+        assertEquals(subscribe("GOOGL"), server.awaitMessage(TIMEOUT_MS));
+
+        // When
+        server.dropConnection();
+
+        // Then
+        assertEquals(Set.of(subscribe("AAPL"), subscribe("MSFT"), subscribe("GOOGL")), awaitMessages(3));
+        assertEquals(2, server.connections());
+        assertTrue(stream.getStats().getReconnects() >= 1);
+
+        server.replay(List.of("{\"data\":[{\"p\":140.5,\"s\":\"GOOGL\",\"t\":1704207600000,\"v\":10}],\"type\":\"trade\"}"));
+        await(() -> tickStore.stats("GOOGL").isPresent());
+        assertEquals(140.5, tickStore.stats("GOOGL").orElseThrow().getLastPrice());
+    }
+
+    @Test
+    @DisplayName("메시지 없이 멈춘 연결은 idle 제한 시간 뒤에 다시 연결해야 한다")
+    void should_Reconnect_When_ConnectionIdle() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(stream, "idleTimeoutMs", 300L);
+
+        // When
+        stream.start();
+
+        // Then
+        await(() -> server.connections() >= 2);
+        assertTrue(stream.getStats().getReconnects() >= 1);
+    }
+
+    private Set<String> awaitMessages(int count) throws InterruptedException {
+        Set<String> messages = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            String message = server.awaitMessage(TIMEOUT_MS);
+            assertNotNull(message, "구독 메시지를 받지 못했습니다.");
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("제한 시간 안에 조건을 만족하지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static String subscribe(String symbol) {
+        return "{\"type\":\"subscribe\",\"symbol\":\"" + symbol + "\"}";
+    }
+}
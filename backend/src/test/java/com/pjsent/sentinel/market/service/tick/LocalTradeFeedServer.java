@@ -0,0 +1,222 @@
+package com.pjsent.sentinel.market.service.tick;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 웹소켓 서버 (Finnhub 체결 스트림 대역)
+ * 연결을 하나씩 받아 클라이언트가 보낸 텍스트 메시지를 기록하고, 녹화된 체결 메시지를 그대로 다시 보냅니다.
+ * 텍스트/닫기 프레임만 지원하는 최소 구현입니다. (RFC 6455)
+ */
+class LocalTradeFeedServer implements AutoCloseable {
+
+    private static final String HANDSHAKE_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile Socket current;
+
+    LocalTradeFeedServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(this::acceptLoop, "LocalTradeFeedServer");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * 녹화된 체결 메시지(한 줄에 메시지 하나)를 읽습니다.
+     */
+    static List<String> recording(String resource) throws IOException {
+        try (InputStream in = LocalTradeFeedServer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("녹화 파일이 없습니다: " + resource);
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+                    .filter(line -> !line.isBlank())
+                    .toList();
+        }
+    }
+
+    String url() {
+        return "ws://localhost:" + serverSocket.getLocalPort();
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    /**
+     * 클라이언트가 보낸 다음 텍스트 메시지를 기다립니다.
+     *
+     * @return 제한 시간 안에 받지 못하면 null
+     */
+    String awaitMessage(long timeoutMs) throws InterruptedException {
+        return received.poll(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 연결에 메시지를 순서대로 보냅니다.
+     */
+    void replay(List<String> messages) throws IOException {
+        for (String message : messages) {
+            sendText(message);
+        }
+    }
+
+    synchronized void sendText(String message) throws IOException {
+        Socket socket = current;
+        if (socket == null) {
+            throw new IOException("연결된 클라이언트가 없습니다.");
+        }
+        byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+        OutputStream out = socket.getOutputStream();
+        out.write(0x81);
+        if (payload.length < 126) {
+            out.write(payload.length);
+        } else if (payload.length < 65536) {
+            out.write(126);
+            out.write(payload.length >>> 8);
+            out.write(payload.length);
+        } else {
+            out.write(127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) ((long) payload.length >>> shift));
+            }
+        }
+        out.write(payload);
+        out.flush();
+    }
+
+    /**
+     * 닫기 핸드셰이크 없이 현재 연결을 끊습니다. (네트워크 단절 재현)
+     */
+    void dropConnection() throws IOException {
+        Socket socket = current;
+        current = null;
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        dropConnection();
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                handshake(socket);
+                current = socket;
+                connections.incrementAndGet();
+                Thread reader = new Thread(() -> readLoop(socket), "LocalTradeFeedServer-reader");
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                // 서버 종료
+            }
+        }
+    }
+
+    private static void handshake(Socket socket) throws IOException {
+        InputStream in = socket.getInputStream();
+        String key = null;
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+        if (key == null) {
+            socket.close();
+            throw new IOException("웹소켓 요청이 아닙니다.");
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(response.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private void readLoop(Socket socket) {
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            while (true) {
+                int first = in.readUnsignedByte();
+                int second = in.readUnsignedByte();
+                int opcode = first & 0x0F;
+                long length = second & 0x7F;
+                if (length == 126) {
+                    length = in.readUnsignedShort();
+                } else if (length == 127) {
+                    length = in.readLong();
+                }
+                byte[] mask = new byte[4];
+                if ((second & 0x80) != 0) {
+                    in.readFully(mask);
+                }
+                byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+
+                if (opcode == 0x1) {
+                    received.add(new String(payload, StandardCharsets.UTF_8));
+                } else if (opcode == 0x8) {
+                    synchronized (this) {
+                        socket.getOutputStream().write(new byte[] {(byte) 0x88, 0});
+                    }
+                    socket.close();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static String accept(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest((key + HANDSHAKE_GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.pjsent.sentinel.market.service.tick;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pjsent.sentinel.market.dto.IntradayTickStatsDto;
+
+@DisplayName("TickRingBuffer 테스트")
+class TickRingBufferTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final long OPEN = ZonedDateTime.of(2024, 1, 2, 9, 30, 0, 0, NEW_YORK).toInstant().toEpochMilli();
+
+    @Test
+    @DisplayName("체결마다 최근가, VWAP, 장중 고가/저가를 갱신해야 한다")
+    void should_UpdateIntradayStats_When_TradesAppended() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer("AAPL", 8, NEW_YORK);
+
+        // When
+        buffer.append(OPEN, 100.0, 10);
+        buffer.append(OPEN + 1000, 102.0, 30);
+        buffer.append(OPEN + 2000, 99.0, 10);
+
+        // Then
+        IntradayTickStatsDto stats = buffer.stats();
+        assertEquals(99.0, stats.getLastPrice());
+        assertEquals(102.0, stats.getHigh());
+        assertEquals(99.0, stats.getLow());
+        assertEquals(50, stats.getVolume());
+        assertEquals(3, stats.getTrades());
+        assertEquals((100.0 * 10 + 102.0 * 30 + 99.0 * 10) / 50, stats.getVwap(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 체결부터 덮어써야 한다")
+    void should_OverwriteOldestTicks_When_CapacityExceeded() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer("AAPL", 3, NEW_YORK);
+
+        // When
+        for (int i = 1; i <= 6; i++) {
+            buffer.append(OPEN + i, 100.0 + i, i);
+        }
+
+        // Then
+        assertEquals(4, buffer.capacity());
+        assertEquals(6, buffer.sequence());
+        List<TickRingBuffer.Tick> recent = buffer.recent(10);
+        assertEquals(List.of(103.0, 104.0, 105.0, 106.0), recent.stream().map(TickRingBuffer.Tick::price).toList());
+        assertEquals(2, buffer.recent(2).size());
+        // 장중 집계는 덮어쓴 체결도 포함
+        assertEquals(6, buffer.stats().getTrades());
+    }
+
+    @Test
+    @DisplayName("세션 날짜가 바뀌면 장중 집계를 초기화해야 한다")
+    void should_ResetStats_When_NewSessionStarts() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer("AAPL", 8, NEW_YORK);
+        buffer.append(OPEN, 100.0, 10);
+        long nextDay = OPEN + 24 * 60 * 60 * 1000L;
+
+        // When
+        buffer.append(nextDay, 90.0, 5);
+        buffer.append(OPEN + 1000, 200.0, 5);
+
+        // Then
+        IntradayTickStatsDto stats = buffer.stats();
+        assertEquals(90.0, stats.getHigh());
+        assertEquals(1, stats.getTrades());
+        assertEquals(ZonedDateTime.of(2024, 1, 3, 0, 0, 0, 0, NEW_YORK).toInstant().toEpochMilli(), stats.getSessionStart());
+        assertEquals(3, buffer.sequence());
+    }
+
+    @Test
+    @DisplayName("가격이 0 이하인 체결은 기록하지 않아야 한다")
+    void should_RejectTrade_When_PriceInvalid() {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer("AAPL", 8, NEW_YORK);
+
+        // When & Then
+        assertFalse(buffer.append(OPEN, 0.0, 10));
+        assertFalse(buffer.append(OPEN, Double.NaN, 10));
+        assertNull(buffer.stats());
+        assertTrue(buffer.recent(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("쓰는 동안 읽어도 고가/저가/VWAP가 서로 어긋나지 않아야 한다")
+    void should_ReadConsistentStats_While_Writing() throws InterruptedException {
+        // Given
+        TickRingBuffer buffer = new TickRingBuffer("AAPL", 1024, NEW_YORK);
+        buffer.append(OPEN, 100.0, 1);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 200_000; i++) {
+                buffer.append(OPEN + i, 100.0 + (i % 50), 1 + (i % 7));
+            }
+        });
+
+        // When
+        writer.start();
+        while (writer.isAlive()) {
+            IntradayTickStatsDto stats = buffer.stats();
+            if (stats.getLow() > stats.getVwap() || stats.getVwap() > stats.getHigh()
+                    || stats.getLastPrice() < stats.getLow() || stats.getLastPrice() > stats.getHigh()) {
+                failure.set(stats.toString());
+            }
+            List<TickRingBuffer.Tick> recent = buffer.recent(16);
+            for (int i = 1; i < recent.size(); i++) {
+                if (recent.get(i).epochMillis() != recent.get(i - 1).epochMillis() + 1) {
+                    failure.set("순서가 어긋난 체결: " + recent);
+                }
+            }
+        }
+        writer.join();
+
+        // Then
+        assertNull(failure.get());
+        assertEquals(200_001, buffer.stats().getTrades());
+    }
+}
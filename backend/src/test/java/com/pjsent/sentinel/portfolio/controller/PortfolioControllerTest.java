@@ -3,6 +3,8 @@ package com.pjsent.sentinel.portfolio.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pjsent.sentinel.portfolio.dto.*;
 import com.pjsent.sentinel.portfolio.service.PortfolioService;
+import com.pjsent.sentinel.portfolio.service.reconciliation.PortfolioReconciliationJob;
+import com.pjsent.sentinel.portfolio.service.revaluation.HoldingRevaluator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,12 @@ class PortfolioControllerTest {
     @MockBean
     private PortfolioService portfolioService;
 
+    @MockBean
+    private PortfolioReconciliationJob reconciliationJob;
+
+    @MockBean
+    private HoldingRevaluator holdingRevaluator;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -93,6 +101,28 @@ class PortfolioControllerTest {
                 .andExpect(jsonPath("$[0].userId").value(userId.toString()));
     }
 
+    @Test
+    @DisplayName("포트폴리오 요약 목록 조회 성공")
+    void should_ReturnPortfolioSummaries_When_GetSummary() throws Exception {
+        // Given
+        PortfolioSummaryDto summary = PortfolioSummaryDto.builder()
+                .id(portfolioId)
+                .name("테스트 포트폴리오")
+                .totalValue(BigDecimal.valueOf(10000))
+                .holdingCount(3)
+                .build();
+        when(portfolioService.getPortfolioSummariesByUserId(userId))
+                .thenReturn(List.of(summary));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/portfolios/summary")
+                        .param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(portfolioId))
+                .andExpect(jsonPath("$[0].holdingCount").value(3));
+        verify(portfolioService, never()).getPortfolioById(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("특정 포트폴리오 조회 성공")
     void should_ReturnPortfolio_When_GetPortfolio() throws Exception {
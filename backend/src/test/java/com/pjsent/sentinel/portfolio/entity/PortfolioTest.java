@@ -0,0 +1,105 @@
+package com.pjsent.sentinel.portfolio.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Portfolio 합계 변경분 반영 단위 테스트
+ */
+class PortfolioTest {
+
+    private Portfolio portfolio;
+    private PortfolioHolding apple;
+    private PortfolioHolding microsoft;
+
+    @BeforeEach
+    void setUp() {
+        portfolio = Portfolio.builder()
+                .userId(1L)
+                .name("테스트 포트폴리오")
+                .build();
+        apple = holding("AAPL", "10", "150.00", "160.00");
+        microsoft = holding("MSFT", "2.5", "300.1234", "310.5678");
+        portfolio.addHolding(apple);
+        portfolio.addHolding(microsoft);
+    }
+
+    @Test
+    @DisplayName("보유 종목 추가 시 평가액과 원가를 합계에 더해야 한다")
+    void should_AddHoldingAmounts_When_HoldingAdded() {
+        // Then
+        assertThat(portfolio.getTotalValue()).isEqualByComparingTo("2376.42");
+        assertThat(portfolio.getTotalCost()).isEqualByComparingTo("2250.31");
+        assertThat(portfolio.getTotalGainLoss()).isEqualByComparingTo("126.11");
+    }
+
+    @Test
+    @DisplayName("현재가/수량/평균 단가 변경분만 반영한 합계는 전체 재계산 결과와 같아야 한다")
+    void should_MatchFullRecalculation_When_DeltasApplied() {
+        // When
+        portfolio.updateHoldingPrice(apple, new BigDecimal("171.2345"));
+        portfolio.updateHolding(microsoft, new BigDecimal("3.75"), new BigDecimal("295.55"));
+        portfolio.updateHoldingPrice(microsoft, new BigDecimal("289.9999"));
+        BigDecimal totalValue = portfolio.getTotalValue();
+        BigDecimal totalCost = portfolio.getTotalCost();
+        BigDecimal totalGainLossPercent = portfolio.getTotalGainLossPercent();
+        portfolio.recalculate();
+
+        // Then
+        assertThat(totalValue).isEqualByComparingTo(portfolio.getTotalValue());
+        assertThat(totalCost).isEqualByComparingTo(portfolio.getTotalCost());
+        assertThat(totalGainLossPercent).isEqualByComparingTo(portfolio.getTotalGainLossPercent());
+    }
+
+    @Test
+    @DisplayName("보유 종목 제거 시 평가액과 원가를 합계에서 빼야 한다")
+    void should_SubtractHoldingAmounts_When_HoldingRemoved() {
+        // When
+        portfolio.removeHolding(apple);
+        portfolio.removeHolding(apple);
+
+        // Then
+        assertThat(portfolio.getTotalValue()).isEqualByComparingTo(microsoft.getMarketValue());
+        assertThat(portfolio.getTotalCost()).isEqualByComparingTo(microsoft.getTotalCost());
+        assertThat(apple.getPortfolio()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 현재가가 다시 들어오면 손익을 다시 계산하지 않아야 한다")
+    void should_KeepGainLoss_When_PriceUnchanged() {
+        // Given
+        BigDecimal gainLossPercent = apple.getGainLossPercent();
+
+        // When
+        portfolio.updateHoldingPrice(apple, new BigDecimal("160.0000"));
+
+        // Then
+        assertThat(apple.getGainLossPercent()).isSameAs(gainLossPercent);
+        assertThat(portfolio.getTotalValue()).isEqualByComparingTo("2376.42");
+    }
+
+    @Test
+    @DisplayName("평가액과 원가는 컬럼 scale(소수 2자리)로 반올림해야 한다")
+    void should_RoundAmountsToColumnScale() {
+        // Then
+        assertThat(microsoft.getTotalCost()).isEqualByComparingTo("750.31");
+        assertThat(microsoft.getMarketValue()).isEqualByComparingTo("776.42");
+        assertThat(microsoft.getMarketValue().scale()).isEqualTo(2);
+    }
+
+    private PortfolioHolding holding(String symbol, String quantity, String averageCost, String currentPrice) {
+        PortfolioHolding holding = PortfolioHolding.builder()
+                .portfolio(portfolio)
+                .symbol(symbol)
+                .quantity(new BigDecimal(quantity))
+                .averageCost(new BigDecimal(averageCost))
+                .build();
+        holding.updateCurrentPrice(new BigDecimal(currentPrice));
+        return holding;
+    }
+}
@@ -0,0 +1,141 @@
+package com.pjsent.sentinel.portfolio.repository;
+
+import com.pjsent.sentinel.portfolio.entity.Portfolio;
+import com.pjsent.sentinel.portfolio.entity.PortfolioHolding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시세 재평가 UPDATE 쿼리 테스트
+ * UPDATE로 계산한 평가액/손익과 포트폴리오 합계가 엔티티 계산 결과와 같아야 합니다.
+ */
+@DataJpaTest
+@DisplayName("시세 재평가 UPDATE 쿼리 테스트")
+class PortfolioRevaluationQueryTest {
+
+    private static final BigDecimal NEW_PRICE = new BigDecimal("171.2345");
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PortfolioHoldingRepository holdingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long portfolioId;
+    private Long appleId;
+    private Long microsoftId;
+
+    @BeforeEach
+    void setUp() {
+        Portfolio portfolio = Portfolio.builder()
+                .userId(1L)
+                .name("재평가 포트폴리오")
+                .build();
+        PortfolioHolding apple = holding(portfolio, "AAPL", "3.333333", "150.1234", "160.0000");
+        PortfolioHolding microsoft = holding(portfolio, "MSFT", "2.5", "300.1234", "310.5678");
+        portfolio.addHolding(apple);
+        portfolio.addHolding(microsoft);
+        entityManager.persist(portfolio);
+        entityManager.flush();
+        entityManager.clear();
+
+        portfolioId = portfolio.getId();
+        appleId = apple.getId();
+        microsoftId = microsoft.getId();
+    }
+
+    @Test
+    @DisplayName("현재가 UPDATE와 합계 UPDATE 결과는 엔티티의 계산 결과와 같아야 한다")
+    void should_MatchEntityCalculation_When_PriceAppliedInBulk() {
+        // Given
+        Portfolio expectedPortfolio = Portfolio.builder().userId(1L).name("기대값").build();
+        PortfolioHolding expected = holding(expectedPortfolio, "AAPL", "3.333333", "150.1234", "160.0000");
+        expectedPortfolio.addHolding(expected);
+        expectedPortfolio.addHolding(holding(expectedPortfolio, "MSFT", "2.5", "300.1234", "310.5678"));
+        expectedPortfolio.updateHoldingPrice(expected, NEW_PRICE);
+
+        // When
+        int updated = holdingRepository.applyCurrentPrice(List.of(appleId), NEW_PRICE, LocalDateTime.now());
+        int unchanged = holdingRepository.applyCurrentPrice(List.of(appleId), NEW_PRICE, LocalDateTime.now());
+        portfolioRepository.refreshTotals(List.of(portfolioId), LocalDateTime.now());
+        portfolioRepository.refreshGainLoss(List.of(portfolioId));
+        entityManager.clear();
+
+        // Then
+        PortfolioHolding apple = holdingRepository.findById(appleId).orElseThrow();
+        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(unchanged).isZero();
+        assertThat(apple.getCurrentPrice()).isEqualByComparingTo(NEW_PRICE);
+        assertThat(apple.getMarketValue()).isEqualByComparingTo(expected.getMarketValue());
+        assertThat(apple.getGainLoss()).isEqualByComparingTo(expected.getGainLoss());
+        assertThat(apple.getGainLossPercent()).isEqualByComparingTo(expected.getGainLossPercent());
+        assertThat(portfolio.getTotalValue()).isEqualByComparingTo(expectedPortfolio.getTotalValue());
+        assertThat(portfolio.getTotalCost()).isEqualByComparingTo(expectedPortfolio.getTotalCost());
+        assertThat(portfolio.getTotalGainLoss()).isEqualByComparingTo(expectedPortfolio.getTotalGainLoss());
+        assertThat(portfolio.getTotalGainLossPercent()).isEqualByComparingTo(expectedPortfolio.getTotalGainLossPercent());
+    }
+
+    @Test
+    @DisplayName("합계 점검 쿼리는 합계가 보유 종목 합산과 다른 포트폴리오만 반환해야 한다")
+    void should_ReturnDriftedPortfoliosOnly_When_TotalsChecked() {
+        // Given
+        holdingRepository.applyCurrentPrice(List.of(microsoftId), NEW_PRICE, LocalDateTime.now());
+        entityManager.clear();
+
+        // When
+        List<PortfolioTotalsDrift> drifts = portfolioRepository.findTotalsDrift(new BigDecimal("0.01"));
+        portfolioRepository.refreshTotals(List.of(portfolioId), LocalDateTime.now());
+        List<PortfolioTotalsDrift> afterRefresh = portfolioRepository.findTotalsDrift(new BigDecimal("0.01"));
+
+        // Then
+        assertThat(drifts).extracting(PortfolioTotalsDrift::getPortfolioId).containsExactly(portfolioId);
+        assertThat(afterRefresh).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재평가 UPDATE 이전에 읽은 보유 종목을 수정해 저장하면 낙관적 잠금 예외가 발생해야 한다")
+    void should_RejectStaleWrite_When_RevaluatedAfterLoad() {
+        // Given
+        Portfolio stale = portfolioRepository.findById(portfolioId).orElseThrow();
+        PortfolioHolding staleApple = stale.getHoldings().stream()
+                .filter(holding -> holding.getId().equals(appleId))
+                .findFirst()
+                .orElseThrow();
+        holdingRepository.applyCurrentPrice(List.of(appleId), NEW_PRICE, LocalDateTime.now());
+        portfolioRepository.refreshTotals(List.of(portfolioId), LocalDateTime.now());
+
+        // When
+        stale.updateHolding(staleApple, new BigDecimal("4"), staleApple.getAverageCost());
+
+        // Then
+        assertThatThrownBy(() -> portfolioRepository.saveAndFlush(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    private static PortfolioHolding holding(Portfolio portfolio, String symbol, String quantity,
+                                            String averageCost, String currentPrice) {
+        PortfolioHolding holding = PortfolioHolding.builder()
+                .portfolio(portfolio)
+                .symbol(symbol)
+                .quantity(new BigDecimal(quantity))
+                .averageCost(new BigDecimal(averageCost))
+                .build();
+        holding.updateCurrentPrice(new BigDecimal(currentPrice));
+        return holding;
+    }
+}
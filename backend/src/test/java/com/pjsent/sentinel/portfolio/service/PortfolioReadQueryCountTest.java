@@ -0,0 +1,137 @@
+package com.pjsent.sentinel.portfolio.service;
+
+import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.portfolio.dto.PortfolioDto;
+import com.pjsent.sentinel.portfolio.dto.PortfolioSummaryDto;
+import com.pjsent.sentinel.portfolio.entity.Portfolio;
+import com.pjsent.sentinel.portfolio.entity.PortfolioHolding;
+import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.service.revaluation.HoldingSymbolIndex;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포트폴리오 조회 경로의 SQL 실행 횟수 회귀 테스트
+ * 포트폴리오/보유 종목 수가 늘어나도 대시보드 조회의 쿼리 수가 일정해야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PortfolioService.class, PortfolioValuationCache.class, HoldingSymbolIndex.class})
+@DisplayName("포트폴리오 조회 쿼리 수 테스트")
+class PortfolioReadQueryCountTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int PORTFOLIOS = 20;
+    private static final int HOLDINGS_PER_PORTFOLIO = 3;
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private MarketDataService marketDataService;
+
+    private Statistics statistics;
+    private Long firstPortfolioId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PORTFOLIOS; i++) {
+            Portfolio portfolio = Portfolio.builder()
+                    .userId(USER_ID)
+                    .name("포트폴리오 " + i)
+                    .build();
+            for (int j = 0; j < HOLDINGS_PER_PORTFOLIO; j++) {
+                portfolio.addHolding(PortfolioHolding.builder()
+                        .portfolio(portfolio)
+                        .symbol("SYM" + j)
+                        .quantity(new BigDecimal("10"))
+                        .averageCost(new BigDecimal("100.00"))
+                        .build());
+            }
+            entityManager.persist(portfolio);
+            if (firstPortfolioId == null) {
+                firstPortfolioId = portfolio.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("포트폴리오 목록 조회는 보유 종목까지 쿼리 한 번으로 읽어야 한다")
+    void should_LoadPortfoliosWithHoldings_InSingleQuery() {
+        // When
+        List<PortfolioDto> result = portfolioService.getPortfoliosByUserId(USER_ID);
+
+        // Then
+        assertThat(result).hasSize(PORTFOLIOS);
+        assertThat(result).allSatisfy(portfolio -> {
+            assertThat(portfolio.getHoldings()).hasSize(HOLDINGS_PER_PORTFOLIO);
+            assertThat(portfolio.getHoldings()).allSatisfy(holding ->
+                    assertThat(holding.getPortfolioId()).isEqualTo(portfolio.getId()));
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 상세 조회는 쿼리 한 번으로 읽고, 다시 조회하면 평가 스냅샷을 사용해야 한다")
+    void should_LoadPortfolioDetail_InSingleQuery() {
+        // When
+        PortfolioDto result = portfolioService.getPortfolioById(firstPortfolioId, USER_ID);
+        PortfolioDto cached = portfolioService.getPortfolioById(firstPortfolioId, USER_ID);
+
+        // Then
+        assertThat(result.getHoldings()).hasSize(HOLDINGS_PER_PORTFOLIO);
+        assertThat(cached).isSameAs(result);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 요약 목록은 보유 종목 엔티티 없이 쿼리 한 번으로 읽어야 한다")
+    void should_LoadSummaries_InSingleQuery() {
+        // When
+        List<PortfolioSummaryDto> result = portfolioService.getPortfolioSummariesByUserId(USER_ID);
+
+        // Then
+        assertThat(result).hasSize(PORTFOLIOS);
+        assertThat(result).allSatisfy(summary ->
+                assertThat(summary.getHoldingCount()).isEqualTo(HOLDINGS_PER_PORTFOLIO));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("엔티티 그래프 없이 읽어도 보유 종목은 IN 조회 한 번으로 묶여야 한다")
+    void should_BatchFetchHoldings_When_LoadedLazily() {
+        // When
+        List<Portfolio> portfolios = portfolioRepository.findByUserIdOrderByCreatedAtDesc(USER_ID);
+        int holdings = portfolios.stream().mapToInt(portfolio -> portfolio.getHoldings().size()).sum();
+
+        // Then
+        assertThat(holdings).isEqualTo(PORTFOLIOS * HOLDINGS_PER_PORTFOLIO);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -1,19 +1,28 @@
 package com.pjsent.sentinel.portfolio.service;
 
+import com.pjsent.sentinel.market.dto.BulkStockPriceDto;
 import com.pjsent.sentinel.market.dto.StockPriceDto;
 import com.pjsent.sentinel.market.service.MarketDataService;
+import com.pjsent.sentinel.market.service.hedging.HedgeEndpoint;
 import com.pjsent.sentinel.portfolio.dto.*;
 import com.pjsent.sentinel.portfolio.entity.Portfolio;
 import com.pjsent.sentinel.portfolio.entity.PortfolioHolding;
 import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
 import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.service.revaluation.HoldingSymbolIndex;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuation;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -39,6 +48,18 @@ class PortfolioServiceTest {
     @Mock
     private MarketDataService marketDataService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @Mock
+    private PortfolioValuationCache valuationCache;
+
+    @Mock
+    private HoldingSymbolIndex holdingIndex;
+
     @InjectMocks
     private PortfolioService portfolioService;
 
@@ -49,6 +70,8 @@ class PortfolioServiceTest {
 
     @BeforeEach
     void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+        
         userId = 1L;
         portfolioId = 1L;
         
@@ -79,7 +102,7 @@ class PortfolioServiceTest {
     @DisplayName("사용자의 모든 포트폴리오 조회 성공")
     void should_ReturnPortfolioList_When_GetPortfoliosByUserId() {
         // Given
-        when(portfolioRepository.findByUserIdOrderByCreatedAtDesc(userId))
+        when(portfolioRepository.findWithHoldingsByUserIdOrderByCreatedAtDesc(userId))
                 .thenReturn(List.of(portfolio));
 
         // When
@@ -95,7 +118,7 @@ class PortfolioServiceTest {
     @DisplayName("특정 포트폴리오 조회 성공")
     void should_ReturnPortfolio_When_GetPortfolioById() {
         // Given
-        when(portfolioRepository.findByIdAndUserId(portfolioId, userId))
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
                 .thenReturn(Optional.of(portfolio));
 
         // When
@@ -107,11 +130,64 @@ class PortfolioServiceTest {
         assertThat(result.getName()).isEqualTo("테스트 포트폴리오");
     }
 
+    @Test
+    @DisplayName("평가 스냅샷이 최신이면 DB를 읽지 않고 반환")
+    void should_ReturnCachedValuation_When_SnapshotIsCurrent() {
+        // Given
+        PortfolioDto cachedDto = PortfolioDto.builder()
+                .id(portfolioId)
+                .userId(userId)
+                .name("캐시된 포트폴리오")
+                .build();
+        when(valuationCache.get(portfolioId))
+                .thenReturn(Optional.of(PortfolioValuation.of(3L, cachedDto)));
+
+        // When
+        PortfolioDto result = portfolioService.getPortfolioById(portfolioId, userId);
+
+        // Then
+        assertThat(result).isSameAs(cachedDto);
+        verifyNoInteractions(portfolioRepository);
+    }
+
+    @Test
+    @DisplayName("평가 스냅샷이 없으면 DB를 읽기 전의 버전으로 계산하여 저장")
+    void should_PutValuationWithVersionReadBeforeLoad_When_CacheMiss() {
+        // Given
+        when(valuationCache.version(portfolioId)).thenReturn(7L);
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
+                .thenReturn(Optional.of(portfolio));
+
+        // When
+        portfolioService.getPortfolioById(portfolioId, userId);
+
+        // Then
+        InOrder inOrder = inOrder(valuationCache, portfolioRepository);
+        inOrder.verify(valuationCache).version(portfolioId);
+        inOrder.verify(portfolioRepository).findWithHoldingsByIdAndUserId(portfolioId, userId);
+        inOrder.verify(valuationCache).put(eq(portfolioId), argThat(valuation -> valuation.version() == 7L));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 평가 스냅샷은 반환하지 않음")
+    void should_IgnoreCachedValuation_When_UserDiffers() {
+        // Given
+        PortfolioDto otherUsersDto = PortfolioDto.builder().id(portfolioId).userId(99L).build();
+        when(valuationCache.get(portfolioId))
+                .thenReturn(Optional.of(PortfolioValuation.of(0L, otherUsersDto)));
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> portfolioService.getPortfolioById(portfolioId, userId))
+                .isInstanceOf(com.pjsent.sentinel.common.exception.ResourceNotFoundException.class);
+    }
+
     @Test
     @DisplayName("존재하지 않는 포트폴리오 조회 시 예외 발생")
     void should_ThrowException_When_PortfolioNotFound() {
         // Given
-        when(portfolioRepository.findByIdAndUserId(portfolioId, userId))
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -214,7 +290,7 @@ class PortfolioServiceTest {
                 .thenReturn(Optional.of(portfolio));
         when(holdingRepository.existsByPortfolioIdAndSymbol(portfolioId, request.getSymbol()))
                 .thenReturn(false);
-        when(marketDataService.getStockPrice(request.getSymbol()))
+        when(marketDataService.getStockPrice(request.getSymbol(), HedgeEndpoint.PORTFOLIO))
                 .thenReturn(stockPrice);
         when(holdingRepository.save(any(PortfolioHolding.class)))
                 .thenReturn(holding);
@@ -226,6 +302,7 @@ class PortfolioServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getSymbol()).isEqualTo("AAPL");
         verify(holdingRepository).save(any(PortfolioHolding.class));
+        verify(holdingIndex).add("AAPL", holding.getId(), portfolioId);
     }
 
     @Test
@@ -269,6 +346,34 @@ class PortfolioServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(holdingRepository).save(any(PortfolioHolding.class));
+        verify(valuationCache).invalidate(portfolioId);
+    }
+
+    @Test
+    @DisplayName("보유 종목 수정 시 전체 재계산 없이 변경분만 합계에 반영")
+    void should_ApplyDeltaToTotals_When_HoldingUpdated() {
+        // Given
+        holding.updateCurrentPrice(new BigDecimal("160.00"));
+        portfolio.addHolding(holding);
+        UpdateHoldingRequest request = new UpdateHoldingRequest();
+        request.setQuantity(new BigDecimal("20"));
+        request.setAverageCost(new BigDecimal("155.00"));
+
+        when(portfolioRepository.findByIdAndUserId(portfolioId, userId))
+                .thenReturn(Optional.of(portfolio));
+        when(holdingRepository.findById(holding.getId()))
+                .thenReturn(Optional.of(holding));
+        when(holdingRepository.save(any(PortfolioHolding.class)))
+                .thenReturn(holding);
+
+        // When
+        portfolioService.updateHolding(portfolioId, holding.getId(), userId, request);
+
+        // Then
+        assertThat(portfolio.getTotalValue()).isEqualByComparingTo("3200.00");
+        assertThat(portfolio.getTotalCost()).isEqualByComparingTo("3100.00");
+        assertThat(portfolio.getTotalGainLoss()).isEqualByComparingTo("100.00");
+        verify(portfolioRepository).save(portfolio);
     }
 
     @Test
@@ -285,6 +390,8 @@ class PortfolioServiceTest {
 
         // Then
         verify(holdingRepository).delete(holding);
+        verify(valuationCache).invalidate(portfolioId);
+        verify(holdingIndex).remove("AAPL", holding.getId());
     }
 
     @Test
@@ -298,10 +405,12 @@ class PortfolioServiceTest {
                 .price(160.0)
                 .build();
 
-        when(portfolioRepository.findByIdAndUserId(portfolioId, userId))
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
                 .thenReturn(Optional.of(portfolio));
-        when(marketDataService.getStockPrice(holding.getSymbol()))
-                .thenReturn(stockPrice);
+        BulkStockPriceDto bulkPrices = BulkStockPriceDto.builder().build();
+        bulkPrices.getPrices().put(holding.getSymbol(), stockPrice);
+        when(marketDataService.getStockPricesBulk(List.of(holding.getSymbol())))
+                .thenReturn(bulkPrices);
         when(portfolioRepository.save(any(Portfolio.class)))
                 .thenReturn(portfolio);
 
@@ -310,6 +419,59 @@ class PortfolioServiceTest {
 
         // Then
         assertThat(result).isNotNull();
+        assertThat(holding.getCurrentPrice()).isEqualByComparingTo("160.0");
+        verify(marketDataService, never()).getStockPrice(anyString());
         verify(portfolioRepository).save(any(Portfolio.class));
     }
+
+    @Test
+    @DisplayName("재계산 시 시세 조회는 트랜잭션 밖에서 수행하고 조회/저장 시간을 기록해야 한다")
+    void should_FetchPricesOutsideTransaction_When_Recalculating() {
+        // Given
+        portfolio.getHoldings().add(holding);
+        
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
+                .thenReturn(Optional.of(portfolio));
+        BulkStockPriceDto bulkPrices = BulkStockPriceDto.builder().build();
+        bulkPrices.getErrors().put("AAPL", "모든 프로바이더 실패");
+        when(marketDataService.getStockPricesBulk(List.of("AAPL")))
+                .thenReturn(bulkPrices);
+        when(portfolioRepository.save(any(Portfolio.class)))
+                .thenReturn(portfolio);
+
+        // When
+        portfolioService.recalculatePortfolio(portfolioId, userId);
+
+        // Then
+        // 심볼 조회 트랜잭션 커밋 -> 시세 조회 -> 저장 트랜잭션 시작 순서
+        InOrder inOrder = inOrder(transactionManager, marketDataService, portfolioRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(marketDataService).getStockPricesBulk(List.of("AAPL"));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(portfolioRepository).save(portfolio);
+        inOrder.verify(transactionManager).commit(any());
+        
+        PortfolioRecalculationStatsDto stats = portfolioService.getRecalculationStats();
+        assertThat(stats.getRecalculations()).isEqualTo(1);
+        assertThat(stats.getPriceFailures()).isEqualTo(1);
+        assertThat(holding.getCurrentPrice()).isNull();
+    }
+
+    @Test
+    @DisplayName("보유 종목이 없으면 시세를 조회하지 않고 재계산해야 한다")
+    void should_SkipPriceFetch_When_PortfolioHasNoHoldings() {
+        // Given
+        when(portfolioRepository.findWithHoldingsByIdAndUserId(portfolioId, userId))
+                .thenReturn(Optional.of(portfolio));
+        when(portfolioRepository.save(any(Portfolio.class)))
+                .thenReturn(portfolio);
+
+        // When
+        PortfolioDto result = portfolioService.recalculatePortfolio(portfolioId, userId);
+
+        // Then
+        assertThat(result.getTotalValue()).isEqualByComparingTo("0");
+        verifyNoInteractions(marketDataService);
+    }
 }
@@ -0,0 +1,155 @@
+package com.pjsent.sentinel.portfolio.service.reconciliation;
+
+import com.pjsent.sentinel.portfolio.dto.PortfolioReconciliationStatsDto;
+import com.pjsent.sentinel.portfolio.entity.Portfolio;
+import com.pjsent.sentinel.portfolio.entity.PortfolioHolding;
+import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.repository.PortfolioTotalsDrift;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PortfolioReconciliationJob 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PortfolioReconciliationJobTest {
+
+    private static final Long PORTFOLIO_ID = 1L;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private PortfolioValuationCache valuationCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @InjectMocks
+    private PortfolioReconciliationJob reconciliationJob;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+        ReflectionTestUtils.setField(reconciliationJob, "tolerance", new BigDecimal("0.01"));
+        ReflectionTestUtils.setField(reconciliationJob, "repair", true);
+        ReflectionTestUtils.setField(reconciliationJob, "maxRepairs", 100);
+    }
+
+    @Test
+    @DisplayName("합계가 보유 종목 합산과 다르면 불일치로 기록하고 전체 재계산으로 보정해야 한다")
+    void should_FlagAndRepairDrift_When_TotalsDiffer() {
+        // Given
+        Portfolio portfolio = Portfolio.builder().userId(1L).name("테스트 포트폴리오").build();
+        portfolio.getHoldings().add(PortfolioHolding.builder()
+                .portfolio(portfolio)
+                .symbol("AAPL")
+                .quantity(new BigDecimal("10"))
+                .averageCost(new BigDecimal("150.00"))
+                .build());
+        when(portfolioRepository.count()).thenReturn(3L);
+        when(portfolioRepository.findTotalsDrift(new BigDecimal("0.01")))
+                .thenReturn(List.of(drift("0", "0", "0", "1500.00")));
+        when(portfolioRepository.findById(PORTFOLIO_ID)).thenReturn(Optional.of(portfolio));
+
+        // When
+        PortfolioReconciliationStatsDto stats = reconciliationJob.run();
+
+        // Then
+        assertThat(stats.getPortfoliosChecked()).isEqualTo(3L);
+        assertThat(stats.getDriftDetected()).isEqualTo(1);
+        assertThat(stats.getRepaired()).isEqualTo(1);
+        assertThat(stats.getMaxCostDrift()).isEqualByComparingTo("1500.00");
+        assertThat(stats.getDriftedPortfolioIds()).containsExactly(PORTFOLIO_ID);
+        assertThat(portfolio.getTotalCost()).isEqualByComparingTo("1500.00");
+        verify(valuationCache).invalidate(PORTFOLIO_ID);
+        assertThat(reconciliationJob.getStats()).isSameAs(stats);
+    }
+
+    @Test
+    @DisplayName("보정이 꺼져 있으면 불일치만 기록하고 포트폴리오를 수정하지 않아야 한다")
+    void should_OnlyFlagDrift_When_RepairDisabled() {
+        // Given
+        ReflectionTestUtils.setField(reconciliationJob, "repair", false);
+        when(portfolioRepository.findTotalsDrift(any()))
+                .thenReturn(List.of(drift("2000.00", "1500.00", "1990.00", "1500.00")));
+
+        // When
+        PortfolioReconciliationStatsDto stats = reconciliationJob.run();
+
+        // Then
+        assertThat(stats.getDriftDetected()).isEqualTo(1);
+        assertThat(stats.getRepaired()).isZero();
+        assertThat(stats.getMaxValueDrift()).isEqualByComparingTo("10.00");
+        verify(portfolioRepository, never()).findById(anyLong());
+        verifyNoInteractions(valuationCache);
+    }
+
+    @Test
+    @DisplayName("불일치가 없으면 아무것도 보정하지 않아야 한다")
+    void should_RepairNothing_When_TotalsMatch() {
+        // Given
+        when(portfolioRepository.count()).thenReturn(5L);
+        when(portfolioRepository.findTotalsDrift(any())).thenReturn(List.of());
+
+        // When
+        PortfolioReconciliationStatsDto stats = reconciliationJob.run();
+
+        // Then
+        assertThat(stats.getPortfoliosChecked()).isEqualTo(5L);
+        assertThat(stats.getDriftDetected()).isZero();
+        assertThat(stats.getMaxValueDrift()).isEqualByComparingTo("0");
+        verifyNoInteractions(transactionManager);
+    }
+
+    private static PortfolioTotalsDrift drift(String totalValue, String totalCost,
+                                              String holdingsValue, String holdingsCost) {
+        return new PortfolioTotalsDrift() {
+            @Override
+            public Long getPortfolioId() {
+                return PORTFOLIO_ID;
+            }
+
+            @Override
+            public BigDecimal getTotalValue() {
+                return new BigDecimal(totalValue);
+            }
+
+            @Override
+            public BigDecimal getTotalCost() {
+                return new BigDecimal(totalCost);
+            }
+
+            @Override
+            public BigDecimal getHoldingsValue() {
+                return new BigDecimal(holdingsValue);
+            }
+
+            @Override
+            public BigDecimal getHoldingsCost() {
+                return new BigDecimal(holdingsCost);
+            }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package com.pjsent.sentinel.portfolio.service.revaluation;
+
+import com.pjsent.sentinel.market.dto.StockPriceDto;
+import com.pjsent.sentinel.market.service.event.QuoteUpdatedEvent;
+import com.pjsent.sentinel.portfolio.dto.PortfolioRevaluationStatsDto;
+import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
+import com.pjsent.sentinel.portfolio.repository.PortfolioRepository;
+import com.pjsent.sentinel.portfolio.service.valuation.PortfolioValuationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * HoldingRevaluator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class HoldingRevaluatorTest {
+
+    @Mock
+    private HoldingSymbolIndex holdingIndex;
+
+    @Mock
+    private PortfolioHoldingRepository holdingRepository;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private PortfolioValuationCache valuationCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
+    @InjectMocks
+    private HoldingRevaluator holdingRevaluator;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+        ReflectionTestUtils.setField(holdingRevaluator, "enabled", true);
+        ReflectionTestUtils.setField(holdingRevaluator, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("같은 심볼의 시세가 여러 번 오면 마지막 가격만 묶음 UPDATE로 반영하고 포트폴리오 합계를 갱신해야 한다")
+    void should_ApplyLatestPriceInBatches_When_Flushed() {
+        // Given
+        when(holdingIndex.contains("AAPL")).thenReturn(true);
+        when(holdingIndex.holdings("AAPL")).thenReturn(Map.of(1L, 10L, 2L, 20L, 3L, 10L));
+        when(holdingRepository.applyCurrentPrice(anyCollection(), any(), any())).thenReturn(2, 1);
+        holdingRevaluator.onQuoteUpdated(event("AAPL", 150.0));
+        holdingRevaluator.onQuoteUpdated(event("AAPL", 151.23456));
+
+        // When
+        holdingRevaluator.flush();
+
+        // Then
+        BigDecimal price = new BigDecimal("151.2346");
+        verify(holdingRepository).applyCurrentPrice(eq(List.of(1L, 2L)), eq(price), any());
+        verify(holdingRepository).applyCurrentPrice(eq(List.of(3L)), eq(price), any());
+        InOrder inOrder = inOrder(portfolioRepository, valuationCache);
+        inOrder.verify(portfolioRepository).refreshTotals(eq(List.of(10L, 20L)), any());
+        inOrder.verify(portfolioRepository).refreshGainLoss(List.of(10L, 20L));
+        inOrder.verify(valuationCache).invalidateRevalued(List.of(10L, 20L));
+
+        PortfolioRevaluationStatsDto stats = holdingRevaluator.getStats();
+        assertThat(stats.getTicksReceived()).isEqualTo(2);
+        assertThat(stats.getTicksCoalesced()).isEqualTo(1);
+        assertThat(stats.getHoldingsUpdated()).isEqualTo(3);
+        assertThat(stats.getPortfoliosRefreshed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보유하지 않은 심볼의 시세는 무시해야 한다")
+    void should_IgnoreQuote_When_SymbolNotHeld() {
+        // Given
+        when(holdingIndex.contains("TSLA")).thenReturn(false);
+
+        // When
+        holdingRevaluator.onQuoteUpdated(event("TSLA", 200.0));
+        holdingRevaluator.flush();
+
+        // Then
+        verifyNoInteractions(holdingRepository, portfolioRepository, transactionManager);
+        assertThat(holdingRevaluator.getStats().getTicksReceived()).isZero();
+    }
+
+    @Test
+    @DisplayName("가격이 이미 같아 바뀐 행이 없으면 포트폴리오 합계를 갱신하지 않아야 한다")
+    void should_SkipPortfolioRefresh_When_NoHoldingChanged() {
+        // Given
+        when(holdingIndex.contains("AAPL")).thenReturn(true);
+        when(holdingIndex.holdings("AAPL")).thenReturn(Map.of(1L, 10L));
+        when(holdingRepository.applyCurrentPrice(anyCollection(), any(), any())).thenReturn(0);
+        holdingRevaluator.onQuoteUpdated(event("AAPL", 150.0));
+
+        // When
+        holdingRevaluator.flush();
+
+        // Then
+        verifyNoInteractions(portfolioRepository, valuationCache);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 가격은 다음 flush에서 다시 시도해야 한다")
+    void should_RetryPrice_When_UpdateFails() {
+        // Given
+        when(holdingIndex.contains("AAPL")).thenReturn(true);
+        when(holdingIndex.holdings("AAPL")).thenReturn(Map.of(1L, 10L));
+        when(holdingRepository.applyCurrentPrice(anyCollection(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        holdingRevaluator.onQuoteUpdated(event("AAPL", 150.0));
+
+        // When
+        holdingRevaluator.flush();
+        int pendingAfterFailure = holdingRevaluator.getStats().getPendingSymbols();
+        holdingRevaluator.flush();
+
+        // Then
+        assertThat(pendingAfterFailure).isEqualTo(1);
+        assertThat(holdingRevaluator.getStats().getPendingSymbols()).isZero();
+        assertThat(holdingRevaluator.getStats().getFailures()).isEqualTo(1);
+        verify(portfolioRepository).refreshTotals(eq(List.of(10L)), any());
+    }
+
+    private static QuoteUpdatedEvent event(String symbol, double price) {
+        return new QuoteUpdatedEvent(symbol, StockPriceDto.builder().symbol(symbol).price(price).build());
+    }
+}
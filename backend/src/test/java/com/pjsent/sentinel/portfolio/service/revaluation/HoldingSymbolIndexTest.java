@@ -0,0 +1,109 @@
+package com.pjsent.sentinel.portfolio.service.revaluation;
+
+import com.pjsent.sentinel.portfolio.repository.HoldingSymbolRef;
+import com.pjsent.sentinel.portfolio.repository.PortfolioHoldingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * HoldingSymbolIndex 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class HoldingSymbolIndexTest {
+
+    @Mock
+    private PortfolioHoldingRepository holdingRepository;
+
+    @InjectMocks
+    private HoldingSymbolIndex holdingIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(holdingRepository.findAllSymbolRefs()).thenReturn(List.of(
+                ref(1L, 10L, "AAPL"),
+                ref(2L, 20L, "aapl"),
+                ref(3L, 10L, "MSFT")));
+        holdingIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("재구성하면 정규화된 심볼로 보유 종목과 포트폴리오를 찾을 수 있어야 한다")
+    void should_IndexHoldingsByNormalizedSymbol_When_Rebuilt() {
+        // Then
+        assertThat(holdingIndex.holdings("AAPL")).isEqualTo(Map.of(1L, 10L, 2L, 20L));
+        assertThat(holdingIndex.contains("msft")).isTrue();
+        assertThat(holdingIndex.contains("TSLA")).isFalse();
+        assertThat(holdingIndex.symbolCount()).isEqualTo(2);
+        assertThat(holdingIndex.holdingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 추가/제거는 커밋 이후에 반영되어야 한다")
+    void should_ApplyChangesAfterCommit_When_InTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        holdingIndex.add("TSLA", 4L, 30L);
+        holdingIndex.remove("MSFT", 3L);
+        boolean beforeCommit = holdingIndex.contains("TSLA") || !holdingIndex.contains("MSFT");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(beforeCommit).isFalse();
+        assertThat(holdingIndex.holdings("TSLA")).isEqualTo(Map.of(4L, 30L));
+        assertThat(holdingIndex.contains("MSFT")).isFalse();
+    }
+
+    @Test
+    @DisplayName("보유 종목이 모두 제거된 심볼은 색인에서 빠져야 한다")
+    void should_DropSymbol_When_LastHoldingRemoved() {
+        // When
+        holdingIndex.remove("AAPL", 1L);
+        holdingIndex.remove("AAPL", 2L);
+
+        // Then
+        assertThat(holdingIndex.contains("AAPL")).isFalse();
+        assertThat(holdingIndex.holdings("AAPL")).isEmpty();
+    }
+
+    private static HoldingSymbolRef ref(Long id, Long portfolioId, String symbol) {
+        return new HoldingSymbolRef() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getPortfolioId() {
+                return portfolioId;
+            }
+
+            @Override
+            public String getSymbol() {
+                return symbol;
+            }
+        };
+    }
+}
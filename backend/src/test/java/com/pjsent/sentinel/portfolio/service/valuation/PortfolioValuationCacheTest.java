@@ -0,0 +1,154 @@
+package com.pjsent.sentinel.portfolio.service.valuation;
+
+import com.pjsent.sentinel.portfolio.dto.PortfolioDto;
+import com.pjsent.sentinel.portfolio.dto.PortfolioHoldingDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PortfolioValuationCache 단위 테스트
+ */
+class PortfolioValuationCacheTest {
+
+    private static final Long PORTFOLIO_ID = 1L;
+
+    private PortfolioValuationCache valuationCache;
+
+    @BeforeEach
+    void setUp() {
+        valuationCache = new PortfolioValuationCache();
+        ReflectionTestUtils.setField(valuationCache, "enabled", true);
+        ReflectionTestUtils.setField(valuationCache, "maxEntries", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 버전의 스냅샷은 hit로 반환하고 비중을 계산해 두어야 한다")
+    void should_ReturnSnapshot_When_VersionMatches() {
+        // Given
+        valuationCache.put(PORTFOLIO_ID, valuation(valuationCache.version(PORTFOLIO_ID)));
+
+        // When
+        PortfolioValuation result = valuationCache.get(PORTFOLIO_ID).orElseThrow();
+
+        // Then
+        assertThat(result.weights().get("AAPL")).isEqualTo(75.0);
+        assertThat(result.weights().get("MSFT")).isEqualTo(25.0);
+        assertThat(valuationCache.getStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전이 오르면 이전 스냅샷은 miss가 되어야 한다")
+    void should_Miss_When_Invalidated() {
+        // Given
+        valuationCache.put(PORTFOLIO_ID, valuation(0L));
+
+        // When
+        valuationCache.invalidate(PORTFOLIO_ID);
+
+        // Then
+        assertThat(valuationCache.version(PORTFOLIO_ID)).isEqualTo(1L);
+        assertThat(valuationCache.get(PORTFOLIO_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계산 도중 버전이 바뀐 스냅샷은 저장하지 않아야 한다")
+    void should_DiscardSnapshot_When_VersionChangedDuringComputation() {
+        // Given
+        long version = valuationCache.version(PORTFOLIO_ID);
+        valuationCache.invalidate(PORTFOLIO_ID);
+
+        // When
+        valuationCache.put(PORTFOLIO_ID, valuation(version));
+
+        // Then
+        assertThat(valuationCache.get(PORTFOLIO_ID)).isEmpty();
+        assertThat(valuationCache.getStats().getStaleDiscarded()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋 이후에 적용되어야 한다")
+    void should_BumpVersionAfterCommit_When_InTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        valuationCache.invalidate(PORTFOLIO_ID);
+        long beforeCommit = valuationCache.version(PORTFOLIO_ID);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(beforeCommit).isZero();
+        assertThat(valuationCache.version(PORTFOLIO_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("새 시세 반영으로 인한 무효화는 반영 트랜잭션 커밋 이후에 해당 포트폴리오에만 적용되어야 한다")
+    void should_InvalidateRevaluedPortfoliosAfterCommit() {
+        // Given
+        valuationCache.put(1L, valuation(0L));
+        valuationCache.put(2L, valuation(0L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        valuationCache.invalidateRevalued(List.of(1L));
+        boolean beforeCommit = valuationCache.get(1L).isPresent();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(beforeCommit).isTrue();
+        assertThat(valuationCache.get(1L)).isEmpty();
+        assertThat(valuationCache.get(2L)).isPresent();
+        assertThat(valuationCache.getStats().getPriceInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 스냅샷을 내보내야 한다")
+    void should_EvictLeastRecentlyUsed_When_Full() {
+        // Given
+        valuationCache.put(1L, valuation(0L));
+        valuationCache.put(2L, valuation(0L));
+        valuationCache.get(1L);
+
+        // When
+        valuationCache.put(3L, valuation(0L));
+
+        // Then
+        assertThat(valuationCache.get(1L)).isPresent();
+        assertThat(valuationCache.get(2L)).isEmpty();
+        assertThat(valuationCache.getStats().getEvictions()).isEqualTo(1);
+    }
+
+    private static PortfolioValuation valuation(long version) {
+        PortfolioDto portfolio = PortfolioDto.builder()
+                .id(PORTFOLIO_ID)
+                .userId(1L)
+                .totalValue(new BigDecimal("2000"))
+                .holdings(List.of(holding("AAPL", "1500"), holding("MSFT", "500")))
+                .build();
+        return PortfolioValuation.of(version, portfolio);
+    }
+
+    private static PortfolioHoldingDto holding(String symbol, String marketValue) {
+        return PortfolioHoldingDto.builder()
+                .symbol(symbol)
+                .marketValue(new BigDecimal(marketValue))
+                .build();
+    }
+}